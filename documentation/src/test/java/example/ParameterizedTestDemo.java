@@ -34,6 +34,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -61,8 +62,10 @@ import org.junit.jupiter.params.converter.JavaTimeConversionPattern;
 import org.junit.jupiter.params.converter.SimpleArgumentConverter;
 import org.junit.jupiter.params.converter.TypedArgumentConverter;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsCacheScope;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
+import org.junit.jupiter.params.provider.CoveringArraySource;
 import org.junit.jupiter.params.provider.CsvFileSource;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.EmptySource;
@@ -219,6 +222,25 @@ class ParameterizedTestDemo {
 	// end::multi_arg_MethodSource_example[]
 	// @formatter:on
 
+	// tag::cached_MethodSource_example[]
+	@ParameterizedTest
+	@MethodSource(value = "expensiveFixtures", cache = ArgumentsCacheScope.CLASS)
+	void testWithCachedMethodSource(String fixture) {
+		assertNotNull(fixture);
+	}
+
+	@ParameterizedTest
+	@MethodSource(value = "expensiveFixtures", cache = ArgumentsCacheScope.CLASS)
+	void anotherTestWithCachedMethodSource(String fixture) {
+		assertFalse(fixture.isEmpty());
+	}
+
+	static Stream<String> expensiveFixtures() {
+		// invoked only once for all tests in this class
+		return Stream.of("apple", "banana");
+	}
+	// end::cached_MethodSource_example[]
+
 	// @formatter:off
 	// tag::default_field_FieldSource_example[]
 	@ParameterizedTest
@@ -617,4 +639,30 @@ class ParameterizedTestDemo {
 		assertTrue(number > 0);
 	}
 	// end::argument_count_validation[]
+
+	// tag::chunk_size[]
+	@ParameterizedTest(chunkSize = 1000)
+	@MethodSource
+	void testWithChunks(int number) {
+		assertTrue(number >= 0);
+	}
+
+	static IntStream testWithChunks() {
+		return IntStream.range(0, 100_000);
+	}
+	// end::chunk_size[]
+
+	// tag::CoveringArraySource_example[]
+	@ParameterizedTest
+	@CoveringArraySource(value = { "chrome, firefox, safari", "linux, macos, windows" }, methods = "timeUnits")
+	void testWithCoveringArraySource(String browser, String os, TimeUnit unit) {
+		assertNotNull(browser);
+		assertNotNull(os);
+		assertNotNull(unit);
+	}
+
+	static List<TimeUnit> timeUnits() {
+		return List.of(TimeUnit.SECONDS, TimeUnit.MINUTES, TimeUnit.HOURS);
+	}
+	// end::CoveringArraySource_example[]
 }
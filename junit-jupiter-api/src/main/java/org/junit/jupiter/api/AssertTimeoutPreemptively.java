@@ -15,9 +15,8 @@ import static org.junit.platform.commons.util.ExceptionUtils.throwAsUncheckedExc
 
 import java.time.Duration;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -35,6 +34,18 @@ import org.opentest4j.AssertionFailedError;
  * the execution of the code under test did not take longer than the timeout duration
  * using a preemptive approach.
  *
+ * <p>Every callback is executed by a new thread that is created by the calling
+ * thread and thus inherits its context class loader and
+ * {@link InheritableThreadLocal} values. If the JVM supports virtual threads,
+ * callbacks are executed by virtual threads, which are cheap to create and do
+ * not require an executor service per invocation. Threads are never reused so
+ * that {@link ThreadLocal} values set by one callback cannot leak into
+ * subsequent invocations.
+ *
+ * <p>Since virtual threads are always daemon threads, a callback that does not
+ * return when interrupted does not prevent the JVM from exiting if it is
+ * executed by a virtual thread.
+ *
  * @since 5.9.1
  */
 class AssertTimeoutPreemptively {
@@ -75,21 +86,21 @@ class AssertTimeoutPreemptively {
 	static <T, E extends Throwable> T assertTimeoutPreemptively(Duration timeout, ThrowingSupplier<T> supplier,
 			Supplier<String> messageSupplier, Assertions.TimeoutFailureFactory<E> failureFactory) throws E {
 		AtomicReference<Thread> threadReference = new AtomicReference<>();
-		ExecutorService executorService = Executors.newSingleThreadExecutor(new TimeoutThreadFactory());
+		Future<T> future = startTask(supplier, threadReference, TimeoutThreads.THREAD_FACTORY);
 
 		try {
-			Future<T> future = submitTask(supplier, threadReference, executorService);
 			return resolveFutureAndHandleException(future, timeout, messageSupplier, threadReference::get,
 				failureFactory);
 		}
 		finally {
-			executorService.shutdownNow();
+			// Interrupts the callback's thread if it is still running; a no-op otherwise.
+			future.cancel(true);
 		}
 	}
 
-	private static <T> Future<T> submitTask(ThrowingSupplier<T> supplier, AtomicReference<Thread> threadReference,
-			ExecutorService executorService) {
-		return executorService.submit(() -> {
+	private static <T> Future<T> startTask(ThrowingSupplier<T> supplier, AtomicReference<Thread> threadReference,
+			ThreadFactory threadFactory) {
+		FutureTask<T> task = new FutureTask<>(() -> {
 			try {
 				threadReference.set(Thread.currentThread());
 				return supplier.get();
@@ -98,6 +109,8 @@ class AssertTimeoutPreemptively {
 				throw throwAsUncheckedException(throwable);
 			}
 		});
+		threadFactory.newThread(task).start();
+		return task;
 	}
 
 	private static <T, E extends Throwable> T resolveFutureAndHandleException(Future<T> future, Duration timeout,
@@ -142,7 +155,38 @@ class AssertTimeoutPreemptively {
 	}
 
 	/**
-	 * The thread factory used for preemptive timeout.
+	 * Lazily initialized holder of the thread factory shared by all preemptive
+	 * timeout assertions.
+	 * <p>
+	 * Virtual threads are used if {@code Thread.ofVirtual()} is available and
+	 * supported by the current JVM; otherwise, platform threads are used.
+	 * Virtual threads are always daemon threads, whereas platform threads
+	 * inherit the daemon status of the calling thread.
+	 */
+	private static class TimeoutThreads {
+
+		private static final String THREAD_NAME_PREFIX = "junit-timeout-thread-";
+
+		private static final ThreadFactory THREAD_FACTORY = createThreadFactory();
+
+		private static ThreadFactory createThreadFactory() {
+			try {
+				Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+				Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+				builder = builderType.getMethod("name", String.class, long.class).invoke(builder, THREAD_NAME_PREFIX,
+					1L);
+				return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+			}
+			catch (Exception ex) {
+				// Java 8-18 or virtual threads not enabled (preview feature in Java 19 and 20)
+				return new TimeoutThreadFactory();
+			}
+		}
+	}
+
+	/**
+	 * The thread factory used for preemptive timeout if virtual threads are
+	 * not available.
 	 * <p>
 	 * The factory creates threads with meaningful names, helpful for debugging purposes.
 	 */
@@ -150,7 +194,7 @@ class AssertTimeoutPreemptively {
 		private static final AtomicInteger threadNumber = new AtomicInteger(1);
 
 		public Thread newThread(Runnable r) {
-			return new Thread(r, "junit-timeout-thread-" + threadNumber.getAndIncrement());
+			return new Thread(r, TimeoutThreads.THREAD_NAME_PREFIX + threadNumber.getAndIncrement());
 		}
 	}
 }
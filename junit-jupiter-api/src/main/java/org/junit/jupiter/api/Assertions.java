@@ -65,7 +65,9 @@ import org.opentest4j.MultipleFailuresError;
  * {@linkplain Thread#interrupt() interrupting} the callback's thread. If the
  * callback's thread does not return when interrupted, the thread will continue
  * to run in the background after the {@code assertTimeoutPreemptively()} method
- * has returned.
+ * has returned. If the JVM supports virtual threads, callbacks are executed in
+ * virtual threads. Since virtual threads are always daemon threads, such a
+ * callback does not prevent the JVM from exiting in that case.
  *
  * <p>Furthermore, the behavior of {@code assertTimeoutPreemptively()} methods
  * can lead to undesirable side effects if the code that is executed within the
@@ -10,6 +10,7 @@
 
 package org.junit.jupiter.api;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import java.lang.annotation.Documented;
@@ -63,7 +64,9 @@ import org.junit.jupiter.api.parallel.Execution;
  * <h2>Parallel Execution</h2>
  * <p>Using the {@link Lifecycle#PER_CLASS PER_CLASS} lifecycle mode disables
  * parallel execution unless the test class or test method is annotated with
- * {@link Execution @Execution(CONCURRENT)}.
+ * {@link Execution @Execution(CONCURRENT)}. The {@link Lifecycle#PER_THREAD
+ * PER_THREAD} lifecycle mode avoids creating a new test instance for each
+ * test method while still allowing test methods to be executed concurrently.
  *
  * @since 5.0
  * @see Nested @Nested
@@ -81,6 +84,7 @@ public @interface TestInstance {
 	 *
 	 * @see #PER_METHOD
 	 * @see #PER_CLASS
+	 * @see #PER_THREAD
 	 */
 	enum Lifecycle {
 
@@ -101,7 +105,42 @@ public @interface TestInstance {
 		 *
 		 * @see #PER_CLASS
 		 */
-		PER_METHOD;
+		PER_METHOD,
+
+		/**
+		 * When using this mode, a new test instance will be created once per
+		 * test class and thread the test methods, test factory methods, or test
+		 * template methods of the class are executed in.
+		 *
+		 * <p>Test instances are created lazily when a thread executes the
+		 * first test of the test class and are reused for all subsequent tests
+		 * executed in the same thread once the tests that used them have
+		 * finished. Thus, tests that are executed
+		 * {@linkplain org.junit.jupiter.api.parallel.ExecutionMode#CONCURRENT
+		 * concurrently} never share a test instance, whereas tests executed in
+		 * the same thread may observe state stored in instance variables by
+		 * previous tests. The only exception are the
+		 * {@linkplain DynamicTest dynamic tests} of a {@link TestFactory @TestFactory}
+		 * method: they use the instance of their factory method, even if they
+		 * are executed concurrently. While they are executed, the instance is
+		 * not handed out to other tests.
+		 *
+		 * <p>Test instances are not available via the
+		 * {@link org.junit.jupiter.api.extension.ExtensionContext ExtensionContext}
+		 * of the test class. {@link org.junit.jupiter.api.extension.TestInstancePreDestroyCallback
+		 * TestInstancePreDestroyCallbacks} &mdash; including those registered
+		 * via fields of a test instance &mdash; are invoked for each test
+		 * instance once all tests of the test class have been executed.
+		 *
+		 * <p>As with {@link #PER_METHOD}, {@link BeforeAll @BeforeAll} and
+		 * {@link AfterAll @AfterAll} methods must be {@code static}.
+		 *
+		 * @since 5.12
+		 * @see #PER_METHOD
+		 * @see #PER_CLASS
+		 */
+		@API(status = EXPERIMENTAL, since = "5.12")
+		PER_THREAD;
 
 		/**
 		 * Property name used to set the default test instance lifecycle mode:
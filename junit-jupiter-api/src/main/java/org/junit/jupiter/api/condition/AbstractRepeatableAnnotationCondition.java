@@ -61,6 +61,12 @@ abstract class AbstractRepeatableAnnotationCondition<A extends Annotation> imple
 		return getNoDisabledConditionsEncounteredResult();
 	}
 
+	@Override
+	public boolean isEvaluationResultStable() {
+		// system properties and environment variables are not expected to change during a test run
+		return true;
+	}
+
 	protected abstract ConditionEvaluationResult evaluate(A annotation);
 
 	protected abstract ConditionEvaluationResult getNoDisabledConditionsEncounteredResult();
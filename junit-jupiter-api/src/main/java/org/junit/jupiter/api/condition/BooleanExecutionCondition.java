@@ -46,6 +46,11 @@ abstract class BooleanExecutionCondition<A extends Annotation> implements Execut
 				.orElseGet(this::enabledByDefault);
 	}
 
+	@Override
+	public boolean isEvaluationResultStable() {
+		return true;
+	}
+
 	private ConditionEvaluationResult enabledByDefault() {
 		String reason = String.format("@%s is not present", annotationType.getSimpleName());
 		return enabled(reason);
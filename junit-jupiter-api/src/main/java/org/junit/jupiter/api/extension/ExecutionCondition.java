@@ -10,6 +10,7 @@
 
 package org.junit.jupiter.api.extension;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import org.apiguardian.api.API;
@@ -37,6 +38,7 @@ import org.apiguardian.api.API;
  * constructor requirements.
  *
  * @since 5.0
+ * @see #isEvaluationResultStable()
  * @see org.junit.jupiter.api.Disabled
  * @see org.junit.jupiter.api.condition.EnabledIf
  * @see org.junit.jupiter.api.condition.DisabledIf
@@ -70,4 +72,33 @@ public interface ExecutionCondition extends Extension {
 	 */
 	ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context);
 
+	/**
+	 * Determine if the result of {@link #evaluateExecutionCondition} is
+	 * <em>stable</em> for this condition.
+	 *
+	 * <p>A condition may declare its result to be stable if it depends solely
+	 * on the {@linkplain ExtensionContext#getElement() annotated element} of
+	 * the supplied {@link ExtensionContext} &mdash; for example, on its
+	 * annotations &mdash; and on state of the environment that does not
+	 * change while tests are executed, such as the operating system or the
+	 * Java runtime version, but neither on any other information of the
+	 * supplied {@code ExtensionContext} nor on the state of the condition
+	 * itself once it has been constructed. If that is the case, the framework
+	 * may evaluate each registered instance of the condition only once per
+	 * annotated element and test run and reuse the result for subsequent
+	 * evaluations, for example for every invocation of a
+	 * {@link org.junit.jupiter.api.RepeatedTest @RepeatedTest} or
+	 * {@code @ParameterizedTest} method.
+	 *
+	 * <p>Defaults to {@code false}.
+	 *
+	 * @return {@code true} if the result of {@link #evaluateExecutionCondition}
+	 * is stable for a given annotated element
+	 * @since 5.12
+	 */
+	@API(status = EXPERIMENTAL, since = "5.12")
+	default boolean isEvaluationResultStable() {
+		return false;
+	}
+
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.api.extension;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import org.apiguardian.api.API;
+
+/**
+ * {@code MethodInvocationSequence} defines the API for {@link Extension
+ * Extensions} that wish to have the test method of a single test, typically a
+ * {@linkplain TestTemplateInvocationContext test template invocation}, called
+ * several times in a row.
+ *
+ * <p>If an extension of this type is registered for a test &mdash; for
+ * example, via {@link TestTemplateInvocationContext#getAdditionalExtensions()}
+ * &mdash; the test method is called {@link #getInvocationCount()} times.
+ * Each call resolves its parameters anew, is passed through all registered
+ * {@link InvocationInterceptor InvocationInterceptors}, and has its
+ * exceptions handled by all registered {@link TestExecutionExceptionHandler
+ * TestExecutionExceptionHandlers}. All other callbacks and lifecycle methods
+ * are only executed once for all calls.
+ *
+ * <p>All calls are made, regardless of whether previous calls failed. The
+ * extension is informed about the outcome of each call and decides about the
+ * overall outcome in {@link #afterAllInvocations(ExtensionContext)}.
+ *
+ * <p>At most one extension of this type may be registered for a test.
+ * Extensions of this type are ignored for
+ * {@linkplain org.junit.jupiter.api.TestFactory test factories}.
+ *
+ * <p>This interface is only public so that {@code junit-jupiter-params},
+ * which does not depend on the Jupiter engine, can implement it to execute
+ * chunks of arguments of a {@code @ParameterizedTest}. It is not intended to
+ * be used by third-party extensions and may change or be removed at any time.
+ *
+ * <h2>Constructor Requirements</h2>
+ *
+ * <p>Consult the documentation in {@link Extension} for details on
+ * constructor requirements.
+ *
+ * @since 5.12
+ * @see TestTemplateInvocationContext
+ * @see InvocationInterceptor
+ */
+@API(status = INTERNAL, since = "5.12")
+public interface MethodInvocationSequence extends Extension {
+
+	/**
+	 * Get the number of times the test method is to be called.
+	 *
+	 * @return the number of calls; must be greater than zero
+	 */
+	int getInvocationCount();
+
+	/**
+	 * Callback that is invoked before the test method is called for the
+	 * supplied index, i.e. before its parameters are resolved.
+	 *
+	 * @param context the current extension context; never {@code null}
+	 * @param index the zero-based index of the call
+	 */
+	void beforeInvocation(ExtensionContext context, int index) throws Exception;
+
+	/**
+	 * Callback that is invoked after the test method has been called for the
+	 * supplied index.
+	 *
+	 * @param context the current extension context; never {@code null}
+	 * @param index the zero-based index of the call
+	 * @param throwable the exception thrown by the call that was not handled
+	 * by any {@link TestExecutionExceptionHandler}; {@code null} if the call
+	 * succeeded
+	 */
+	void afterInvocation(ExtensionContext context, int index, Throwable throwable) throws Exception;
+
+	/**
+	 * Callback that is invoked after the test method has been called for all
+	 * indexes.
+	 *
+	 * <p>Implementations should throw an exception to signal that the test
+	 * failed or was aborted.
+	 *
+	 * @param context the current extension context; never {@code null}
+	 */
+	void afterAllInvocations(ExtensionContext context) throws Throwable;
+
+}
@@ -10,6 +10,7 @@
 
 package org.junit.jupiter.api.extension;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import java.lang.reflect.Parameter;
@@ -50,6 +51,7 @@ import org.junit.jupiter.api.TestInstance;
  * @since 5.0
  * @see #supportsParameter(ParameterContext, ExtensionContext)
  * @see #resolveParameter(ParameterContext, ExtensionContext)
+ * @see #isParameterSupportStable()
  * @see ParameterContext
  * @see TestInstanceFactory
  * @see TestInstancePostProcessor
@@ -102,4 +104,29 @@ public interface ParameterResolver extends TestInstantiationAwareExtension {
 	Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext)
 			throws ParameterResolutionException;
 
+	/**
+	 * Determine if the result of {@link #supportsParameter} is <em>stable</em>
+	 * for this resolver.
+	 *
+	 * <p>A resolver may declare its support to be stable if the result of
+	 * {@link #supportsParameter} depends solely on the {@link Parameter} itself
+	 * &mdash; for example, on its type or its annotations &mdash; and neither on
+	 * the supplied {@link ExtensionContext}, the target of the invocation, nor
+	 * any state of the resolver instance. If that is the case, the framework
+	 * may cache the result for the parameter of a given executable and skip
+	 * subsequent invocations of {@link #supportsParameter} for it, including
+	 * ones of other instances of the same resolver class that are registered
+	 * for other invocations of the executable.
+	 *
+	 * <p>Defaults to {@code false}.
+	 *
+	 * @return {@code true} if the result of {@link #supportsParameter} is
+	 * stable for a given parameter
+	 * @since 5.12
+	 */
+	@API(status = EXPERIMENTAL, since = "5.12")
+	default boolean isParameterSupportStable() {
+		return false;
+	}
+
 }
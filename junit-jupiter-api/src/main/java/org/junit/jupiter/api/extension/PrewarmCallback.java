@@ -0,0 +1,91 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.api.extension;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import org.apiguardian.api.API;
+
+/**
+ * {@code PrewarmCallback} defines the API for {@link Extension Extensions}
+ * that wish to start preparing expensive class-level resources &mdash; for
+ * example, starting a local server or loading a data set &mdash; in the
+ * background <em>before</em> a test class is executed.
+ *
+ * <p>As soon as the test plan is known, JUnit Jupiter invokes
+ * {@link #prewarm(Class, ExtensionContext)} for every test class for which
+ * the extension is registered on a dedicated pool of background threads. When
+ * the test class is about to be executed, JUnit Jupiter waits for all of its
+ * prewarm callbacks to complete before invoking any
+ * {@link BeforeAllCallback BeforeAllCallbacks} or
+ * {@link org.junit.jupiter.api.BeforeAll @BeforeAll} methods. Thus, the
+ * preparation of one test class overlaps with the execution of previous test
+ * classes. If a prewarm callback throws an exception, the test class is
+ * reported as failed.
+ *
+ * <p>Prewarm callbacks are invoked before extensions are registered for the
+ * test class. Thus, an extension that is registered declaratively via
+ * {@link ExtendWith @ExtendWith} on the test class is invoked on a separate
+ * instance. Implementations should therefore store prepared resources in the
+ * {@link ExtensionContext.Store Store} of the supplied root context and look
+ * them up from there in their other callbacks &mdash; for example, keyed by
+ * test class. Resources that implement
+ * {@link ExtensionContext.Store.CloseableResource CloseableResource} are
+ * closed once all tests have been executed.
+ *
+ * <p>Extensions that implement {@code PrewarmCallback} must either be
+ * registered globally or declaratively via {@code @ExtendWith} on a test
+ * class or an enclosing class. Prewarm callbacks of extensions registered
+ * programmatically are not invoked.
+ *
+ * <h2>Constructor Requirements</h2>
+ *
+ * <p>Consult the documentation in {@link Extension} for details on
+ * constructor requirements.
+ *
+ * <h2>Configuration</h2>
+ *
+ * <p>The number of threads used for prewarming may be configured via the
+ * {@value #PARALLELISM_PROPERTY_NAME} configuration parameter.
+ *
+ * @since 5.12
+ * @see BeforeAllCallback
+ */
+@FunctionalInterface
+@API(status = EXPERIMENTAL, since = "5.12")
+public interface PrewarmCallback extends Extension {
+
+	/**
+	 * Property name used to configure the maximum number of threads used to
+	 * invoke prewarm callbacks concurrently: {@value}
+	 *
+	 * <h4>Supported Values</h4>
+	 *
+	 * <p>Supported values are positive integers.
+	 *
+	 * <p>If not specified, the number of available processors is used.
+	 */
+	String PARALLELISM_PROPERTY_NAME = "junit.jupiter.extensions.prewarm.parallelism";
+
+	/**
+	 * Callback that is invoked on a background thread in order to prepare
+	 * resources for the supplied test class before it is executed.
+	 *
+	 * <p>This method may be invoked concurrently for different test classes.
+	 *
+	 * @param testClass the test class to prepare resources for; never
+	 * {@code null}
+	 * @param context the root extension context of the engine; never
+	 * {@code null}
+	 */
+	void prewarm(Class<?> testClass, ExtensionContext context) throws Exception;
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.api.extension;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.apiguardian.api.API;
+
+/**
+ * {@code @SharedFixture} is a {@linkplain Repeatable repeatable} annotation
+ * that is used to declare that the annotated test class uses the fixture
+ * created by the referenced {@link SharedFixtureFactory}.
+ *
+ * <p>A shared fixture is created lazily the first time it is requested via
+ * {@link SharedFixtureFactory#getFixture(ExtensionContext, Class)} and is then
+ * shared by all test classes for the remainder of the test run. JUnit Jupiter
+ * counts the test classes in the test plan that declare a shared fixture and
+ * closes the fixture as soon as the last of them has been executed instead of
+ * keeping it around until all tests have been executed. Fixtures that are
+ * requested by test classes that do not declare them, or after all declaring
+ * test classes have been executed, are closed once all tests have been
+ * executed.
+ *
+ * <p>Parameters of test class constructors, test methods, and lifecycle
+ * methods whose type is the type of a fixture declared via
+ * {@code @SharedFixture} are resolved to the shared fixture.
+ *
+ * <p>{@code @SharedFixture} declarations are inherited from superclasses and
+ * implemented interfaces. A declaration on a test class applies to its
+ * {@link org.junit.jupiter.api.Nested @Nested} test classes as well.
+ *
+ * <h2>Example</h2>
+ *
+ * <pre class="code">
+ * &#64;SharedFixture(DatabaseFactory.class)
+ * class RepositoryTests {
+ *
+ *     &#64;Test
+ *     void test(Database database) {
+ *         // ...
+ *     }
+ * }
+ * </pre>
+ *
+ * @since 5.12
+ * @see SharedFixtureFactory
+ */
+@Target({ ElementType.TYPE, ElementType.ANNOTATION_TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@Repeatable(SharedFixtures.class)
+@API(status = EXPERIMENTAL, since = "5.12")
+public @interface SharedFixture {
+
+	/**
+	 * The factory of the shared fixture used by the annotated test class.
+	 */
+	Class<? extends SharedFixtureFactory<?>> value();
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.api.extension;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import org.apiguardian.api.API;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.platform.commons.support.ReflectionSupport;
+import org.junit.platform.commons.util.Preconditions;
+
+/**
+ * {@code SharedFixtureFactory} defines the API for factories of fixtures that
+ * are shared by multiple test classes, such as embedded databases or local
+ * server processes.
+ *
+ * <p>Test classes declare the shared fixtures they use via
+ * {@link SharedFixture @SharedFixture} and look them up via
+ * {@link #getFixture(ExtensionContext, Class)}.
+ *
+ * <h2>Constructor Requirements</h2>
+ *
+ * <p>Implementations must provide a no-args constructor.
+ *
+ * @param <T> the type of the shared fixture
+ * @since 5.12
+ * @see SharedFixture
+ */
+@API(status = EXPERIMENTAL, since = "5.12")
+public interface SharedFixtureFactory<T> {
+
+	/**
+	 * {@link Namespace} of the root {@link ExtensionContext.Store Store} in
+	 * which shared fixtures are stored, keyed by the class of their factory.
+	 */
+	Namespace NAMESPACE = Namespace.create(SharedFixture.class);
+
+	/**
+	 * Create the shared fixture.
+	 *
+	 * <p>This method is invoked at most once per test run, unless the fixture
+	 * is requested again after it has been closed.
+	 *
+	 * @param context the root extension context; never {@code null}
+	 * @return the shared fixture; never {@code null}
+	 */
+	T createFixture(ExtensionContext context) throws Exception;
+
+	/**
+	 * Close the supplied shared fixture once it is no longer needed.
+	 *
+	 * <p>The default implementation closes the fixture if it implements
+	 * {@link AutoCloseable}.
+	 *
+	 * @param fixture the shared fixture created by this factory; never
+	 * {@code null}
+	 */
+	default void closeFixture(T fixture) throws Exception {
+		if (fixture instanceof AutoCloseable) {
+			((AutoCloseable) fixture).close();
+		}
+	}
+
+	/**
+	 * Get the shared fixture created by the supplied factory type, creating
+	 * it first if necessary.
+	 *
+	 * <p>The test class of the supplied context or one of its enclosing
+	 * classes should declare the fixture via
+	 * {@link SharedFixture @SharedFixture} so that the fixture is kept open
+	 * until the test class has been executed.
+	 *
+	 * @param context the current extension context; never {@code null}
+	 * @param factoryType the type of the factory of the shared fixture; never
+	 * {@code null}
+	 * @return the shared fixture; never {@code null}
+	 */
+	static <T> T getFixture(ExtensionContext context, Class<? extends SharedFixtureFactory<T>> factoryType) {
+		Preconditions.notNull(context, "ExtensionContext must not be null");
+		Preconditions.notNull(factoryType, "factoryType must not be null");
+
+		ExtensionContext root = context.getRoot();
+		@SuppressWarnings("unchecked")
+		SharedFixtureHolder<T> holder = root.getStore(NAMESPACE).getOrComputeIfAbsent(factoryType,
+			__ -> new SharedFixtureHolder<>(ReflectionSupport.newInstance(factoryType), root),
+			SharedFixtureHolder.class);
+		return holder.getFixture();
+	}
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.api.extension;
+
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.Preconditions;
+
+/**
+ * Holder of a shared fixture and its factory that is stored in the root
+ * {@link ExtensionContext.Store Store}.
+ *
+ * @since 5.12
+ * @see SharedFixtureFactory#getFixture(ExtensionContext, Class)
+ */
+final class SharedFixtureHolder<T> implements CloseableResource {
+
+	private final SharedFixtureFactory<T> factory;
+	private final T fixture;
+
+	SharedFixtureHolder(SharedFixtureFactory<T> factory, ExtensionContext context) {
+		this.factory = factory;
+		try {
+			this.fixture = Preconditions.notNull(factory.createFixture(context),
+				() -> factory.getClass().getName() + " must not create a null fixture");
+		}
+		catch (Exception ex) {
+			throw ExceptionUtils.throwAsUncheckedException(ex);
+		}
+	}
+
+	T getFixture() {
+		return this.fixture;
+	}
+
+	@Override
+	public void close() throws Exception {
+		this.factory.closeFixture(this.fixture);
+	}
+
+}
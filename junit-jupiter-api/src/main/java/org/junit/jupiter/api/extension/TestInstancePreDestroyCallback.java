@@ -83,6 +83,11 @@ public interface TestInstancePreDestroyCallback extends Extension {
 	 * {@link ExtensionContext} that are not present in any of its parent
 	 * contexts.
 	 *
+	 * <p>Instances of enclosing test classes that use
+	 * {@link Lifecycle#PER_THREAD} are not present in the contexts of their
+	 * classes but are nevertheless destroyed by them and are thus not
+	 * processed, either.
+	 *
 	 * <p>This method should be called in order to implement this interface
 	 * correctly since it ensures that the right test instances are processed
 	 * regardless of the used {@linkplain Lifecycle lifecycle}. The supplied
@@ -109,10 +114,16 @@ public interface TestInstancePreDestroyCallback extends Extension {
 	 */
 	@API(status = STABLE, since = "5.10")
 	static void preDestroyTestInstances(ExtensionContext context, Consumer<Object> callback) {
-		List<Object> destroyedInstances = new ArrayList<>(context.getRequiredTestInstances().getAllInstances());
+		TestInstances testInstances = context.getRequiredTestInstances();
+		Object innermostInstance = testInstances.getInnermostInstance();
+		List<Object> destroyedInstances = new ArrayList<>(testInstances.getAllInstances());
 		for (Optional<ExtensionContext> current = context.getParent(); current.isPresent(); current = current.get().getParent()) {
-			current.get().getTestInstances().map(TestInstances::getAllInstances).ifPresent(
-				destroyedInstances::removeAll);
+			ExtensionContext parent = current.get();
+			parent.getTestInstances().map(TestInstances::getAllInstances).ifPresent(destroyedInstances::removeAll);
+			if (parent.getTestInstanceLifecycle().orElse(null) == Lifecycle.PER_THREAD) {
+				parent.getTestClass().ifPresent(testClass -> destroyedInstances.removeIf(
+					instance -> instance != innermostInstance && testClass.isInstance(instance)));
+			}
 		}
 		Collections.reverse(destroyedInstances);
 		destroyedInstances.forEach(callback);
@@ -10,6 +10,7 @@
 
 package org.junit.jupiter.api.extension.support;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import java.lang.reflect.ParameterizedType;
@@ -42,6 +43,19 @@ public abstract class TypeBasedParameterResolver<T> implements ParameterResolver
 		return this.supportedParameterType.equals(getParameterType(parameterContext));
 	}
 
+	/**
+	 * Support is determined solely by the type of the parameter and is
+	 * therefore always stable.
+	 *
+	 * @return {@code true}
+	 * @since 5.12
+	 */
+	@API(status = EXPERIMENTAL, since = "5.12")
+	@Override
+	public boolean isParameterSupportStable() {
+		return true;
+	}
+
 	@Override
 	public abstract T resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext)
 			throws ParameterResolutionException;
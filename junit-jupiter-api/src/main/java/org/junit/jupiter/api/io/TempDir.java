@@ -180,6 +180,28 @@ public @interface TempDir {
 	@API(status = EXPERIMENTAL, since = "5.9")
 	String DEFAULT_CLEANUP_MODE_PROPERTY_NAME = "junit.jupiter.tempdir.cleanup.mode.default";
 
+	/**
+	 * Property name used to enable background cleanup of temporary
+	 * directories: {@value}
+	 *
+	 * <p>When enabled, a temporary directory that is to be cleaned up according
+	 * to its {@link CleanupMode} is moved out of the way when the test completes
+	 * and deleted asynchronously. All pending deletions are awaited before the
+	 * test engine finishes execution. Since the test or container that declared
+	 * a temporary directory has already finished by then, failures to delete it
+	 * are reported as failures of the test engine whose message names the
+	 * display name and unique ID of that test or container.
+	 *
+	 * <p>If the temporary directory cannot be moved (for example, because its
+	 * file system does not support it), it is deleted synchronously.
+	 *
+	 * <p>Background cleanup is disabled by default.
+	 *
+	 * @since 5.12
+	 */
+	@API(status = EXPERIMENTAL, since = "5.12")
+	String BACKGROUND_CLEANUP_ENABLED_PROPERTY_NAME = "junit.jupiter.tempdir.cleanup.background.enabled";
+
 	/**
 	 * How the temporary directory gets cleaned up after the test completes.
 	 *
@@ -188,4 +210,32 @@ public @interface TempDir {
 	@API(status = STABLE, since = "5.11")
 	CleanupMode cleanup() default CleanupMode.DEFAULT;
 
+	/**
+	 * Template for the initial contents of the temporary directory.
+	 *
+	 * <p>If specified, the contents of the template directory are materialized
+	 * in the temporary directory before it is injected. The template is
+	 * interpreted as a path to a directory in the default file system or, if
+	 * it is prefixed with {@code classpath:}, as the name of a classpath
+	 * resource that is resolved via {@link Class#getResource(String)} of the
+	 * test class. Classpath resources may reside in JAR files.
+	 *
+	 * <p>Each template is prepared only once per test run. Its files are
+	 * always copied into the temporary directory, so tests may freely modify
+	 * them without affecting the template. Symbolic links in the template are
+	 * followed, i.e. linked files and directories are copied as regular files
+	 * and directories.
+	 *
+	 * <p>Templates are not supported if the {@value #SCOPE_PROPERTY_NAME}
+	 * configuration parameter is set to {@code per_context}.
+	 *
+	 * <p>Defaults to an empty string, meaning the temporary directory is
+	 * initially empty.
+	 *
+	 * @return the template for the contents of the temporary directory
+	 * @since 5.12
+	 */
+	@API(status = EXPERIMENTAL, since = "5.12")
+	String template() default "";
+
 }
@@ -1,6 +1,7 @@
 plugins {
 	id("junitbuild.kotlin-library-conventions")
 	`java-test-fixtures`
+	id("junitbuild.jmh-conventions")
 }
 
 description = "JUnit Jupiter Engine"
@@ -13,6 +14,8 @@ dependencies {
 	compileOnlyApi(libs.apiguardian)
 
 	osgiVerification(projects.junitPlatformLauncher)
+
+	jmh(projects.junitPlatformLauncher)
 }
 
 tasks {
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.descriptor;
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the framework overhead per invocation of an empty test method by
+ * executing {@value #REPETITIONS} repetitions of an empty
+ * {@code @RepeatedTest}, with and without lifecycle methods and extensions
+ * registered on the method, via the {@link Launcher}.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TestMethodExecutionBenchmarks {
+
+	static final int REPETITIONS = 1000;
+
+	private static final TestExecutionListener NOOP_LISTENER = new TestExecutionListener() {
+	};
+
+	private Launcher launcher;
+	private LauncherDiscoveryRequest emptyTestRequest;
+	private LauncherDiscoveryRequest extendedTestRequest;
+
+	@Setup
+	public void setUp() {
+		launcher = LauncherFactory.create();
+		emptyTestRequest = request().selectors(selectClass(EmptyTestCase.class)).build();
+		extendedTestRequest = request().selectors(selectClass(ExtendedTestCase.class)).build();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(REPETITIONS)
+	public void emptyTest() {
+		launcher.execute(emptyTestRequest, NOOP_LISTENER);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(REPETITIONS)
+	public void emptyTestWithLifecycleMethodsAndExtensions() {
+		launcher.execute(extendedTestRequest, NOOP_LISTENER);
+	}
+
+	public static class EmptyTestCase {
+
+		@RepeatedTest(REPETITIONS)
+		void test() {
+		}
+
+	}
+
+	public static class ExtendedTestCase {
+
+		@BeforeEach
+		void beforeEach() {
+		}
+
+		@RepeatedTest(REPETITIONS)
+		@ExtendWith(NoopCallbacks.class)
+		void test() {
+		}
+
+		@AfterEach
+		void afterEach() {
+		}
+
+	}
+
+	static class NoopCallbacks implements BeforeEachCallback, AfterEachCallback {
+
+		@Override
+		public void beforeEach(ExtensionContext context) {
+		}
+
+		@Override
+		public void afterEach(ExtensionContext context) {
+		}
+
+	}
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of scheduling and cancelling the interrupt of a
+ * {@code SAME_THREAD} timeout for a test that completes in time, with many
+ * threads doing so concurrently as during parallel test execution.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(64)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 3, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TimeoutSchedulingBenchmarks {
+
+	private static final Runnable NOOP = () -> {
+	};
+
+	private ScheduledExecutorService executor;
+	private HashedWheelTimer timer;
+
+	@Setup
+	public void setUp() {
+		executor = Executors.newSingleThreadScheduledExecutor();
+		timer = new HashedWheelTimer(Thread::new, 10, TimeUnit.MILLISECONDS, 512);
+	}
+
+	@TearDown
+	public void tearDown() throws Exception {
+		executor.shutdownNow();
+		timer.stop(5, TimeUnit.SECONDS);
+	}
+
+	@Benchmark
+	public boolean scheduledExecutorService() {
+		ScheduledFuture<?> future = executor.schedule(NOOP, 5, TimeUnit.MINUTES);
+		return future.cancel(false);
+	}
+
+	@Benchmark
+	public boolean hashedWheelTimer() {
+		HashedWheelTimer.Timeout timeout = timer.schedule(NOOP, 5, TimeUnit.MINUTES);
+		return timeout.cancel();
+	}
+
+}
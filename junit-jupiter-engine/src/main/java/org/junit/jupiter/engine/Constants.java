@@ -19,6 +19,7 @@ import static org.junit.platform.engine.support.hierarchical.DefaultParallelExec
 import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_FIXED_PARALLELISM_PROPERTY_NAME;
 import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_FIXED_SATURATE_PROPERTY_NAME;
 import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_STRATEGY_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.ForkJoinPoolHierarchicalTestExecutorService.CONFIG_BATCHING_ENABLED_PROPERTY_NAME;
 
 import org.apiguardian.api.API;
 import org.junit.jupiter.api.AfterAll;
@@ -119,6 +120,19 @@ public final class Constants {
 	@API(status = EXPERIMENTAL, since = "5.12")
 	public static final String EXTENSIONS_TIMEOUT_THREAD_DUMP_ENABLED_PROPERTY_NAME = JupiterConfiguration.EXTENSIONS_TIMEOUT_THREAD_DUMP_ENABLED_PROPERTY_NAME;
 
+	/**
+	 * Property name used to configure the maximum number of threads used to
+	 * invoke {@link org.junit.jupiter.api.extension.PrewarmCallback
+	 * PrewarmCallbacks} concurrently: {@value}
+	 *
+	 * <p>If not specified, the number of available processors is used.
+	 *
+	 * @since 5.12
+	 * @see org.junit.jupiter.api.extension.PrewarmCallback#PARALLELISM_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "5.12")
+	public static final String EXTENSIONS_PREWARM_PARALLELISM_PROPERTY_NAME = JupiterConfiguration.EXTENSIONS_PREWARM_PARALLELISM_PROPERTY_NAME;
+
 	/**
 	 * Property name used to set the default test instance lifecycle mode: {@value}
 	 *
@@ -153,6 +167,25 @@ public final class Constants {
 	@API(status = STABLE, since = "5.10")
 	public static final String DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME = Execution.DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME;
 
+	/**
+	 * Property name used to limit the number of dynamic tests and containers
+	 * registered by a single {@code @TestFactory} method or dynamic container
+	 * that may be in flight at the same time: {@value}
+	 *
+	 * <p>Once the limit has been reached, the next dynamic node is only pulled
+	 * from the factory's {@code Stream}, {@code Iterator}, etc. after one of
+	 * the in-flight nodes has finished. This keeps memory consumption flat
+	 * for factories that lazily produce a large number of dynamic nodes when
+	 * parallel execution is enabled.
+	 *
+	 * <p>By default, the number of in-flight dynamic tests is not limited;
+	 * if set, the value must be a positive integer.
+	 *
+	 * @since 5.12
+	 */
+	@API(status = EXPERIMENTAL, since = "5.12")
+	public static final String DYNAMIC_TESTS_MAX_IN_FLIGHT_PROPERTY_NAME = JupiterConfiguration.DYNAMIC_TESTS_MAX_IN_FLIGHT_PROPERTY_NAME;
+
 	static final String PARALLEL_CONFIG_PREFIX = "junit.jupiter.execution.parallel.config.";
 
 	/**
@@ -238,6 +271,27 @@ public final class Constants {
 	public static final String PARALLEL_CONFIG_CUSTOM_CLASS_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
 			+ CONFIG_CUSTOM_CLASS_PROPERTY_NAME;
 
+	/**
+	 * Property name used to enable batched execution of large numbers of
+	 * concurrent sibling tests and containers that don't use any shared
+	 * resources: {@value}
+	 *
+	 * <p>Rather than scheduling each of them individually, they are executed by
+	 * one worker per degree of parallelism, each of which claims chunks of the
+	 * remaining tests whose size depends on the observed durations of
+	 * previously batched tests. This reduces the scheduling overhead for test
+	 * classes with thousands of very short tests. Since tests of the same chunk
+	 * are executed sequentially, they must not rely on being executed
+	 * concurrently with other tests.
+	 *
+	 * <p>Value must be either {@code true} or {@code false}; defaults to {@code false}.
+	 *
+	 * @since 5.12
+	 */
+	@API(status = EXPERIMENTAL, since = "5.12")
+	public static final String PARALLEL_CONFIG_BATCHING_ENABLED_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ CONFIG_BATCHING_ENABLED_PROPERTY_NAME;
+
 	/**
 	 * Property name used to set the default timeout for all testable and
 	 * lifecycle methods: {@value}.
@@ -381,6 +435,35 @@ public final class Constants {
 	@API(status = EXPERIMENTAL, since = "5.10")
 	public static final String DEFAULT_TEMP_DIR_FACTORY_PROPERTY_NAME = TempDir.DEFAULT_FACTORY_PROPERTY_NAME;
 
+	/**
+	 * Property name used to enable background cleanup of temporary directories
+	 * created via the {@link TempDir @TempDir} annotation: {@value}
+	 *
+	 * @since 5.12
+	 * @see TempDir#BACKGROUND_CLEANUP_ENABLED_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "5.12")
+	public static final String TEMP_DIR_BACKGROUND_CLEANUP_ENABLED_PROPERTY_NAME = TempDir.BACKGROUND_CLEANUP_ENABLED_PROPERTY_NAME;
+
+	/**
+	 * Property name used to enable pooling of temporary directories created
+	 * via the {@link TempDir @TempDir} annotation: {@value}
+	 *
+	 * <p>When enabled, {@code @TempDir} declarations that would use
+	 * {@link org.junit.jupiter.api.io.TempDirFactory.Standard} are instead
+	 * handed out empty directories that have been created ahead of time in
+	 * the background, in a small pool per worker thread. Handed out
+	 * directories are cleaned up according to their
+	 * {@link org.junit.jupiter.api.io.CleanupMode CleanupMode} as usual.
+	 * Custom factories are never pooled.
+	 *
+	 * <p>Pooling is disabled by default.
+	 *
+	 * @since 5.12
+	 */
+	@API(status = EXPERIMENTAL, since = "5.12")
+	public static final String TEMP_DIR_POOL_ENABLED_PROPERTY_NAME = JupiterConfiguration.TEMP_DIR_POOL_ENABLED_PROPERTY_NAME;
+
 	/**
 	 * Property name used to set the default extension context scope for
 	 * extensions that participate in test instantiation: {@value}
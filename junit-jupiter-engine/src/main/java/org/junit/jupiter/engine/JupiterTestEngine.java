@@ -80,6 +80,14 @@ public final class JupiterTestEngine extends HierarchicalTestEngine<JupiterEngin
 		return super.createExecutorService(request);
 	}
 
+	/**
+	 * @since 5.12
+	 */
+	@Override
+	protected int getMaxInFlightDynamicTests(ExecutionRequest request) {
+		return getJupiterConfiguration(request).getMaxInFlightDynamicTests();
+	}
+
 	@Override
 	protected JupiterEngineExecutionContext createExecutionContext(ExecutionRequest request) {
 		return new JupiterEngineExecutionContext(request.getEngineExecutionListener(),
@@ -63,6 +63,12 @@ public class CachingJupiterConfiguration implements JupiterConfiguration {
 			__ -> delegate.isParallelExecutionEnabled());
 	}
 
+	@Override
+	public int getMaxInFlightDynamicTests() {
+		return (int) cache.computeIfAbsent(DYNAMIC_TESTS_MAX_IN_FLIGHT_PROPERTY_NAME,
+			__ -> delegate.getMaxInFlightDynamicTests());
+	}
+
 	@Override
 	public boolean isExtensionAutoDetectionEnabled() {
 		return (boolean) cache.computeIfAbsent(EXTENSIONS_AUTODETECTION_ENABLED_PROPERTY_NAME,
@@ -75,6 +81,12 @@ public class CachingJupiterConfiguration implements JupiterConfiguration {
 			__ -> delegate.isThreadDumpOnTimeoutEnabled());
 	}
 
+	@Override
+	public int getPrewarmParallelism() {
+		return (int) cache.computeIfAbsent(EXTENSIONS_PREWARM_PARALLELISM_PROPERTY_NAME,
+			__ -> delegate.getPrewarmParallelism());
+	}
+
 	@Override
 	public ExecutionMode getDefaultExecutionMode() {
 		return (ExecutionMode) cache.computeIfAbsent(DEFAULT_EXECUTION_MODE_PROPERTY_NAME,
@@ -133,6 +145,18 @@ public class CachingJupiterConfiguration implements JupiterConfiguration {
 			__ -> delegate.getDefaultTempDirFactorySupplier());
 	}
 
+	@Override
+	public boolean isTempDirBackgroundCleanupEnabled() {
+		return (boolean) cache.computeIfAbsent(TEMP_DIR_BACKGROUND_CLEANUP_ENABLED_PROPERTY_NAME,
+			__ -> delegate.isTempDirBackgroundCleanupEnabled());
+	}
+
+	@Override
+	public boolean isTempDirPoolEnabled() {
+		return (boolean) cache.computeIfAbsent(TEMP_DIR_POOL_ENABLED_PROPERTY_NAME,
+			__ -> delegate.isTempDirPoolEnabled());
+	}
+
 	@Override
 	public ExtensionContextScope getDefaultTestInstantiationExtensionContextScope() {
 		return (ExtensionContextScope) cache.computeIfAbsent(
@@ -92,6 +92,15 @@ public class DefaultJupiterConfiguration implements JupiterConfiguration {
 		return configurationParameters.getBoolean(PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME).orElse(false);
 	}
 
+	@Override
+	public int getMaxInFlightDynamicTests() {
+		return configurationParameters.get(DYNAMIC_TESTS_MAX_IN_FLIGHT_PROPERTY_NAME, value -> {
+			int maxInFlight = Integer.parseInt(value.trim());
+			Preconditions.condition(maxInFlight > 0, "Maximum number of in-flight dynamic tests must be positive");
+			return maxInFlight;
+		}).orElse(Integer.MAX_VALUE);
+	}
+
 	@Override
 	public boolean isExtensionAutoDetectionEnabled() {
 		return configurationParameters.getBoolean(EXTENSIONS_AUTODETECTION_ENABLED_PROPERTY_NAME).orElse(false);
@@ -102,6 +111,15 @@ public class DefaultJupiterConfiguration implements JupiterConfiguration {
 		return configurationParameters.getBoolean(EXTENSIONS_TIMEOUT_THREAD_DUMP_ENABLED_PROPERTY_NAME).orElse(false);
 	}
 
+	@Override
+	public int getPrewarmParallelism() {
+		return configurationParameters.get(EXTENSIONS_PREWARM_PARALLELISM_PROPERTY_NAME, value -> {
+			int parallelism = Integer.parseInt(value.trim());
+			Preconditions.condition(parallelism > 0, "Prewarm parallelism must be positive");
+			return parallelism;
+		}).orElseGet(() -> Runtime.getRuntime().availableProcessors());
+	}
+
 	@Override
 	public ExecutionMode getDefaultExecutionMode() {
 		return executionModeConverter.get(configurationParameters, DEFAULT_EXECUTION_MODE_PROPERTY_NAME,
@@ -154,6 +172,16 @@ public class DefaultJupiterConfiguration implements JupiterConfiguration {
 		return () -> supplier.get().orElse(TempDirFactory.Standard.INSTANCE);
 	}
 
+	@Override
+	public boolean isTempDirBackgroundCleanupEnabled() {
+		return configurationParameters.getBoolean(TEMP_DIR_BACKGROUND_CLEANUP_ENABLED_PROPERTY_NAME).orElse(false);
+	}
+
+	@Override
+	public boolean isTempDirPoolEnabled() {
+		return configurationParameters.getBoolean(TEMP_DIR_POOL_ENABLED_PROPERTY_NAME).orElse(false);
+	}
+
 	@SuppressWarnings("deprecation")
 	@Override
 	public ExtensionContextScope getDefaultTestInstantiationExtensionContextScope() {
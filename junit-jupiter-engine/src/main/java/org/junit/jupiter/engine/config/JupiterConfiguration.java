@@ -24,8 +24,10 @@ import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.extension.ExecutionCondition;
 import org.junit.jupiter.api.extension.PreInterruptCallback;
+import org.junit.jupiter.api.extension.PrewarmCallback;
 import org.junit.jupiter.api.extension.TestInstantiationAwareExtension.ExtensionContextScope;
 import org.junit.jupiter.api.io.CleanupMode;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.api.io.TempDirFactory;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
@@ -39,14 +41,18 @@ public interface JupiterConfiguration {
 
 	String DEACTIVATE_CONDITIONS_PATTERN_PROPERTY_NAME = "junit.jupiter.conditions.deactivate";
 	String PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME = "junit.jupiter.execution.parallel.enabled";
+	String DYNAMIC_TESTS_MAX_IN_FLIGHT_PROPERTY_NAME = "junit.jupiter.execution.dynamic.max-in-flight";
 	String DEFAULT_EXECUTION_MODE_PROPERTY_NAME = Execution.DEFAULT_EXECUTION_MODE_PROPERTY_NAME;
 	String DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME = Execution.DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME;
 	String EXTENSIONS_AUTODETECTION_ENABLED_PROPERTY_NAME = "junit.jupiter.extensions.autodetection.enabled";
 	String EXTENSIONS_TIMEOUT_THREAD_DUMP_ENABLED_PROPERTY_NAME = PreInterruptCallback.THREAD_DUMP_ENABLED_PROPERTY_NAME;
+	String EXTENSIONS_PREWARM_PARALLELISM_PROPERTY_NAME = PrewarmCallback.PARALLELISM_PROPERTY_NAME;
 	String DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME = TestInstance.Lifecycle.DEFAULT_LIFECYCLE_PROPERTY_NAME;
 	String DEFAULT_DISPLAY_NAME_GENERATOR_PROPERTY_NAME = DisplayNameGenerator.DEFAULT_GENERATOR_PROPERTY_NAME;
 	String DEFAULT_TEST_METHOD_ORDER_PROPERTY_NAME = MethodOrderer.DEFAULT_ORDER_PROPERTY_NAME;
 	String DEFAULT_TEST_CLASS_ORDER_PROPERTY_NAME = ClassOrderer.DEFAULT_ORDER_PROPERTY_NAME;;
+	String TEMP_DIR_BACKGROUND_CLEANUP_ENABLED_PROPERTY_NAME = TempDir.BACKGROUND_CLEANUP_ENABLED_PROPERTY_NAME;
+	String TEMP_DIR_POOL_ENABLED_PROPERTY_NAME = "junit.jupiter.tempdir.pool.enabled";
 	String DEFAULT_TEST_INSTANTIATION_EXTENSION_CONTEXT_SCOPE_PROPERTY_NAME = ExtensionContextScope.DEFAULT_SCOPE_PROPERTY_NAME;
 
 	Optional<String> getRawConfigurationParameter(String key);
@@ -55,10 +61,14 @@ public interface JupiterConfiguration {
 
 	boolean isParallelExecutionEnabled();
 
+	int getMaxInFlightDynamicTests();
+
 	boolean isExtensionAutoDetectionEnabled();
 
 	boolean isThreadDumpOnTimeoutEnabled();
 
+	int getPrewarmParallelism();
+
 	ExecutionMode getDefaultExecutionMode();
 
 	ExecutionMode getDefaultClassesExecutionMode();
@@ -77,6 +87,10 @@ public interface JupiterConfiguration {
 
 	Supplier<TempDirFactory> getDefaultTempDirFactorySupplier();
 
+	boolean isTempDirBackgroundCleanupEnabled();
+
+	boolean isTempDirPoolEnabled();
+
 	ExtensionContextScope getDefaultTestInstantiationExtensionContextScope();
 
 	OutputDirectoryProvider getOutputDirectoryProvider();
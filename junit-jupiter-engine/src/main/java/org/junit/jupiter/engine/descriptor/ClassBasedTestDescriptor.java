@@ -23,6 +23,7 @@ import static org.junit.jupiter.engine.descriptor.LifecycleMethodUtils.findBefor
 import static org.junit.jupiter.engine.descriptor.LifecycleMethodUtils.findBeforeEachMethods;
 import static org.junit.jupiter.engine.descriptor.TestInstanceLifecycleUtils.getTestInstanceLifecycle;
 import static org.junit.jupiter.engine.support.JupiterThrowableCollectorFactory.createThrowableCollector;
+import static org.junit.platform.commons.support.AnnotationSupport.findRepeatableAnnotations;
 import static org.junit.platform.commons.util.CollectionUtils.forEachInReverseOrder;
 
 import java.lang.reflect.Constructor;
@@ -34,6 +35,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
@@ -44,6 +46,7 @@ import org.junit.jupiter.api.extension.ExtensionConfigurationException;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.InvocationInterceptor;
 import org.junit.jupiter.api.extension.LifecycleMethodExecutionExceptionHandler;
+import org.junit.jupiter.api.extension.SharedFixture;
 import org.junit.jupiter.api.extension.TestInstanceFactory;
 import org.junit.jupiter.api.extension.TestInstanceFactoryContext;
 import org.junit.jupiter.api.extension.TestInstancePostProcessor;
@@ -65,6 +68,7 @@ import org.junit.jupiter.engine.execution.TestInstancesProvider;
 import org.junit.jupiter.engine.extension.ExtensionRegistrar;
 import org.junit.jupiter.engine.extension.ExtensionRegistry;
 import org.junit.jupiter.engine.extension.MutableExtensionRegistry;
+import org.junit.jupiter.engine.extension.SharedFixtureParameterResolver;
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.platform.commons.util.ReflectionUtils;
@@ -151,6 +155,11 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor imp
 		MutableExtensionRegistry registry = populateNewExtensionRegistryFromExtendWithAnnotation(
 			context.getExtensionRegistry(), this.testClass);
 
+		if (!findRepeatableAnnotations(this.testClass, SharedFixture.class).isEmpty()) {
+			registry.registerExtension(SharedFixtureParameterResolver.class);
+			SharedFixtureReferenceCounter.acquire(this, context);
+		}
+
 		// Register extensions from static fields here, at the class level but
 		// after extensions registered via @ExtendWith.
 		registerExtensionsFromStaticFields(registry, this.testClass);
@@ -164,8 +173,8 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor imp
 			registerExtensionsFromConstructorParameters(registry, this.testClass);
 		}
 
-		this.beforeAllMethods = findBeforeAllMethods(this.testClass, this.lifecycle == Lifecycle.PER_METHOD);
-		this.afterAllMethods = findAfterAllMethods(this.testClass, this.lifecycle == Lifecycle.PER_METHOD);
+		this.beforeAllMethods = findBeforeAllMethods(this.testClass, this.lifecycle != Lifecycle.PER_CLASS);
+		this.afterAllMethods = findAfterAllMethods(this.testClass, this.lifecycle != Lifecycle.PER_CLASS);
 
 		this.beforeAllMethods.forEach(method -> registerExtensionsFromExecutableParameters(registry, method));
 		// Since registerBeforeEachMethodAdapters() and registerAfterEachMethodAdapters() also
@@ -185,7 +194,7 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor imp
 
 		// @formatter:off
 		return context.extend()
-				.withTestInstancesProvider(testInstancesProvider(context, extensionContext))
+				.withTestInstancesProvider(testInstancesProvider(context, extensionContext, registry))
 				.withExtensionRegistry(registry)
 				.withExtensionContext(extensionContext)
 				.withThrowableCollector(throwableCollector)
@@ -197,7 +206,10 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor imp
 	public JupiterEngineExecutionContext before(JupiterEngineExecutionContext context) {
 		ThrowableCollector throwableCollector = context.getThrowableCollector();
 
-		if (isPerClassLifecycle(context)) {
+		// Wait for resources that are being prepared in the background, if any.
+		throwableCollector.execute(() -> PrewarmCallbackInvoker.await(this, context));
+
+		if (throwableCollector.isEmpty() && isPerClassLifecycle(context)) {
 			// Eagerly load test instance for BeforeAllCallbacks, if necessary,
 			// and store the instance in the ExtensionContext.
 			ClassExtensionContext extensionContext = (ClassExtensionContext) context.getExtensionContext();
@@ -240,6 +252,10 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor imp
 			invokeTestInstancePreDestroyCallbacks(context);
 		}
 
+		if (this.lifecycle == Lifecycle.PER_THREAD) {
+			invokeTestInstancePreDestroyCallbacksForAllThreads(context);
+		}
+
 		// If the previous Throwable was not null when this method was called,
 		// that means an exception was already thrown either before or during
 		// the execution of this Node. If an exception was already thrown, any
@@ -250,6 +266,18 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor imp
 		}
 	}
 
+	@Override
+	public void cleanUp(JupiterEngineExecutionContext context) throws Exception {
+		try {
+			super.cleanUp(context);
+		}
+		finally {
+			// Release shared fixtures only after resources stored for this class
+			// have been closed since the latter might still depend on the former.
+			SharedFixtureReferenceCounter.release(this, context);
+		}
+	}
+
 	private TestInstanceFactory resolveTestInstanceFactory(ExtensionRegistry registry) {
 		List<TestInstanceFactory> factories = registry.getExtensions(TestInstanceFactory.class);
 
@@ -273,7 +301,11 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor imp
 	}
 
 	private TestInstancesProvider testInstancesProvider(JupiterEngineExecutionContext parentExecutionContext,
-			ClassExtensionContext ourExtensionContext) {
+			ClassExtensionContext ourExtensionContext, MutableExtensionRegistry ourExtensionRegistry) {
+
+		if (this.lifecycle == Lifecycle.PER_THREAD) {
+			return perThreadTestInstancesProvider(parentExecutionContext, ourExtensionContext, ourExtensionRegistry);
+		}
 
 		// For Lifecycle.PER_CLASS, ourExtensionContext.getTestInstances() is used to store the instance.
 		// Otherwise, extensionContext.getTestInstances() is always empty and we always create a new instance.
@@ -282,6 +314,50 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor imp
 				context));
 	}
 
+	private TestInstancesProvider perThreadTestInstancesProvider(JupiterEngineExecutionContext parentExecutionContext,
+			ClassExtensionContext ourExtensionContext, MutableExtensionRegistry ourExtensionRegistry) {
+
+		// For Lifecycle.PER_THREAD, each test acquires an idle instance of the current thread or
+		// creates a new one and releases it when the test's ExtensionContext is closed.
+		PerThreadTestInstances perThreadTestInstances = ourExtensionContext.getPerThreadTestInstances();
+		return (registry, context) -> {
+			Optional<PerThreadTestInstances.Entry> idleEntry = perThreadTestInstances.acquire();
+			if (idleEntry.isPresent()) {
+				TestInstances instances = idleEntry.get().getInstances();
+				initializeExtensionsFromInstanceFields(instances, context.getExtensionRegistry());
+				idleEntry.get().releaseWhenClosed(context.getExtensionContext());
+				return instances;
+			}
+			TestInstances instances = instantiateAndPostProcessTestInstance(parentExecutionContext,
+				ourExtensionContext, registry, context);
+			// Don't hand out instances whose post-processing failed to later tests.
+			if (context.getThrowableCollector().isEmpty()) {
+				// Keep the extensions registered via fields of the new instances for
+				// invoking TestInstancePreDestroyCallbacks once the class has finished.
+				MutableExtensionRegistry instanceRegistry = MutableExtensionRegistry.createRegistryFrom(
+					ourExtensionRegistry, Stream.empty());
+				initializeExtensionsFromInstanceFields(instances, instanceRegistry);
+				PerThreadTestInstances.Entry entry = perThreadTestInstances.add(instances, instanceRegistry);
+				entry.releaseWhenClosed(context.getExtensionContext());
+			}
+			return instances;
+		};
+	}
+
+	/**
+	 * Initialize the extensions registered via instance fields of the supplied
+	 * test instance and its enclosing instances in the supplied registrar.
+	 */
+	private void initializeExtensionsFromInstanceFields(TestInstances instances, ExtensionRegistrar registrar) {
+		List<Class<?>> testClasses = new ArrayList<>(getEnclosingTestClasses());
+		testClasses.add(this.testClass);
+		List<Object> allInstances = instances.getAllInstances();
+		int offset = allInstances.size() - testClasses.size();
+		for (int i = Math.max(0, -offset); i < testClasses.size(); i++) {
+			registrar.initializeExtensions(testClasses.get(i), allInstances.get(i + offset));
+		}
+	}
+
 	private TestInstances instantiateAndPostProcessTestInstance(JupiterEngineExecutionContext parentExecutionContext,
 			ClassExtensionContext ourExtensionContext, ExtensionRegistry registry,
 			JupiterEngineExecutionContext context) {
@@ -468,13 +544,35 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor imp
 	}
 
 	private void invokeTestInstancePreDestroyCallbacks(JupiterEngineExecutionContext context) {
+		invokeTestInstancePreDestroyCallbacks(context, context.getExtensionRegistry());
+	}
+
+	private void invokeTestInstancePreDestroyCallbacks(JupiterEngineExecutionContext context,
+			ExtensionRegistry registry) {
+
 		ExtensionContext extensionContext = context.getExtensionContext();
 		ThrowableCollector throwableCollector = context.getThrowableCollector();
 
-		forEachInReverseOrder(context.getExtensionRegistry().getExtensions(TestInstancePreDestroyCallback.class), //
+		forEachInReverseOrder(registry.getExtensions(TestInstancePreDestroyCallback.class), //
 			extension -> throwableCollector.execute(() -> extension.preDestroyTestInstance(extensionContext)));
 	}
 
+	private void invokeTestInstancePreDestroyCallbacksForAllThreads(JupiterEngineExecutionContext context) {
+		ClassExtensionContext extensionContext = (ClassExtensionContext) context.getExtensionContext();
+		try {
+			// Temporarily expose each instance via the ExtensionContext, analogous
+			// to how the instance is stored for Lifecycle.PER_CLASS, and use the
+			// registry that contains the extensions registered via its fields.
+			extensionContext.getPerThreadTestInstances().removeAll().forEach(entry -> {
+				extensionContext.setTestInstances(entry.getInstances());
+				invokeTestInstancePreDestroyCallbacks(context, entry.getExtensionRegistry());
+			});
+		}
+		finally {
+			extensionContext.setTestInstances(null);
+		}
+	}
+
 	private boolean isPerClassLifecycle(JupiterEngineExecutionContext context) {
 		return context.getExtensionContext().getTestInstanceLifecycle().orElse(
 			Lifecycle.PER_METHOD) == Lifecycle.PER_CLASS;
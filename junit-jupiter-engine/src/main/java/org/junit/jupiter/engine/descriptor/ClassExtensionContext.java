@@ -34,6 +34,8 @@ final class ClassExtensionContext extends AbstractExtensionContext<ClassBasedTes
 
 	private TestInstances testInstances;
 
+	private final PerThreadTestInstances perThreadTestInstances;
+
 	/**
 	 * Create a new {@code ClassExtensionContext} with {@link Lifecycle#PER_METHOD}.
 	 *
@@ -56,6 +58,7 @@ final class ClassExtensionContext extends AbstractExtensionContext<ClassBasedTes
 
 		this.lifecycle = lifecycle;
 		this.throwableCollector = throwableCollector;
+		this.perThreadTestInstances = (lifecycle == Lifecycle.PER_THREAD ? new PerThreadTestInstances() : null);
 	}
 
 	@Override
@@ -87,6 +90,16 @@ final class ClassExtensionContext extends AbstractExtensionContext<ClassBasedTes
 		this.testInstances = testInstances;
 	}
 
+	/**
+	 * Get the test instances of the individual threads when using
+	 * {@link Lifecycle#PER_THREAD}.
+	 *
+	 * @since 5.12
+	 */
+	PerThreadTestInstances getPerThreadTestInstances() {
+		return this.perThreadTestInstances;
+	}
+
 	@Override
 	public Optional<Method> getTestMethod() {
 		return Optional.empty();
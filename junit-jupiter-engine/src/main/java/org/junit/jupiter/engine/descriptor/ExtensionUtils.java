@@ -14,6 +14,7 @@ import static java.util.stream.Collectors.toList;
 import static org.junit.platform.commons.support.AnnotationSupport.findAnnotation;
 import static org.junit.platform.commons.support.AnnotationSupport.isAnnotated;
 import static org.junit.platform.commons.util.AnnotationUtils.findRepeatableAnnotations;
+import static org.junit.platform.commons.util.CollectionUtils.toUnmodifiableList;
 import static org.junit.platform.commons.util.ReflectionUtils.HierarchyTraversalMode.TOP_DOWN;
 import static org.junit.platform.commons.util.ReflectionUtils.getDeclaredConstructor;
 import static org.junit.platform.commons.util.ReflectionUtils.streamFields;
@@ -188,13 +189,39 @@ final class ExtensionUtils {
 		Preconditions.notNull(registrar, "ExtensionRegistrar must not be null");
 		Preconditions.notNull(executable, "Executable must not be null");
 
+		streamDeclarativeParameterExtensionTypes(executable).forEach(registrar::registerExtension);
+	}
+
+	/**
+	 * Find the extension types declared via {@link ExtendWith @ExtendWith} on
+	 * the supplied {@link Executable} followed by those declared on its
+	 * parameters, in the order in which
+	 * {@link #populateNewExtensionRegistryFromExtendWithAnnotation} and
+	 * {@link #registerExtensionsFromExecutableParameters} register them.
+	 *
+	 * @param executable the constructor or method to search; never {@code null}
+	 * @return an unmodifiable list of extension types; never {@code null}
+	 * @since 5.12
+	 */
+	static List<Class<? extends Extension>> findDeclarativeExtensionTypes(Executable executable) {
+		Preconditions.notNull(executable, "Executable must not be null");
+
+		return Stream.concat(streamDeclarativeExtensionTypes(executable),
+			streamDeclarativeParameterExtensionTypes(executable)).collect(toUnmodifiableList());
+	}
+
+	/**
+	 * @since 5.12
+	 */
+	private static Stream<Class<? extends Extension>> streamDeclarativeParameterExtensionTypes(
+			Executable executable) {
+
 		AtomicInteger index = new AtomicInteger();
 
 		// @formatter:off
-		Arrays.stream(executable.getParameters())
+		return Arrays.stream(executable.getParameters())
 				.map(parameter -> findRepeatableAnnotations(parameter, index.getAndIncrement(), ExtendWith.class))
-				.flatMap(ExtensionUtils::streamDeclarativeExtensionTypes)
-				.forEach(registrar::registerExtension);
+				.flatMap(ExtensionUtils::streamDeclarativeExtensionTypes);
 		// @formatter:on
 	}
 
@@ -209,7 +236,7 @@ final class ExtensionUtils {
 	/**
 	 * @since 5.11
 	 */
-	private static Stream<Class<? extends Extension>> streamDeclarativeExtensionTypes(
+	static Stream<Class<? extends Extension>> streamDeclarativeExtensionTypes(
 			AnnotatedElement annotatedElement) {
 		return streamDeclarativeExtensionTypes(findRepeatableAnnotations(annotatedElement, ExtendWith.class));
 	}
@@ -62,6 +62,13 @@ public class JupiterEngineDescriptor extends EngineDescriptor implements Node<Ju
 		// @formatter:on
 	}
 
+	@Override
+	public JupiterEngineExecutionContext before(JupiterEngineExecutionContext context) {
+		SharedFixtureReferenceCounter.start(this, context);
+		PrewarmCallbackInvoker.start(this, context);
+		return context;
+	}
+
 	@Override
 	public void cleanUp(JupiterEngineExecutionContext context) throws Exception {
 		context.close();
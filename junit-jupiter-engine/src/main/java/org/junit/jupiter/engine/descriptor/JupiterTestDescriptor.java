@@ -20,6 +20,7 @@ import static org.junit.platform.commons.support.AnnotationSupport.findAnnotatio
 import static org.junit.platform.commons.support.AnnotationSupport.findRepeatableAnnotations;
 
 import java.lang.reflect.AnnotatedElement;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -64,7 +65,13 @@ public abstract class JupiterTestDescriptor extends AbstractTestDescriptor
 
 	JupiterTestDescriptor(UniqueId uniqueId, AnnotatedElement element, Supplier<String> displayNameSupplier,
 			TestSource source, JupiterConfiguration configuration) {
-		this(uniqueId, determineDisplayName(element, displayNameSupplier), source, configuration);
+		this(uniqueId, () -> determineDisplayName(element, displayNameSupplier), source, configuration);
+	}
+
+	JupiterTestDescriptor(UniqueId uniqueId, Supplier<String> displayNameSupplier, TestSource source,
+			JupiterConfiguration configuration) {
+		super(uniqueId, displayNameSupplier, source);
+		this.configuration = configuration;
 	}
 
 	JupiterTestDescriptor(UniqueId uniqueId, String displayName, TestSource source,
@@ -105,14 +112,28 @@ public abstract class JupiterTestDescriptor extends AbstractTestDescriptor
 	<E extends Extension> void invokeExecutionExceptionHandlers(Class<E> handlerType, ExtensionRegistry registry,
 			Throwable throwable, ExceptionHandlerInvoker<E> handlerInvoker) {
 
-		List<E> extensions = registry.getExtensions(handlerType);
-		Collections.reverse(extensions);
-		invokeExecutionExceptionHandlers(extensions, throwable, handlerInvoker);
+		invokeExecutionExceptionHandlers(registry.getExtensions(handlerType), throwable, handlerInvoker);
 	}
 
-	private <E extends Extension> void invokeExecutionExceptionHandlers(List<E> exceptionHandlers, Throwable throwable,
+	/**
+	 * Invoke the supplied exception handlers, which are expected in
+	 * registration order, in reverse order for the supplied {@code Throwable}
+	 * one-by-one until none are left or the throwable to handle has been
+	 * swallowed.
+	 *
+	 * @since 5.12
+	 */
+	<E extends Extension> void invokeExecutionExceptionHandlers(List<E> handlers, Throwable throwable,
 			ExceptionHandlerInvoker<E> handlerInvoker) {
 
+		List<E> extensions = new ArrayList<>(handlers);
+		Collections.reverse(extensions);
+		invokeRemainingExecutionExceptionHandlers(extensions, throwable, handlerInvoker);
+	}
+
+	private <E extends Extension> void invokeRemainingExecutionExceptionHandlers(List<E> exceptionHandlers,
+			Throwable throwable, ExceptionHandlerInvoker<E> handlerInvoker) {
+
 		// No handlers left?
 		if (exceptionHandlers.isEmpty()) {
 			throw ExceptionUtils.throwAsUncheckedException(throwable);
@@ -124,7 +145,7 @@ public abstract class JupiterTestDescriptor extends AbstractTestDescriptor
 		}
 		catch (Throwable handledThrowable) {
 			UnrecoverableExceptions.rethrowIfUnrecoverable(handledThrowable);
-			invokeExecutionExceptionHandlers(exceptionHandlers, handledThrowable, handlerInvoker);
+			invokeRemainingExecutionExceptionHandlers(exceptionHandlers, handledThrowable, handlerInvoker);
 		}
 	}
 
@@ -188,7 +209,9 @@ public abstract class JupiterTestDescriptor extends AbstractTestDescriptor
 
 	@Override
 	public SkipResult shouldBeSkipped(JupiterEngineExecutionContext context) throws Exception {
-		context.getThrowableCollector().assertEmpty();
+		if (!context.isThrowableCollectorEmpty()) {
+			context.getThrowableCollector().assertEmpty();
+		}
 		ConditionEvaluationResult evaluationResult = conditionEvaluator.evaluate(context.getExtensionRegistry(),
 			context.getConfiguration(), context.getExtensionContext());
 		return toSkipResult(evaluationResult);
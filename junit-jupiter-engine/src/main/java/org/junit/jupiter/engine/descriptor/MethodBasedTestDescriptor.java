@@ -60,8 +60,12 @@ public abstract class MethodBasedTestDescriptor extends JupiterTestDescriptor im
 
 	MethodBasedTestDescriptor(UniqueId uniqueId, Class<?> testClass, Method testMethod,
 			JupiterConfiguration configuration) {
-		this(uniqueId, determineDisplayNameForMethod(testClass, testMethod, configuration), testClass, testMethod,
-			configuration);
+		super(uniqueId, () -> determineDisplayNameForMethod(testClass, testMethod, configuration),
+			MethodSource.from(testClass, testMethod), configuration);
+
+		this.testClass = Preconditions.notNull(testClass, "Class must not be null");
+		this.testMethod = testMethod;
+		this.tags = getTags(testMethod);
 	}
 
 	MethodBasedTestDescriptor(UniqueId uniqueId, String displayName, Class<?> testClass, Method testMethod,
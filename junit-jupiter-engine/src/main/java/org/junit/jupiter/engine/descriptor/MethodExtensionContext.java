@@ -18,27 +18,25 @@ import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.TestInstances;
 import org.junit.jupiter.engine.config.JupiterConfiguration;
+import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
 import org.junit.jupiter.engine.extension.ExtensionRegistry;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.support.hierarchical.Node;
-import org.junit.platform.engine.support.hierarchical.ThrowableCollector;
 
 /**
  * @since 5.0
  */
 final class MethodExtensionContext extends AbstractExtensionContext<TestMethodTestDescriptor> {
 
-	private final ThrowableCollector throwableCollector;
-
 	private TestInstances testInstances;
 
+	private JupiterEngineExecutionContext executionContext;
+
 	MethodExtensionContext(ExtensionContext parent, EngineExecutionListener engineExecutionListener,
 			TestMethodTestDescriptor testDescriptor, JupiterConfiguration configuration,
-			ExtensionRegistry extensionRegistry, ThrowableCollector throwableCollector) {
+			ExtensionRegistry extensionRegistry) {
 
 		super(parent, engineExecutionListener, testDescriptor, configuration, extensionRegistry);
-
-		this.throwableCollector = throwableCollector;
 	}
 
 	@Override
@@ -70,6 +68,18 @@ final class MethodExtensionContext extends AbstractExtensionContext<TestMethodTe
 		this.testInstances = testInstances;
 	}
 
+	/**
+	 * Set the execution context whose lazily created
+	 * {@link org.junit.platform.engine.support.hierarchical.ThrowableCollector
+	 * ThrowableCollector} provides the {@linkplain #getExecutionException()
+	 * execution exception}.
+	 *
+	 * @since 5.12
+	 */
+	void setExecutionContext(JupiterEngineExecutionContext executionContext) {
+		this.executionContext = executionContext;
+	}
+
 	@Override
 	public Optional<Method> getTestMethod() {
 		return Optional.of(getTestDescriptor().getTestMethod());
@@ -77,7 +87,11 @@ final class MethodExtensionContext extends AbstractExtensionContext<TestMethodTe
 
 	@Override
 	public Optional<Throwable> getExecutionException() {
-		return Optional.ofNullable(this.throwableCollector.getThrowable());
+		JupiterEngineExecutionContext executionContext = this.executionContext;
+		if (executionContext == null || executionContext.isThrowableCollectorEmpty()) {
+			return Optional.empty();
+		}
+		return Optional.of(executionContext.getThrowableCollector().getThrowable());
 	}
 
 	@Override
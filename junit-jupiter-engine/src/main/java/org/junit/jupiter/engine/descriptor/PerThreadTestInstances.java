@@ -0,0 +1,127 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.descriptor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
+import org.junit.jupiter.api.extension.TestInstances;
+import org.junit.jupiter.engine.extension.ExtensionRegistry;
+
+/**
+ * Test instances of a test class that uses {@link Lifecycle#PER_THREAD}.
+ *
+ * <p>A test {@linkplain #acquire() acquires} an idle instance of the current
+ * thread or creates and {@linkplain #add adds} a new one. The instance is
+ * {@linkplain Entry#releaseWhenClosed released} when the test has finished,
+ * including all of its dynamic tests, and may then be reused by subsequent
+ * tests that are executed in the same thread. Thus, an instance is never handed out to a
+ * test while another test is still using it &mdash; not even if the thread
+ * executes other tests while it waits for the dynamic tests of a test
+ * factory to finish.
+ *
+ * @since 5.12
+ */
+final class PerThreadTestInstances {
+
+	private static final Namespace NAMESPACE = Namespace.create(PerThreadTestInstances.class);
+
+	private final Map<Thread, Deque<Entry>> idleEntries = new ConcurrentHashMap<>();
+	private final Queue<Entry> allEntries = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Acquire an idle entry of the current thread, if any.
+	 */
+	Optional<Entry> acquire() {
+		Deque<Entry> entries = this.idleEntries.get(Thread.currentThread());
+		return Optional.ofNullable(entries == null ? null : entries.pollFirst());
+	}
+
+	/**
+	 * Add a new entry that has been acquired by the current thread.
+	 *
+	 * @param instances the new test instances
+	 * @param extensionRegistry the registry that contains the extensions
+	 * registered for the test class, including those registered via fields of
+	 * the new test instances
+	 */
+	Entry add(TestInstances instances, ExtensionRegistry extensionRegistry) {
+		Entry entry = new Entry(instances, extensionRegistry);
+		this.allEntries.add(entry);
+		return entry;
+	}
+
+	/**
+	 * Remove and return all entries.
+	 *
+	 * <p>Must only be called when no test is using any of the entries.
+	 */
+	List<Entry> removeAll() {
+		List<Entry> entries = new ArrayList<>();
+		Entry entry;
+		while ((entry = this.allEntries.poll()) != null) {
+			entries.add(entry);
+		}
+		this.idleEntries.clear();
+		return entries;
+	}
+
+	private void release(Entry entry) {
+		// Only the current thread accesses its own deque.
+		this.idleEntries.computeIfAbsent(Thread.currentThread(), __ -> new ArrayDeque<>()).addFirst(entry);
+	}
+
+	final class Entry implements CloseableResource {
+
+		private final TestInstances instances;
+		private final ExtensionRegistry extensionRegistry;
+
+		private Entry(TestInstances instances, ExtensionRegistry extensionRegistry) {
+			this.instances = instances;
+			this.extensionRegistry = extensionRegistry;
+		}
+
+		TestInstances getInstances() {
+			return this.instances;
+		}
+
+		ExtensionRegistry getExtensionRegistry() {
+			return this.extensionRegistry;
+		}
+
+		/**
+		 * Release this entry once the supplied {@link ExtensionContext} of the
+		 * test that acquired it is closed so that subsequent tests executed in
+		 * the same thread may reuse its test instances.
+		 */
+		void releaseWhenClosed(ExtensionContext context) {
+			context.getStore(NAMESPACE).put(this, this);
+		}
+
+		@Override
+		public void close() {
+			release(this);
+		}
+
+	}
+
+}
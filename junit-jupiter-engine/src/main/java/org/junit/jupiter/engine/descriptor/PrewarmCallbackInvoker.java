@@ -0,0 +1,216 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.descriptor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
+import org.junit.jupiter.api.extension.PrewarmCallback;
+import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.ReflectionUtils;
+import org.junit.platform.commons.util.UnrecoverableExceptions;
+import org.junit.platform.engine.UniqueId;
+
+/**
+ * Invokes {@link PrewarmCallback PrewarmCallbacks} for all test classes of
+ * the test plan on a pool of daemon threads and lets each
+ * {@link ClassBasedTestDescriptor} wait for the callbacks of its test class.
+ *
+ * <p>The invoker is stored in the {@link ExtensionContext.Store Store} of the
+ * engine's extension context; closing it stops all callbacks that are still
+ * running, e.g. for test classes that have been skipped.
+ *
+ * @since 5.12
+ * @see PrewarmCallback
+ */
+final class PrewarmCallbackInvoker implements CloseableResource {
+
+	private static final Namespace NAMESPACE = Namespace.create(PrewarmCallbackInvoker.class);
+
+	private final ExecutorService executor;
+	private final Map<UniqueId, CompletableFuture<Void>> futures = new HashMap<>();
+
+	/**
+	 * Start invoking prewarm callbacks for all test classes below the supplied
+	 * engine descriptor, if any.
+	 */
+	static void start(JupiterEngineDescriptor engineDescriptor, JupiterEngineExecutionContext context) {
+		Map<ClassBasedTestDescriptor, List<PrewarmCallback>> callbacks = collectCallbacks(engineDescriptor, context);
+		if (callbacks.isEmpty()) {
+			return;
+		}
+		ExtensionContext extensionContext = context.getExtensionContext();
+		int parallelism = Math.min(callbacks.size(), context.getConfiguration().getPrewarmParallelism());
+		PrewarmCallbackInvoker invoker = new PrewarmCallbackInvoker(parallelism);
+		callbacks.forEach((descriptor, classCallbacks) -> invoker.submit(descriptor, classCallbacks, extensionContext));
+		extensionContext.getStore(NAMESPACE).put(PrewarmCallbackInvoker.class, invoker);
+	}
+
+	/**
+	 * Wait for all prewarm callbacks of the supplied test descriptor's test
+	 * class to complete and rethrow the first exception thrown by any of them.
+	 */
+	static void await(ClassBasedTestDescriptor descriptor, JupiterEngineExecutionContext context) {
+		PrewarmCallbackInvoker invoker = context.getExtensionContext().getRoot().getStore(NAMESPACE).get(
+			PrewarmCallbackInvoker.class, PrewarmCallbackInvoker.class);
+		if (invoker != null) {
+			invoker.awaitCompletion(descriptor.getUniqueId());
+		}
+	}
+
+	private static Map<ClassBasedTestDescriptor, List<PrewarmCallback>> collectCallbacks(
+			JupiterEngineDescriptor engineDescriptor, JupiterEngineExecutionContext context) {
+
+		List<PrewarmCallback> globalCallbacks = context.getExtensionRegistry().getExtensions(PrewarmCallback.class);
+		Map<Class<?>, PrewarmCallback> declarativeCallbacks = new HashMap<>();
+		Map<ClassBasedTestDescriptor, List<PrewarmCallback>> result = new LinkedHashMap<>();
+
+		engineDescriptor.accept(descriptor -> {
+			if (descriptor instanceof ClassBasedTestDescriptor) {
+				ClassBasedTestDescriptor classDescriptor = (ClassBasedTestDescriptor) descriptor;
+				List<PrewarmCallback> callbacks = new ArrayList<>(globalCallbacks);
+				List<Class<?>> testClasses = new ArrayList<>(classDescriptor.getEnclosingTestClasses());
+				testClasses.add(classDescriptor.getTestClass());
+				// @formatter:off
+				testClasses.stream()
+						.flatMap(testClass -> ExtensionUtils.streamDeclarativeExtensionTypes(testClass))
+						.filter(PrewarmCallback.class::isAssignableFrom)
+						.distinct()
+						.map(type -> declarativeCallbacks.computeIfAbsent(type, PrewarmCallbackInvoker::instantiate))
+						.filter(callback -> callback != null && !callbacks.contains(callback))
+						.forEach(callbacks::add);
+				// @formatter:on
+				if (!callbacks.isEmpty()) {
+					result.put(classDescriptor, callbacks);
+				}
+			}
+		});
+		return result;
+	}
+
+	private static PrewarmCallback instantiate(Class<?> extensionType) {
+		try {
+			return (PrewarmCallback) ReflectionUtils.newInstance(extensionType);
+		}
+		catch (Throwable t) {
+			UnrecoverableExceptions.rethrowIfUnrecoverable(t);
+			// The failure is reported once the extension is registered for the test class.
+			return null;
+		}
+	}
+
+	private PrewarmCallbackInvoker(int parallelism) {
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(parallelism, parallelism, 10, TimeUnit.SECONDS,
+			new LinkedBlockingQueue<>(), new PrewarmThreadFactory());
+		executor.allowCoreThreadTimeOut(true);
+		this.executor = executor;
+	}
+
+	private void submit(ClassBasedTestDescriptor descriptor, List<PrewarmCallback> callbacks,
+			ExtensionContext extensionContext) {
+
+		Class<?> testClass = descriptor.getTestClass();
+		this.futures.put(descriptor.getUniqueId(), CompletableFuture.runAsync(() -> {
+			for (PrewarmCallback callback : callbacks) {
+				try {
+					callback.prewarm(testClass, extensionContext);
+				}
+				catch (Exception ex) {
+					throw ExceptionUtils.throwAsUncheckedException(ex);
+				}
+			}
+		}, this.executor));
+	}
+
+	/**
+	 * Wait for the callbacks of the test class with the supplied unique ID as
+	 * a {@link ForkJoinPool.ManagedBlocker} so that a {@link ForkJoinPool}
+	 * executing the tests may compensate for the blocked worker and execute
+	 * other test classes in the meantime.
+	 */
+	private void awaitCompletion(UniqueId uniqueId) {
+		CompletableFuture<Void> future = this.futures.get(uniqueId);
+		if (future == null) {
+			return;
+		}
+		try {
+			ForkJoinPool.managedBlock(new CompletionBlocker(future));
+			future.get();
+		}
+		catch (ExecutionException ex) {
+			throw ExceptionUtils.throwAsUncheckedException(ex.getCause());
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw ExceptionUtils.throwAsUncheckedException(ex);
+		}
+	}
+
+	@Override
+	public void close() {
+		this.executor.shutdownNow();
+	}
+
+	private static class CompletionBlocker implements ForkJoinPool.ManagedBlocker {
+
+		private final CompletableFuture<Void> future;
+
+		CompletionBlocker(CompletableFuture<Void> future) {
+			this.future = future;
+		}
+
+		@Override
+		public boolean block() throws InterruptedException {
+			try {
+				this.future.get();
+			}
+			catch (ExecutionException ignore) {
+				// rethrown by awaitCompletion()
+			}
+			return true;
+		}
+
+		@Override
+		public boolean isReleasable() {
+			return this.future.isDone();
+		}
+
+	}
+
+	private static class PrewarmThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "junit-jupiter-prewarm-" + threadNumber.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.descriptor;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.platform.commons.support.AnnotationSupport.findRepeatableAnnotations;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
+import org.junit.jupiter.api.extension.SharedFixture;
+import org.junit.jupiter.api.extension.SharedFixtureFactory;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.UnrecoverableExceptions;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+
+/**
+ * Counts the test classes of the test plan that declare a shared fixture via
+ * {@link SharedFixture @SharedFixture} and closes the fixture as soon as the
+ * last of them has been executed.
+ *
+ * <p>Shared fixtures themselves are stored in the root
+ * {@link ExtensionContext.Store Store} by
+ * {@link SharedFixtureFactory#getFixture(ExtensionContext, Class)}; fixtures
+ * that are never released by this class are closed along with the root store.
+ *
+ * <p>Test classes that are already part of the test plan when the engine
+ * starts executing are counted up front. Test classes that are discovered
+ * later, e.g. in a subsequent batch of a pipelined execution, are counted
+ * when they are prepared. If a fixture has been closed before such a class is
+ * executed, the fixture is created anew on first use.
+ *
+ * @since 5.12
+ * @see SharedFixture
+ */
+final class SharedFixtureReferenceCounter {
+
+	private static final Namespace NAMESPACE = Namespace.create(SharedFixtureReferenceCounter.class);
+
+	// all fields are guarded by "this"
+	private final Set<UniqueId> countedTestClasses = new HashSet<>();
+	private final Map<UniqueId, List<Class<?>>> referencesByTestClass = new HashMap<>();
+	private final Map<Class<?>, Integer> referenceCounts = new HashMap<>();
+
+	/**
+	 * Count the references to shared fixtures of all test classes below the
+	 * supplied engine descriptor, if any.
+	 */
+	static void start(JupiterEngineDescriptor engineDescriptor, JupiterEngineExecutionContext context) {
+		SharedFixtureReferenceCounter counter = new SharedFixtureReferenceCounter();
+		counter.countReferences(engineDescriptor);
+		context.getExtensionContext().getStore(NAMESPACE).put(SharedFixtureReferenceCounter.class, counter);
+	}
+
+	/**
+	 * Count the references to shared fixtures of the supplied test
+	 * descriptor's test class and of its nested test classes unless they have
+	 * already been counted.
+	 */
+	static void acquire(ClassBasedTestDescriptor descriptor, JupiterEngineExecutionContext context) {
+		SharedFixtureReferenceCounter counter = getCounter(context.getExtensionContext().getRoot());
+		if (counter != null) {
+			counter.countReferences(descriptor);
+		}
+	}
+
+	/**
+	 * Release the references of the supplied test descriptor's test class and
+	 * of its nested test classes that have not been executed, closing all
+	 * shared fixtures that are no longer referenced.
+	 */
+	static void release(ClassBasedTestDescriptor descriptor, JupiterEngineExecutionContext context) {
+		ExtensionContext root = context.getExtensionContext().getRoot();
+		SharedFixtureReferenceCounter counter = getCounter(root);
+		if (counter != null) {
+			List<CloseableResource> unreferencedFixtures = new ArrayList<>();
+			counter.releaseReferences(descriptor, root.getStore(SharedFixtureFactory.NAMESPACE),
+				unreferencedFixtures);
+			// Close fixtures outside the lock since closing them might take a while.
+			Throwable failure = null;
+			for (CloseableResource fixture : unreferencedFixtures) {
+				failure = executeSafely(fixture::close, failure);
+			}
+			if (failure != null) {
+				throw ExceptionUtils.throwAsUncheckedException(failure);
+			}
+		}
+	}
+
+	private static SharedFixtureReferenceCounter getCounter(ExtensionContext root) {
+		return root.getStore(NAMESPACE).get(SharedFixtureReferenceCounter.class, SharedFixtureReferenceCounter.class);
+	}
+
+	private synchronized void countReferences(TestDescriptor root) {
+		root.accept(descriptor -> {
+			if (descriptor instanceof ClassBasedTestDescriptor && this.countedTestClasses.add(descriptor.getUniqueId())) {
+				addReferences((ClassBasedTestDescriptor) descriptor);
+			}
+		});
+	}
+
+	private void addReferences(ClassBasedTestDescriptor descriptor) {
+		// @formatter:off
+		List<Class<?>> factoryTypes = findRepeatableAnnotations(descriptor.getTestClass(), SharedFixture.class).stream()
+				.map(SharedFixture::value)
+				.distinct()
+				.collect(toList());
+		// @formatter:on
+		if (!factoryTypes.isEmpty()) {
+			this.referencesByTestClass.put(descriptor.getUniqueId(), factoryTypes);
+			for (Class<?> factoryType : factoryTypes) {
+				this.referenceCounts.merge(factoryType, 1, Integer::sum);
+			}
+		}
+	}
+
+	private synchronized void releaseReferences(TestDescriptor descriptor, ExtensionContext.Store store,
+			List<CloseableResource> unreferencedFixtures) {
+		// Nested test classes are released before their enclosing class unless
+		// they haven't been executed at all, e.g. because the latter was skipped.
+		for (TestDescriptor child : descriptor.getChildren()) {
+			if (child instanceof ClassBasedTestDescriptor) {
+				releaseReferences(child, store, unreferencedFixtures);
+			}
+		}
+		List<Class<?>> factoryTypes = this.referencesByTestClass.remove(descriptor.getUniqueId());
+		if (factoryTypes != null) {
+			for (Class<?> factoryType : factoryTypes) {
+				if (this.referenceCounts.merge(factoryType, -1, Integer::sum) == 0) {
+					this.referenceCounts.remove(factoryType);
+					// Removing the fixture while holding the lock ensures that a
+					// class counted concurrently creates a new one.
+					CloseableResource fixture = store.remove(factoryType, CloseableResource.class);
+					if (fixture != null) {
+						unreferencedFixtures.add(fixture);
+					}
+				}
+			}
+		}
+	}
+
+	private static Throwable executeSafely(Executable executable, Throwable previousFailure) {
+		try {
+			executable.execute();
+			return previousFailure;
+		}
+		catch (Throwable t) {
+			UnrecoverableExceptions.rethrowIfUnrecoverable(t);
+			if (previousFailure == null) {
+				return t;
+			}
+			previousFailure.addSuppressed(t);
+			return previousFailure;
+		}
+	}
+
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.descriptor;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.LifecycleMethodExecutionExceptionHandler;
+import org.junit.jupiter.api.extension.MethodInvocationSequence;
+import org.junit.jupiter.api.extension.TestExecutionExceptionHandler;
+import org.junit.jupiter.api.extension.TestInstancePreDestroyCallback;
+import org.junit.jupiter.engine.execution.AfterEachMethodAdapter;
+import org.junit.jupiter.engine.execution.BeforeEachMethodAdapter;
+import org.junit.jupiter.engine.extension.ExtensionRegistry;
+import org.junit.platform.commons.util.Preconditions;
+
+/**
+ * Immutable execution plan of a {@link TestMethodTestDescriptor}.
+ *
+ * <p>A plan holds the extensions of every extension point that is invoked
+ * while executing a test method &mdash; including the synthesized adapters for
+ * {@code @BeforeEach} and {@code @AfterEach} methods and the
+ * {@link InvocationInterceptor InvocationInterceptors} &mdash; in registration
+ * order. It is bound to a layout that is compiled from the classes of all
+ * extensions registered for a test, i.e. its <em>shape</em>, by recording the
+ * positions of the extensions of each extension point. Since subsequent
+ * invocations of the same method, such as repetitions of a
+ * {@code @RepeatedTest} or invocations of a {@code @ParameterizedTest},
+ * usually register extensions of the same classes, a compiled layout can be
+ * bound to their extensions without evaluating the extension points again.
+ *
+ * @since 5.12
+ * @see Cache
+ */
+final class TestMethodExecutionPlan {
+
+	private static final List<Class<? extends Extension>> EXTENSION_POINTS = Arrays.asList( //
+		BeforeEachCallback.class, //
+		BeforeEachMethodAdapter.class, //
+		BeforeTestExecutionCallback.class, //
+		InvocationInterceptor.class, //
+		MethodInvocationSequence.class, //
+		TestExecutionExceptionHandler.class, //
+		AfterTestExecutionCallback.class, //
+		AfterEachMethodAdapter.class, //
+		LifecycleMethodExecutionExceptionHandler.class, //
+		AfterEachCallback.class, //
+		TestInstancePreDestroyCallback.class);
+
+	/**
+	 * Compile a new plan for the supplied extensions.
+	 *
+	 * @param extensions all extensions registered for a test in registration
+	 * order; never {@code null}
+	 */
+	static TestMethodExecutionPlan compile(List<Extension> extensions) {
+		return new TestMethodExecutionPlan(Layout.compile(extensions), extensions);
+	}
+
+	private final List<?>[] extensionsByPoint;
+
+	private TestMethodExecutionPlan(Layout layout, List<Extension> extensions) {
+		this.extensionsByPoint = new List<?>[layout.positions.length];
+		for (int point = 0; point < this.extensionsByPoint.length; point++) {
+			this.extensionsByPoint[point] = bind(layout.positions[point], extensions);
+		}
+	}
+
+	private static List<Extension> bind(int[] positions, List<Extension> extensions) {
+		if (positions.length == 0) {
+			return emptyList();
+		}
+		Extension[] result = new Extension[positions.length];
+		for (int i = 0; i < positions.length; i++) {
+			result[i] = extensions.get(positions[i]);
+		}
+		return unmodifiableList(Arrays.asList(result));
+	}
+
+	/**
+	 * Get the extensions of the supplied extension point in registration
+	 * order.
+	 *
+	 * @param extensionType the type of the extension point; must be one of
+	 * the extension points known to this plan
+	 */
+	@SuppressWarnings("unchecked")
+	<E extends Extension> List<E> getExtensions(Class<E> extensionType) {
+		int point = EXTENSION_POINTS.indexOf(extensionType);
+		Preconditions.condition(point >= 0, () -> "Unsupported extension point: " + extensionType.getName());
+		return (List<E>) this.extensionsByPoint[point];
+	}
+
+	/**
+	 * Positions of the extensions of each extension point among all
+	 * extensions of a certain shape.
+	 *
+	 * <p>A layout only references the classes of the extensions it was
+	 * compiled from but not the extensions themselves.
+	 */
+	private static final class Layout {
+
+		static Layout compile(List<Extension> extensions) {
+			Class<?>[] shape = new Class<?>[extensions.size()];
+			for (int i = 0; i < shape.length; i++) {
+				shape[i] = extensions.get(i).getClass();
+			}
+			int[][] positions = new int[EXTENSION_POINTS.size()][];
+			for (int point = 0; point < positions.length; point++) {
+				Class<? extends Extension> extensionType = EXTENSION_POINTS.get(point);
+				int[] matches = new int[shape.length];
+				int count = 0;
+				for (int i = 0; i < shape.length; i++) {
+					if (extensionType.isAssignableFrom(shape[i])) {
+						matches[count++] = i;
+					}
+				}
+				positions[point] = Arrays.copyOf(matches, count);
+			}
+			return new Layout(shape, positions);
+		}
+
+		private final Class<?>[] shape;
+		private final int[][] positions;
+
+		private Layout(Class<?>[] shape, int[][] positions) {
+			this.shape = shape;
+			this.positions = positions;
+		}
+
+		boolean matches(List<Extension> extensions) {
+			if (extensions.size() != this.shape.length) {
+				return false;
+			}
+			for (int i = 0; i < this.shape.length; i++) {
+				if (extensions.get(i).getClass() != this.shape[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+	}
+
+	/**
+	 * Cache of the extension types declared on a test method and of the
+	 * layout of its most recently used {@link TestMethodExecutionPlan}.
+	 *
+	 * <p>A cache is shared by all invocations of the same method, e.g. by all
+	 * invocations of a {@code @TestTemplate} method. Layouts are immutable,
+	 * so concurrent invocations may safely race to update the cache. Plans
+	 * are not cached since they reference the extensions registered for
+	 * individual invocations, such as the ones resolving the arguments of a
+	 * {@code @ParameterizedTest} invocation, which must not stay reachable
+	 * once the invocation has finished.
+	 */
+	static final class Cache {
+
+		private final Method testMethod;
+
+		private volatile List<Class<? extends Extension>> declarativeExtensionTypes;
+		private volatile Layout layout;
+
+		Cache(Method testMethod) {
+			this.testMethod = testMethod;
+		}
+
+		/**
+		 * Get the extension types declared via
+		 * {@link org.junit.jupiter.api.extension.ExtendWith @ExtendWith} on the
+		 * test method and its parameters in registration order.
+		 */
+		List<Class<? extends Extension>> getDeclarativeExtensionTypes() {
+			List<Class<? extends Extension>> extensionTypes = this.declarativeExtensionTypes;
+			if (extensionTypes == null) {
+				extensionTypes = ExtensionUtils.findDeclarativeExtensionTypes(this.testMethod);
+				this.declarativeExtensionTypes = extensionTypes;
+			}
+			return extensionTypes;
+		}
+
+		/**
+		 * Get the plan for the extensions registered in the supplied registry.
+		 */
+		TestMethodExecutionPlan getPlan(ExtensionRegistry registry) {
+			List<Extension> extensions = registry.getExtensions(Extension.class);
+			Layout layout = this.layout;
+			if (layout == null || !layout.matches(extensions)) {
+				layout = Layout.compile(extensions);
+				this.layout = layout;
+			}
+			return new TestMethodExecutionPlan(layout, extensions);
+		}
+
+	}
+
+}
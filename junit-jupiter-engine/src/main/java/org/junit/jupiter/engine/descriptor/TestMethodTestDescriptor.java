@@ -11,12 +11,10 @@
 package org.junit.jupiter.engine.descriptor;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
-import static org.junit.jupiter.engine.descriptor.ExtensionUtils.populateNewExtensionRegistryFromExtendWithAnnotation;
-import static org.junit.jupiter.engine.descriptor.ExtensionUtils.registerExtensionsFromExecutableParameters;
-import static org.junit.jupiter.engine.support.JupiterThrowableCollectorFactory.createThrowableCollector;
 import static org.junit.platform.commons.util.CollectionUtils.forEachInReverseOrder;
 
 import java.lang.reflect.Method;
+import java.util.List;
 
 import org.apiguardian.api.API;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
@@ -25,9 +23,11 @@ import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
 import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.InvocationInterceptor;
 import org.junit.jupiter.api.extension.LifecycleMethodExecutionExceptionHandler;
+import org.junit.jupiter.api.extension.MethodInvocationSequence;
 import org.junit.jupiter.api.extension.TestExecutionExceptionHandler;
 import org.junit.jupiter.api.extension.TestInstancePreDestroyCallback;
 import org.junit.jupiter.api.extension.TestInstances;
@@ -40,11 +40,11 @@ import org.junit.jupiter.engine.execution.InterceptingExecutableInvoker.Reflecti
 import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
 import org.junit.jupiter.engine.extension.ExtensionRegistry;
 import org.junit.jupiter.engine.extension.MutableExtensionRegistry;
+import org.junit.jupiter.engine.support.JupiterThrowableCollectorFactory;
 import org.junit.platform.commons.util.UnrecoverableExceptions;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.UniqueId;
-import org.junit.platform.engine.support.hierarchical.ThrowableCollector;
 
 /**
  * {@link TestDescriptor} for {@link org.junit.jupiter.api.Test @Test} methods.
@@ -73,17 +73,21 @@ public class TestMethodTestDescriptor extends MethodBasedTestDescriptor {
 		InvocationInterceptor::interceptTestMethod);
 
 	private final ReflectiveInterceptorCall<Method, Void> interceptorCall;
+	private final TestMethodExecutionPlan.Cache executionPlanCache;
 
 	public TestMethodTestDescriptor(UniqueId uniqueId, Class<?> testClass, Method testMethod,
 			JupiterConfiguration configuration) {
 		super(uniqueId, testClass, testMethod, configuration);
 		this.interceptorCall = defaultInterceptorCall;
+		this.executionPlanCache = new TestMethodExecutionPlan.Cache(testMethod);
 	}
 
 	TestMethodTestDescriptor(UniqueId uniqueId, String displayName, Class<?> testClass, Method testMethod,
-			JupiterConfiguration configuration, ReflectiveInterceptorCall<Method, Void> interceptorCall) {
+			JupiterConfiguration configuration, ReflectiveInterceptorCall<Method, Void> interceptorCall,
+			TestMethodExecutionPlan.Cache executionPlanCache) {
 		super(uniqueId, displayName, testClass, testMethod, configuration);
 		this.interceptorCall = interceptorCall;
+		this.executionPlanCache = executionPlanCache;
 	}
 
 	@Override
@@ -96,49 +100,60 @@ public class TestMethodTestDescriptor extends MethodBasedTestDescriptor {
 	@Override
 	public JupiterEngineExecutionContext prepare(JupiterEngineExecutionContext context) {
 		MutableExtensionRegistry registry = populateNewExtensionRegistry(context);
-		ThrowableCollector throwableCollector = createThrowableCollector();
 		MethodExtensionContext extensionContext = new MethodExtensionContext(context.getExtensionContext(),
-			context.getExecutionListener(), this, context.getConfiguration(), registry, throwableCollector);
+			context.getExecutionListener(), this, context.getConfiguration(), registry);
 		// @formatter:off
 		JupiterEngineExecutionContext newContext = context.extend()
 				.withExtensionRegistry(registry)
 				.withExtensionContext(extensionContext)
-				.withThrowableCollector(throwableCollector)
+				.withThrowableCollectorFactory(JupiterThrowableCollectorFactory::createThrowableCollector)
 				.build();
 		// @formatter:on
-		throwableCollector.execute(() -> {
+		extensionContext.setExecutionContext(newContext);
+		try {
 			TestInstances testInstances = newContext.getTestInstancesProvider().getTestInstances(newContext);
 			extensionContext.setTestInstances(testInstances);
-		});
+		}
+		catch (Throwable throwable) {
+			newContext.collect(throwable);
+		}
 		return newContext;
 	}
 
 	protected MutableExtensionRegistry populateNewExtensionRegistry(JupiterEngineExecutionContext context) {
-		MutableExtensionRegistry registry = populateNewExtensionRegistryFromExtendWithAnnotation(
-			context.getExtensionRegistry(), getTestMethod());
-		registerExtensionsFromExecutableParameters(registry, getTestMethod());
-		return registry;
+		return MutableExtensionRegistry.createRegistryFrom(context.getExtensionRegistry(),
+			this.executionPlanCache.getDeclarativeExtensionTypes().stream());
+	}
+
+	/**
+	 * Get the {@link TestMethodExecutionPlan} for the extensions registered
+	 * in the supplied context's extension registry.
+	 *
+	 * @since 5.12
+	 */
+	TestMethodExecutionPlan getExecutionPlan(JupiterEngineExecutionContext context) {
+		return this.executionPlanCache.getPlan(context.getExtensionRegistry());
 	}
 
 	@Override
 	public JupiterEngineExecutionContext execute(JupiterEngineExecutionContext context,
 			DynamicTestExecutor dynamicTestExecutor) {
-		ThrowableCollector throwableCollector = context.getThrowableCollector();
+		TestMethodExecutionPlan plan = getExecutionPlan(context);
 
 		// @formatter:off
-		invokeBeforeEachCallbacks(context);
-			if (throwableCollector.isEmpty()) {
-				invokeBeforeEachMethods(context);
-				if (throwableCollector.isEmpty()) {
-					invokeBeforeTestExecutionCallbacks(context);
-					if (throwableCollector.isEmpty()) {
+		invokeBeforeEachCallbacks(plan, context);
+			if (context.isThrowableCollectorEmpty()) {
+				invokeBeforeEachMethods(plan, context);
+				if (context.isThrowableCollectorEmpty()) {
+					invokeBeforeTestExecutionCallbacks(plan, context);
+					if (context.isThrowableCollectorEmpty()) {
 						invokeTestMethod(context, dynamicTestExecutor);
 					}
-					invokeAfterTestExecutionCallbacks(context);
+					invokeAfterTestExecutionCallbacks(plan, context);
 				}
-				invokeAfterEachMethods(context);
+				invokeAfterEachMethods(plan, context);
 			}
-		invokeAfterEachCallbacks(context);
+		invokeAfterEachCallbacks(plan, context);
 		// @formatter:on
 
 		return context;
@@ -147,10 +162,17 @@ public class TestMethodTestDescriptor extends MethodBasedTestDescriptor {
 	@Override
 	public void cleanUp(JupiterEngineExecutionContext context) throws Exception {
 		if (isPerMethodLifecycle(context) && context.getExtensionContext().getTestInstance().isPresent()) {
-			invokeTestInstancePreDestroyCallbacks(context);
+			invokeTestInstancePreDestroyCallbacks(getExecutionPlan(context), context);
+		}
+		try {
+			super.cleanUp(context);
+		}
+		catch (Throwable throwable) {
+			context.collect(throwable);
+		}
+		if (!context.isThrowableCollectorEmpty()) {
+			context.getThrowableCollector().assertEmpty();
 		}
-		context.getThrowableCollector().execute(() -> super.cleanUp(context));
-		context.getThrowableCollector().assertEmpty();
 	}
 
 	private boolean isPerMethodLifecycle(JupiterEngineExecutionContext context) {
@@ -158,119 +180,173 @@ public class TestMethodTestDescriptor extends MethodBasedTestDescriptor {
 			Lifecycle.PER_CLASS) == Lifecycle.PER_METHOD;
 	}
 
-	private void invokeBeforeEachCallbacks(JupiterEngineExecutionContext context) {
-		invokeBeforeMethodsOrCallbacksUntilExceptionOccurs(BeforeEachCallback.class, context,
+	private void invokeBeforeEachCallbacks(TestMethodExecutionPlan plan, JupiterEngineExecutionContext context) {
+		invokeBeforeMethodsOrCallbacksUntilExceptionOccurs(plan.getExtensions(BeforeEachCallback.class), context,
 			(callback, extensionContext) -> callback.beforeEach(extensionContext));
 	}
 
-	private void invokeBeforeEachMethods(JupiterEngineExecutionContext context) {
+	private void invokeBeforeEachMethods(TestMethodExecutionPlan plan, JupiterEngineExecutionContext context) {
 		ExtensionRegistry registry = context.getExtensionRegistry();
-		invokeBeforeMethodsOrCallbacksUntilExceptionOccurs(BeforeEachMethodAdapter.class, context,
+		invokeBeforeMethodsOrCallbacksUntilExceptionOccurs(plan.getExtensions(BeforeEachMethodAdapter.class), context,
 			(adapter, extensionContext) -> {
 				try {
 					adapter.invokeBeforeEachMethod(extensionContext, registry);
 				}
 				catch (Throwable throwable) {
-					invokeBeforeEachExecutionExceptionHandlers(extensionContext, registry, throwable);
+					invokeBeforeEachExecutionExceptionHandlers(extensionContext, plan, throwable);
 				}
 			});
 	}
 
-	private void invokeBeforeEachExecutionExceptionHandlers(ExtensionContext context, ExtensionRegistry registry,
+	private void invokeBeforeEachExecutionExceptionHandlers(ExtensionContext context, TestMethodExecutionPlan plan,
 			Throwable throwable) {
 
-		invokeExecutionExceptionHandlers(LifecycleMethodExecutionExceptionHandler.class, registry, throwable,
+		invokeExecutionExceptionHandlers(plan.getExtensions(LifecycleMethodExecutionExceptionHandler.class),
+			throwable,
 			(handler, handledThrowable) -> handler.handleBeforeEachMethodExecutionException(context, handledThrowable));
 	}
 
-	private void invokeBeforeTestExecutionCallbacks(JupiterEngineExecutionContext context) {
-		invokeBeforeMethodsOrCallbacksUntilExceptionOccurs(BeforeTestExecutionCallback.class, context,
-			(callback, extensionContext) -> callback.beforeTestExecution(extensionContext));
+	private void invokeBeforeTestExecutionCallbacks(TestMethodExecutionPlan plan,
+			JupiterEngineExecutionContext context) {
+
+		invokeBeforeMethodsOrCallbacksUntilExceptionOccurs(plan.getExtensions(BeforeTestExecutionCallback.class),
+			context, (callback, extensionContext) -> callback.beforeTestExecution(extensionContext));
 	}
 
-	private <T extends Extension> void invokeBeforeMethodsOrCallbacksUntilExceptionOccurs(Class<T> type,
+	private <T extends Extension> void invokeBeforeMethodsOrCallbacksUntilExceptionOccurs(List<T> callbacks,
 			JupiterEngineExecutionContext context, CallbackInvoker<T> callbackInvoker) {
 
-		ExtensionRegistry registry = context.getExtensionRegistry();
 		ExtensionContext extensionContext = context.getExtensionContext();
-		ThrowableCollector throwableCollector = context.getThrowableCollector();
 
-		for (T callback : registry.getExtensions(type)) {
-			throwableCollector.execute(() -> callbackInvoker.invoke(callback, extensionContext));
-			if (throwableCollector.isNotEmpty()) {
+		for (T callback : callbacks) {
+			try {
+				callbackInvoker.invoke(callback, extensionContext);
+			}
+			catch (Throwable throwable) {
+				context.collect(throwable);
 				break;
 			}
 		}
 	}
 
 	protected void invokeTestMethod(JupiterEngineExecutionContext context, DynamicTestExecutor dynamicTestExecutor) {
+		try {
+			TestMethodExecutionPlan plan = getExecutionPlan(context);
+			List<MethodInvocationSequence> sequences = plan.getExtensions(MethodInvocationSequence.class);
+			if (sequences.isEmpty()) {
+				invokeTestMethodOnce(plan, context);
+			}
+			else {
+				invokeTestMethodSequence(getOnlyMethodInvocationSequence(sequences), plan, context);
+			}
+		}
+		catch (Throwable throwable) {
+			context.collect(throwable);
+		}
+	}
+
+	private void invokeTestMethodOnce(TestMethodExecutionPlan plan, JupiterEngineExecutionContext context)
+			throws Throwable {
 		ExtensionContext extensionContext = context.getExtensionContext();
-		ThrowableCollector throwableCollector = context.getThrowableCollector();
+		try {
+			Method testMethod = getTestMethod();
+			Object instance = extensionContext.getRequiredTestInstance();
+			executableInvoker.invoke(testMethod, instance, extensionContext, context.getExtensionRegistry(),
+				plan.getExtensions(InvocationInterceptor.class), interceptorCall);
+		}
+		catch (Throwable throwable) {
+			UnrecoverableExceptions.rethrowIfUnrecoverable(throwable);
+			invokeTestExecutionExceptionHandlers(plan, extensionContext, throwable);
+		}
+	}
 
-		throwableCollector.execute(() -> {
+	private void invokeTestMethodSequence(MethodInvocationSequence sequence, TestMethodExecutionPlan plan,
+			JupiterEngineExecutionContext context) throws Throwable {
+		ExtensionContext extensionContext = context.getExtensionContext();
+		int invocationCount = sequence.getInvocationCount();
+		for (int index = 0; index < invocationCount; index++) {
+			sequence.beforeInvocation(extensionContext, index);
+			Throwable failure = null;
 			try {
-				Method testMethod = getTestMethod();
-				Object instance = extensionContext.getRequiredTestInstance();
-				executableInvoker.invoke(testMethod, instance, extensionContext, context.getExtensionRegistry(),
-					interceptorCall);
+				invokeTestMethodOnce(plan, context);
 			}
 			catch (Throwable throwable) {
 				UnrecoverableExceptions.rethrowIfUnrecoverable(throwable);
-				invokeTestExecutionExceptionHandlers(context.getExtensionRegistry(), extensionContext, throwable);
+				failure = throwable;
 			}
-		});
+			sequence.afterInvocation(extensionContext, index, failure);
+		}
+		sequence.afterAllInvocations(extensionContext);
+	}
+
+	private MethodInvocationSequence getOnlyMethodInvocationSequence(List<MethodInvocationSequence> sequences) {
+		if (sequences.size() > 1) {
+			throw new ExtensionConfigurationException(String.format(
+				"At most one %s may be registered for test method [%s], but found: %s",
+				MethodInvocationSequence.class.getSimpleName(), getTestMethod().toGenericString(), sequences));
+		}
+		return sequences.get(0);
 	}
 
-	private void invokeTestExecutionExceptionHandlers(ExtensionRegistry registry, ExtensionContext context,
+	private void invokeTestExecutionExceptionHandlers(TestMethodExecutionPlan plan, ExtensionContext context,
 			Throwable throwable) {
 
-		invokeExecutionExceptionHandlers(TestExecutionExceptionHandler.class, registry, throwable,
+		invokeExecutionExceptionHandlers(plan.getExtensions(TestExecutionExceptionHandler.class), throwable,
 			(handler, handledThrowable) -> handler.handleTestExecutionException(context, handledThrowable));
 	}
 
-	private void invokeAfterTestExecutionCallbacks(JupiterEngineExecutionContext context) {
-		invokeAllAfterMethodsOrCallbacks(AfterTestExecutionCallback.class, context,
+	private void invokeAfterTestExecutionCallbacks(TestMethodExecutionPlan plan,
+			JupiterEngineExecutionContext context) {
+
+		invokeAllAfterMethodsOrCallbacks(plan.getExtensions(AfterTestExecutionCallback.class), context,
 			(callback, extensionContext) -> callback.afterTestExecution(extensionContext));
 	}
 
-	private void invokeAfterEachMethods(JupiterEngineExecutionContext context) {
+	private void invokeAfterEachMethods(TestMethodExecutionPlan plan, JupiterEngineExecutionContext context) {
 		ExtensionRegistry registry = context.getExtensionRegistry();
-		invokeAllAfterMethodsOrCallbacks(AfterEachMethodAdapter.class, context, (adapter, extensionContext) -> {
-			try {
-				adapter.invokeAfterEachMethod(extensionContext, registry);
-			}
-			catch (Throwable throwable) {
-				invokeAfterEachExecutionExceptionHandlers(extensionContext, registry, throwable);
-			}
-		});
+		invokeAllAfterMethodsOrCallbacks(plan.getExtensions(AfterEachMethodAdapter.class), context,
+			(adapter, extensionContext) -> {
+				try {
+					adapter.invokeAfterEachMethod(extensionContext, registry);
+				}
+				catch (Throwable throwable) {
+					invokeAfterEachExecutionExceptionHandlers(extensionContext, plan, throwable);
+				}
+			});
 	}
 
-	private void invokeAfterEachExecutionExceptionHandlers(ExtensionContext context, ExtensionRegistry registry,
+	private void invokeAfterEachExecutionExceptionHandlers(ExtensionContext context, TestMethodExecutionPlan plan,
 			Throwable throwable) {
 
-		invokeExecutionExceptionHandlers(LifecycleMethodExecutionExceptionHandler.class, registry, throwable,
+		invokeExecutionExceptionHandlers(plan.getExtensions(LifecycleMethodExecutionExceptionHandler.class),
+			throwable,
 			(handler, handledThrowable) -> handler.handleAfterEachMethodExecutionException(context, handledThrowable));
 	}
 
-	private void invokeAfterEachCallbacks(JupiterEngineExecutionContext context) {
-		invokeAllAfterMethodsOrCallbacks(AfterEachCallback.class, context,
+	private void invokeAfterEachCallbacks(TestMethodExecutionPlan plan, JupiterEngineExecutionContext context) {
+		invokeAllAfterMethodsOrCallbacks(plan.getExtensions(AfterEachCallback.class), context,
 			(callback, extensionContext) -> callback.afterEach(extensionContext));
 	}
 
-	private void invokeTestInstancePreDestroyCallbacks(JupiterEngineExecutionContext context) {
-		invokeAllAfterMethodsOrCallbacks(TestInstancePreDestroyCallback.class, context,
+	private void invokeTestInstancePreDestroyCallbacks(TestMethodExecutionPlan plan,
+			JupiterEngineExecutionContext context) {
+
+		invokeAllAfterMethodsOrCallbacks(plan.getExtensions(TestInstancePreDestroyCallback.class), context,
 			TestInstancePreDestroyCallback::preDestroyTestInstance);
 	}
 
-	private <T extends Extension> void invokeAllAfterMethodsOrCallbacks(Class<T> type,
+	private <T extends Extension> void invokeAllAfterMethodsOrCallbacks(List<T> callbacks,
 			JupiterEngineExecutionContext context, CallbackInvoker<T> callbackInvoker) {
 
-		ExtensionRegistry registry = context.getExtensionRegistry();
 		ExtensionContext extensionContext = context.getExtensionContext();
-		ThrowableCollector throwableCollector = context.getThrowableCollector();
 
-		forEachInReverseOrder(registry.getExtensions(type), callback -> {
-			throwableCollector.execute(() -> callbackInvoker.invoke(callback, extensionContext));
+		forEachInReverseOrder(callbacks, callback -> {
+			try {
+				callbackInvoker.invoke(callback, extensionContext);
+			}
+			catch (Throwable throwable) {
+				context.collect(throwable);
+			}
 		});
 	}
 
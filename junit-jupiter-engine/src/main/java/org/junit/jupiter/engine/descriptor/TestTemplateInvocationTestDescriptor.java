@@ -24,8 +24,10 @@ import org.junit.jupiter.engine.execution.InterceptingExecutableInvoker.Reflecti
 import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
 import org.junit.jupiter.engine.extension.MutableExtensionRegistry;
 import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.hierarchical.ExclusiveResource;
+import org.junit.platform.engine.support.hierarchical.Node.SkipResult;
 
 /**
  * {@link TestDescriptor} for a {@link org.junit.jupiter.api.TestTemplate @TestTemplate}
@@ -45,8 +47,18 @@ public class TestTemplateInvocationTestDescriptor extends TestMethodTestDescript
 
 	TestTemplateInvocationTestDescriptor(UniqueId uniqueId, Class<?> testClass, Method templateMethod,
 			TestTemplateInvocationContext invocationContext, int index, JupiterConfiguration configuration) {
+		this(uniqueId, testClass, templateMethod, invocationContext, index, configuration,
+			new TestMethodExecutionPlan.Cache(templateMethod));
+	}
+
+	/**
+	 * @since 5.12
+	 */
+	TestTemplateInvocationTestDescriptor(UniqueId uniqueId, Class<?> testClass, Method templateMethod,
+			TestTemplateInvocationContext invocationContext, int index, JupiterConfiguration configuration,
+			TestMethodExecutionPlan.Cache executionPlanCache) {
 		super(uniqueId, invocationContext.getDisplayName(index), testClass, templateMethod, configuration,
-			interceptorCall);
+			interceptorCall, executionPlanCache);
 		this.invocationContext = invocationContext;
 		this.index = index;
 	}
@@ -76,4 +88,19 @@ public class TestTemplateInvocationTestDescriptor extends TestMethodTestDescript
 		invocationContext = null;
 	}
 
+	@Override
+	public void nodeSkipped(JupiterEngineExecutionContext context, TestDescriptor descriptor, SkipResult result) {
+		super.nodeSkipped(context, descriptor, result);
+		// after() is not called for skipped invocations
+		invocationContext = null;
+	}
+
+	@Override
+	public void nodeFinished(JupiterEngineExecutionContext context, TestDescriptor descriptor,
+			TestExecutionResult result) {
+		super.nodeFinished(context, descriptor, result);
+		// after() is not called if preparing or executing the invocation failed early
+		invocationContext = null;
+	}
+
 }
@@ -44,10 +44,12 @@ public class TestTemplateTestDescriptor extends MethodBasedTestDescriptor implem
 
 	public static final String SEGMENT_TYPE = "test-template";
 	private final DynamicDescendantFilter dynamicDescendantFilter = new DynamicDescendantFilter();
+	private final TestMethodExecutionPlan.Cache invocationExecutionPlanCache;
 
 	public TestTemplateTestDescriptor(UniqueId uniqueId, Class<?> testClass, Method templateMethod,
 			JupiterConfiguration configuration) {
 		super(uniqueId, testClass, templateMethod, configuration);
+		this.invocationExecutionPlanCache = new TestMethodExecutionPlan.Cache(templateMethod);
 	}
 
 	// --- Filterable ----------------------------------------------------------
@@ -146,7 +148,7 @@ public class TestTemplateTestDescriptor extends MethodBasedTestDescriptor implem
 		UniqueId uniqueId = getUniqueId().append(TestTemplateInvocationTestDescriptor.SEGMENT_TYPE, "#" + index);
 		if (getDynamicDescendantFilter().test(uniqueId, index - 1)) {
 			return Optional.of(new TestTemplateInvocationTestDescriptor(uniqueId, getTestClass(), getTestMethod(),
-				invocationContext, index, configuration));
+				invocationContext, index, configuration, this.invocationExecutionPlanCache));
 		}
 		return Optional.empty();
 	}
@@ -13,10 +13,16 @@ package org.junit.jupiter.engine.execution;
 import static java.lang.String.format;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
+import java.lang.reflect.AnnotatedElement;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.apiguardian.api.API;
 import org.junit.jupiter.api.extension.ConditionEvaluationResult;
 import org.junit.jupiter.api.extension.ExecutionCondition;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
 import org.junit.jupiter.engine.config.JupiterConfiguration;
 import org.junit.jupiter.engine.extension.ExtensionRegistry;
 import org.junit.platform.commons.logging.Logger;
@@ -37,10 +43,22 @@ public class ConditionEvaluator {
 	private static final ConditionEvaluationResult ENABLED = ConditionEvaluationResult.enabled(
 		"No 'disabled' conditions encountered");
 
+	private static final Namespace NAMESPACE = Namespace.create(ConditionEvaluator.class);
+
 	/**
 	 * Evaluate all {@link ExecutionCondition} extensions registered for the
 	 * supplied {@link ExtensionContext}.
 	 *
+	 * <p>The results of conditions that declare their
+	 * {@linkplain ExecutionCondition#isEvaluationResultStable() result to be
+	 * stable} are cached per condition instance and annotated element in the
+	 * {@linkplain ExtensionContext#getRoot() root context} and thus reused for
+	 * the remainder of the test run. Since all invocations of a test template
+	 * share the conditions registered for the template method and its test
+	 * class, they are evaluated only once for all invocations, whereas
+	 * differently configured instances of the same condition type, e.g.
+	 * registered via {@code @RegisterExtension}, are evaluated separately.
+	 *
 	 * @param context the current {@code ExtensionContext}
 	 * @return the first <em>disabled</em> {@code ConditionEvaluationResult},
 	 * or a default <em>enabled</em> {@code ConditionEvaluationResult} if no
@@ -60,6 +78,28 @@ public class ConditionEvaluator {
 	}
 
 	private ConditionEvaluationResult evaluate(ExecutionCondition condition, ExtensionContext context) {
+		Optional<AnnotatedElement> element = context.getElement();
+		if (condition.isEvaluationResultStable() && element.isPresent()) {
+			Map<AnnotatedElement, ConditionEvaluationResult> results = getStableResults(condition, context);
+			ConditionEvaluationResult result = results.get(element.get());
+			if (result == null) {
+				result = evaluateAndLog(condition, context);
+				results.putIfAbsent(element.get(), result);
+			}
+			return result;
+		}
+		return evaluateAndLog(condition, context);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<AnnotatedElement, ConditionEvaluationResult> getStableResults(ExecutionCondition condition,
+			ExtensionContext context) {
+
+		return context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(condition,
+			__ -> new ConcurrentHashMap<AnnotatedElement, ConditionEvaluationResult>(), Map.class);
+	}
+
+	private ConditionEvaluationResult evaluateAndLog(ExecutionCondition condition, ExtensionContext context) {
 		try {
 			ConditionEvaluationResult result = condition.evaluateExecutionCondition(context);
 			logResult(condition.getClass(), result, context);
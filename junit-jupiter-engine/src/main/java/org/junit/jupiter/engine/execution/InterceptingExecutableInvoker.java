@@ -16,6 +16,7 @@ import static org.junit.jupiter.engine.execution.ParameterResolutionUtils.resolv
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
+import java.util.List;
 import java.util.Optional;
 
 import org.apiguardian.api.API;
@@ -79,18 +80,44 @@ public class InterceptingExecutableInvoker {
 	public <T> T invoke(Method method, Object target, ExtensionContext extensionContext,
 			ExtensionRegistry extensionRegistry, ReflectiveInterceptorCall<Method, T> interceptorCall) {
 
+		return invoke(method, target, extensionContext, extensionRegistry,
+			extensionRegistry.getExtensions(InvocationInterceptor.class), interceptorCall);
+	}
+
+	/**
+	 * Invoke the supplied method with dynamic parameter resolution using
+	 * the supplied, previously retrieved interceptors.
+	 *
+	 * @param method the method to invoke and resolve parameters for
+	 * @param target the target on which the executable will be invoked,
+	 * potentially wrapped in an {@link Optional}; can be {@code null} or an
+	 * empty {@code Optional} for a {@code static} method
+	 * @param extensionContext the current {@code ExtensionContext}
+	 * @param extensionRegistry the {@code ExtensionRegistry} to retrieve
+	 * {@code ParameterResolvers} from
+	 * @param interceptors the {@linkplain InvocationInterceptor interceptors}
+	 * registered in the supplied {@code ExtensionRegistry} in registration
+	 * order
+	 * @param interceptorCall the call for intercepting this method invocation
+	 * via the supplied interceptors
+	 * @since 5.12
+	 */
+	public <T> T invoke(Method method, Object target, ExtensionContext extensionContext,
+			ExtensionRegistry extensionRegistry, List<InvocationInterceptor> interceptors,
+			ReflectiveInterceptorCall<Method, T> interceptorCall) {
+
 		@SuppressWarnings("unchecked")
 		Optional<Object> optionalTarget = (target instanceof Optional ? (Optional<Object>) target
 				: Optional.ofNullable(target));
 		Object[] arguments = resolveParameters(method, optionalTarget, extensionContext, extensionRegistry);
 		MethodInvocation<T> invocation = new MethodInvocation<>(method, optionalTarget, arguments);
-		return invoke(invocation, invocation, extensionContext, extensionRegistry, interceptorCall);
+		return invoke(invocation, invocation, extensionContext, interceptors, interceptorCall);
 	}
 
 	private <E extends Executable, T> T invoke(Invocation<T> originalInvocation,
 			ReflectiveInvocationContext<E> invocationContext, ExtensionContext extensionContext,
-			ExtensionRegistry extensionRegistry, ReflectiveInterceptorCall<E, T> call) {
-		return interceptorChain.invoke(originalInvocation, extensionRegistry, (interceptor,
+			List<InvocationInterceptor> interceptors, ReflectiveInterceptorCall<E, T> call) {
+		return interceptorChain.invoke(originalInvocation, interceptors, (interceptor,
 				wrappedInvocation) -> call.apply(interceptor, wrappedInvocation, invocationContext, extensionContext));
 	}
 
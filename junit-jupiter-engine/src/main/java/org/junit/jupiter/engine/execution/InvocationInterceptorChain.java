@@ -30,7 +30,16 @@ import org.junit.platform.commons.util.ExceptionUtils;
 public class InvocationInterceptorChain {
 
 	public <T> T invoke(Invocation<T> invocation, ExtensionRegistry extensionRegistry, InterceptorCall<T> call) {
-		List<InvocationInterceptor> interceptors = extensionRegistry.getExtensions(InvocationInterceptor.class);
+		return invoke(invocation, extensionRegistry.getExtensions(InvocationInterceptor.class), call);
+	}
+
+	/**
+	 * Invoke the supplied invocation via the supplied interceptors, which
+	 * are expected in registration order.
+	 *
+	 * @since 5.12
+	 */
+	public <T> T invoke(Invocation<T> invocation, List<InvocationInterceptor> interceptors, InterceptorCall<T> call) {
 		if (interceptors.isEmpty()) {
 			return proceed(invocation);
 		}
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.engine.config.JupiterConfiguration;
 import org.junit.jupiter.engine.extension.MutableExtensionRegistry;
 import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.util.UnrecoverableExceptions;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.support.hierarchical.EngineExecutionContext;
 import org.junit.platform.engine.support.hierarchical.ThrowableCollector;
@@ -74,8 +75,48 @@ public class JupiterEngineExecutionContext implements EngineExecutionContext {
 		return this.state.extensionContext;
 	}
 
+	/**
+	 * Get the {@link ThrowableCollector} of this context.
+	 *
+	 * <p>If this context was built with a
+	 * {@linkplain Builder#withThrowableCollectorFactory collector factory},
+	 * the collector is created by this method if it does not exist yet.
+	 * Use {@link #collect(Throwable)} and {@link #isThrowableCollectorEmpty()}
+	 * to avoid creating it on the success path.
+	 */
 	public ThrowableCollector getThrowableCollector() {
-		return this.state.throwableCollector;
+		State state = this.state;
+		if (state.throwableCollector == null && state.throwableCollectorFactory != null) {
+			state.throwableCollector = state.throwableCollectorFactory.create();
+		}
+		return state.throwableCollector;
+	}
+
+	/**
+	 * Collect the supplied {@link Throwable} in this context's
+	 * {@link ThrowableCollector}, creating the collector first if necessary.
+	 *
+	 * <p>If the {@code Throwable} is <em>unrecoverable</em> &mdash; for
+	 * example, an {@link OutOfMemoryError} &mdash; this method will rethrow it.
+	 *
+	 * @since 5.12
+	 */
+	public void collect(Throwable throwable) {
+		UnrecoverableExceptions.rethrowIfUnrecoverable(throwable);
+		getThrowableCollector().execute(() -> {
+			throw throwable;
+		});
+	}
+
+	/**
+	 * Determine if this context's {@link ThrowableCollector} is <em>empty</em>
+	 * without creating it if it does not exist yet.
+	 *
+	 * @since 5.12
+	 */
+	public boolean isThrowableCollectorEmpty() {
+		ThrowableCollector throwableCollector = this.state.throwableCollector;
+		return throwableCollector == null || throwableCollector.isEmpty();
 	}
 
 	/**
@@ -112,6 +153,8 @@ public class JupiterEngineExecutionContext implements EngineExecutionContext {
 	}
 
 	public Builder extend() {
+		// Extended contexts must share a lazily created collector with this one
+		getThrowableCollector();
 		return new Builder(this.state);
 	}
 
@@ -123,6 +166,7 @@ public class JupiterEngineExecutionContext implements EngineExecutionContext {
 		MutableExtensionRegistry extensionRegistry;
 		ExtensionContext extensionContext;
 		ThrowableCollector throwableCollector;
+		ThrowableCollector.Factory throwableCollectorFactory;
 
 		State(EngineExecutionListener executionListener, JupiterConfiguration configuration) {
 			this.executionListener = executionListener;
@@ -167,6 +211,21 @@ public class JupiterEngineExecutionContext implements EngineExecutionContext {
 
 		public Builder withThrowableCollector(ThrowableCollector throwableCollector) {
 			newState().throwableCollector = throwableCollector;
+			newState().throwableCollectorFactory = null;
+			return this;
+		}
+
+		/**
+		 * Use a {@link ThrowableCollector} that is created by the supplied
+		 * factory once the first {@link Throwable} has to be collected, so that
+		 * contexts of nodes that execute successfully don't pay for it.
+		 *
+		 * @since 5.12
+		 * @see JupiterEngineExecutionContext#collect(Throwable)
+		 */
+		public Builder withThrowableCollectorFactory(ThrowableCollector.Factory throwableCollectorFactory) {
+			newState().throwableCollector = null;
+			newState().throwableCollectorFactory = throwableCollectorFactory;
 			return this;
 		}
 
@@ -11,7 +11,6 @@
 package org.junit.jupiter.engine.execution;
 
 import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.toList;
 import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.junit.platform.commons.util.ReflectionUtils.isAssignableTo;
 
@@ -21,6 +20,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 import org.apiguardian.api.API;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -115,11 +115,10 @@ public class ParameterResolutionUtils {
 			ExtensionContextSupplier extensionContext, ExtensionRegistry extensionRegistry) {
 
 		try {
-			// @formatter:off
-			List<ParameterResolver> matchingResolvers = extensionRegistry.stream(ParameterResolver.class)
-					.filter(resolver -> resolver.supportsParameter(parameterContext, extensionContext.get(resolver)))
-					.collect(toList());
-			// @formatter:on
+			Predicate<ParameterResolver> supportsParameter = resolver -> resolver.supportsParameter(parameterContext,
+				extensionContext.get(resolver));
+			List<ParameterResolver> matchingResolvers = extensionRegistry.getParameterResolverSelection(executable,
+				parameterContext.getIndex(), supportsParameter).select(supportsParameter);
 
 			if (matchingResolvers.isEmpty()) {
 				throw new ParameterResolutionException(
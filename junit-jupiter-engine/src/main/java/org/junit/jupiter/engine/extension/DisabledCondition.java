@@ -44,6 +44,11 @@ class DisabledCondition implements ExecutionCondition {
 				.orElse(ENABLED);
 	}
 
+	@Override
+	public boolean isEvaluationResultStable() {
+		return true;
+	}
+
 	private ConditionEvaluationResult toResult(AnnotatedElement element, Disabled annotation) {
 		String value = annotation.value();
 		String reason = StringUtils.isNotBlank(value) ? value : element + " is @Disabled";
@@ -13,12 +13,15 @@ package org.junit.jupiter.engine.extension;
 import static java.util.stream.Collectors.toCollection;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
+import java.lang.reflect.Executable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
 import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.ParameterResolver;
 
 /**
  * An {@code ExtensionRegistry} holds all registered extensions (i.e.
@@ -50,4 +53,25 @@ public interface ExtensionRegistry {
 		return stream(extensionType).collect(toCollection(ArrayList::new));
 	}
 
+	/**
+	 * Get the {@link ParameterResolverSelection} for the parameter at the
+	 * supplied index of the supplied executable.
+	 *
+	 * <p>Implementations may cache the selection until the set of registered
+	 * extensions changes. The default implementation computes a new selection
+	 * for every invocation.
+	 *
+	 * @param executable the executable that declares the parameter
+	 * @param index the index of the parameter
+	 * @param supportsParameter the predicate used to evaluate whether a
+	 * resolver supports the parameter
+	 * @since 5.12
+	 * @see ParameterResolver#isParameterSupportStable()
+	 */
+	@API(status = INTERNAL, since = "5.12")
+	default ParameterResolverSelection getParameterResolverSelection(Executable executable, int index,
+			Predicate<ParameterResolver> supportsParameter) {
+		return ParameterResolverSelection.from(getExtensions(ParameterResolver.class), supportsParameter);
+	}
+
 }
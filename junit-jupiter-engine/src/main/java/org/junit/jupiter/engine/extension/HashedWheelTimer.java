@@ -0,0 +1,283 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.util.Preconditions;
+
+/**
+ * Timer that executes tasks after a delay using a hashed timing wheel.
+ *
+ * <p>Scheduling and cancelling a task are constant-time operations that do
+ * not contend on a shared lock: scheduled tasks are handed over to a single
+ * worker thread via a lock-free queue, and cancelling a task merely marks it
+ * as cancelled. The worker thread advances the wheel once per tick, moves
+ * newly scheduled tasks into their buckets, and expires all tasks of the
+ * current bucket in one batch. Cancelled tasks are discarded when their
+ * bucket is visited.
+ *
+ * <p>Tasks are never executed before their delay has elapsed but may be
+ * executed up to one tick later. While no tasks are scheduled, the worker
+ * thread is parked.
+ *
+ * @since 5.12
+ */
+class HashedWheelTimer {
+
+	private final long tickDurationNanos;
+	private final Bucket[] wheel;
+	private final int mask;
+	private final Queue<Timeout> newTimeouts = new ConcurrentLinkedQueue<>();
+	private final Thread workerThread;
+	private final long startTime;
+
+	private volatile boolean idle;
+	private volatile boolean stopped;
+
+	// accessed by worker thread only
+	private long tick;
+	private int activeTimeouts;
+
+	HashedWheelTimer(ThreadFactory threadFactory, long tickDuration, TimeUnit unit, int wheelSize) {
+		Preconditions.condition(tickDuration > 0, "tickDuration must be greater than 0");
+		Preconditions.condition(wheelSize > 0 && Integer.bitCount(wheelSize) == 1,
+			"wheelSize must be a positive power of two");
+		this.tickDurationNanos = unit.toNanos(tickDuration);
+		this.wheel = new Bucket[wheelSize];
+		for (int i = 0; i < wheelSize; i++) {
+			this.wheel[i] = new Bucket();
+		}
+		this.mask = wheelSize - 1;
+		this.startTime = System.nanoTime();
+		this.workerThread = threadFactory.newThread(this::run);
+		this.workerThread.start();
+	}
+
+	/**
+	 * Schedule the supplied task to be executed after the supplied delay.
+	 *
+	 * @return a handle that can be used to cancel the task
+	 */
+	Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+		if (this.stopped) {
+			throw new JUnitException("Timer has already been stopped");
+		}
+		long deadline = System.nanoTime() + unit.toNanos(Math.max(delay, 0)) - this.startTime;
+		if (deadline < 0) {
+			// guard against overflow for very large delays
+			deadline = Long.MAX_VALUE;
+		}
+		Timeout timeout = new Timeout(task, deadline);
+		this.newTimeouts.add(timeout);
+		if (this.idle) {
+			LockSupport.unpark(this.workerThread);
+		}
+		return timeout;
+	}
+
+	/**
+	 * Stop the worker thread and discard all tasks that have not been
+	 * executed yet.
+	 *
+	 * @return {@code true} if the worker thread terminated within the supplied
+	 * time
+	 */
+	boolean stop(long time, TimeUnit unit) throws InterruptedException {
+		this.stopped = true;
+		LockSupport.unpark(this.workerThread);
+		this.workerThread.join(unit.toMillis(time));
+		return !this.workerThread.isAlive();
+	}
+
+	private void run() {
+		while (!this.stopped) {
+			awaitNextTick();
+			if (this.stopped) {
+				break;
+			}
+			transferNewTimeouts();
+			Bucket bucket = this.wheel[(int) (this.tick & this.mask)];
+			this.activeTimeouts -= bucket.expire();
+			this.tick++;
+		}
+	}
+
+	private void awaitNextTick() {
+		if (this.activeTimeouts == 0 && this.newTimeouts.isEmpty()) {
+			this.idle = true;
+			while (!this.stopped && this.newTimeouts.isEmpty()) {
+				LockSupport.park(this);
+			}
+			this.idle = false;
+			// all buckets are empty, so ticks that elapsed while idle can be skipped
+			this.tick = Math.max(this.tick, (System.nanoTime() - this.startTime) / this.tickDurationNanos);
+		}
+		long deadline = this.startTime + this.tickDurationNanos * (this.tick + 1);
+		long remaining;
+		while (!this.stopped && (remaining = deadline - System.nanoTime()) > 0) {
+			LockSupport.parkNanos(this, remaining);
+		}
+	}
+
+	private void transferNewTimeouts() {
+		Timeout timeout;
+		while ((timeout = this.newTimeouts.poll()) != null) {
+			if (timeout.isCancelled()) {
+				continue;
+			}
+			long expirationTick = timeout.deadline / this.tickDurationNanos;
+			timeout.remainingRounds = (expirationTick - this.tick) / this.wheel.length;
+			long targetTick = Math.max(expirationTick, this.tick);
+			this.wheel[(int) (targetTick & this.mask)].add(timeout);
+			this.activeTimeouts++;
+		}
+	}
+
+	/**
+	 * Singly-linked list of the timeouts that hash to the same slot of the
+	 * wheel; only accessed by the worker thread.
+	 */
+	private static class Bucket {
+
+		private Timeout head;
+
+		void add(Timeout timeout) {
+			timeout.next = this.head;
+			this.head = timeout;
+		}
+
+		/**
+		 * Expire all timeouts whose last round has been reached and discard
+		 * cancelled ones.
+		 *
+		 * @return the number of timeouts removed from this bucket
+		 */
+		int expire() {
+			int removed = 0;
+			Timeout previous = null;
+			Timeout timeout = this.head;
+			while (timeout != null) {
+				Timeout next = timeout.next;
+				boolean remove = timeout.isCancelled();
+				if (!remove && timeout.remainingRounds <= 0) {
+					timeout.expire();
+					remove = true;
+				}
+				else if (!remove) {
+					timeout.remainingRounds--;
+				}
+				if (remove) {
+					if (previous == null) {
+						this.head = next;
+					}
+					else {
+						previous.next = next;
+					}
+					timeout.next = null;
+					removed++;
+				}
+				else {
+					previous = timeout;
+				}
+				timeout = next;
+			}
+			return removed;
+		}
+	}
+
+	/**
+	 * Handle for a task scheduled via {@link HashedWheelTimer#schedule}.
+	 */
+	static class Timeout {
+
+		private static final int PENDING = 0;
+		private static final int CANCELLED = 1;
+		private static final int EXPIRED = 2;
+		private static final int DONE = 3;
+
+		private static final AtomicIntegerFieldUpdater<Timeout> STATE = AtomicIntegerFieldUpdater.newUpdater(
+			Timeout.class, "state");
+
+		private final Runnable task;
+		private final long deadline;
+		private volatile int state = PENDING;
+
+		// accessed by worker thread only
+		private long remainingRounds;
+		private Timeout next;
+
+		private Timeout(Runnable task, long deadline) {
+			this.task = task;
+			this.deadline = deadline;
+		}
+
+		/**
+		 * Cancel the task unless it has already been executed or is currently
+		 * being executed.
+		 *
+		 * @return {@code true} if the task was cancelled and will never be
+		 * executed
+		 */
+		boolean cancel() {
+			return STATE.compareAndSet(this, PENDING, CANCELLED);
+		}
+
+		boolean isCancelled() {
+			return this.state == CANCELLED;
+		}
+
+		/**
+		 * Wait until an expired task has finished executing.
+		 *
+		 * <p>Must only be called if {@link #cancel()} returned {@code false}.
+		 * Waiting is not interruptible since the task may interrupt the
+		 * calling thread; the interrupted status is restored before returning.
+		 */
+		void awaitCompletion() {
+			boolean interrupted = false;
+			synchronized (this) {
+				while (this.state != DONE) {
+					try {
+						wait();
+					}
+					catch (InterruptedException e) {
+						interrupted = true;
+					}
+				}
+			}
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		private void expire() {
+			if (STATE.compareAndSet(this, PENDING, EXPIRED)) {
+				try {
+					this.task.run();
+				}
+				finally {
+					synchronized (this) {
+						this.state = DONE;
+						notifyAll();
+					}
+				}
+			}
+		}
+	}
+
+}
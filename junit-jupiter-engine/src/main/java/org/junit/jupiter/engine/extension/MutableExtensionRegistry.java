@@ -10,28 +10,30 @@
 
 package org.junit.jupiter.engine.extension;
 
-import static java.util.Collections.emptyList;
-import static java.util.Collections.emptySet;
+import static java.util.Collections.emptyMap;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
+import java.lang.reflect.Executable;
 import java.lang.reflect.Field;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.ServiceLoader;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
 import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.ParameterResolver;
 import org.junit.jupiter.engine.config.JupiterConfiguration;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
@@ -117,41 +119,231 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 		return registry;
 	}
 
-	private final Set<Class<? extends Extension>> registeredExtensionTypes;
-	private final List<Entry> registeredExtensions;
-	private final Map<Class<?>, LateInitExtensions> lateInitExtensions;
+	/**
+	 * The parent registry or {@code null} for a root registry.
+	 */
+	private final MutableExtensionRegistry parent;
+
+	/**
+	 * The number of entries of the parent registry that are visible to this
+	 * registry, i.e. the number of entries the parent contained when this
+	 * registry was created.
+	 */
+	private final int parentEntryCount;
+
+	/**
+	 * Copies of late-init entries of the parent registry that had not been
+	 * initialized when this registry was created, keyed by the original entry.
+	 */
+	private final Map<LateInitEntry, LateInitEntry> lateInitCopies;
+
+	/**
+	 * Entries registered in this registry in registration order.
+	 *
+	 * <p>The array is never modified but replaced on registration so that
+	 * child registries, which may be used concurrently, always read a
+	 * consistent snapshot. Its length is the number of local entries.
+	 */
+	private volatile Entry[] localEntries = new Entry[0];
+
+	private final Map<Class<? extends Extension>, Integer> localExtensionTypes = new ConcurrentHashMap<>();
+
+	// guarded by "this"
+	private final Map<Class<?>, LateInitExtensions> lateInitExtensions = new LinkedHashMap<>();
+
+	/**
+	 * Templates of {@link ParameterResolverSelection ParameterResolverSelections}
+	 * shared by a root registry and all of its descendants so that they
+	 * outlive the registries created for individual invocations.
+	 */
+	private final Map<SelectionKey, ParameterResolverSelection.Template> selectionTemplates;
+
+	/**
+	 * Lookups computed for the current set of entries; replaced rather than
+	 * cleared so that lookups computed concurrently for a previous set of
+	 * entries are never cached.
+	 */
+	private volatile Caches caches = new Caches();
 
 	private MutableExtensionRegistry() {
-		this(emptySet(), emptyList());
+		this.parent = null;
+		this.parentEntryCount = 0;
+		this.lateInitCopies = emptyMap();
+		this.selectionTemplates = new ConcurrentHashMap<>();
 	}
 
 	private MutableExtensionRegistry(MutableExtensionRegistry parent) {
-		this(parent.registeredExtensionTypes, parent.registeredExtensions);
-	}
-
-	private MutableExtensionRegistry(Set<Class<? extends Extension>> registeredExtensionTypes,
-			List<Entry> registeredExtensions) {
-		this.registeredExtensionTypes = new LinkedHashSet<>(registeredExtensionTypes);
-		this.registeredExtensions = new ArrayList<>(registeredExtensions.size());
-		this.lateInitExtensions = new LinkedHashMap<>();
-		registeredExtensions.forEach(entry -> {
-			Entry newEntry = entry;
-			if (entry instanceof LateInitEntry) {
-				LateInitEntry lateInitEntry = (LateInitEntry) entry;
-				newEntry = lateInitEntry.getExtension() //
-						.map(Entry::of) //
-						.orElseGet(() -> getLateInitExtensions(lateInitEntry.getTestClass()).add(lateInitEntry.copy()));
+		this.parent = parent;
+		this.parentEntryCount = parent.getEntryCount();
+		this.selectionTemplates = parent.selectionTemplates;
+		if (parent.lateInitExtensions.isEmpty()) {
+			this.lateInitCopies = emptyMap();
+		}
+		else {
+			this.lateInitCopies = new IdentityHashMap<>();
+			synchronized (parent) {
+				parent.lateInitExtensions.values().forEach(extensions -> extensions.entries.forEach(entry -> {
+					LateInitEntry copy = getLateInitExtensions(entry.getTestClass()).add(entry.copy());
+					this.lateInitCopies.put(entry, copy);
+				}));
 			}
-			this.registeredExtensions.add(newEntry);
-		});
+		}
 	}
 
 	@Override
 	public <E extends Extension> Stream<E> stream(Class<E> extensionType) {
-		return this.registeredExtensions.stream() //
-				.map(p -> p.getExtension().orElse(null)) //
-				.filter(extensionType::isInstance) //
-				.map(extensionType::cast);
+		return Arrays.stream(getExtensionArray(extensionType)).map(extensionType::cast);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The returned list is an unmodifiable view of an array that is
+	 * computed on first access and shared until an extension is registered or
+	 * initialized in this registry.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <E extends Extension> List<E> getExtensions(Class<E> extensionType) {
+		return (List<E>) Collections.unmodifiableList(Arrays.asList(getExtensionArray(extensionType)));
+	}
+
+	private Extension[] getExtensionArray(Class<?> extensionType) {
+		// read the caches before the entries they are computed from
+		Caches caches = this.caches;
+		Entry[] localEntries = this.localEntries;
+		if (localEntries.length == 0 && isUnchangedParent()) {
+			Extension[] extensions = this.parent.getExtensionArray(extensionType);
+			// the parent's extensions are only valid if it did not change meanwhile
+			if (isUnchangedParent()) {
+				return extensions;
+			}
+		}
+		Extension[] extensions = caches.extensionsByType.get(extensionType);
+		if (extensions == null) {
+			extensions = computeExtensionArray(extensionType, localEntries);
+			caches.extensionsByType.put(extensionType, extensions);
+		}
+		return extensions;
+	}
+
+	private Extension[] computeExtensionArray(Class<?> extensionType, Entry[] localEntries) {
+		List<Extension> extensions = new ArrayList<>();
+		if (isUnchangedParent()) {
+			Collections.addAll(extensions, this.parent.getExtensionArray(extensionType));
+			if (isUnchangedParent()) {
+				addExtensionsOfType(extensionType, Arrays.asList(localEntries), extensions);
+				return extensions.toArray(new Extension[0]);
+			}
+			extensions.clear();
+		}
+		int count = this.parentEntryCount + localEntries.length;
+		List<Entry> entries = new ArrayList<>(count);
+		collectEntries(count, entries);
+		addExtensionsOfType(extensionType, entries, extensions);
+		return extensions.toArray(new Extension[0]);
+	}
+
+	private static void addExtensionsOfType(Class<?> extensionType, List<Entry> entries, List<Extension> result) {
+		for (Entry entry : entries) {
+			Extension extension = entry.getExtension().orElse(null);
+			if (extensionType.isInstance(extension)) {
+				result.add(extension);
+			}
+		}
+	}
+
+	/**
+	 * Collect the first {@code count} entries visible to this registry in
+	 * registration order, replacing inherited late-init entries with the
+	 * copies owned by this registry.
+	 */
+	private void collectEntries(int count, List<Entry> result) {
+		if (this.parent != null) {
+			int start = result.size();
+			this.parent.collectEntries(Math.min(count, this.parentEntryCount), result);
+			if (!this.lateInitCopies.isEmpty()) {
+				for (int i = start; i < result.size(); i++) {
+					LateInitEntry copy = this.lateInitCopies.get(result.get(i));
+					if (copy != null) {
+						result.set(i, copy);
+					}
+				}
+			}
+		}
+		Entry[] localEntries = this.localEntries;
+		int localCount = Math.min(count - this.parentEntryCount, localEntries.length);
+		for (int i = 0; i < localCount; i++) {
+			result.add(localEntries[i]);
+		}
+	}
+
+	private int getEntryCount() {
+		return this.parentEntryCount + this.localEntries.length;
+	}
+
+	/**
+	 * Determine if this registry did not inherit any extensions that differ
+	 * from the current state of its parent, which allows it to reuse the
+	 * parent's precomputed lookups.
+	 *
+	 * <p>Since the parent may be modified concurrently, callers have to check
+	 * again after having retrieved a lookup from the parent.
+	 */
+	private boolean isUnchangedParent() {
+		return this.parent != null && this.lateInitCopies.isEmpty()
+				&& this.parent.getEntryCount() == this.parentEntryCount;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>Selections are cached per executable and parameter index until an
+	 * extension is registered or initialized in this registry. A registry that
+	 * does not differ from its parent shares the parent's selections.
+	 * Otherwise, the evaluation of stable resolvers is reused from any
+	 * registry of the same hierarchy with resolvers of the same types in the
+	 * same order, e.g. one created for a previous invocation of the same
+	 * method.
+	 */
+	@Override
+	public ParameterResolverSelection getParameterResolverSelection(Executable executable, int index,
+			Predicate<ParameterResolver> supportsParameter) {
+
+		if (this.localEntries.length == 0 && isUnchangedParent()) {
+			ParameterResolverSelection selection = this.parent.getParameterResolverSelection(executable, index,
+				supportsParameter);
+			if (isUnchangedParent()) {
+				return selection;
+			}
+		}
+		Caches caches = this.caches;
+		ParameterResolverSelection[] selections = caches.parameterResolverSelections.computeIfAbsent(
+			executable, key -> new ParameterResolverSelection[key.getParameterCount()]);
+		ParameterResolverSelection selection = selections[index];
+		if (selection == null) {
+			selection = computeParameterResolverSelection(caches, executable, index, supportsParameter);
+			selections[index] = selection;
+		}
+		return selection;
+	}
+
+	private ParameterResolverSelection computeParameterResolverSelection(Caches caches, Executable executable,
+			int index, Predicate<ParameterResolver> supportsParameter) {
+
+		ParameterResolvers resolvers = caches.parameterResolvers;
+		if (resolvers == null) {
+			resolvers = new ParameterResolvers(getExtensions(ParameterResolver.class));
+			caches.parameterResolvers = resolvers;
+		}
+		SelectionKey key = new SelectionKey(executable, index, resolvers);
+		ParameterResolverSelection.Template template = this.selectionTemplates.get(key);
+		if (template != null) {
+			return ParameterResolverSelection.from(resolvers.list, template);
+		}
+		ParameterResolverSelection selection = ParameterResolverSelection.from(resolvers.list, supportsParameter);
+		this.selectionTemplates.putIfAbsent(key, selection.getTemplate());
+		return selection;
 	}
 
 	@Override
@@ -166,7 +358,26 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 	 * parent registry.
 	 */
 	private boolean isAlreadyRegistered(Class<? extends Extension> extensionType) {
-		return this.registeredExtensionTypes.contains(extensionType);
+		return getRegistrationIndex(extensionType) >= 0;
+	}
+
+	/**
+	 * Get the index of the entry with which the supplied type was registered
+	 * among the entries visible to this registry, or {@code -1} if the type
+	 * has not been registered.
+	 */
+	private int getRegistrationIndex(Class<? extends Extension> extensionType) {
+		Integer localIndex = this.localExtensionTypes.get(extensionType);
+		if (localIndex != null) {
+			return this.parentEntryCount + localIndex;
+		}
+		if (this.parent != null) {
+			int index = this.parent.getRegistrationIndex(extensionType);
+			if (index < this.parentEntryCount) {
+				return index;
+			}
+		}
+		return -1;
 	}
 
 	@Override
@@ -190,9 +401,11 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 		logger.trace(() -> String.format("Registering local extension (late-init) for [%s]%s",
 			source.getType().getName(), buildSourceInfo(source)));
 
-		LateInitEntry entry = getLateInitExtensions(testClass) //
-				.add(new LateInitEntry(testClass, initializer));
-		this.registeredExtensions.add(entry);
+		synchronized (this) {
+			LateInitEntry entry = getLateInitExtensions(testClass) //
+					.add(new LateInitEntry(testClass, initializer));
+			addLocalEntry(entry);
+		}
 	}
 
 	@Override
@@ -200,9 +413,12 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 		Preconditions.notNull(testClass, "testClass must not be null");
 		Preconditions.notNull(testInstance, "testInstance must not be null");
 
-		LateInitExtensions extensions = lateInitExtensions.remove(testClass);
-		if (extensions != null) {
-			extensions.initialize(testInstance);
+		synchronized (this) {
+			LateInitExtensions extensions = lateInitExtensions.remove(testClass);
+			if (extensions != null) {
+				extensions.initialize(testInstance);
+				clearCaches();
+			}
 		}
 	}
 
@@ -233,8 +449,22 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 		logger.trace(
 			() -> String.format("Registering %s extension [%s]%s", category, extension, buildSourceInfo(source)));
 
-		this.registeredExtensions.add(Entry.of(extension));
-		this.registeredExtensionTypes.add(extension.getClass());
+		synchronized (this) {
+			int index = this.localEntries.length;
+			addLocalEntry(Entry.of(extension));
+			this.localExtensionTypes.putIfAbsent(extension.getClass(), index);
+		}
+	}
+
+	private void addLocalEntry(Entry entry) {
+		Entry[] localEntries = Arrays.copyOf(this.localEntries, this.localEntries.length + 1);
+		localEntries[localEntries.length - 1] = entry;
+		this.localEntries = localEntries;
+		clearCaches();
+	}
+
+	private void clearCaches() {
+		this.caches = new Caches();
 	}
 
 	private String buildSourceInfo(Object source) {
@@ -265,7 +495,7 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 		private final Function<Object, ? extends Extension> initializer;
 
 		@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
-		private Optional<Extension> extension = Optional.empty();
+		private volatile Optional<Extension> extension = Optional.empty();
 
 		public LateInitEntry(Class<?> testClass, Function<Object, ? extends Extension> initializer) {
 			this.testClass = testClass;
@@ -292,6 +522,67 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 		}
 	}
 
+	private static class Caches {
+
+		private final Map<Class<?>, Extension[]> extensionsByType = new ConcurrentHashMap<>();
+		private final Map<Executable, ParameterResolverSelection[]> parameterResolverSelections = new ConcurrentHashMap<>();
+		private volatile ParameterResolvers parameterResolvers;
+
+	}
+
+	/**
+	 * Registered {@link ParameterResolver ParameterResolvers} along with their
+	 * types, which identify the resolvers across registries.
+	 */
+	private static class ParameterResolvers {
+
+		private final List<ParameterResolver> list;
+		private final List<Class<?>> types;
+		private final int typesHashCode;
+
+		ParameterResolvers(List<ParameterResolver> list) {
+			this.list = list;
+			this.types = new ArrayList<>(list.size());
+			list.forEach(resolver -> this.types.add(resolver.getClass()));
+			this.typesHashCode = this.types.hashCode();
+		}
+
+	}
+
+	private static class SelectionKey {
+
+		private final Executable executable;
+		private final int index;
+		private final List<Class<?>> resolverTypes;
+		private final int hashCode;
+
+		SelectionKey(Executable executable, int index, ParameterResolvers resolvers) {
+			this.executable = executable;
+			this.index = index;
+			this.resolverTypes = resolvers.types;
+			this.hashCode = 31 * (31 * executable.hashCode() + index) + resolvers.typesHashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof SelectionKey)) {
+				return false;
+			}
+			SelectionKey that = (SelectionKey) obj;
+			return this.index == that.index && this.hashCode == that.hashCode
+					&& this.executable.equals(that.executable) && this.resolverTypes.equals(that.resolverTypes);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+
+	}
+
 	private static class LateInitExtensions {
 
 		private final List<LateInitEntry> entries = new ArrayList<>();
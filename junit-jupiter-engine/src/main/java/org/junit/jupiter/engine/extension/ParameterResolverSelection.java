@@ -0,0 +1,151 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import static java.util.Collections.unmodifiableList;
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.apiguardian.api.API;
+import org.junit.jupiter.api.extension.ParameterResolver;
+
+/**
+ * {@code ParameterResolverSelection} captures which of the registered
+ * {@link ParameterResolver ParameterResolvers} are candidates for resolving
+ * a single parameter of an executable.
+ *
+ * <p>Resolvers that declare their support to be
+ * {@linkplain ParameterResolver#isParameterSupportStable() stable} are
+ * evaluated once when the selection is created and are either retained as
+ * matches or discarded. All other resolvers are retained as candidates that
+ * must be re-evaluated for every {@linkplain #select selection}. If all
+ * resolvers are stable, selecting the matching resolvers does not invoke
+ * {@link ParameterResolver#supportsParameter} at all.
+ *
+ * <p>The evaluation of stable resolvers is captured by a {@link Template}
+ * that does not reference the resolvers and may thus be reused for other
+ * instances of the same resolver types, such as the ones registered for
+ * another invocation of the same test method.
+ *
+ * @since 5.12
+ * @see ExtensionRegistry#getParameterResolverSelection
+ */
+@API(status = INTERNAL, since = "5.12")
+public final class ParameterResolverSelection {
+
+	/**
+	 * Create a new {@code ParameterResolverSelection} for the supplied
+	 * resolvers.
+	 *
+	 * <p>The supplied predicate is only applied to resolvers whose support is
+	 * stable.
+	 *
+	 * @param resolvers all registered resolvers in registration order; never
+	 * {@code null}
+	 * @param supportsParameter the predicate used to evaluate stable resolvers;
+	 * never {@code null}
+	 * @return a new {@code ParameterResolverSelection}; never {@code null}
+	 */
+	public static ParameterResolverSelection from(List<ParameterResolver> resolvers,
+			Predicate<ParameterResolver> supportsParameter) {
+
+		int[] positions = new int[resolvers.size()];
+		boolean[] stable = new boolean[resolvers.size()];
+		int count = 0;
+		for (int i = 0; i < resolvers.size(); i++) {
+			ParameterResolver resolver = resolvers.get(i);
+			if (!resolver.isParameterSupportStable()) {
+				positions[count++] = i;
+			}
+			else if (supportsParameter.test(resolver)) {
+				stable[count] = true;
+				positions[count++] = i;
+			}
+		}
+		return new ParameterResolverSelection(resolvers,
+			new Template(Arrays.copyOf(positions, count), Arrays.copyOf(stable, count)));
+	}
+
+	/**
+	 * Create a new {@code ParameterResolverSelection} for resolvers of the same
+	 * types in the same order as the ones the supplied template was created
+	 * for, reusing its evaluation of stable resolvers.
+	 */
+	static ParameterResolverSelection from(List<ParameterResolver> resolvers, Template template) {
+		return new ParameterResolverSelection(resolvers, template);
+	}
+
+	private final Template template;
+	private final ParameterResolver[] candidates;
+	private final List<ParameterResolver> stableMatches;
+
+	private ParameterResolverSelection(List<ParameterResolver> resolvers, Template template) {
+		this.template = template;
+		this.candidates = new ParameterResolver[template.positions.length];
+		for (int i = 0; i < this.candidates.length; i++) {
+			this.candidates[i] = resolvers.get(template.positions[i]);
+		}
+		this.stableMatches = template.allStable ? unmodifiableList(Arrays.asList(this.candidates)) : null;
+	}
+
+	/**
+	 * Get the template of this selection that captures the positions of the
+	 * candidates among all resolvers without referencing the resolvers.
+	 */
+	Template getTemplate() {
+		return this.template;
+	}
+
+	/**
+	 * Select the resolvers that support the parameter, re-evaluating resolvers
+	 * whose support is not stable via the supplied predicate.
+	 *
+	 * @param supportsParameter the predicate used to evaluate resolvers whose
+	 * support is not stable; never {@code null}
+	 * @return the matching resolvers in registration order; never {@code null}
+	 */
+	public List<ParameterResolver> select(Predicate<ParameterResolver> supportsParameter) {
+		if (this.stableMatches != null) {
+			return this.stableMatches;
+		}
+		List<ParameterResolver> matches = new ArrayList<>(this.candidates.length);
+		for (int i = 0; i < this.candidates.length; i++) {
+			ParameterResolver candidate = this.candidates[i];
+			if (this.template.stable[i] || supportsParameter.test(candidate)) {
+				matches.add(candidate);
+			}
+		}
+		return matches;
+	}
+
+	static final class Template {
+
+		private final int[] positions;
+		private final boolean[] stable;
+		private final boolean allStable;
+
+		private Template(int[] positions, boolean[] stable) {
+			this.positions = positions;
+			this.stable = stable;
+			boolean allStable = true;
+			for (boolean value : stable) {
+				allStable &= value;
+			}
+			this.allStable = allStable;
+		}
+
+	}
+
+}
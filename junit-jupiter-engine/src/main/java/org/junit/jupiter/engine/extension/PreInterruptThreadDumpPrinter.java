@@ -32,11 +32,14 @@ final class PreInterruptThreadDumpPrinter implements PreInterruptCallback {
 	@Override
 	public void beforeThreadInterrupt(PreInterruptContext preInterruptContext, ExtensionContext extensionContext) {
 
+		Thread threadToInterrupt = preInterruptContext.getThreadToInterrupt();
 		Map<Thread, StackTraceElement[]> stackTraces = Thread.getAllStackTraces();
+		// virtual threads, e.g. those used for preemptive timeouts, are not included
+		stackTraces.computeIfAbsent(threadToInterrupt, Thread::getStackTrace);
 
 		StringBuilder sb = new StringBuilder();
 		sb.append("Thread ");
-		appendThreadName(sb, preInterruptContext.getThreadToInterrupt());
+		appendThreadName(sb, threadToInterrupt);
 		sb.append(" will be interrupted.");
 		sb.append(NL);
 
@@ -55,6 +55,11 @@ class RepetitionExtension implements ParameterResolver, TestWatcher, ExecutionCo
 		return (parameterContext.getParameter().getType() == RepetitionInfo.class);
 	}
 
+	@Override
+	public boolean isParameterSupportStable() {
+		return true;
+	}
+
 	@Override
 	public RepetitionInfo resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
 		return this.repetitionInfo;
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.junit.platform.commons.support.AnnotationSupport.findRepeatableAnnotations;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Optional;
+
+import org.apiguardian.api.API;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.api.extension.SharedFixture;
+import org.junit.jupiter.api.extension.SharedFixtureFactory;
+
+/**
+ * {@link ParameterResolver} that resolves parameters whose type is the type
+ * of a shared fixture declared via {@link SharedFixture @SharedFixture} on the
+ * current test class or one of its enclosing classes.
+ *
+ * <p>This resolver is only registered for test classes that declare a shared
+ * fixture.
+ *
+ * @since 5.12
+ * @see SharedFixtureFactory#getFixture(ExtensionContext, Class)
+ */
+@API(status = INTERNAL, since = "5.12")
+public final class SharedFixtureParameterResolver implements ParameterResolver {
+
+	@Override
+	public ExtensionContextScope getTestInstantiationExtensionContextScope(ExtensionContext rootContext) {
+		return ExtensionContextScope.TEST_METHOD;
+	}
+
+	@Override
+	public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+		return findFactoryType(parameterContext.getParameter().getType(), extensionContext).isPresent();
+	}
+
+	@Override
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+		Class factoryType = findFactoryType(parameterContext.getParameter().getType(), extensionContext).get();
+		return SharedFixtureFactory.getFixture(extensionContext, factoryType);
+	}
+
+	private static Optional<Class<? extends SharedFixtureFactory<?>>> findFactoryType(Class<?> parameterType,
+			ExtensionContext extensionContext) {
+
+		for (Optional<ExtensionContext> current = Optional.of(extensionContext); current.isPresent(); current = current.get().getParent()) {
+			Optional<Class<?>> testClass = current.get().getTestClass();
+			if (testClass.isPresent()) {
+				for (SharedFixture sharedFixture : findRepeatableAnnotations(testClass.get(), SharedFixture.class)) {
+					Optional<Class<?>> fixtureType = findFixtureType(sharedFixture.value());
+					if (fixtureType.isPresent() && parameterType == fixtureType.get()) {
+						return Optional.of(sharedFixture.value());
+					}
+				}
+			}
+		}
+		return Optional.empty();
+	}
+
+	private static Optional<Class<?>> findFixtureType(Class<?> factoryType) {
+		for (Class<?> current = factoryType; current != null; current = current.getSuperclass()) {
+			for (Type type : current.getGenericInterfaces()) {
+				if (type instanceof ParameterizedType
+						&& ((ParameterizedType) type).getRawType() == SharedFixtureFactory.class) {
+					Type fixtureType = ((ParameterizedType) type).getActualTypeArguments()[0];
+					if (fixtureType instanceof ParameterizedType) {
+						fixtureType = ((ParameterizedType) fixtureType).getRawType();
+					}
+					return fixtureType instanceof Class ? Optional.of((Class<?>) fixtureType) : Optional.empty();
+				}
+			}
+		}
+		return Optional.empty();
+	}
+
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import static java.util.Collections.reverseOrder;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.extension.AnnotatedElementContext;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Store;
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
+import org.junit.jupiter.api.io.TempDirFactory;
+import org.junit.jupiter.engine.extension.TempDirectory.BackgroundCleaner;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+
+/**
+ * Engine-wide pool of pre-created, empty temporary directories that backs
+ * the {@link PooledTempDirFactory}.
+ *
+ * <p>Every thread that requests a directory gets its own ring of up to
+ * {@value #DEFAULT_RING_CAPACITY} directories, so handing one out does not
+ * contend with other worker threads. A ring is filled in the background as
+ * soon as its thread requests the first directory and refilled whenever it
+ * drops to half its capacity. A pooled directory is only
+ * {@linkplain #take handed out} if it is still empty; otherwise, it is
+ * scrubbed in the background and returned to its ring. If a ring is
+ * exhausted, a directory is created synchronously.
+ *
+ * <p>Closing the pool deletes all directories that have not been handed
+ * out. Handed out directories are cleaned up like any other {@code @TempDir}
+ * according to their {@link org.junit.jupiter.api.io.CleanupMode CleanupMode}.
+ *
+ * @since 5.12
+ * @see org.junit.jupiter.engine.Constants#TEMP_DIR_POOL_ENABLED_PROPERTY_NAME
+ */
+class TempDirPool implements CloseableResource {
+
+	private static final Logger logger = LoggerFactory.getLogger(TempDirPool.class);
+
+	static final int DEFAULT_RING_CAPACITY = 8;
+
+	private static final String TEMP_DIR_PREFIX = "junit-";
+
+	private final Executor executor;
+	private final int ringCapacity;
+	private final Path parentDir;
+	private final ConcurrentMap<Thread, Ring> rings = new ConcurrentHashMap<>();
+	private volatile boolean closed;
+
+	/**
+	 * Create a new pool.
+	 *
+	 * @param executor the executor used to create and scrub directories in
+	 * the background
+	 * @param ringCapacity the maximum number of pooled directories per thread
+	 */
+	TempDirPool(Executor executor, int ringCapacity) {
+		this(executor, ringCapacity, null);
+	}
+
+	// for testing purposes
+	TempDirPool(Executor executor, int ringCapacity, Path parentDir) {
+		this.executor = executor;
+		this.ringCapacity = ringCapacity;
+		this.parentDir = parentDir;
+	}
+
+	/**
+	 * Hand out an empty temporary directory from the current thread's ring,
+	 * creating a new one if the ring does not contain one.
+	 */
+	Path take() throws IOException {
+		Ring ring = this.rings.computeIfAbsent(Thread.currentThread(), __ -> new Ring());
+		Path dir = ring.pollEmptyDirectory();
+		ring.refillIfNecessary();
+		return dir != null ? dir : createDirectory();
+	}
+
+	private Path createDirectory() throws IOException {
+		return this.parentDir == null //
+				? Files.createTempDirectory(TEMP_DIR_PREFIX) //
+				: Files.createTempDirectory(this.parentDir, TEMP_DIR_PREFIX);
+	}
+
+	private void schedule(Runnable task) {
+		try {
+			this.executor.execute(task);
+		}
+		catch (RejectedExecutionException ex) {
+			logger.debug(ex, () -> "Failed to schedule maintenance of pooled temp dirs.");
+		}
+	}
+
+	private static boolean isEmptyDirectory(Path dir) {
+		try (DirectoryStream<Path> entries = Files.newDirectoryStream(dir)) {
+			return !entries.iterator().hasNext();
+		}
+		catch (IOException ex) {
+			return false;
+		}
+	}
+
+	private static void deleteContents(Path root) throws IOException {
+		try (Stream<Path> paths = Files.walk(root)) {
+			for (Path path : (Iterable<Path>) paths.sorted(reverseOrder())::iterator) {
+				if (!path.equals(root)) {
+					Files.deleteIfExists(path);
+				}
+			}
+		}
+	}
+
+	private static void deleteQuietly(Path dir) {
+		try {
+			if (Files.exists(dir)) {
+				deleteContents(dir);
+				Files.deleteIfExists(dir);
+			}
+		}
+		catch (IOException ex) {
+			logger.warn(ex, () -> "Failed to delete pooled temp dir " + dir);
+		}
+	}
+
+	@Override
+	public void close() {
+		this.closed = true;
+		this.rings.values().forEach(Ring::drain);
+		this.rings.clear();
+	}
+
+	/**
+	 * Directories pooled for a single thread.
+	 *
+	 * <p>Directories are only polled by the owning thread but added by
+	 * background tasks.
+	 */
+	private class Ring {
+
+		private final Deque<Path> directories = new ConcurrentLinkedDeque<>();
+		private final AtomicInteger size = new AtomicInteger();
+		private final AtomicBoolean refillScheduled = new AtomicBoolean();
+
+		Path pollEmptyDirectory() {
+			Path dir;
+			while ((dir = this.directories.pollFirst()) != null) {
+				this.size.decrementAndGet();
+				if (isEmptyDirectory(dir)) {
+					return dir;
+				}
+				Path dirty = dir;
+				logger.debug(() -> "Scrubbing pooled temp dir " + dirty + " since it is no longer empty.");
+				schedule(() -> scrub(dirty));
+			}
+			return null;
+		}
+
+		void refillIfNecessary() {
+			if (!closed && this.size.get() <= ringCapacity / 2 && this.refillScheduled.compareAndSet(false, true)) {
+				schedule(this::refill);
+			}
+		}
+
+		private void refill() {
+			try {
+				while (!closed && this.size.get() < ringCapacity) {
+					add(createDirectory());
+				}
+			}
+			catch (IOException ex) {
+				logger.warn(ex, () -> "Failed to pre-create pooled temp dirs.");
+			}
+			finally {
+				this.refillScheduled.set(false);
+			}
+		}
+
+		private void scrub(Path dir) {
+			try {
+				if (Files.isDirectory(dir)) {
+					deleteContents(dir);
+					add(dir);
+				}
+			}
+			catch (IOException ex) {
+				logger.warn(ex, () -> "Failed to scrub pooled temp dir " + dir);
+				deleteQuietly(dir);
+			}
+		}
+
+		/**
+		 * Add the supplied directory to this ring or delete it if the ring is
+		 * full or the pool has been closed.
+		 */
+		private void add(Path dir) {
+			if (this.size.incrementAndGet() <= ringCapacity && !closed) {
+				this.directories.addLast(dir);
+				// close() may have drained this ring concurrently
+				if (!closed || !this.directories.remove(dir)) {
+					return;
+				}
+			}
+			this.size.decrementAndGet();
+			deleteQuietly(dir);
+		}
+
+		void drain() {
+			Path dir;
+			while ((dir = this.directories.pollFirst()) != null) {
+				this.size.decrementAndGet();
+				deleteQuietly(dir);
+			}
+		}
+
+	}
+
+	/**
+	 * {@link TempDirFactory} that hands out directories from the engine-wide
+	 * {@link TempDirPool}, which is stored in the root context and uses the
+	 * engine-wide {@link BackgroundCleaner} for its background work.
+	 *
+	 * <p>Like {@link TempDirFactory.Standard}, it creates directories in the
+	 * system's default temporary directory using {@code "junit-"} as prefix.
+	 */
+	static class PooledTempDirFactory implements TempDirFactory {
+
+		static final TempDirFactory INSTANCE = new PooledTempDirFactory();
+
+		@Override
+		public Path createTempDirectory(AnnotatedElementContext elementContext, ExtensionContext extensionContext)
+				throws IOException {
+			Store store = extensionContext.getRoot().getStore(TempDirectory.NAMESPACE);
+			BackgroundCleaner cleaner = store.getOrComputeIfAbsent(BackgroundCleaner.class);
+			return store.getOrComputeIfAbsent(TempDirPool.class,
+				__ -> new TempDirPool(cleaner::execute, DEFAULT_RING_CAPACITY), TempDirPool.class).take();
+		}
+
+	}
+
+}
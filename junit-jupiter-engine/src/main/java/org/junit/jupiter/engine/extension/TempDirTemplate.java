@@ -0,0 +1,223 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import static java.util.Collections.reverseOrder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemAlreadyExistsException;
+import java.nio.file.FileSystemLoopException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitOption;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
+
+/**
+ * Prepared template for the initial contents of temporary directories created
+ * via {@link org.junit.jupiter.api.io.TempDir#template() @TempDir(template)}.
+ *
+ * <p>A template is prepared at most once per engine execution: its tree is
+ * scanned and, if it resides in a JAR file, extracted to a temporary directory
+ * that is deleted when the engine finishes. Subsequent
+ * {@linkplain #copyTo copies} only create the scanned directories and
+ * materialize the scanned files.
+ *
+ * <p>Files are copied in parallel via
+ * {@link Files#copy(Path, Path, java.nio.file.CopyOption...)}, which uses
+ * copy-on-write clones where the JDK and file system support them. Files are
+ * never linked so that tests cannot modify the template, regardless of where
+ * it resides.
+ *
+ * <p>Symbolic links in the template are followed: linked directories are
+ * materialized as regular directories containing copies of their contents,
+ * and linked files are materialized as copies of their targets. Symbolic link
+ * cycles are reported as an {@link ExtensionConfigurationException}.
+ *
+ * @since 5.12
+ */
+class TempDirTemplate implements CloseableResource {
+
+	static final String CLASSPATH_PREFIX = "classpath:";
+
+	/**
+	 * Get the prepared template for the supplied
+	 * {@link org.junit.jupiter.api.io.TempDir#template()} value from the root
+	 * store of the supplied {@link ExtensionContext}, preparing it if
+	 * necessary.
+	 */
+	static TempDirTemplate get(String template, ExtensionContext context) {
+		URI location = resolveLocation(template, context);
+		return context.getRoot().getStore(TempDirectory.NAMESPACE) //
+				.getOrComputeIfAbsent(location, __ -> prepare(template, location), TempDirTemplate.class);
+	}
+
+	private static URI resolveLocation(String template, ExtensionContext context) {
+		if (template.startsWith(CLASSPATH_PREFIX)) {
+			String resource = template.substring(CLASSPATH_PREFIX.length());
+			URL url = context.getRequiredTestClass().getResource(resource);
+			if (url == null) {
+				throw new ExtensionConfigurationException(
+					"Classpath resource [" + resource + "] for @TempDir template does not exist");
+			}
+			try {
+				return url.toURI();
+			}
+			catch (URISyntaxException ex) {
+				throw new ExtensionConfigurationException("Invalid @TempDir template [" + template + "]", ex);
+			}
+		}
+		return Paths.get(template).toAbsolutePath().normalize().toUri();
+	}
+
+	private static TempDirTemplate prepare(String template, URI location) {
+		try {
+			if ("jar".equals(location.getScheme())) {
+				return extract(location);
+			}
+			return scan(Paths.get(location), false);
+		}
+		catch (IOException ex) {
+			throw new ExtensionConfigurationException("Failed to prepare @TempDir template [" + template + "]", ex);
+		}
+	}
+
+	private static TempDirTemplate extract(URI location) throws IOException {
+		Path extracted = Files.createTempDirectory("junit-template-");
+		FileSystem fileSystem = null;
+		try {
+			Path jarRoot;
+			try {
+				fileSystem = FileSystems.newFileSystem(location, Collections.emptyMap());
+				jarRoot = fileSystem.provider().getPath(location);
+			}
+			catch (FileSystemAlreadyExistsException ignore) {
+				jarRoot = Paths.get(location);
+			}
+			scan(jarRoot, false).copyTo(extracted);
+		}
+		catch (IOException | RuntimeException ex) {
+			deleteRecursively(extracted);
+			throw ex;
+		}
+		finally {
+			if (fileSystem != null) {
+				fileSystem.close();
+			}
+		}
+		return scan(extracted, true);
+	}
+
+	private static TempDirTemplate scan(Path root, boolean deleteOnClose) throws IOException {
+		if (!Files.isDirectory(root)) {
+			throw new ExtensionConfigurationException("@TempDir template [" + root + "] must be a directory");
+		}
+		List<Path> directories = new ArrayList<>();
+		List<Path> files = new ArrayList<>();
+		try (Stream<Path> paths = Files.walk(root, FileVisitOption.FOLLOW_LINKS)) {
+			paths.skip(1).forEach(path -> {
+				Path relativePath = root.relativize(path);
+				if (Files.isDirectory(path)) {
+					directories.add(relativePath);
+				}
+				else {
+					files.add(relativePath);
+				}
+			});
+		}
+		catch (UncheckedIOException ex) {
+			if (ex.getCause() instanceof FileSystemLoopException) {
+				throw new ExtensionConfigurationException(
+					"@TempDir template [" + root + "] must not contain symbolic link cycles", ex.getCause());
+			}
+			throw ex.getCause();
+		}
+		return new TempDirTemplate(root, deleteOnClose, directories, files);
+	}
+
+	private final Path root;
+	private final boolean deleteOnClose;
+	private final List<Path> directories;
+	private final List<Path> files;
+
+	private TempDirTemplate(Path root, boolean deleteOnClose, List<Path> directories, List<Path> files) {
+		this.root = root;
+		this.deleteOnClose = deleteOnClose;
+		this.directories = directories;
+		this.files = files;
+	}
+
+	/**
+	 * Materialize the contents of this template in the supplied, existing
+	 * target directory.
+	 */
+	void copyTo(Path target) throws IOException {
+		for (Path directory : this.directories) {
+			Files.createDirectories(resolve(target, directory));
+		}
+		try {
+			this.files.parallelStream().forEach(file -> copy(file, target));
+		}
+		catch (UncheckedIOException ex) {
+			throw ex.getCause();
+		}
+	}
+
+	private void copy(Path file, Path target) {
+		try {
+			Files.copy(this.root.resolve(file), resolve(target, file));
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	/**
+	 * Resolve the supplied relative path name by name so that the template and
+	 * the target may use different file systems.
+	 */
+	private static Path resolve(Path target, Path relativePath) {
+		Path result = target;
+		for (Path name : relativePath) {
+			result = result.resolve(name.toString());
+		}
+		return result;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (this.deleteOnClose) {
+			deleteRecursively(this.root);
+		}
+	}
+
+	private static void deleteRecursively(Path root) throws IOException {
+		try (Stream<Path> paths = Files.walk(root)) {
+			for (Path path : (Iterable<Path>) paths.sorted(reverseOrder())::iterator) {
+				Files.deleteIfExists(path);
+			}
+		}
+	}
+
+}
@@ -11,6 +11,7 @@
 package org.junit.jupiter.engine.extension;
 
 import static java.nio.file.FileVisitResult.CONTINUE;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
 import static java.util.stream.Collectors.joining;
 import static org.junit.jupiter.api.extension.TestInstantiationAwareExtension.ExtensionContextScope.TEST_METHOD;
 import static org.junit.jupiter.api.io.CleanupMode.DEFAULT;
@@ -37,9 +38,16 @@ import java.nio.file.attribute.BasicFileAttributes;
 import java.nio.file.attribute.DosFileAttributeView;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Queue;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.extension.AnnotatedElementContext;
@@ -51,6 +59,7 @@ import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
 import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
 import org.junit.jupiter.api.extension.ParameterContext;
 import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.api.function.Executable;
 import org.junit.jupiter.api.io.CleanupMode;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.api.io.TempDirFactory;
@@ -65,6 +74,7 @@ import org.junit.platform.commons.support.ReflectionSupport;
 import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.commons.util.ToStringBuilder;
+import org.junit.platform.commons.util.UnrecoverableExceptions;
 
 /**
  * {@code TempDirectory} is a JUnit Jupiter extension that creates and cleans
@@ -148,10 +158,12 @@ class TempDirectory implements BeforeAllCallback, BeforeEachCallback, ParameterR
 			assertSupportedType("field", field.getType());
 
 			try {
-				CleanupMode cleanupMode = determineCleanupModeForField(field);
-				TempDirFactory factory = determineTempDirFactoryForField(field, scope);
-				makeAccessible(field).set(testInstance,
-					getPathOrFile(field.getType(), new FieldContext(field), factory, cleanupMode, scope, context));
+				TempDir tempDir = findTempDirAnnotation(field);
+				CleanupMode cleanupMode = determineCleanupMode(tempDir);
+				TempDirFactory factory = determineTempDirFactory(tempDir, scope);
+				String template = determineTemplate(tempDir, scope);
+				makeAccessible(field).set(testInstance, getPathOrFile(field.getType(), new FieldContext(field), factory,
+					cleanupMode, template, scope, context));
 			}
 			catch (Throwable t) {
 				throw ExceptionUtils.throwAsUncheckedException(t);
@@ -168,6 +180,11 @@ class TempDirectory implements BeforeAllCallback, BeforeEachCallback, ParameterR
 		return parameterContext.isAnnotated(TempDir.class);
 	}
 
+	@Override
+	public boolean isParameterSupportStable() {
+		return true;
+	}
+
 	/**
 	 * Resolve the current temporary directory for the {@link Parameter} in the
 	 * supplied {@link ParameterContext}.
@@ -176,22 +193,23 @@ class TempDirectory implements BeforeAllCallback, BeforeEachCallback, ParameterR
 	public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
 		Class<?> parameterType = parameterContext.getParameter().getType();
 		assertSupportedType("parameter", parameterType);
-		CleanupMode cleanupMode = determineCleanupModeForParameter(parameterContext);
+		TempDir tempDir = findTempDirAnnotation(parameterContext);
+		CleanupMode cleanupMode = determineCleanupMode(tempDir);
 		Scope scope = getScope(extensionContext);
-		TempDirFactory factory = determineTempDirFactoryForParameter(parameterContext, scope);
-		return getPathOrFile(parameterType, parameterContext, factory, cleanupMode, scope, extensionContext);
+		TempDirFactory factory = determineTempDirFactory(tempDir, scope);
+		String template = determineTemplate(tempDir, scope);
+		return getPathOrFile(parameterType, parameterContext, factory, cleanupMode, template, scope,
+			extensionContext);
 	}
 
-	private CleanupMode determineCleanupModeForField(Field field) {
-		TempDir tempDir = findAnnotation(field, TempDir.class).orElseThrow(
+	private static TempDir findTempDirAnnotation(Field field) {
+		return findAnnotation(field, TempDir.class).orElseThrow(
 			() -> new JUnitException("Field " + field + " must be annotated with @TempDir"));
-		return determineCleanupMode(tempDir);
 	}
 
-	private CleanupMode determineCleanupModeForParameter(ParameterContext parameterContext) {
-		TempDir tempDir = parameterContext.findAnnotation(TempDir.class).orElseThrow(() -> new JUnitException(
+	private static TempDir findTempDirAnnotation(ParameterContext parameterContext) {
+		return parameterContext.findAnnotation(TempDir.class).orElseThrow(() -> new JUnitException(
 			"Parameter " + parameterContext.getParameter() + " must be annotated with @TempDir"));
-		return determineCleanupMode(tempDir);
 	}
 
 	private CleanupMode determineCleanupMode(TempDir tempDir) {
@@ -209,18 +227,6 @@ class TempDirectory implements BeforeAllCallback, BeforeEachCallback, ParameterR
 		);
 	}
 
-	private TempDirFactory determineTempDirFactoryForField(Field field, Scope scope) {
-		TempDir tempDir = findAnnotation(field, TempDir.class).orElseThrow(
-			() -> new JUnitException("Field " + field + " must be annotated with @TempDir"));
-		return determineTempDirFactory(tempDir, scope);
-	}
-
-	private TempDirFactory determineTempDirFactoryForParameter(ParameterContext parameterContext, Scope scope) {
-		TempDir tempDir = parameterContext.findAnnotation(TempDir.class).orElseThrow(() -> new JUnitException(
-			"Parameter " + parameterContext.getParameter() + " must be annotated with @TempDir"));
-		return determineTempDirFactory(tempDir, scope);
-	}
-
 	@SuppressWarnings("deprecation")
 	private TempDirFactory determineTempDirFactory(TempDir tempDir, Scope scope) {
 		Class<? extends TempDirFactory> factory = tempDir.factory();
@@ -231,9 +237,26 @@ class TempDirectory implements BeforeAllCallback, BeforeEachCallback, ParameterR
 					+ TempDir.DEFAULT_FACTORY_PROPERTY_NAME + " instead.");
 		}
 
-		return factory == TempDirFactory.class //
+		TempDirFactory tempDirFactory = factory == TempDirFactory.class //
 				? this.configuration.getDefaultTempDirFactorySupplier().get()
 				: ReflectionSupport.newInstance(factory);
+
+		boolean pooled = this.configuration.isTempDirPoolEnabled()
+				&& tempDirFactory.getClass() == TempDirFactory.Standard.class;
+
+		return pooled ? TempDirPool.PooledTempDirFactory.INSTANCE : tempDirFactory;
+	}
+
+	@SuppressWarnings("deprecation")
+	private String determineTemplate(TempDir tempDir, Scope scope) {
+		String template = tempDir.template();
+
+		if (!template.isEmpty() && scope == Scope.PER_CONTEXT) {
+			throw new ExtensionConfigurationException("@TempDir template is not supported with "
+					+ TempDir.SCOPE_PROPERTY_NAME + "=" + Scope.PER_CONTEXT.name().toLowerCase() + ".");
+		}
+
+		return template;
 	}
 
 	private void assertNonFinalField(Field field) {
@@ -250,13 +273,15 @@ class TempDirectory implements BeforeAllCallback, BeforeEachCallback, ParameterR
 	}
 
 	private Object getPathOrFile(Class<?> elementType, AnnotatedElementContext elementContext, TempDirFactory factory,
-			CleanupMode cleanupMode, Scope scope, ExtensionContext extensionContext) {
+			CleanupMode cleanupMode, String template, Scope scope, ExtensionContext extensionContext) {
 		Namespace namespace = scope == Scope.PER_DECLARATION //
 				? NAMESPACE.append(elementContext) //
 				: NAMESPACE;
 		Path path = extensionContext.getStore(namespace) //
 				.getOrComputeIfAbsent(KEY,
-					__ -> createTempDir(factory, cleanupMode, elementType, elementContext, extensionContext),
+					__ -> createTempDir(factory, cleanupMode, elementType, elementContext, extensionContext,
+						this.configuration.isTempDirBackgroundCleanupEnabled(),
+						template.isEmpty() ? null : TempDirTemplate.get(template, extensionContext)),
 					CloseablePath.class) //
 				.get();
 
@@ -265,8 +290,15 @@ class TempDirectory implements BeforeAllCallback, BeforeEachCallback, ParameterR
 
 	static CloseablePath createTempDir(TempDirFactory factory, CleanupMode cleanupMode, Class<?> elementType,
 			AnnotatedElementContext elementContext, ExtensionContext extensionContext) {
+		return createTempDir(factory, cleanupMode, elementType, elementContext, extensionContext, false, null);
+	}
+
+	static CloseablePath createTempDir(TempDirFactory factory, CleanupMode cleanupMode, Class<?> elementType,
+			AnnotatedElementContext elementContext, ExtensionContext extensionContext, boolean backgroundCleanup,
+			TempDirTemplate template) {
 		try {
-			return new CloseablePath(factory, cleanupMode, elementType, elementContext, extensionContext);
+			return new CloseablePath(factory, cleanupMode, elementType, elementContext, extensionContext,
+				backgroundCleanup, template);
 		}
 		catch (Exception ex) {
 			throw new ExtensionConfigurationException("Failed to create default temp directory", ex);
@@ -286,13 +318,16 @@ class TempDirectory implements BeforeAllCallback, BeforeEachCallback, ParameterR
 		private final TempDirFactory factory;
 		private final CleanupMode cleanupMode;
 		private final ExtensionContext extensionContext;
+		private final boolean backgroundCleanup;
 
 		private CloseablePath(TempDirFactory factory, CleanupMode cleanupMode, Class<?> elementType,
-				AnnotatedElementContext elementContext, ExtensionContext extensionContext) throws Exception {
+				AnnotatedElementContext elementContext, ExtensionContext extensionContext, boolean backgroundCleanup,
+				TempDirTemplate template) throws Exception {
 			this.dir = factory.createTempDirectory(elementContext, extensionContext);
 			this.factory = factory;
 			this.cleanupMode = cleanupMode;
 			this.extensionContext = extensionContext;
+			this.backgroundCleanup = backgroundCleanup;
 
 			if (dir == null || !Files.isDirectory(dir)) {
 				close();
@@ -305,6 +340,21 @@ class TempDirectory implements BeforeAllCallback, BeforeEachCallback, ParameterR
 					"temp directory with non-default file system cannot be injected into " + File.class.getName()
 							+ " target");
 			}
+
+			if (template != null) {
+				try {
+					template.copyTo(dir);
+				}
+				catch (Exception ex) {
+					try {
+						close();
+					}
+					catch (Exception suppressed) {
+						ex.addSuppressed(suppressed);
+					}
+					throw ex;
+				}
+			}
 		}
 
 		Path get() {
@@ -322,30 +372,82 @@ class TempDirectory implements BeforeAllCallback, BeforeEachCallback, ParameterR
 				FileOperations fileOperations = extensionContext.getStore(NAMESPACE) //
 						.getOrDefault(FILE_OPERATIONS_KEY, FileOperations.class, FileOperations.DEFAULT);
 
-				SortedMap<Path, IOException> failures = deleteAllFilesAndDirectories(fileOperations);
-				if (!failures.isEmpty()) {
-					throw createIOExceptionWithAttachedFailures(failures);
+				if (backgroundCleanup && tryToDeleteInBackground(fileOperations)) {
+					return;
 				}
+
+				deleteAllFilesAndDirectories(dir, fileOperations);
 			}
 			finally {
 				factory.close();
 			}
 		}
 
-		private SortedMap<Path, IOException> deleteAllFilesAndDirectories(FileOperations fileOperations)
+		/**
+		 * Move the temporary directory into a new, uniquely named sibling
+		 * graveyard directory and schedule the deletion of the latter on the
+		 * engine-wide {@link BackgroundCleaner}.
+		 *
+		 * <p>Only directories on the default file system are deleted in the
+		 * background since custom file systems may be closed by their
+		 * {@link TempDirFactory} as soon as this method returns.
+		 *
+		 * @return {@code true} if the directory was moved and its deletion
+		 * scheduled; {@code false} if it has to be deleted synchronously
+		 */
+		private boolean tryToDeleteInBackground(FileOperations fileOperations) {
+			if (dir == null || dir.getFileName() == null || dir.getParent() == null
+					|| !dir.getFileSystem().equals(FileSystems.getDefault())) {
+				return false;
+			}
+			Path graveyard;
+			try {
+				graveyard = Files.createTempDirectory(dir.getParent(), dir.getFileName() + ".junit-graveyard-");
+			}
+			catch (IOException | UnsupportedOperationException ex) {
+				logger.debug(ex, () -> "Failed to create graveyard for background cleanup of temp dir " + dir + ".");
+				return false;
+			}
+			try {
+				Files.move(dir, graveyard.resolve(dir.getFileName()), ATOMIC_MOVE);
+			}
+			catch (IOException | UnsupportedOperationException ex) {
+				logger.debug(ex, () -> "Failed to move temp dir " + dir + " for background cleanup.");
+				try {
+					Files.delete(graveyard);
+				}
+				catch (IOException deletionFailure) {
+					ex.addSuppressed(deletionFailure);
+				}
+				return false;
+			}
+			extensionContext.getRoot().getStore(NAMESPACE) //
+					.getOrComputeIfAbsent(BackgroundCleaner.class) //
+					.submit(extensionContext, () -> deleteAllFilesAndDirectories(graveyard, fileOperations));
+			return true;
+		}
+
+		private void deleteAllFilesAndDirectories(Path root, FileOperations fileOperations) throws IOException {
+			SortedMap<Path, IOException> failures = collectFailuresWhileDeleting(root, fileOperations);
+			if (!failures.isEmpty()) {
+				throw createIOExceptionWithAttachedFailures(root, failures);
+			}
+		}
+
+		private SortedMap<Path, IOException> collectFailuresWhileDeleting(Path root, FileOperations fileOperations)
 				throws IOException {
-			if (dir == null || Files.notExists(dir)) {
+			if (root == null || Files.notExists(root)) {
 				return Collections.emptySortedMap();
 			}
 
 			SortedMap<Path, IOException> failures = new TreeMap<>();
 			Set<Path> retriedPaths = new HashSet<>();
-			tryToResetPermissions(dir);
-			Files.walkFileTree(dir, new SimpleFileVisitor<Path>() {
+			tryToResetPermissions(root);
+			Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
 
 				@Override
 				public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
-					if (!dir.equals(CloseablePath.this.dir)) {
+					if (!dir.equals(root)) {
 						tryToResetPermissions(dir);
 					}
 					return CONTINUE;
@@ -439,14 +541,14 @@ class TempDirectory implements BeforeAllCallback, BeforeEachCallback, ParameterR
 			}
 		}
 
-		private IOException createIOExceptionWithAttachedFailures(SortedMap<Path, IOException> failures) {
+		private IOException createIOExceptionWithAttachedFailures(Path root, SortedMap<Path, IOException> failures) {
 			Path emptyPath = Paths.get("");
 			String joinedPaths = failures.keySet().stream() //
 					.map(this::tryToDeleteOnExit) //
-					.map(this::relativizeSafely) //
+					.map(path -> relativizeSafely(root, path)) //
 					.map(path -> emptyPath.equals(path) ? "<root>" : path.toString()) //
 					.collect(joining(", "));
-			IOException exception = new IOException("Failed to delete temp directory " + dir.toAbsolutePath()
+			IOException exception = new IOException("Failed to delete temp directory " + root.toAbsolutePath()
 					+ ". The following paths could not be deleted (see suppressed exceptions for details): "
 					+ joinedPaths);
 			failures.values().forEach(exception::addSuppressed);
@@ -462,9 +564,9 @@ class TempDirectory implements BeforeAllCallback, BeforeEachCallback, ParameterR
 			return path;
 		}
 
-		private Path relativizeSafely(Path path) {
+		private Path relativizeSafely(Path root, Path path) {
 			try {
-				return dir.relativize(path);
+				return root.relativize(path);
 			}
 			catch (IllegalArgumentException e) {
 				return path;
@@ -472,6 +574,91 @@ class TempDirectory implements BeforeAllCallback, BeforeEachCallback, ParameterR
 		}
 	}
 
+	/**
+	 * Engine-wide pool of daemon threads that deletes temporary directories in
+	 * the background.
+	 *
+	 * <p>Closing this resource waits for all scheduled deletions to complete
+	 * and rethrows their failures, if any. Since the test that owned a
+	 * directory has already finished by then, each failure is wrapped in a
+	 * {@link BackgroundCleanupException} that names the owning test.
+	 */
+	static class BackgroundCleaner implements CloseableResource {
+
+		private static final Logger logger = LoggerFactory.getLogger(BackgroundCleaner.class);
+
+		private final ThreadPoolExecutor executor;
+		private final Queue<BackgroundCleanupException> failures = new ConcurrentLinkedQueue<>();
+
+		@SuppressWarnings("unused")
+		BackgroundCleaner() {
+			int threads = Math.min(4, Runtime.getRuntime().availableProcessors());
+			this.executor = new ThreadPoolExecutor(threads, threads, 10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+				new CleanerThreadFactory());
+			this.executor.allowCoreThreadTimeOut(true);
+		}
+
+		void submit(ExtensionContext owner, Executable deletion) {
+			String ownerDescription = String.format("[%s] (%s)", owner.getDisplayName(), owner.getUniqueId());
+			executor.execute(() -> {
+				try {
+					deletion.execute();
+				}
+				catch (Throwable t) {
+					UnrecoverableExceptions.rethrowIfUnrecoverable(t);
+					failures.add(new BackgroundCleanupException(
+						"Failed to clean up temp dir of " + ownerDescription + " in the background", t));
+				}
+			});
+		}
+
+		/**
+		 * Schedule the supplied maintenance task that is not attributed to a
+		 * test and handles its failures itself.
+		 *
+		 * @throws java.util.concurrent.RejectedExecutionException if this
+		 * cleaner has already been closed
+		 */
+		void execute(Runnable task) {
+			executor.execute(task);
+		}
+
+		@Override
+		public void close() throws Throwable {
+			executor.shutdown();
+			while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+				logger.info(() -> "Still waiting for " + executor.getQueue().size()
+						+ " temp dirs to be deleted in the background.");
+			}
+			BackgroundCleanupException failure = failures.poll();
+			if (failure != null) {
+				failures.forEach(failure::addSuppressed);
+				throw failure;
+			}
+		}
+
+		static class BackgroundCleanupException extends JUnitException {
+
+			private static final long serialVersionUID = 1L;
+
+			BackgroundCleanupException(String message, Throwable cause) {
+				super(message, cause);
+			}
+		}
+
+		private static class CleanerThreadFactory implements ThreadFactory {
+
+			private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+			@Override
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, "junit-jupiter-tempdir-cleaner-" + threadNumber.getAndIncrement());
+				thread.setDaemon(true);
+				return thread;
+			}
+		}
+	}
+
 	enum Scope {
 
 		PER_CONTEXT,
@@ -38,6 +38,11 @@ class TestInfoParameterResolver implements ParameterResolver {
 		return (parameterContext.getParameter().getType() == TestInfo.class);
 	}
 
+	@Override
+	public boolean isParameterSupportStable() {
+		return true;
+	}
+
 	@Override
 	public TestInfo resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
 		return new DefaultTestInfo(extensionContext);
@@ -32,6 +32,11 @@ class TestReporterParameterResolver implements ParameterResolver {
 		return (parameterContext.getParameter().getType() == TestReporter.class);
 	}
 
+	@Override
+	public boolean isParameterSupportStable() {
+		return true;
+	}
+
 	@Override
 	public TestReporter resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
 		return new DefaultTestReporter(extensionContext);
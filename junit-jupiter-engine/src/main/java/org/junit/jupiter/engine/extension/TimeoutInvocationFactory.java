@@ -10,8 +10,6 @@
 
 package org.junit.jupiter.engine.extension;
 
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
@@ -43,50 +41,50 @@ class TimeoutInvocationFactory {
 				timeoutInvocationParameters.getPreInterruptCallback());
 		}
 		return new SameThreadTimeoutInvocation<>(timeoutInvocationParameters.getInvocation(),
-			timeoutInvocationParameters.getTimeoutDuration(), getThreadExecutorForSameThreadInvocation(),
+			timeoutInvocationParameters.getTimeoutDuration(), getTimerForSameThreadInvocation(),
 			timeoutInvocationParameters.getDescriptionSupplier(),
 			timeoutInvocationParameters.getPreInterruptCallback());
 	}
 
-	private ScheduledExecutorService getThreadExecutorForSameThreadInvocation() {
-		return store.getOrComputeIfAbsent(SingleThreadExecutorResource.class).get();
+	private HashedWheelTimer getTimerForSameThreadInvocation() {
+		return store.getOrComputeIfAbsent(TimerResource.class).get();
 	}
 
-	private static abstract class ExecutorResource implements CloseableResource {
+	/**
+	 * Engine-wide {@link HashedWheelTimer} that schedules the interrupts of
+	 * all {@link ThreadMode#SAME_THREAD SAME_THREAD} timeouts so that
+	 * scheduling and cancelling them does not contend on a shared lock.
+	 */
+	static class TimerResource implements CloseableResource {
 
-		protected final ScheduledExecutorService executor;
+		private static final long TICK_DURATION_MILLIS = 10;
+		private static final int WHEEL_SIZE = 512;
 
-		ExecutorResource(ScheduledExecutorService executor) {
-			this.executor = executor;
+		private final HashedWheelTimer timer;
+
+		@SuppressWarnings("unused")
+		TimerResource() {
+			this.timer = new HashedWheelTimer(runnable -> {
+				Thread thread = new Thread(runnable, "junit-jupiter-timeout-watcher");
+				thread.setDaemon(true);
+				thread.setPriority(Thread.MAX_PRIORITY);
+				return thread;
+			}, TICK_DURATION_MILLIS, TimeUnit.MILLISECONDS, WHEEL_SIZE);
 		}
 
-		ScheduledExecutorService get() {
-			return executor;
+		HashedWheelTimer get() {
+			return timer;
 		}
 
 		@Override
 		public void close() throws Throwable {
-			executor.shutdown();
-			boolean terminated = executor.awaitTermination(5, TimeUnit.SECONDS);
+			boolean terminated = timer.stop(5, TimeUnit.SECONDS);
 			if (!terminated) {
-				executor.shutdownNow();
-				throw new JUnitException("Scheduled executor could not be stopped in an orderly manner");
+				throw new JUnitException("Timeout timer could not be stopped in an orderly manner");
 			}
 		}
 	}
 
-	static class SingleThreadExecutorResource extends ExecutorResource {
-
-		@SuppressWarnings("unused")
-		SingleThreadExecutorResource() {
-			super(Executors.newSingleThreadScheduledExecutor(runnable -> {
-				Thread thread = new Thread(runnable, "junit-jupiter-timeout-watcher");
-				thread.setPriority(Thread.MAX_PRIORITY);
-				return thread;
-			}));
-		}
-	}
-
 	static class TimeoutInvocationParameters<T> {
 
 		private final Invocation<T> invocation;
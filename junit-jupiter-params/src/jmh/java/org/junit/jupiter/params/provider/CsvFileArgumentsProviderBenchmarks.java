@@ -0,0 +1,91 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params.provider;
+
+import java.io.BufferedWriter;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares sequential and parallel parsing of CSV files via
+ * {@link CsvFileSource @CsvFileSource}.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class CsvFileArgumentsProviderBenchmarks {
+
+	@Param({ "10000", "1000000" })
+	private int numberOfRecords;
+
+	private Path csvFile;
+
+	@Setup
+	public void writeCsvFile() throws Exception {
+		csvFile = Files.createTempFile("benchmark", ".csv");
+		try (BufferedWriter writer = Files.newBufferedWriter(csvFile)) {
+			writer.write("id, name, description, amount\n");
+			for (int i = 0; i < numberOfRecords; i++) {
+				writer.write(i + ", name " + i + ", \"a longer, quoted description of record " + i + "\", " + i * 0.5
+						+ "\n");
+			}
+		}
+	}
+
+	@TearDown
+	public void deleteCsvFile() throws Exception {
+		Files.deleteIfExists(csvFile);
+	}
+
+	@Benchmark
+	public void sequential(Blackhole blackhole) {
+		provideArguments(false, blackhole);
+	}
+
+	@Benchmark
+	public void parallel(Blackhole blackhole) {
+		provideArguments(true, blackhole);
+	}
+
+	private void provideArguments(boolean parallelParsing, Blackhole blackhole) {
+		var provider = new CsvFileArgumentsProvider();
+		provider.accept(csvFileSource(csvFile, parallelParsing));
+		try (var arguments = provider.provideArguments(null)) {
+			arguments.forEach(blackhole::consume);
+		}
+	}
+
+	private static CsvFileSource csvFileSource(Path file, boolean parallelParsing) {
+		return (CsvFileSource) Proxy.newProxyInstance(CsvFileSource.class.getClassLoader(),
+			new Class<?>[] { CsvFileSource.class }, (proxy, method, args) -> switch (method.getName()) {
+				case "files" -> new String[] { file.toString() };
+				case "numLinesToSkip" -> 1;
+				case "parallelParsing" -> parallelParsing;
+				case "annotationType" -> CsvFileSource.class;
+				case "toString" -> "@CsvFileSource";
+				default -> method.getDefaultValue();
+			});
+	}
+
+}
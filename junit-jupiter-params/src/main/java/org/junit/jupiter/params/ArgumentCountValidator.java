@@ -49,7 +49,7 @@ class ArgumentCountValidator implements InvocationInterceptor {
 		return context.getRoot().getStore(NAMESPACE);
 	}
 
-	private void validateArgumentCount(ExtensionContext extensionContext, Arguments arguments) {
+	void validateArgumentCount(ExtensionContext extensionContext, Arguments arguments) {
 		ArgumentCountValidationMode argumentCountValidationMode = getArgumentCountValidationMode(extensionContext);
 		switch (argumentCountValidationMode) {
 			case DEFAULT:
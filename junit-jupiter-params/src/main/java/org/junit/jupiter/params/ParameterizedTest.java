@@ -323,4 +323,38 @@ public @interface ParameterizedTest {
 	 */
 	@API(status = EXPERIMENTAL, since = "5.12")
 	ArgumentCountValidationMode argumentCountValidation() default ArgumentCountValidationMode.DEFAULT;
+
+	/**
+	 * Configure the maximum number of consecutive sets of arguments that are
+	 * executed by a single invocation of this parameterized test.
+	 *
+	 * <p>By default, every set of arguments is executed by a separate
+	 * invocation. If set to a value greater than {@code 1}, consecutive sets
+	 * of arguments are grouped into <em>chunks</em> and the parameterized test
+	 * method is called once per set of arguments within a single invocation
+	 * per chunk. This considerably reduces the overhead of the framework for
+	 * parameterized tests with a large number of arguments. Every call of the
+	 * method is passed through all registered
+	 * {@link org.junit.jupiter.api.extension.InvocationInterceptor
+	 * InvocationInterceptors}, so that, for example, a
+	 * {@link org.junit.jupiter.api.Timeout @Timeout} applies to each set of
+	 * arguments. However, lifecycle methods and callbacks are only executed
+	 * once per chunk, and parameters that are not resolved from the arguments
+	 * (e.g., {@code TestInfo}) are resolved for each call but refer to the
+	 * chunk's invocation.
+	 *
+	 * <p>All sets of arguments of a chunk are executed, even if some of them
+	 * fail. Their original failures are reported as a single, aggregated
+	 * failure of the invocation whose message lists the invocation indexes of
+	 * the failed sets of arguments. Failed and aborted sets of arguments are
+	 * additionally published as report entries that identify them by their
+	 * display names; the invocation is only reported as aborted if all of its
+	 * sets of arguments were aborted.
+	 *
+	 * <p>Defaults to {@code 1}; must be a positive integer.
+	 *
+	 * @since 5.12
+	 */
+	@API(status = EXPERIMENTAL, since = "5.12")
+	int chunkSize() default 1;
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.MethodInvocationSequence;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.opentest4j.MultipleFailuresError;
+import org.opentest4j.TestAbortedException;
+
+/**
+ * Extension that calls a {@link ParameterizedTest @ParameterizedTest} method
+ * once for every set of arguments of a chunk.
+ *
+ * <p>The engine calls the test method once per set of arguments, each time
+ * through all registered {@link InvocationInterceptor InvocationInterceptors}.
+ * Before each call, the parameters that are resolved from arguments are
+ * switched to the respective set of arguments, and their number is validated
+ * by an {@link ArgumentCountValidator}.
+ *
+ * <p>The original failures of individual sets of arguments are collected and
+ * reported as a single, aggregated failure after all sets of arguments have
+ * been executed. Failed and aborted sets of arguments are published as report
+ * entries; the chunk is only reported as aborted if all of its sets of
+ * arguments were aborted.
+ *
+ * @since 5.12
+ * @see ParameterizedTestChunkInvocationContext
+ */
+class ParameterizedTestChunkExtension implements MethodInvocationSequence, ParameterResolver, InvocationInterceptor {
+
+	static final String FAILED_REPORT_ENTRY_KEY = "failed";
+	static final String ABORTED_REPORT_ENTRY_KEY = "aborted";
+
+	private final ParameterizedTestMethodContext methodContext;
+	private final List<ParameterizedTestInvocationContext> invocations;
+	private final List<Throwable> failures = new ArrayList<>();
+	private final List<Integer> failedInvocationIndexes = new ArrayList<>();
+	private final List<TestAbortedException> abortions = new ArrayList<>();
+
+	private ParameterizedTestInvocationContext current;
+	private ParameterizedTestParameterResolver currentResolver;
+
+	ParameterizedTestChunkExtension(ParameterizedTestMethodContext methodContext,
+			List<ParameterizedTestInvocationContext> invocations) {
+
+		this.methodContext = methodContext;
+		this.invocations = invocations;
+		select(0);
+	}
+
+	private void select(int index) {
+		this.current = this.invocations.get(index);
+		this.currentResolver = new ParameterizedTestParameterResolver(this.methodContext,
+			this.current.getConsumedArguments(), this.current.getInvocationIndex());
+	}
+
+	@Override
+	public int getInvocationCount() {
+		return this.invocations.size();
+	}
+
+	@Override
+	public void beforeInvocation(ExtensionContext context, int index) {
+		select(index);
+	}
+
+	@Override
+	public ExtensionContextScope getTestInstantiationExtensionContextScope(ExtensionContext rootContext) {
+		return this.currentResolver.getTestInstantiationExtensionContextScope(rootContext);
+	}
+
+	@Override
+	public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+		return this.currentResolver.supportsParameter(parameterContext, extensionContext);
+	}
+
+	@Override
+	public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext)
+			throws ParameterResolutionException {
+		return this.currentResolver.resolveParameter(parameterContext, extensionContext);
+	}
+
+	@Override
+	public void interceptTestTemplateMethod(Invocation<Void> invocation,
+			ReflectiveInvocationContext<Method> invocationContext, ExtensionContext extensionContext) throws Throwable {
+		new ArgumentCountValidator(this.methodContext, this.current.getArguments()) //
+				.interceptTestTemplateMethod(invocation, invocationContext, extensionContext);
+	}
+
+	@Override
+	public void afterInvocation(ExtensionContext context, int index, Throwable throwable) {
+		if (this.methodContext.annotation.autoCloseArguments()) {
+			try {
+				closeArguments(this.current.getConsumedArguments());
+			}
+			catch (Exception ex) {
+				if (throwable == null) {
+					throwable = ex;
+				}
+				else {
+					throwable.addSuppressed(ex);
+				}
+			}
+		}
+		if (throwable instanceof TestAbortedException) {
+			this.abortions.add((TestAbortedException) throwable);
+			context.publishReportEntry(ABORTED_REPORT_ENTRY_KEY,
+				this.current.getDisplayName() + " aborted: " + throwable);
+		}
+		else if (throwable != null) {
+			this.failures.add(throwable);
+			this.failedInvocationIndexes.add(this.current.getInvocationIndex());
+			context.publishReportEntry(FAILED_REPORT_ENTRY_KEY,
+				this.current.getDisplayName() + " failed: " + throwable);
+		}
+	}
+
+	@Override
+	public void afterAllInvocations(ExtensionContext context) throws Throwable {
+		if (!this.failures.isEmpty()) {
+			int first = this.invocations.get(0).getInvocationIndex();
+			int last = this.invocations.get(this.invocations.size() - 1).getInvocationIndex();
+			throw new MultipleFailuresError(String.format("%d of %d invocations [%d..%d] failed: %s",
+				this.failures.size(), this.invocations.size(), first, last, this.failedInvocationIndexes),
+				this.failures);
+		}
+		if (this.abortions.size() == this.invocations.size()) {
+			TestAbortedException firstAbortion = this.abortions.get(0);
+			this.abortions.stream().skip(1).forEach(firstAbortion::addSuppressed);
+			throw firstAbortion;
+		}
+	}
+
+	private static void closeArguments(Object[] arguments) throws Exception {
+		Exception failure = null;
+		for (Object argument : arguments) {
+			if (argument instanceof AutoCloseable) {
+				try {
+					((AutoCloseable) argument).close();
+				}
+				catch (Exception ex) {
+					if (failure == null) {
+						failure = ex;
+					}
+					else {
+						failure.addSuppressed(ex);
+					}
+				}
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
+
+/**
+ * Invocation context for a chunk of consecutive sets of arguments of a
+ * {@link ParameterizedTest @ParameterizedTest} method that are executed by a
+ * single invocation.
+ *
+ * <p>Chunks of more than one set of arguments are executed by a
+ * {@link ParameterizedTestChunkExtension}.
+ *
+ * @since 5.12
+ * @see ParameterizedTest#chunkSize()
+ */
+class ParameterizedTestChunkInvocationContext implements TestTemplateInvocationContext {
+
+	private final ParameterizedTestMethodContext methodContext;
+	private final List<ParameterizedTestInvocationContext> invocations;
+
+	ParameterizedTestChunkInvocationContext(ParameterizedTestMethodContext methodContext,
+			List<ParameterizedTestInvocationContext> invocations) {
+
+		this.methodContext = methodContext;
+		this.invocations = invocations;
+	}
+
+	@Override
+	public String getDisplayName(int invocationIndex) {
+		if (this.invocations.size() == 1) {
+			return this.invocations.get(0).getDisplayName();
+		}
+		int first = this.invocations.get(0).getInvocationIndex();
+		int last = this.invocations.get(this.invocations.size() - 1).getInvocationIndex();
+		return String.format("[%d..%d]", first, last);
+	}
+
+	@Override
+	public List<Extension> getAdditionalExtensions() {
+		if (this.invocations.size() == 1) {
+			return this.invocations.get(0).getAdditionalExtensions();
+		}
+		return Collections.singletonList(new ParameterizedTestChunkExtension(this.methodContext, this.invocations));
+	}
+
+}
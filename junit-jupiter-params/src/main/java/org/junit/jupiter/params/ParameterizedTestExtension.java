@@ -14,9 +14,16 @@ import static org.junit.platform.commons.support.AnnotationSupport.findAnnotatio
 import static org.junit.platform.commons.support.AnnotationSupport.findRepeatableAnnotations;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
@@ -74,8 +81,14 @@ class ParameterizedTestExtension implements TestTemplateInvocationContextProvide
 		ParameterizedTestNameFormatter formatter = createNameFormatter(extensionContext, methodContext);
 		AtomicLong invocationCount = new AtomicLong(0);
 
+		int chunkSize = methodContext.annotation.chunkSize();
+		Preconditions.condition(chunkSize > 0,
+			() -> String.format(
+				"Configuration error: @ParameterizedTest on method [%s] must be declared with a positive chunkSize.",
+				methodContext.method));
+
 		// @formatter:off
-		return findRepeatableAnnotations(methodContext.method, ArgumentsSource.class)
+		Stream<ParameterizedTestInvocationContext> invocationContexts = findRepeatableAnnotations(methodContext.method, ArgumentsSource.class)
 				.stream()
 				.map(ArgumentsSource::value)
 				.map(clazz -> ParameterizedTestSpiInstantiator.instantiate(ArgumentsProvider.class, clazz, extensionContext))
@@ -89,6 +102,12 @@ class ParameterizedTestExtension implements TestTemplateInvocationContextProvide
 						Preconditions.condition(invocationCount.get() > 0 || methodContext.annotation.allowZeroInvocations(),
 								"Configuration error: You must configure at least one set of arguments for this @ParameterizedTest"));
 		// @formatter:on
+
+		if (chunkSize == 1) {
+			return invocationContexts.map(TestTemplateInvocationContext.class::cast);
+		}
+		return chunked(invocationContexts, chunkSize) //
+				.map(chunk -> new ParameterizedTestChunkInvocationContext(methodContext, chunk));
 	}
 
 	@Override
@@ -106,7 +125,7 @@ class ParameterizedTestExtension implements TestTemplateInvocationContextProvide
 		return context.getStore(Namespace.create(ParameterizedTestExtension.class, context.getRequiredTestMethod()));
 	}
 
-	private TestTemplateInvocationContext createInvocationContext(ParameterizedTestNameFormatter formatter,
+	private ParameterizedTestInvocationContext createInvocationContext(ParameterizedTestNameFormatter formatter,
 			ParameterizedTestMethodContext methodContext, Arguments arguments, int invocationIndex) {
 
 		return new ParameterizedTestInvocationContext(formatter, methodContext, arguments, invocationIndex);
@@ -132,6 +151,35 @@ class ParameterizedTestExtension implements TestTemplateInvocationContextProvide
 			argumentMaxLength);
 	}
 
+	/**
+	 * Lazily group consecutive elements of the supplied stream into lists of
+	 * at most the supplied size.
+	 */
+	private static <T> Stream<List<T>> chunked(Stream<T> stream, int chunkSize) {
+		Iterator<T> elements = stream.iterator();
+		Iterator<List<T>> chunks = new Iterator<List<T>>() {
+
+			@Override
+			public boolean hasNext() {
+				return elements.hasNext();
+			}
+
+			@Override
+			public List<T> next() {
+				if (!elements.hasNext()) {
+					throw new NoSuchElementException();
+				}
+				List<T> chunk = new ArrayList<>(chunkSize);
+				while (chunk.size() < chunkSize && elements.hasNext()) {
+					chunk.add(elements.next());
+				}
+				return chunk;
+			}
+		};
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(chunks, Spliterator.ORDERED), false) //
+				.onClose(stream::close);
+	}
+
 	protected static Stream<? extends Arguments> arguments(ArgumentsProvider provider, ExtensionContext context) {
 		try {
 			return provider.provideArguments(context);
@@ -43,6 +43,17 @@ class ParameterizedTestInvocationContext implements TestTemplateInvocationContex
 		return this.formatter.format(invocationIndex, this.arguments, this.consumedArguments);
 	}
 
+	/**
+	 * Get the display name of this invocation based on its own invocation
+	 * index, which differs from the engine's if it is executed as part of a
+	 * chunk.
+	 *
+	 * @since 5.12
+	 */
+	String getDisplayName() {
+		return getDisplayName(this.invocationIndex);
+	}
+
 	@Override
 	public List<Extension> getAdditionalExtensions() {
 		return Arrays.asList(
@@ -50,6 +61,18 @@ class ParameterizedTestInvocationContext implements TestTemplateInvocationContex
 			new ArgumentCountValidator(this.methodContext, this.arguments));
 	}
 
+	Arguments getArguments() {
+		return this.arguments;
+	}
+
+	Object[] getConsumedArguments() {
+		return this.consumedArguments;
+	}
+
+	int getInvocationIndex() {
+		return this.invocationIndex;
+	}
+
 	private static Object[] consumedArguments(ParameterizedTestMethodContext methodContext, Object[] arguments) {
 		if (methodContext.hasAggregator()) {
 			return arguments;
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params.provider;
+
+import static java.lang.String.format;
+import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Collectors.toList;
+
+import java.lang.reflect.Member;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.platform.commons.util.Preconditions;
+
+/**
+ * Cache for the {@link Arguments} supplied by factory methods and fields.
+ *
+ * <p>Cached arguments are stored in the {@link ExtensionContext.Store Store}
+ * of the extension context that corresponds to the requested
+ * {@link ArgumentsCacheScope}, keyed by the method or field that supplies
+ * them.
+ *
+ * @since 5.12
+ * @see ArgumentsCacheScope
+ */
+final class ArgumentsCache {
+
+	private static final Namespace NAMESPACE = Namespace.create(ArgumentsCache.class);
+
+	private ArgumentsCache() {
+		/* no-op */
+	}
+
+	/**
+	 * Get the cached arguments for the supplied source or compute and cache
+	 * them, unless the supplied scope is {@link ArgumentsCacheScope#NONE NONE}.
+	 */
+	static Stream<Arguments> getOrCompute(ExtensionContext context, ArgumentsCacheScope scope, Member source,
+			Supplier<Stream<Arguments>> arguments) {
+
+		if (scope == ArgumentsCacheScope.NONE) {
+			return arguments.get();
+		}
+		List<Arguments> cachedArguments = getStore(context, scope, source) //
+				.getOrComputeIfAbsent(source, key -> materialize(arguments.get()), CachedArguments.class) //
+				.arguments;
+		return cachedArguments.stream();
+	}
+
+	private static CachedArguments materialize(Stream<Arguments> arguments) {
+		try (Stream<Arguments> stream = arguments) {
+			return new CachedArguments(unmodifiableList(stream.collect(toList())));
+		}
+	}
+
+	private static ExtensionContext.Store getStore(ExtensionContext context, ArgumentsCacheScope scope,
+			Member source) {
+
+		boolean isStatic = Modifier.isStatic(source.getModifiers());
+		if (scope == ArgumentsCacheScope.ENGINE) {
+			Preconditions.condition(isStatic, () -> format(
+				"Arguments of '%s' cannot be cached for the engine since it is not static", source));
+			return context.getRoot().getStore(NAMESPACE);
+		}
+		ExtensionContext classContext = null;
+		for (ExtensionContext current = context; current != null; current = current.getParent().orElse(null)) {
+			if (current.getTestClass().isPresent() && !current.getTestMethod().isPresent()) {
+				classContext = current;
+				if (!isStatic) {
+					// the innermost class context owns the test instance
+					break;
+				}
+			}
+		}
+		return (classContext != null ? classContext : context).getStore(NAMESPACE);
+	}
+
+	private static class CachedArguments {
+
+		private final List<Arguments> arguments;
+
+		CachedArguments(List<Arguments> arguments) {
+			this.arguments = arguments;
+		}
+
+	}
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params.provider;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import org.apiguardian.api.API;
+
+/**
+ * Enumeration of scopes in which the arguments supplied by a factory method
+ * or field may be cached.
+ *
+ * <p>A cached source is evaluated at most once per scope, and its arguments
+ * are materialized into a list that is replayed for every subsequent
+ * consumer. This is useful for sources that are expensive to compute &mdash;
+ * for example, because they parse large fixture files &mdash; and that are
+ * referenced by multiple parameterized tests.
+ *
+ * @since 5.12
+ * @see MethodSource#cache()
+ * @see FieldSource#cache()
+ */
+@API(status = EXPERIMENTAL, since = "5.12")
+public enum ArgumentsCacheScope {
+
+	/**
+	 * Do not cache arguments: the source is evaluated anew for every
+	 * parameterized test that uses it.
+	 *
+	 * <p>This is the default.
+	 */
+	NONE,
+
+	/**
+	 * Cache arguments for the test class.
+	 *
+	 * <p>Static sources are cached for the outermost enclosing test class,
+	 * including all of its {@link org.junit.jupiter.api.Nested @Nested} test
+	 * classes. Non-static sources are cached for the test class of the
+	 * current test instance.
+	 */
+	CLASS,
+
+	/**
+	 * Cache arguments for the entire execution of the test engine.
+	 *
+	 * <p>Only supported for static sources.
+	 */
+	ENGINE
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params.provider;
+
+import static java.util.stream.Collectors.toList;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.util.Preconditions;
+
+/**
+ * {@link ArgumentsProvider} for {@link ColumnarFileSource @ColumnarFileSource}.
+ *
+ * <p>Files and classpath resources located in the file system are
+ * memory-mapped; all other classpath resources are read into memory.
+ *
+ * @since 5.12
+ * @see ColumnarFixture
+ */
+class ColumnarFileArgumentsProvider extends AnnotationBasedArgumentsProvider<ColumnarFileSource> {
+
+	@Override
+	protected Stream<? extends Arguments> provideArguments(ExtensionContext context, ColumnarFileSource source) {
+		Stream<Function<ExtensionContext, ColumnarFixture>> resources = Arrays.stream(source.resources()) //
+				.map(resource -> ctx -> readClasspathResource(ctx.getRequiredTestClass(), resource));
+		Stream<Function<ExtensionContext, ColumnarFixture>> files = Arrays.stream(source.files()) //
+				.map(file -> ctx -> readFile(file));
+		List<Function<ExtensionContext, ColumnarFixture>> fixtures = Stream.concat(resources, files).collect(toList());
+
+		// @formatter:off
+		return Preconditions.notEmpty(fixtures, "Resources or files must not be empty")
+				.stream()
+				.map(fixture -> fixture.apply(context))
+				.flatMap(ColumnarFixture::rows);
+		// @formatter:on
+	}
+
+	private static ColumnarFixture readClasspathResource(Class<?> baseClass, String path) {
+		Preconditions.notBlank(path, () -> "Classpath resource [" + path + "] must not be null or blank");
+		URL url = Preconditions.notNull(baseClass.getResource(path),
+			() -> "Classpath resource [" + path + "] does not exist");
+		if ("file".equals(url.getProtocol())) {
+			try {
+				return ColumnarFixture.read(map(Paths.get(url.toURI())), path);
+			}
+			catch (URISyntaxException | IllegalArgumentException ignored) {
+				// fall back to reading the resource into memory
+			}
+		}
+		try (InputStream inputStream = url.openStream()) {
+			return ColumnarFixture.read(ByteBuffer.wrap(readAllBytes(inputStream)), path);
+		}
+		catch (IOException e) {
+			throw new JUnitException("Classpath resource [" + path + "] could not be read", e);
+		}
+	}
+
+	private static ColumnarFixture readFile(String path) {
+		Preconditions.notBlank(path, () -> "File [" + path + "] must not be null or blank");
+		return ColumnarFixture.read(map(Paths.get(path)), path);
+	}
+
+	private static ByteBuffer map(Path file) {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			Preconditions.condition(channel.size() <= Integer.MAX_VALUE,
+				() -> "Columnar fixture [" + file + "] must not be larger than 2 GB");
+			return channel.map(MapMode.READ_ONLY, 0, channel.size());
+		}
+		catch (IOException e) {
+			throw new JUnitException("File [" + file + "] could not be read", e);
+		}
+	}
+
+	private static byte[] readAllBytes(InputStream inputStream) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buffer = new byte[8192];
+		for (int count = inputStream.read(buffer); count != -1; count = inputStream.read(buffer)) {
+			out.write(buffer, 0, count);
+		}
+		return out.toByteArray();
+	}
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params.provider;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.apiguardian.api.API;
+import org.junit.jupiter.params.ParameterizedTest;
+
+/**
+ * {@code @ColumnarFileSource} is an {@link ArgumentsSource} which loads
+ * <em>columnar fixtures</em> from one or more classpath {@link #resources}
+ * or {@link #files}.
+ *
+ * <p>A columnar fixture is a compact, self-describing binary file that stores
+ * a table of {@code boolean}, {@code int}, {@code long}, {@code double}, and
+ * {@link String} values column by column. Each row is provided as the
+ * arguments for one invocation of the annotated
+ * {@link ParameterizedTest @ParameterizedTest} method. In contrast to
+ * {@link CsvFileSource @CsvFileSource}, values are neither parsed nor
+ * converted from strings: numeric values are read directly from a view of the
+ * memory-mapped file and passed to the test method as {@code Integer},
+ * {@code Long}, {@code Double}, or {@code Boolean}. This makes columnar
+ * fixtures well suited for data-heavy tests with millions of rows of numeric
+ * test vectors.
+ *
+ * <p>Columnar fixtures are usually created from existing CSV files using the
+ * {@link ColumnarFixtureConverter}.
+ *
+ * <p>Columnar fixtures must not be larger than 2 GB.
+ *
+ * <h2>Example</h2>
+ *
+ * <pre class="code">
+ * &#64;ParameterizedTest
+ * &#64;ColumnarFileSource(resources = "/vectors.jucf")
+ * void test(long input, double expected) {
+ *     // ...
+ * }
+ * </pre>
+ *
+ * @since 5.12
+ * @see ColumnarFixtureConverter
+ * @see CsvFileSource
+ * @see ArgumentsSource
+ * @see ParameterizedTest
+ */
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@API(status = EXPERIMENTAL, since = "5.12")
+@ArgumentsSource(ColumnarFileArgumentsProvider.class)
+@SuppressWarnings("exports")
+public @interface ColumnarFileSource {
+
+	/**
+	 * The classpath resources containing the columnar fixtures to use as the
+	 * sources of arguments; must not be empty unless {@link #files} is
+	 * non-empty.
+	 */
+	String[] resources() default {};
+
+	/**
+	 * The files containing the columnar fixtures to use as the sources of
+	 * arguments; must not be empty unless {@link #resources} is non-empty.
+	 */
+	String[] files() default {};
+
+}
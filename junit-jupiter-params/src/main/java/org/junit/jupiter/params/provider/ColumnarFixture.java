@@ -0,0 +1,230 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params.provider;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.platform.commons.JUnitException;
+
+/**
+ * Read-only view of a <em>columnar fixture</em>: a compact, self-describing
+ * binary representation of a table of arguments.
+ *
+ * <p>All values are stored in big-endian byte order. The format consists of
+ * the following parts.
+ *
+ * <ol>
+ * <li>The magic number {@code JUCF} (4 bytes) and the format version
+ * ({@code int}).</li>
+ * <li>The number of columns and the number of rows (both {@code int}).</li>
+ * <li>For each column, its {@linkplain ColumnType type} ({@code byte}) and its
+ * name (the length of its UTF-8 encoding as {@code int}, followed by the
+ * UTF-8 encoded bytes).</li>
+ * <li>For each column, its values in row order: one byte per
+ * {@link ColumnType#BOOLEAN BOOLEAN}, four bytes per
+ * {@link ColumnType#INT INT}, eight bytes per {@link ColumnType#LONG LONG}
+ * or {@link ColumnType#DOUBLE DOUBLE}, and, for a
+ * {@link ColumnType#STRING STRING} column, the lengths of the UTF-8 encoded
+ * values as {@code int} ({@code -1} representing {@code null}) followed by
+ * the concatenated UTF-8 encoded values.</li>
+ * </ol>
+ *
+ * <p>Columns are read via typed views of the underlying {@link ByteBuffer}
+ * without copying the data; values are only materialized when the row they
+ * belong to is requested.
+ *
+ * @since 5.12
+ * @see ColumnarFileSource
+ * @see ColumnarFixtureConverter
+ */
+class ColumnarFixture {
+
+	static final int MAGIC = 0x4A554346; // "JUCF"
+	static final int VERSION = 1;
+
+	private final String name;
+	private final int rowCount;
+	private final String[] columnNames;
+	private final Column[] columns;
+
+	/**
+	 * Read the columnar fixture contained in the supplied buffer.
+	 *
+	 * @param buffer the buffer to read; the fixture starts at its current
+	 * position
+	 * @param name the name of the fixture to use in error messages
+	 */
+	static ColumnarFixture read(ByteBuffer buffer, String name) {
+		try {
+			return new ColumnarFixture(buffer.slice(), name);
+		}
+		catch (RuntimeException ex) {
+			if (ex instanceof JUnitException) {
+				throw ex;
+			}
+			throw new JUnitException("Columnar fixture [" + name + "] is corrupt", ex);
+		}
+	}
+
+	private ColumnarFixture(ByteBuffer buffer, String name) {
+		this.name = name;
+		check(buffer.remaining() >= 16 && buffer.getInt() == MAGIC, "is not a columnar fixture");
+		int version = buffer.getInt();
+		check(version == VERSION, "has unsupported version " + version);
+		int columnCount = buffer.getInt();
+		this.rowCount = buffer.getInt();
+		check(columnCount > 0 && this.rowCount >= 0, "has an invalid number of columns or rows");
+
+		ColumnType[] types = new ColumnType[columnCount];
+		this.columnNames = new String[columnCount];
+		for (int i = 0; i < columnCount; i++) {
+			types[i] = ColumnType.fromCode(buffer.get());
+			check(types[i] != null, "has a column of unknown type");
+			byte[] bytes = new byte[buffer.getInt()];
+			buffer.get(bytes);
+			this.columnNames[i] = new String(bytes, UTF_8);
+		}
+
+		this.columns = new Column[columnCount];
+		for (int i = 0; i < columnCount; i++) {
+			this.columns[i] = readColumn(buffer, types[i]);
+		}
+	}
+
+	private Column readColumn(ByteBuffer buffer, ColumnType type) {
+		switch (type) {
+			case BOOLEAN: {
+				ByteBuffer values = slice(buffer, this.rowCount);
+				return row -> values.get(row) != 0;
+			}
+			case INT: {
+				IntBuffer values = slice(buffer, 4L * this.rowCount).asIntBuffer();
+				return values::get;
+			}
+			case LONG: {
+				LongBuffer values = slice(buffer, 8L * this.rowCount).asLongBuffer();
+				return values::get;
+			}
+			case DOUBLE: {
+				DoubleBuffer values = slice(buffer, 8L * this.rowCount).asDoubleBuffer();
+				return values::get;
+			}
+			default: {
+				IntBuffer lengths = slice(buffer, 4L * this.rowCount).asIntBuffer();
+				int[] offsets = new int[this.rowCount];
+				long length = 0;
+				for (int row = 0; row < this.rowCount; row++) {
+					offsets[row] = (int) length;
+					length += Math.max(0, lengths.get(row));
+				}
+				ByteBuffer bytes = slice(buffer, length);
+				return row -> {
+					int valueLength = lengths.get(row);
+					if (valueLength < 0) {
+						return null;
+					}
+					byte[] value = new byte[valueLength];
+					((ByteBuffer) bytes.duplicate().position(offsets[row])).get(value);
+					return new String(value, UTF_8);
+				};
+			}
+		}
+	}
+
+	private ByteBuffer slice(ByteBuffer buffer, long length) {
+		check(length <= buffer.remaining(), "is truncated");
+		ByteBuffer slice = buffer.slice();
+		slice.limit((int) length);
+		buffer.position(buffer.position() + (int) length);
+		return slice;
+	}
+
+	private void check(boolean condition, String message) {
+		if (!condition) {
+			throw new JUnitException("Columnar fixture [" + this.name + "] " + message);
+		}
+	}
+
+	int getRowCount() {
+		return this.rowCount;
+	}
+
+	String[] getColumnNames() {
+		return this.columnNames.clone();
+	}
+
+	/**
+	 * Get the values of the supplied row.
+	 */
+	Object[] getRow(int row) {
+		Object[] values = new Object[this.columns.length];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = this.columns[i].get(row);
+		}
+		return values;
+	}
+
+	/**
+	 * Get the rows of this fixture as a stream of {@link Arguments}.
+	 */
+	Stream<Arguments> rows() {
+		return IntStream.range(0, this.rowCount).mapToObj(row -> Arguments.of(getRow(row)));
+	}
+
+	@Override
+	public String toString() {
+		return this.name + Arrays.toString(this.columnNames);
+	}
+
+	@FunctionalInterface
+	private interface Column {
+
+		Object get(int row);
+
+	}
+
+	/**
+	 * Types of columns of a columnar fixture.
+	 */
+	enum ColumnType {
+
+		BOOLEAN(1), INT(2), LONG(3), DOUBLE(4), STRING(5);
+
+		private final byte code;
+
+		ColumnType(int code) {
+			this.code = (byte) code;
+		}
+
+		byte getCode() {
+			return this.code;
+		}
+
+		static ColumnType fromCode(byte code) {
+			for (ColumnType type : values()) {
+				if (type.code == code) {
+					return type;
+				}
+			}
+			return null;
+		}
+
+	}
+
+}
@@ -0,0 +1,324 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params.provider;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+import com.univocity.parsers.csv.CsvParser;
+
+import org.apiguardian.api.API;
+import org.junit.jupiter.params.provider.ColumnarFixture.ColumnType;
+import org.junit.platform.commons.PreconditionViolationException;
+import org.junit.platform.commons.util.Preconditions;
+
+/**
+ * Converter of CSV files into <em>columnar fixtures</em> that can be used
+ * via {@link ColumnarFileSource @ColumnarFileSource}.
+ *
+ * <p>The CSV file is read using the same syntax as the default configuration
+ * of {@link CsvFileSource @CsvFileSource}: values may be quoted with double
+ * quotes, lines starting with {@code #} are comments, and an unquoted empty
+ * value represents {@code null}.
+ *
+ * <p>Columns are stored as strings unless a type is specified for them
+ * explicitly. The supported column types are {@code boolean}, {@code int},
+ * {@code long}, {@code double}, and {@link String}. Values of a column of a
+ * primitive type must not be {@code null} and must adhere to the following
+ * syntax; otherwise, the conversion fails.
+ *
+ * <ul>
+ * <li>{@code boolean}: {@code true} or {@code false}, ignoring case</li>
+ * <li>{@code int} and {@code long}: the syntax supported by
+ * {@link Integer#parseInt(String)} and {@link Long#parseLong(String)}</li>
+ * <li>{@code double}: the syntax supported by
+ * {@link BigDecimal#BigDecimal(String)}, {@code NaN}, {@code Infinity}, or
+ * {@code -Infinity}</li>
+ * </ul>
+ *
+ * @since 5.12
+ * @see ColumnarFileSource
+ */
+@API(status = EXPERIMENTAL, since = "5.12")
+public final class ColumnarFixtureConverter {
+
+	private ColumnarFixtureConverter() {
+		/* no-op */
+	}
+
+	/**
+	 * Convert the supplied CSV file into a columnar fixture.
+	 *
+	 * @param csvFile the CSV file to convert; never {@code null}
+	 * @param charset the encoding of the CSV file; never {@code null}
+	 * @param delimiter the column delimiter of the CSV file; never
+	 * {@code null} or empty
+	 * @param headers whether the first record of the CSV file contains the
+	 * names of the columns
+	 * @param fixtureFile the file to write the columnar fixture to; never
+	 * {@code null}
+	 * @param columnTypes the types of the leading columns of the CSV file;
+	 * each type must be one of {@code boolean.class}, {@code int.class},
+	 * {@code long.class}, {@code double.class}, or {@code String.class};
+	 * columns without a type are stored as strings
+	 * @return the number of rows of the columnar fixture
+	 * @throws IOException if the CSV file cannot be read or the columnar
+	 * fixture cannot be written
+	 * @throws org.junit.platform.commons.PreconditionViolationException if a
+	 * value of the CSV file cannot be stored as the type of its column
+	 */
+	public static int convert(Path csvFile, Charset charset, String delimiter, boolean headers, Path fixtureFile,
+			Class<?>... columnTypes) throws IOException {
+
+		Preconditions.notNull(csvFile, "CSV file must not be null");
+		Preconditions.notNull(charset, "charset must not be null");
+		Preconditions.condition(delimiter != null && !delimiter.isEmpty(), "delimiter must not be null or empty");
+		Preconditions.notNull(fixtureFile, "fixture file must not be null");
+		Preconditions.containsNoNullElements(columnTypes, "column types must not contain null elements");
+
+		// The CSV file is read twice: first to determine the dimensions of the
+		// table, and then to collect the values in primitive arrays.
+		RecordCounter counter = new RecordCounter();
+		String[] columnNames = parse(csvFile, charset, delimiter, headers, counter);
+		ColumnType[] types = toColumnTypes(columnTypes, counter.getColumnCount());
+		ColumnValues values = new ColumnValues(types, counter.rowCount);
+		parse(csvFile, charset, delimiter, headers, values);
+
+		try (DataOutputStream out = new DataOutputStream(
+			new BufferedOutputStream(Files.newOutputStream(fixtureFile)))) {
+			out.writeInt(ColumnarFixture.MAGIC);
+			out.writeInt(ColumnarFixture.VERSION);
+			out.writeInt(types.length);
+			out.writeInt(counter.rowCount);
+			for (int i = 0; i < types.length; i++) {
+				String name = columnNames != null && i < columnNames.length ? columnNames[i] : "column" + (i + 1);
+				byte[] bytes = name.getBytes(UTF_8);
+				out.writeByte(types[i].getCode());
+				out.writeInt(bytes.length);
+				out.write(bytes);
+			}
+			values.writeTo(out);
+		}
+		return counter.rowCount;
+	}
+
+	private static ColumnType[] toColumnTypes(Class<?>[] columnTypes, int columnCount) {
+		Preconditions.condition(columnTypes.length <= columnCount,
+			() -> String.format("%d column types specified but CSV records only have %d columns", columnTypes.length,
+				columnCount));
+		ColumnType[] types = new ColumnType[columnCount];
+		Arrays.fill(types, ColumnType.STRING);
+		for (int i = 0; i < columnTypes.length; i++) {
+			types[i] = toColumnType(columnTypes[i]);
+		}
+		return types;
+	}
+
+	private static ColumnType toColumnType(Class<?> columnType) {
+		if (columnType == boolean.class) {
+			return ColumnType.BOOLEAN;
+		}
+		if (columnType == int.class) {
+			return ColumnType.INT;
+		}
+		if (columnType == long.class) {
+			return ColumnType.LONG;
+		}
+		if (columnType == double.class) {
+			return ColumnType.DOUBLE;
+		}
+		Preconditions.condition(columnType == String.class,
+			() -> "Unsupported column type: " + columnType.getName());
+		return ColumnType.STRING;
+	}
+
+	private static String[] parse(Path csvFile, Charset charset, String delimiter, boolean headers,
+			Consumer<String[]> consumer) throws IOException {
+
+		CsvParser csvParser = CsvParserFactory.createParserFor(delimiter, headers);
+		try (Reader reader = Files.newBufferedReader(csvFile, charset)) {
+			csvParser.beginParsing(reader);
+			String[] columnNames = null;
+			for (String[] csvRecord = csvParser.parseNext(); csvRecord != null; csvRecord = csvParser.parseNext()) {
+				if (headers && columnNames == null) {
+					columnNames = CsvArgumentsProvider.getHeaders(csvParser);
+				}
+				consumer.accept(csvRecord);
+			}
+			return columnNames;
+		}
+		finally {
+			csvParser.stopParsing();
+		}
+	}
+
+	private static class RecordCounter implements Consumer<String[]> {
+
+		private int rowCount;
+		private int columnCount = -1;
+
+		@Override
+		public void accept(String[] csvRecord) {
+			if (this.columnCount == -1) {
+				this.columnCount = csvRecord.length;
+			}
+			Preconditions.condition(csvRecord.length == this.columnCount,
+				() -> String.format("All CSV records must have %d columns but record %d has %d columns: %s",
+					this.columnCount, this.rowCount + 1, csvRecord.length, Arrays.toString(csvRecord)));
+			Preconditions.condition(this.rowCount < Integer.MAX_VALUE, "Too many CSV records");
+			this.rowCount++;
+		}
+
+		int getColumnCount() {
+			Preconditions.condition(this.columnCount > 0, "CSV file must contain at least one record");
+			return this.columnCount;
+		}
+
+	}
+
+	private static class ColumnValues implements Consumer<String[]> {
+
+		private final ColumnType[] types;
+		private final Object[] columns;
+		private int row;
+
+		ColumnValues(ColumnType[] types, int rowCount) {
+			this.types = types;
+			this.columns = new Object[types.length];
+			for (int i = 0; i < types.length; i++) {
+				switch (types[i]) {
+					case BOOLEAN:
+						this.columns[i] = new boolean[rowCount];
+						break;
+					case INT:
+						this.columns[i] = new int[rowCount];
+						break;
+					case LONG:
+						this.columns[i] = new long[rowCount];
+						break;
+					case DOUBLE:
+						this.columns[i] = new double[rowCount];
+						break;
+					default:
+						this.columns[i] = new String[rowCount];
+				}
+			}
+		}
+
+		@Override
+		public void accept(String[] csvRecord) {
+			for (int i = 0; i < this.types.length; i++) {
+				String value = csvRecord[i];
+				if (this.types[i] == ColumnType.STRING) {
+					((String[]) this.columns[i])[this.row] = value;
+					continue;
+				}
+				try {
+					Preconditions.notNull(value, "value must not be null");
+					switch (this.types[i]) {
+						case BOOLEAN:
+							((boolean[]) this.columns[i])[this.row] = parseBoolean(value);
+							break;
+						case INT:
+							((int[]) this.columns[i])[this.row] = Integer.parseInt(value);
+							break;
+						case LONG:
+							((long[]) this.columns[i])[this.row] = Long.parseLong(value);
+							break;
+						default:
+							((double[]) this.columns[i])[this.row] = parseDouble(value);
+					}
+				}
+				catch (RuntimeException ex) {
+					throw new PreconditionViolationException(String.format(
+						"Value [%s] in record %d, column %d cannot be stored as %s", value, this.row + 1, i + 1,
+						this.types[i].name().toLowerCase(Locale.ROOT)), ex);
+				}
+			}
+			this.row++;
+		}
+
+		private static boolean parseBoolean(String value) {
+			if ("true".equalsIgnoreCase(value)) {
+				return true;
+			}
+			if ("false".equalsIgnoreCase(value)) {
+				return false;
+			}
+			throw new IllegalArgumentException("not a boolean");
+		}
+
+		private static double parseDouble(String value) {
+			switch (value) {
+				case "NaN":
+					return Double.NaN;
+				case "Infinity":
+					return Double.POSITIVE_INFINITY;
+				case "-Infinity":
+					return Double.NEGATIVE_INFINITY;
+				default:
+					return new BigDecimal(value).doubleValue();
+			}
+		}
+
+		void writeTo(DataOutputStream out) throws IOException {
+			for (Object column : this.columns) {
+				if (column instanceof boolean[]) {
+					for (boolean value : (boolean[]) column) {
+						out.writeBoolean(value);
+					}
+				}
+				else if (column instanceof int[]) {
+					for (int value : (int[]) column) {
+						out.writeInt(value);
+					}
+				}
+				else if (column instanceof long[]) {
+					for (long value : (long[]) column) {
+						out.writeLong(value);
+					}
+				}
+				else if (column instanceof double[]) {
+					for (double value : (double[]) column) {
+						out.writeDouble(value);
+					}
+				}
+				else {
+					String[] strings = (String[]) column;
+					byte[][] bytes = new byte[strings.length][];
+					for (int row = 0; row < strings.length; row++) {
+						bytes[row] = strings[row] == null ? null : strings[row].getBytes(UTF_8);
+						out.writeInt(bytes[row] == null ? -1 : bytes[row].length);
+					}
+					for (byte[] value : bytes) {
+						if (value != null) {
+							out.write(value);
+						}
+					}
+				}
+			}
+		}
+
+	}
+
+}
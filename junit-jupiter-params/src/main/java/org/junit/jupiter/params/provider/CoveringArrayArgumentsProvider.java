@@ -0,0 +1,62 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params.provider;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.util.CollectionUtils;
+import org.junit.platform.commons.util.Preconditions;
+
+/**
+ * @since 5.12
+ * @see CoveringArraySource
+ */
+class CoveringArrayArgumentsProvider extends AnnotationBasedArgumentsProvider<CoveringArraySource> {
+
+	@Override
+	protected Stream<? extends Arguments> provideArguments(ExtensionContext context, CoveringArraySource source) {
+		Preconditions.condition(source.strength() > 0, "@CoveringArraySource strength must be a positive integer");
+
+		List<List<?>> valueSets = new ArrayList<>();
+		for (String values : source.value()) {
+			valueSets.add(Arrays.stream(values.split(",", -1)).map(String::trim).collect(toList()));
+		}
+		for (String factoryMethodName : source.methods()) {
+			Preconditions.notBlank(factoryMethodName, "@CoveringArraySource factory method names must not be blank");
+			Object values = MethodArgumentsProvider.invokeFactoryMethod(context, factoryMethodName);
+			try (Stream<?> stream = CollectionUtils.toStream(values)) {
+				List<?> valueSet = stream.collect(toList());
+				Preconditions.notEmpty(valueSet, () -> String.format(
+					"Factory method [%s] for @CoveringArraySource must supply at least one value", factoryMethodName));
+				valueSets.add(valueSet);
+			}
+		}
+		Preconditions.condition(!valueSets.isEmpty(),
+			"@CoveringArraySource must declare at least one set of values via 'value' or 'methods'");
+
+		int[] sizes = valueSets.stream().mapToInt(List::size).toArray();
+		return CoveringArrayGenerator.generate(sizes, source.strength(), source.seed()).stream() //
+				.map(row -> {
+					Object[] arguments = new Object[row.length];
+					for (int parameter = 0; parameter < row.length; parameter++) {
+						arguments[parameter] = valueSets.get(parameter).get(row[parameter]);
+					}
+					return Arguments.of(arguments);
+				});
+	}
+
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params.provider;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.platform.commons.util.Preconditions;
+
+/**
+ * Generator of covering arrays based on the <em>In-Parameter-Order-General</em>
+ * (IPOG) strategy.
+ *
+ * <p>The array starts out as the cartesian product of the first
+ * {@code strength} parameters. Every further parameter is first added to the
+ * existing rows by choosing the value that covers the most uncovered
+ * combinations in each row (<em>horizontal growth</em>). The combinations
+ * that are still uncovered afterwards are assigned to rows whose relevant
+ * values are still unassigned or added as new rows (<em>vertical growth</em>).
+ * Values that remain unassigned at the end are chosen randomly.
+ *
+ * <p>Uncovered combinations are tracked in one bit set per combination of
+ * previous parameters, indexed by the mixed-radix encoding of their values.
+ *
+ * @since 5.12
+ * @see CoveringArraySource
+ */
+class CoveringArrayGenerator {
+
+	private static final int UNASSIGNED = -1;
+
+	private final int[] sizes;
+	private final int strength;
+	private final Random random;
+	private final List<int[]> rows = new ArrayList<>();
+
+	/**
+	 * Generate a covering array for parameters with the supplied numbers of
+	 * values.
+	 *
+	 * @return the rows of the covering array, each containing the index of
+	 * the value of every parameter
+	 */
+	static List<int[]> generate(int[] sizes, int strength, long seed) {
+		Preconditions.condition(sizes.length > 0, "At least one parameter is required");
+		Preconditions.condition(strength > 0, "Strength must be a positive integer");
+		for (int size : sizes) {
+			Preconditions.condition(size > 0, "Every parameter must have at least one value");
+		}
+		return new CoveringArrayGenerator(sizes, Math.min(strength, sizes.length), seed).generate();
+	}
+
+	private CoveringArrayGenerator(int[] sizes, int strength, long seed) {
+		this.sizes = sizes;
+		this.strength = strength;
+		this.random = new Random(seed);
+	}
+
+	private List<int[]> generate() {
+		addCartesianProductOfInitialParameters();
+		for (int parameter = this.strength; parameter < this.sizes.length; parameter++) {
+			extend(parameter);
+		}
+		for (int[] row : this.rows) {
+			for (int parameter = 0; parameter < row.length; parameter++) {
+				if (row[parameter] == UNASSIGNED) {
+					row[parameter] = this.random.nextInt(this.sizes[parameter]);
+				}
+			}
+		}
+		return this.rows;
+	}
+
+	private void addCartesianProductOfInitialParameters() {
+		int[] values = new int[this.strength];
+		while (true) {
+			int[] row = newRow();
+			System.arraycopy(values, 0, row, 0, this.strength);
+			this.rows.add(row);
+			int parameter = this.strength - 1;
+			while (parameter >= 0 && ++values[parameter] == this.sizes[parameter]) {
+				values[parameter] = 0;
+				parameter--;
+			}
+			if (parameter < 0) {
+				return;
+			}
+		}
+	}
+
+	private void extend(int parameter) {
+		List<int[]> combinations = combinations(parameter, this.strength - 1);
+		BitSet[] uncovered = new BitSet[combinations.size()];
+		long uncoveredCount = 0;
+		for (int i = 0; i < combinations.size(); i++) {
+			int tuples = Math.multiplyExact(radix(combinations.get(i)), this.sizes[parameter]);
+			uncovered[i] = new BitSet(tuples);
+			uncovered[i].set(0, tuples);
+			uncoveredCount += tuples;
+		}
+
+		// horizontal growth
+		int[] offsets = new int[combinations.size()];
+		int[] gains = new int[this.sizes[parameter]];
+		for (int[] row : this.rows) {
+			if (uncoveredCount == 0) {
+				break;
+			}
+			Arrays.fill(gains, 0);
+			for (int i = 0; i < combinations.size(); i++) {
+				offsets[i] = offset(row, combinations.get(i), parameter);
+				if (offsets[i] != UNASSIGNED) {
+					for (int value = 0; value < gains.length; value++) {
+						if (uncovered[i].get(offsets[i] + value)) {
+							gains[value]++;
+						}
+					}
+				}
+			}
+			int value = chooseBestValue(gains);
+			if (value != UNASSIGNED) {
+				row[parameter] = value;
+				for (int i = 0; i < combinations.size(); i++) {
+					if (offsets[i] != UNASSIGNED && uncovered[i].get(offsets[i] + value)) {
+						uncovered[i].clear(offsets[i] + value);
+						uncoveredCount--;
+					}
+				}
+			}
+		}
+
+		// vertical growth
+		int[] tuple = new int[this.strength];
+		for (int i = 0; i < combinations.size() && uncoveredCount > 0; i++) {
+			int[] combination = combinations.get(i);
+			for (int index = uncovered[i].nextSetBit(0); index >= 0; index = uncovered[i].nextSetBit(index + 1)) {
+				decode(index, combination, parameter, tuple);
+				int[] row = findCompatibleRow(combination, parameter, tuple);
+				if (row == null) {
+					row = newRow();
+					this.rows.add(row);
+				}
+				for (int j = 0; j < combination.length; j++) {
+					row[combination[j]] = tuple[j];
+				}
+				row[parameter] = tuple[combination.length];
+				// the row may now cover further combinations
+				for (int k = i; k < combinations.size(); k++) {
+					int offset = offset(row, combinations.get(k), parameter);
+					if (offset != UNASSIGNED && uncovered[k].get(offset + row[parameter])) {
+						uncovered[k].clear(offset + row[parameter]);
+						uncoveredCount--;
+					}
+				}
+			}
+		}
+	}
+
+	private int chooseBestValue(int[] gains) {
+		int best = UNASSIGNED;
+		int bestGain = 0;
+		int ties = 0;
+		for (int value = 0; value < gains.length; value++) {
+			if (gains[value] > bestGain) {
+				best = value;
+				bestGain = gains[value];
+				ties = 1;
+			}
+			else if (gains[value] == bestGain && bestGain > 0 && this.random.nextInt(++ties) == 0) {
+				// reservoir sampling to choose uniformly among equally good values
+				best = value;
+			}
+		}
+		return best;
+	}
+
+	private int[] findCompatibleRow(int[] combination, int parameter, int[] tuple) {
+		for (int[] row : this.rows) {
+			if (isCompatible(row[parameter], tuple[combination.length])) {
+				boolean compatible = true;
+				for (int j = 0; j < combination.length && compatible; j++) {
+					compatible = isCompatible(row[combination[j]], tuple[j]);
+				}
+				if (compatible) {
+					return row;
+				}
+			}
+		}
+		return null;
+	}
+
+	private static boolean isCompatible(int actual, int expected) {
+		return actual == UNASSIGNED || actual == expected;
+	}
+
+	/**
+	 * Compute the index of the first tuple covered by the supplied row for the
+	 * supplied combination of previous parameters, or {@link #UNASSIGNED} if
+	 * one of their values has not been assigned yet.
+	 */
+	private int offset(int[] row, int[] combination, int parameter) {
+		int index = 0;
+		for (int previous : combination) {
+			if (row[previous] == UNASSIGNED) {
+				return UNASSIGNED;
+			}
+			index = index * this.sizes[previous] + row[previous];
+		}
+		return index * this.sizes[parameter];
+	}
+
+	private void decode(int index, int[] combination, int parameter, int[] tuple) {
+		tuple[combination.length] = index % this.sizes[parameter];
+		int remainder = index / this.sizes[parameter];
+		for (int j = combination.length - 1; j >= 0; j--) {
+			tuple[j] = remainder % this.sizes[combination[j]];
+			remainder /= this.sizes[combination[j]];
+		}
+	}
+
+	private int radix(int[] combination) {
+		int radix = 1;
+		for (int previous : combination) {
+			radix = Math.multiplyExact(radix, this.sizes[previous]);
+		}
+		return radix;
+	}
+
+	private int[] newRow() {
+		int[] row = new int[this.sizes.length];
+		Arrays.fill(row, UNASSIGNED);
+		return row;
+	}
+
+	/**
+	 * Compute all combinations of {@code k} out of the first {@code n}
+	 * parameters in lexicographic order.
+	 */
+	private static List<int[]> combinations(int n, int k) {
+		List<int[]> result = new ArrayList<>();
+		int[] combination = new int[k];
+		for (int j = 0; j < k; j++) {
+			combination[j] = j;
+		}
+		while (true) {
+			result.add(combination.clone());
+			int j = k - 1;
+			while (j >= 0 && combination[j] == n - k + j) {
+				j--;
+			}
+			if (j < 0) {
+				return result;
+			}
+			combination[j]++;
+			for (int m = j + 1; m < k; m++) {
+				combination[m] = combination[m - 1] + 1;
+			}
+		}
+	}
+
+}
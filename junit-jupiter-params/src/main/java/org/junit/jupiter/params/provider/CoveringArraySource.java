@@ -0,0 +1,122 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params.provider;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.apiguardian.api.API;
+import org.junit.jupiter.params.ParameterizedTest;
+
+/**
+ * {@code @CoveringArraySource} is an {@link ArgumentsSource} which provides
+ * combinations of values for the parameters of the annotated
+ * {@link ParameterizedTest @ParameterizedTest} method that form a
+ * <em>covering array</em> of the configured {@linkplain #strength() strength}.
+ *
+ * <p>Rather than invoking the test with every combination of values (i.e.,
+ * the cartesian product of all sets of values), only as many combinations
+ * are provided as are necessary to cover every combination of values of any
+ * {@code strength} parameters at least once. By default, every pair of values
+ * of any two parameters is covered (i.e., <em>pairwise</em> or
+ * <em>all-pairs</em> testing). For tests with many parameters, this usually
+ * reduces the number of invocations by orders of magnitude while still
+ * covering the interactions between parameters that are responsible for most
+ * defects.
+ *
+ * <p>The set of values for each parameter is either declared inline via
+ * {@link #value()} or supplied by a factory method referenced via
+ * {@link #methods()}. The sets of values declared via {@code value} are
+ * assigned to the parameters of the test method in declaration order,
+ * followed by the sets of values supplied by the factory methods.
+ *
+ * <p>The combinations are computed using the <em>In-Parameter-Order</em>
+ * strategy. The result is deterministic for the same sets of values, strength,
+ * and {@linkplain #seed() seed}.
+ *
+ * <h2>Example</h2>
+ *
+ * <pre class="code">
+ * &#64;ParameterizedTest
+ * &#64;CoveringArraySource(value = { "chrome, firefox, safari", "linux, macos, windows" }, methods = "locales")
+ * void test(String browser, String os, Locale locale) {
+ *     // ...
+ * }
+ *
+ * static List&lt;Locale&gt; locales() {
+ *     return List.of(Locale.US, Locale.GERMANY, Locale.JAPAN);
+ * }
+ * </pre>
+ *
+ * @since 5.12
+ * @see ArgumentsSource
+ * @see ParameterizedTest
+ */
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@API(status = EXPERIMENTAL, since = "5.12")
+@ArgumentsSource(CoveringArrayArgumentsProvider.class)
+@SuppressWarnings("exports")
+public @interface CoveringArraySource {
+
+	/**
+	 * The sets of values for the leading parameters of the test method, one
+	 * per parameter.
+	 *
+	 * <p>Each set of values is declared as a comma-separated list of values
+	 * &mdash; for example, {@code "chrome, firefox, safari"}. Leading and
+	 * trailing whitespace is removed from every value. The values are passed
+	 * to the test method as strings and are thus subject to implicit and
+	 * explicit argument conversion. Values that contain commas must be
+	 * supplied via {@linkplain #methods() factory methods}.
+	 */
+	String[] value() default {};
+
+	/**
+	 * The names of factory methods that supply the sets of values for the
+	 * parameters following the ones declared via {@link #value()}, one per
+	 * parameter.
+	 *
+	 * <p>Factory methods are resolved like those of
+	 * {@link MethodSource @MethodSource} and may return anything that can be
+	 * converted to a {@link java.util.stream.Stream Stream}, such as a
+	 * {@link java.util.Collection Collection} or an array. Each element of the
+	 * stream is a single value for the respective parameter.
+	 */
+	String[] methods() default {};
+
+	/**
+	 * The number of parameters whose combinations of values must all be
+	 * covered.
+	 *
+	 * <p>Defaults to {@code 2} (pairwise); must be a positive integer. If the
+	 * strength is greater than or equal to the number of parameters, the
+	 * cartesian product of all sets of values is provided.
+	 */
+	int strength() default 2;
+
+	/**
+	 * The seed used to choose between equally good values while computing the
+	 * covering array and to fill in values that are not needed to cover any
+	 * combination.
+	 *
+	 * <p>Changing the seed yields a different covering array of the same
+	 * strength.
+	 */
+	long seed() default 0;
+
+}
@@ -21,14 +21,19 @@ import static org.junit.platform.commons.util.CollectionUtils.toSet;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.Spliterator;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import com.univocity.parsers.csv.CsvParser;
@@ -37,6 +42,7 @@ import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.StringUtils;
 
 /**
  * @since 5.0
@@ -70,12 +76,21 @@ class CsvFileArgumentsProvider extends AnnotationBasedArgumentsProvider<CsvFileS
 		// @formatter:off
 		return Preconditions.notEmpty(sources, "Resources or files must not be empty")
 				.stream()
-				.map(source -> source.open(context))
-				.map(inputStream -> beginParsing(inputStream, csvFileSource))
-				.flatMap(parser -> toStream(parser, csvFileSource));
+				.flatMap(source -> provideArguments(context, source, csvFileSource));
 		// @formatter:on
 	}
 
+	private Stream<Arguments> provideArguments(ExtensionContext context, Source source, CsvFileSource csvFileSource) {
+		if (csvFileSource.parallelParsing() && ParallelCsvFileParser.supports(csvFileSource, this.charset)) {
+			Optional<Path> file = source.findFile(context);
+			if (file.isPresent()) {
+				return new ParallelCsvFileParser(csvFileSource, this.charset).parse(file.get()) //
+						.skip(this.numLinesToSkip);
+			}
+		}
+		return toStream(beginParsing(source.open(context), csvFileSource), csvFileSource);
+	}
+
 	private Charset getCharsetFrom(CsvFileSource csvFileSource) {
 		try {
 			return Charset.forName(csvFileSource.encoding());
@@ -160,10 +175,28 @@ class CsvFileArgumentsProvider extends AnnotationBasedArgumentsProvider<CsvFileS
 
 	}
 
-	@FunctionalInterface
-	private interface Source {
+	private static class Source {
 
-		InputStream open(ExtensionContext context);
+		private final Function<ExtensionContext, InputStream> opener;
+		private final Function<ExtensionContext, Optional<Path>> locator;
+
+		Source(Function<ExtensionContext, InputStream> opener, Function<ExtensionContext, Optional<Path>> locator) {
+			this.opener = opener;
+			this.locator = locator;
+		}
+
+		InputStream open(ExtensionContext context) {
+			return this.opener.apply(context);
+		}
+
+		/**
+		 * Find the file in the file system that backs this source, if any.
+		 *
+		 * @since 5.12
+		 */
+		Optional<Path> findFile(ExtensionContext context) {
+			return this.locator.apply(context);
+		}
 
 	}
 
@@ -173,12 +206,32 @@ class CsvFileArgumentsProvider extends AnnotationBasedArgumentsProvider<CsvFileS
 
 		InputStream openFile(String path);
 
+		/**
+		 * Find the file in the file system that backs the supplied classpath
+		 * resource, if any.
+		 *
+		 * @since 5.12
+		 */
+		default Optional<Path> findClasspathResourceFile(Class<?> baseClass, String path) {
+			return Optional.empty();
+		}
+
+		/**
+		 * Find the supplied file in the file system, if it exists.
+		 *
+		 * @since 5.12
+		 */
+		default Optional<Path> findFile(String path) {
+			return Optional.empty();
+		}
+
 		default Source classpathResource(String path) {
-			return context -> openClasspathResource(context.getRequiredTestClass(), path);
+			return new Source(context -> openClasspathResource(context.getRequiredTestClass(), path),
+				context -> findClasspathResourceFile(context.getRequiredTestClass(), path));
 		}
 
 		default Source file(String path) {
-			return context -> openFile(path);
+			return new Source(context -> openFile(path), context -> findFile(path));
 		}
 
 	}
@@ -205,6 +258,32 @@ class CsvFileArgumentsProvider extends AnnotationBasedArgumentsProvider<CsvFileS
 			}
 		}
 
+		@Override
+		public Optional<Path> findClasspathResourceFile(Class<?> baseClass, String path) {
+			if (StringUtils.isBlank(path)) {
+				return Optional.empty();
+			}
+			URL url = baseClass.getResource(path);
+			if (url == null || !"file".equals(url.getProtocol())) {
+				return Optional.empty();
+			}
+			try {
+				return Optional.of(Paths.get(url.toURI()));
+			}
+			catch (URISyntaxException | IllegalArgumentException e) {
+				return Optional.empty();
+			}
+		}
+
+		@Override
+		public Optional<Path> findFile(String path) {
+			if (StringUtils.isBlank(path)) {
+				return Optional.empty();
+			}
+			Path file = Paths.get(path);
+			return Files.isRegularFile(file) ? Optional.of(file) : Optional.empty();
+		}
+
 	}
 
 }
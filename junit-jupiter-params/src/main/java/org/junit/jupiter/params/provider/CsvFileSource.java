@@ -10,6 +10,7 @@
 
 package org.junit.jupiter.params.provider;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import java.lang.annotation.Documented;
@@ -227,4 +228,28 @@ public @interface CsvFileSource {
 	@API(status = STABLE, since = "5.10")
 	boolean ignoreLeadingAndTrailingWhitespace() default true;
 
+	/**
+	 * Controls whether large CSV files should be parsed in parallel.
+	 *
+	 * <p>When set to {@code true}, each CSV file is memory-mapped and split at
+	 * record boundaries into chunks that are parsed in parallel, while the
+	 * resulting arguments are still provided in the order of the records in
+	 * the file. All other attributes are honored as usual. This may
+	 * significantly reduce the time it takes to parse CSV files that are
+	 * several megabytes or larger before the first invocation can start.
+	 *
+	 * <p>Parallel parsing is only applied to {@link #files} and to
+	 * {@link #resources} that are located in the file system (rather than in
+	 * a JAR file), and only if the file is encoded in {@code UTF-8},
+	 * {@code US-ASCII}, or {@code ISO-8859-1} and the delimiter, quote
+	 * character, and line separator are ASCII characters. Otherwise, the file
+	 * is parsed sequentially.
+	 *
+	 * <p>Defaults to {@code false}.
+	 *
+	 * @since 5.12
+	 */
+	@API(status = EXPERIMENTAL, since = "5.12")
+	boolean parallelParsing() default false;
+
 }
@@ -36,10 +36,35 @@ class CsvParserFactory {
 	}
 
 	static CsvParser createParserFor(CsvFileSource annotation) {
-		String delimiter = selectDelimiter(annotation, annotation.delimiter(), annotation.delimiterString());
-		return createParser(delimiter, annotation.lineSeparator(), annotation.quoteCharacter(), annotation.emptyValue(),
-			annotation.maxCharsPerColumn(), COMMENT_PROCESSING_FOR_CSV_FILE_SOURCE,
-			annotation.useHeadersInDisplayName(), annotation.ignoreLeadingAndTrailingWhitespace());
+		return createParserFor(annotation, annotation.useHeadersInDisplayName());
+	}
+
+	/**
+	 * @since 5.12
+	 */
+	static CsvParser createParserFor(CsvFileSource annotation, boolean headerExtractionEnabled) {
+		return createParser(selectDelimiter(annotation), annotation.lineSeparator(), annotation.quoteCharacter(),
+			annotation.emptyValue(), annotation.maxCharsPerColumn(), COMMENT_PROCESSING_FOR_CSV_FILE_SOURCE,
+			headerExtractionEnabled, annotation.ignoreLeadingAndTrailingWhitespace());
+	}
+
+	/**
+	 * Create a parser for the default syntax of {@link CsvFileSource} with the
+	 * supplied delimiter and an unlimited number of characters per column.
+	 *
+	 * @since 5.12
+	 * @see ColumnarFixtureConverter
+	 */
+	static CsvParser createParserFor(String delimiter, boolean headerExtractionEnabled) {
+		return createParser(delimiter, LINE_SEPARATOR, '"', "", -1, COMMENT_PROCESSING_FOR_CSV_FILE_SOURCE,
+			headerExtractionEnabled, true);
+	}
+
+	/**
+	 * @since 5.12
+	 */
+	static String selectDelimiter(CsvFileSource annotation) {
+		return selectDelimiter(annotation, annotation.delimiter(), annotation.delimiterString());
 	}
 
 	private static String selectDelimiter(Annotation annotation, char delimiter, String delimiterString) {
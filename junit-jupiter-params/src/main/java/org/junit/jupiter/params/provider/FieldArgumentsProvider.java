@@ -51,17 +51,19 @@ class FieldArgumentsProvider extends AnnotationBasedArgumentsProvider<FieldSourc
 		return stream(fieldNames)
 				.map(fieldName -> findField(testClass, fieldName))
 				.map(field -> validateField(field, testInstance))
-				.map(field -> readField(field, testInstance))
-				.flatMap(fieldValue -> {
-					if (fieldValue instanceof Supplier<?>) {
-						fieldValue = ((Supplier<?>) fieldValue).get();
-					}
-					return CollectionUtils.toStream(fieldValue);
-				})
-				.map(ArgumentsUtils::toArguments);
+				.flatMap(field -> ArgumentsCache.getOrCompute(context, fieldSource.cache(), field,
+						() -> provideArguments(field, testInstance)));
 		// @formatter:on
 	}
 
+	private static Stream<Arguments> provideArguments(Field field, Object testInstance) {
+		Object fieldValue = readField(field, testInstance);
+		if (fieldValue instanceof Supplier<?>) {
+			fieldValue = ((Supplier<?>) fieldValue).get();
+		}
+		return CollectionUtils.toStream(fieldValue).map(ArgumentsUtils::toArguments);
+	}
+
 	// package-private for testing
 	static Field findField(Class<?> testClass, String fieldName) {
 		Preconditions.notBlank(fieldName, "Field name must not be blank");
@@ -137,4 +137,26 @@ public @interface FieldSource {
 	 */
 	String[] value() default {};
 
+	/**
+	 * The scope in which the arguments supplied by the fields are cached.
+	 *
+	 * <p>Defaults to {@link ArgumentsCacheScope#NONE NONE}, i.e., fields are
+	 * read &mdash; and {@link java.util.function.Supplier Suppliers} are
+	 * invoked &mdash; for every parameterized test that uses them. If another
+	 * scope is configured, each field is evaluated at most once per scope, and
+	 * the arguments it supplies are replayed for all parameterized tests that
+	 * reference it with caching enabled, including those in
+	 * {@link org.junit.jupiter.api.Nested @Nested} test classes.
+	 *
+	 * <p>Cached arguments should be immutable and must not be
+	 * {@link AutoCloseable} unless
+	 * {@link ParameterizedTest#autoCloseArguments() autoCloseArguments} is
+	 * disabled, since they are shared between invocations.
+	 *
+	 * @since 5.12
+	 * @see ArgumentsCacheScope
+	 */
+	@API(status = EXPERIMENTAL, since = "5.12")
+	ArgumentsCacheScope cache() default ArgumentsCacheScope.NONE;
+
 }
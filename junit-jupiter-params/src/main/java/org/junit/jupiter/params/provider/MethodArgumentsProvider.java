@@ -50,12 +50,27 @@ class MethodArgumentsProvider extends AnnotationBasedArgumentsProvider<MethodSou
 		return stream(methodNames)
 				.map(factoryMethodName -> findFactoryMethod(testClass, testMethod, factoryMethodName))
 				.map(factoryMethod -> validateFactoryMethod(factoryMethod, testInstance))
-				.map(factoryMethod -> context.getExecutableInvoker().invoke(factoryMethod, testInstance))
-				.flatMap(CollectionUtils::toStream)
-				.map(ArgumentsUtils::toArguments);
+				.flatMap(factoryMethod -> ArgumentsCache.getOrCompute(context, methodSource.cache(), factoryMethod,
+						() -> CollectionUtils.toStream(context.getExecutableInvoker().invoke(factoryMethod, testInstance))
+								.map(ArgumentsUtils::toArguments)));
 		// @formatter:on
 	}
 
+	/**
+	 * Find, validate, and invoke the factory method with the supplied name
+	 * for the current test method.
+	 *
+	 * @since 5.12
+	 * @see CoveringArrayArgumentsProvider
+	 */
+	static Object invokeFactoryMethod(ExtensionContext context, String factoryMethodName) {
+		Object testInstance = context.getTestInstance().orElse(null);
+		Method factoryMethod = validateFactoryMethod(
+			findFactoryMethod(context.getRequiredTestClass(), context.getRequiredTestMethod(), factoryMethodName),
+			testInstance);
+		return context.getExecutableInvoker().invoke(factoryMethod, testInstance);
+	}
+
 	private static Method findFactoryMethod(Class<?> testClass, Method testMethod, String factoryMethodName) {
 		String originalFactoryMethodName = factoryMethodName;
 
@@ -10,6 +10,7 @@
 
 package org.junit.jupiter.params.provider;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import java.lang.annotation.Documented;
@@ -95,6 +96,9 @@ import org.junit.jupiter.params.ParameterizedTest;
  * <p>Factory methods can declare parameters, which will be provided by registered
  * implementations of {@link org.junit.jupiter.api.extension.ParameterResolver}.
  *
+ * <p>Factory methods are invoked anew for every parameterized test that uses
+ * them unless their results are {@linkplain #cache() cached}.
+ *
  * @since 5.0
  * @see FieldSource
  * @see Arguments
@@ -137,4 +141,27 @@ public @interface MethodSource {
 	 */
 	String[] value() default "";
 
+	/**
+	 * The scope in which the arguments supplied by the factory methods are
+	 * cached.
+	 *
+	 * <p>Defaults to {@link ArgumentsCacheScope#NONE NONE}, i.e., factory
+	 * methods are invoked for every parameterized test that uses them. If
+	 * another scope is configured, each factory method is invoked at most once
+	 * per scope, and the arguments it supplies are replayed for all
+	 * parameterized tests that reference it with caching enabled, including
+	 * those in {@link org.junit.jupiter.api.Nested @Nested} test classes.
+	 * Parameters of cached factory methods are therefore only resolved once.
+	 *
+	 * <p>Cached arguments should be immutable and must not be
+	 * {@link AutoCloseable} unless
+	 * {@link ParameterizedTest#autoCloseArguments() autoCloseArguments} is
+	 * disabled, since they are shared between invocations.
+	 *
+	 * @since 5.12
+	 * @see ArgumentsCacheScope
+	 */
+	@API(status = EXPERIMENTAL, since = "5.12")
+	ArgumentsCacheScope cache() default ArgumentsCacheScope.NONE;
+
 }
@@ -0,0 +1,440 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params.provider;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Spliterators.spliteratorUnknownSize;
+import static java.util.stream.StreamSupport.stream;
+import static org.junit.jupiter.params.provider.CsvArgumentsProvider.getHeaders;
+import static org.junit.jupiter.params.provider.CsvArgumentsProvider.handleCsvException;
+import static org.junit.jupiter.params.provider.CsvArgumentsProvider.processCsvRecord;
+import static org.junit.jupiter.params.provider.CsvParserFactory.createParserFor;
+import static org.junit.jupiter.params.provider.CsvParserFactory.selectDelimiter;
+import static org.junit.platform.commons.util.CollectionUtils.toSet;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import com.univocity.parsers.csv.CsvParser;
+
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.util.ExceptionUtils;
+
+/**
+ * Parser for CSV files configured via {@link CsvFileSource @CsvFileSource}
+ * that parses multiple chunks of a file in parallel.
+ *
+ * <p>The file is memory-mapped and split into chunks of roughly equal size at
+ * record boundaries. Since quoted values may contain line separators, record
+ * boundaries are determined by a sequential scan of the raw bytes that keeps
+ * track of quoted values and comments &mdash; which is much cheaper than
+ * parsing. Each chunk is then parsed by a separate {@link CsvParser} on the
+ * supplied {@link Executor}, and the resulting records are provided in file
+ * order. The number of chunks that are parsed ahead of the consumer is
+ * bounded in order to limit memory consumption.
+ *
+ * <p>Splitting a file at byte offsets requires a character encoding in which
+ * the delimiter, the quote character, and the line separator are encoded as
+ * single ASCII bytes that cannot occur within the encoding of other
+ * characters; see {@link #supports(CsvFileSource, Charset)}.
+ *
+ * @since 5.12
+ * @see CsvFileSource#parallelParsing()
+ */
+class ParallelCsvFileParser {
+
+	static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+
+	private static final int SCAN_WINDOW_SIZE = 64 * 1024 * 1024;
+
+	private static final Set<Charset> SUPPORTED_CHARSETS = new HashSet<>(Arrays.asList(UTF_8, US_ASCII, ISO_8859_1));
+
+	private static final byte COMMENT = '#';
+
+	private final CsvFileSource annotation;
+	private final Charset charset;
+	private final int chunkSize;
+	private final Executor executor;
+	private final int maxChunksInFlight;
+
+	ParallelCsvFileParser(CsvFileSource annotation, Charset charset) {
+		this(annotation, charset, DEFAULT_CHUNK_SIZE, ForkJoinPool.commonPool(),
+			2 * ForkJoinPool.getCommonPoolParallelism());
+	}
+
+	ParallelCsvFileParser(CsvFileSource annotation, Charset charset, int chunkSize, Executor executor,
+			int maxChunksInFlight) {
+
+		this.annotation = annotation;
+		this.charset = charset;
+		this.chunkSize = chunkSize;
+		this.executor = executor;
+		this.maxChunksInFlight = Math.max(1, maxChunksInFlight);
+	}
+
+	/**
+	 * Determine whether files configured via the supplied annotation and
+	 * encoded with the supplied charset can be split at byte offsets.
+	 */
+	static boolean supports(CsvFileSource annotation, Charset charset) {
+		return SUPPORTED_CHARSETS.contains(charset) && isAscii(selectDelimiter(annotation))
+				&& isAscii(String.valueOf(annotation.quoteCharacter())) && isAscii(annotation.lineSeparator());
+	}
+
+	private static boolean isAscii(String value) {
+		return value.chars().allMatch(c -> c < 0x80);
+	}
+
+	/**
+	 * Parse the supplied file.
+	 *
+	 * <p>Closing the returned stream closes the file and cancels all chunks
+	 * that are still being parsed.
+	 */
+	Stream<Arguments> parse(Path file) {
+		FileChannel channel;
+		try {
+			channel = FileChannel.open(file, StandardOpenOption.READ);
+		}
+		catch (IOException e) {
+			throw new JUnitException("File [" + file + "] could not be read", e);
+		}
+		ChunkIterator iterator = new ChunkIterator(channel);
+		return stream(spliteratorUnknownSize(iterator, Spliterator.ORDERED), false) //
+				.onClose(iterator::close);
+	}
+
+	private Chunk parseChunk(FileChannel channel, long start, long end, boolean first) {
+		try {
+			MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, start, end - start);
+			boolean extractHeaders = first && this.annotation.useHeadersInDisplayName();
+			CsvParser csvParser = createParserFor(this.annotation, extractHeaders);
+			csvParser.beginParsing(new ByteBufferInputStream(buffer), this.charset);
+			try {
+				List<String[]> records = new ArrayList<>();
+				for (String[] csvRecord = csvParser.parseNext(); csvRecord != null; csvRecord = csvParser.parseNext()) {
+					records.add(csvRecord);
+				}
+				String[] headers = extractHeaders && !records.isEmpty() ? getHeaders(csvParser) : null;
+				return new Chunk(records, headers);
+			}
+			finally {
+				csvParser.stopParsing();
+			}
+		}
+		catch (Throwable throwable) {
+			throw handleCsvException(throwable, this.annotation);
+		}
+	}
+
+	private class ChunkIterator implements Iterator<Arguments> {
+
+		private final FileChannel channel;
+		private final RecordBoundaryScanner scanner;
+		private final Deque<CompletableFuture<Chunk>> pendingChunks = new ArrayDeque<>();
+		private final boolean useHeadersInDisplayName = annotation.useHeadersInDisplayName();
+		private final Set<String> nullValues = toSet(annotation.nullValues());
+		private Iterator<String[]> records = Collections.emptyIterator();
+		private String[] headers;
+		private boolean first = true;
+
+		ChunkIterator(FileChannel channel) {
+			this.channel = channel;
+			try {
+				this.scanner = new RecordBoundaryScanner(channel);
+			}
+			catch (Throwable throwable) {
+				close();
+				throw handleCsvException(throwable, annotation);
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (!this.records.hasNext()) {
+				submitChunks();
+				CompletableFuture<Chunk> nextChunk = this.pendingChunks.poll();
+				if (nextChunk == null) {
+					close();
+					return false;
+				}
+				Chunk chunk = join(nextChunk);
+				if (chunk.headers != null) {
+					this.headers = chunk.headers;
+				}
+				this.records = chunk.records.iterator();
+			}
+			return true;
+		}
+
+		@Override
+		public Arguments next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return processCsvRecord(this.records.next(), this.nullValues, this.useHeadersInDisplayName,
+				this.headers);
+		}
+
+		private void submitChunks() {
+			try {
+				while (this.pendingChunks.size() < maxChunksInFlight && this.scanner.hasNext()) {
+					long start = this.scanner.position();
+					long end = this.scanner.nextBoundary();
+					boolean firstChunk = this.first;
+					this.first = false;
+					this.pendingChunks.add(CompletableFuture.supplyAsync(
+						() -> parseChunk(this.channel, start, end, firstChunk), executor));
+				}
+			}
+			catch (Throwable throwable) {
+				close();
+				throw handleCsvException(throwable, annotation);
+			}
+		}
+
+		private Chunk join(CompletableFuture<Chunk> chunk) {
+			try {
+				return chunk.join();
+			}
+			catch (CompletionException e) {
+				close();
+				throw ExceptionUtils.throwAsUncheckedException(e.getCause());
+			}
+		}
+
+		void close() {
+			this.pendingChunks.forEach(chunk -> chunk.cancel(false));
+			this.pendingChunks.clear();
+			try {
+				this.channel.close();
+			}
+			catch (IOException e) {
+				throw new JUnitException("Failed to close CSV file", e);
+			}
+		}
+
+	}
+
+	/**
+	 * Sequential scanner of the raw bytes of a CSV file that finds the record
+	 * boundaries at which the file is split into chunks.
+	 *
+	 * <p>A quote character only starts a quoted value at the beginning of a
+	 * value, optionally preceded by whitespace. Within a quoted value, two
+	 * consecutive quote characters represent an escaped quote character. A
+	 * comment starts with a {@code #} at the beginning of a line and extends
+	 * to the end of the line.
+	 */
+	private class RecordBoundaryScanner {
+
+		private final FileChannel channel;
+		private final long size;
+		private final byte[] delimiter;
+		private final byte quote;
+		private final byte[] lineSeparator;
+
+		private ByteBuffer window;
+		private long windowStart;
+		private long position;
+		private long scanPosition;
+
+		private byte previous;
+		private int delimiterIndex;
+		private boolean atLineStart = true;
+		private boolean atValueStart = true;
+		private boolean inComment;
+		private boolean inQuotes;
+		private boolean quotePending;
+
+		RecordBoundaryScanner(FileChannel channel) throws IOException {
+			this.channel = channel;
+			this.size = channel.size();
+			this.delimiter = selectDelimiter(annotation).getBytes(US_ASCII);
+			this.quote = (byte) annotation.quoteCharacter();
+			this.lineSeparator = annotation.lineSeparator().getBytes(US_ASCII);
+			if (charset.equals(UTF_8) && this.size >= 3 && byteAt(0) == (byte) 0xEF && byteAt(1) == (byte) 0xBB
+					&& byteAt(2) == (byte) 0xBF) {
+				// skip byte order mark
+				this.scanPosition = 3;
+			}
+		}
+
+		boolean hasNext() {
+			return this.position < this.size;
+		}
+
+		long position() {
+			return this.position;
+		}
+
+		/**
+		 * Scan to the first record boundary after the configured chunk size and
+		 * return its offset, or the size of the file if there is none.
+		 */
+		long nextBoundary() throws IOException {
+			long target = Math.min(this.size, this.position + chunkSize);
+			while (this.scanPosition < this.size) {
+				boolean recordEnd = consume(byteAt(this.scanPosition++));
+				if (recordEnd && this.scanPosition >= target) {
+					this.position = this.scanPosition;
+					return this.position;
+				}
+			}
+			this.position = this.size;
+			return this.position;
+		}
+
+		private boolean consume(byte current) {
+			byte previous = this.previous;
+			this.previous = current;
+			if (this.inQuotes) {
+				if (!this.quotePending) {
+					this.quotePending = current == this.quote;
+					return false;
+				}
+				this.quotePending = false;
+				if (current == this.quote) {
+					// escaped quote
+					return false;
+				}
+				this.inQuotes = false;
+			}
+			if (isLineEnd(current, previous)) {
+				this.atLineStart = true;
+				this.atValueStart = true;
+				this.inComment = false;
+				this.delimiterIndex = 0;
+				return true;
+			}
+			if (this.inComment) {
+				return false;
+			}
+			if (this.atLineStart && current == COMMENT) {
+				this.inComment = true;
+				this.atLineStart = false;
+				return false;
+			}
+			this.atLineStart = false;
+			if (this.atValueStart && current == this.quote) {
+				this.inQuotes = true;
+				this.atValueStart = false;
+				return false;
+			}
+			if (this.atValueStart && (current == ' ' || current == '\t')) {
+				return false;
+			}
+			this.atValueStart = matchesDelimiter(current);
+			return false;
+		}
+
+		private boolean isLineEnd(byte current, byte previous) {
+			if (this.lineSeparator.length == 1) {
+				return current == this.lineSeparator[0];
+			}
+			return current == this.lineSeparator[1] && previous == this.lineSeparator[0];
+		}
+
+		private boolean matchesDelimiter(byte current) {
+			if (current == this.delimiter[this.delimiterIndex]) {
+				if (++this.delimiterIndex == this.delimiter.length) {
+					this.delimiterIndex = 0;
+					return true;
+				}
+				return false;
+			}
+			this.delimiterIndex = current == this.delimiter[0] ? 1 : 0;
+			return false;
+		}
+
+		private byte byteAt(long offset) throws IOException {
+			if (this.window == null || offset < this.windowStart
+					|| offset >= this.windowStart + this.window.limit()) {
+				this.windowStart = offset;
+				long length = Math.min(SCAN_WINDOW_SIZE, this.size - offset);
+				this.window = this.channel.map(MapMode.READ_ONLY, offset, length);
+			}
+			return this.window.get((int) (offset - this.windowStart));
+		}
+
+	}
+
+	private static class Chunk {
+
+		private final List<String[]> records;
+		private final String[] headers;
+
+		Chunk(List<String[]> records, String[] headers) {
+			this.records = records;
+			this.headers = headers;
+		}
+
+	}
+
+	private static class ByteBufferInputStream extends InputStream {
+
+		private final ByteBuffer buffer;
+
+		ByteBufferInputStream(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public int read() {
+			return this.buffer.hasRemaining() ? this.buffer.get() & 0xFF : -1;
+		}
+
+		@Override
+		public int read(byte[] bytes, int offset, int length) {
+			if (length == 0) {
+				return 0;
+			}
+			if (!this.buffer.hasRemaining()) {
+				return -1;
+			}
+			int count = Math.min(length, this.buffer.remaining());
+			this.buffer.get(bytes, offset, count);
+			return count;
+		}
+
+		@Override
+		public int available() {
+			return this.buffer.remaining();
+		}
+
+	}
+
+}
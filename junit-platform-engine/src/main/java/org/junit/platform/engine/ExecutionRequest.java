@@ -10,10 +10,12 @@
 
 package org.junit.platform.engine;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import org.apiguardian.api.API;
+import org.junit.platform.commons.util.Preconditions;
 
 /**
  * Provides a single {@link TestEngine} access to the information necessary to
@@ -33,13 +35,20 @@ public class ExecutionRequest {
 	private final TestDescriptor rootTestDescriptor;
 	private final EngineExecutionListener engineExecutionListener;
 	private final ConfigurationParameters configurationParameters;
+	private final PendingDiscovery pendingDiscovery;
 
 	@API(status = INTERNAL, since = "1.0")
 	public ExecutionRequest(TestDescriptor rootTestDescriptor, EngineExecutionListener engineExecutionListener,
 			ConfigurationParameters configurationParameters) {
+		this(rootTestDescriptor, engineExecutionListener, configurationParameters, PendingDiscovery.none());
+	}
+
+	private ExecutionRequest(TestDescriptor rootTestDescriptor, EngineExecutionListener engineExecutionListener,
+			ConfigurationParameters configurationParameters, PendingDiscovery pendingDiscovery) {
 		this.rootTestDescriptor = rootTestDescriptor;
 		this.engineExecutionListener = engineExecutionListener;
 		this.configurationParameters = configurationParameters;
+		this.pendingDiscovery = pendingDiscovery;
 	}
 
 	/**
@@ -59,6 +68,28 @@ public class ExecutionRequest {
 		return new ExecutionRequest(rootTestDescriptor, engineExecutionListener, configurationParameters);
 	}
 
+	/**
+	 * Factory for creating an execution request whose tests are still being
+	 * discovered.
+	 *
+	 * @param rootTestDescriptor the engine's root {@link TestDescriptor}
+	 * @param engineExecutionListener the {@link EngineExecutionListener} to be
+	 * notified of test execution events
+	 * @param configurationParameters {@link ConfigurationParameters} that the
+	 * engine may use to influence test execution
+	 * @param pendingDiscovery the {@link PendingDiscovery} that provides the
+	 * results of the discovery that is still in progress
+	 * @return a new {@code ExecutionRequest}; never {@code null}
+	 * @since 1.12
+	 */
+	@API(status = INTERNAL, since = "1.12")
+	public static ExecutionRequest create(TestDescriptor rootTestDescriptor,
+			EngineExecutionListener engineExecutionListener, ConfigurationParameters configurationParameters,
+			PendingDiscovery pendingDiscovery) {
+		return new ExecutionRequest(rootTestDescriptor, engineExecutionListener, configurationParameters,
+			Preconditions.notNull(pendingDiscovery, "pendingDiscovery must not be null"));
+	}
+
 	/**
 	 * Get the root {@link TestDescriptor} of the engine that processes this
 	 * request.
@@ -87,4 +118,20 @@ public class ExecutionRequest {
 		return this.configurationParameters;
 	}
 
+	/**
+	 * Get the {@link PendingDiscovery} that provides the results of test
+	 * discovery that is still in progress.
+	 *
+	 * <p>Unless pipelined execution has been enabled in the launcher,
+	 * discovery has already been completed and the returned
+	 * {@code PendingDiscovery} has no results.
+	 *
+	 * @return the pending discovery; never {@code null}
+	 * @since 1.12
+	 */
+	@API(status = EXPERIMENTAL, since = "1.12")
+	public PendingDiscovery getPendingDiscovery() {
+		return this.pendingDiscovery;
+	}
+
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.util.Optional;
+
+import org.apiguardian.api.API;
+
+/**
+ * {@code PendingDiscovery} provides a {@link TestEngine} access to the results
+ * of test discovery that is still in progress while the engine is already
+ * executing the tests that have been discovered so far.
+ *
+ * <p>If enabled, the launcher splits the selectors of a discovery request into
+ * batches. The engine is asked to execute the tests discovered for the first
+ * batch while the remaining batches are discovered in the background. Each
+ * subsequent result is the root {@link TestDescriptor} the engine returned from
+ * {@link TestEngine#discover(EngineDiscoveryRequest, UniqueId)} for one of the
+ * remaining batches, after filters have been applied and it has been
+ * {@linkplain TestDescriptor#prune() pruned}. Its children are not part of the
+ * {@linkplain ExecutionRequest#getRootTestDescriptor() root descriptor} of the
+ * {@link ExecutionRequest}. Engines that support pending discovery set the
+ * root descriptor as their {@linkplain TestDescriptor#setParent parent}
+ * &mdash; like for dynamic tests, without adding them to its children &mdash;,
+ * report them and all of their descendants via
+ * {@link EngineExecutionListener#dynamicTestRegistered(TestDescriptor)}, and
+ * execute them before the execution of the root descriptor is finished.
+ *
+ * @since 1.12
+ * @see ExecutionRequest#getPendingDiscovery()
+ */
+@API(status = EXPERIMENTAL, since = "1.12")
+@FunctionalInterface
+public interface PendingDiscovery {
+
+	/**
+	 * Get a {@code PendingDiscovery} without any results.
+	 *
+	 * @return a {@code PendingDiscovery} that is already complete; never
+	 * {@code null}
+	 */
+	static PendingDiscovery none() {
+		return Optional::empty;
+	}
+
+	/**
+	 * Wait for the next result of the pending discovery.
+	 *
+	 * <p>Once this method returned an empty {@code Optional}, subsequent
+	 * invocations return an empty {@code Optional} as well.
+	 *
+	 * @return the root descriptor discovered for the next batch of selectors;
+	 * never {@code null} but empty once discovery is complete
+	 * @throws InterruptedException if the current thread is interrupted while
+	 * waiting
+	 * @throws org.junit.platform.commons.JUnitException if discovery of the
+	 * next batch of selectors failed
+	 */
+	Optional<TestDescriptor> awaitNextResult() throws InterruptedException;
+
+}
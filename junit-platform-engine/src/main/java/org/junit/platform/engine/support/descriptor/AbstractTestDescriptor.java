@@ -11,12 +11,14 @@
 package org.junit.platform.engine.support.descriptor;
 
 import static java.util.Collections.emptySet;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import org.apiguardian.api.API;
 import org.junit.platform.commons.util.Preconditions;
@@ -39,7 +41,13 @@ public abstract class AbstractTestDescriptor implements TestDescriptor {
 
 	private final UniqueId uniqueId;
 
-	private final String displayName;
+	private volatile String displayName;
+
+	// guarded by "this"; null once the display name has been computed
+	private Supplier<String> displayNameSupplier;
+
+	// guarded by "this"
+	private RuntimeException displayNameFailure;
 
 	private final TestSource source;
 
@@ -90,6 +98,37 @@ public abstract class AbstractTestDescriptor implements TestDescriptor {
 		this.source = source;
 	}
 
+	/**
+	 * Create a new {@code AbstractTestDescriptor} with the supplied
+	 * {@link UniqueId}, display name supplier, and source.
+	 *
+	 * <p>The display name is computed by the supplier the first time it is
+	 * {@linkplain #getDisplayName() requested} and reused afterwards. Engines
+	 * may use this constructor to avoid computing display names that are never
+	 * requested, e.g. if none of the registered listeners reports them.
+	 *
+	 * <p>If the supplier throws an exception, the same exception is thrown by
+	 * this and all subsequent invocations of {@link #getDisplayName()} without
+	 * invoking the supplier again.
+	 *
+	 * @param uniqueId the unique ID of this {@code TestDescriptor}; never
+	 * {@code null}
+	 * @param displayNameSupplier the supplier of the display name for this
+	 * {@code TestDescriptor}; never {@code null} and must not supply
+	 * {@code null} or a blank string
+	 * @param source the source of the test or container described by this
+	 * {@code TestDescriptor}; can be {@code null}
+	 * @since 1.12
+	 * @see #AbstractTestDescriptor(UniqueId, String, TestSource)
+	 */
+	@API(status = EXPERIMENTAL, since = "1.12")
+	protected AbstractTestDescriptor(UniqueId uniqueId, Supplier<String> displayNameSupplier, TestSource source) {
+		this.uniqueId = Preconditions.notNull(uniqueId, "UniqueId must not be null");
+		this.displayNameSupplier = Preconditions.notNull(displayNameSupplier,
+			"displayNameSupplier must not be null");
+		this.source = source;
+	}
+
 	@Override
 	public final UniqueId getUniqueId() {
 		return this.uniqueId;
@@ -97,7 +136,34 @@ public abstract class AbstractTestDescriptor implements TestDescriptor {
 
 	@Override
 	public final String getDisplayName() {
-		return this.displayName;
+		String displayName = this.displayName;
+		if (displayName == null) {
+			synchronized (this) {
+				displayName = this.displayName;
+				if (displayName == null) {
+					displayName = computeDisplayName();
+				}
+			}
+		}
+		return displayName;
+	}
+
+	private String computeDisplayName() {
+		if (this.displayNameFailure != null) {
+			throw this.displayNameFailure;
+		}
+		try {
+			String displayName = Preconditions.notBlank(this.displayNameSupplier.get(),
+				"displayName must not be null or blank");
+			this.displayName = displayName;
+			this.displayNameSupplier = null;
+			return displayName;
+		}
+		catch (RuntimeException ex) {
+			this.displayNameFailure = ex;
+			this.displayNameSupplier = null;
+			throw ex;
+		}
 	}
 
 	@Override
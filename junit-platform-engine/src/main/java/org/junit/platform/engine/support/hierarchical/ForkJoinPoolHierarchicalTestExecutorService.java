@@ -11,6 +11,7 @@
 package org.junit.platform.engine.support.hierarchical;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.GLOBAL_READ_WRITE;
 import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
@@ -31,6 +32,7 @@ import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -53,11 +55,39 @@ import org.junit.platform.engine.ConfigurationParameters;
 @API(status = STABLE, since = "1.10")
 public class ForkJoinPoolHierarchicalTestExecutorService implements HierarchicalTestExecutorService {
 
+	/**
+	 * Property name used to enable batched execution of concurrent sibling
+	 * {@linkplain TestTask#isLeaf() leaf tasks} that don't require any locks:
+	 * {@value}
+	 *
+	 * <p>When enabled and more of these tasks are passed to
+	 * {@link #invokeAll(List)} than the configured parallelism, they are not
+	 * forked individually. Instead, they are executed by one worker per degree
+	 * of parallelism, each of which repeatedly claims a chunk of the remaining
+	 * tasks. Chunk sizes are derived from the observed durations of the
+	 * batch's previously executed tasks so that short tasks are claimed in
+	 * larger chunks than long ones. Since tasks of the same chunk are executed sequentially, tasks must
+	 * not rely on being executed concurrently with their siblings.
+	 *
+	 * <p>Value must be either {@code true} or {@code false}; defaults to {@code false}.
+	 *
+	 * @since 1.12
+	 */
+	@API(status = EXPERIMENTAL, since = "1.12")
+	public static final String CONFIG_BATCHING_ENABLED_PROPERTY_NAME = "batching.enabled";
+
+	/**
+	 * Duration a worker should approximately spend on a single chunk of
+	 * batched tasks.
+	 */
+	private static final long TARGET_CHUNK_DURATION_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
 	// package-private for testing
 	final ForkJoinPool forkJoinPool;
 
 	private final TaskEventListener taskEventListener;
 	private final int parallelism;
+	private final boolean batchingEnabled;
 	private final ThreadLocal<ThreadLock> threadLocks = ThreadLocal.withInitial(ThreadLock::new);
 
 	/**
@@ -67,7 +97,8 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 	 * @see DefaultParallelExecutionConfigurationStrategy
 	 */
 	public ForkJoinPoolHierarchicalTestExecutorService(ConfigurationParameters configurationParameters) {
-		this(createConfiguration(configurationParameters));
+		this(createConfiguration(configurationParameters), TaskEventListener.NOOP,
+			configurationParameters.getBoolean(CONFIG_BATCHING_ENABLED_PROPERTY_NAME).orElse(false));
 	}
 
 	/**
@@ -83,8 +114,14 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 
 	ForkJoinPoolHierarchicalTestExecutorService(ParallelExecutionConfiguration configuration,
 			TaskEventListener taskEventListener) {
+		this(configuration, taskEventListener, false);
+	}
+
+	ForkJoinPoolHierarchicalTestExecutorService(ParallelExecutionConfiguration configuration,
+			TaskEventListener taskEventListener, boolean batchingEnabled) {
 		forkJoinPool = createForkJoinPool(configuration);
 		this.taskEventListener = taskEventListener;
+		this.batchingEnabled = batchingEnabled;
 		parallelism = forkJoinPool.getParallelism();
 		LoggerFactory.getLogger(getClass()).config(() -> "Using ForkJoinPool with parallelism of " + parallelism);
 	}
@@ -161,7 +198,7 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 		}
 		Deque<ExclusiveTask> isolatedTasks = new LinkedList<>();
 		Deque<ExclusiveTask> sameThreadTasks = new LinkedList<>();
-		Deque<ExclusiveTask> concurrentTasksInReverseOrder = new LinkedList<>();
+		Deque<ForkJoinTask<Void>> concurrentTasksInReverseOrder = new LinkedList<>();
 		forkConcurrentTasks(tasks, isolatedTasks, sameThreadTasks, concurrentTasksInReverseOrder);
 		executeSync(sameThreadTasks);
 		joinConcurrentTasksInReverseOrderToEnableWorkStealing(concurrentTasksInReverseOrder);
@@ -169,22 +206,52 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 	}
 
 	private void forkConcurrentTasks(List<? extends TestTask> tasks, Deque<ExclusiveTask> isolatedTasks,
-			Deque<ExclusiveTask> sameThreadTasks, Deque<ExclusiveTask> concurrentTasksInReverseOrder) {
+			Deque<ExclusiveTask> sameThreadTasks, Deque<ForkJoinTask<Void>> concurrentTasksInReverseOrder) {
+		List<TestTask> batchableTasks = new ArrayList<>();
 		for (TestTask testTask : tasks) {
-			ExclusiveTask exclusiveTask = new ExclusiveTask(testTask);
 			if (requiresGlobalReadWriteLock(testTask)) {
-				isolatedTasks.add(exclusiveTask);
+				isolatedTasks.add(new ExclusiveTask(testTask));
 			}
 			else if (testTask.getExecutionMode() == SAME_THREAD) {
-				sameThreadTasks.add(exclusiveTask);
+				sameThreadTasks.add(new ExclusiveTask(testTask));
+			}
+			else if (batchingEnabled && isBatchable(testTask)) {
+				batchableTasks.add(testTask);
 			}
 			else {
+				ExclusiveTask exclusiveTask = new ExclusiveTask(testTask);
+				exclusiveTask.fork();
+				concurrentTasksInReverseOrder.addFirst(exclusiveTask);
+			}
+		}
+		if (batchableTasks.size() > parallelism) {
+			batchableTasks.forEach(taskEventListener::batched);
+			TaskBatch batch = new TaskBatch(batchableTasks, parallelism);
+			for (int i = 0; i < parallelism; i++) {
+				BatchWorker worker = new BatchWorker(batch);
+				worker.fork();
+				concurrentTasksInReverseOrder.addFirst(worker);
+			}
+		}
+		else {
+			for (TestTask testTask : batchableTasks) {
+				ExclusiveTask exclusiveTask = new ExclusiveTask(testTask);
 				exclusiveTask.fork();
 				concurrentTasksInReverseOrder.addFirst(exclusiveTask);
 			}
 		}
 	}
 
+	/**
+	 * Leaf tasks that don't require any locks are compatible with all locks
+	 * held by any worker thread and can thus never be deferred. Other tasks
+	 * are not batched since they may take arbitrarily long to execute their
+	 * children and would thereby block the remaining tasks of their chunk.
+	 */
+	private static boolean isBatchable(TestTask testTask) {
+		return testTask.isLeaf() && testTask.getResourceLock().getResources().isEmpty();
+	}
+
 	private static boolean requiresGlobalReadWriteLock(TestTask testTask) {
 		return testTask.getResourceLock().getResources().contains(GLOBAL_READ_WRITE);
 	}
@@ -196,8 +263,8 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 	}
 
 	private void joinConcurrentTasksInReverseOrderToEnableWorkStealing(
-			Deque<ExclusiveTask> concurrentTasksInReverseOrder) {
-		for (ExclusiveTask forkedTask : concurrentTasksInReverseOrder) {
+			Deque<ForkJoinTask<Void>> concurrentTasksInReverseOrder) {
+		for (ForkJoinTask<Void> forkedTask : concurrentTasksInReverseOrder) {
 			forkedTask.join();
 			resubmitDeferredTasks();
 		}
@@ -285,6 +352,112 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 		}
 	}
 
+	/**
+	 * Concurrent sibling tasks that are executed by a fixed number of
+	 * {@linkplain BatchWorker workers}.
+	 *
+	 * @since 1.12
+	 */
+	class TaskBatch {
+
+		private final List<TestTask> tasks;
+		private final int workers;
+		private final AtomicInteger nextIndex = new AtomicInteger();
+
+		/**
+		 * Exponentially weighted moving average of the durations of this
+		 * batch's tasks or {@code 0} if none have been executed, yet; updated
+		 * without synchronization since it's merely an estimate.
+		 */
+		private volatile long averageTaskNanos;
+
+		TaskBatch(List<TestTask> tasks, int workers) {
+			this.tasks = tasks;
+			this.workers = workers;
+		}
+
+		/**
+		 * Execute chunks of the remaining tasks until all of them have been
+		 * claimed.
+		 */
+		void executeRemainingChunks() {
+			while (true) {
+				int chunkSize = chunkSize();
+				int start = nextIndex.getAndAdd(chunkSize);
+				if (start >= tasks.size()) {
+					return;
+				}
+				int end = Math.min(start + chunkSize, tasks.size());
+				for (int index = start; index < end; index++) {
+					execute(tasks.get(index));
+				}
+			}
+		}
+
+		private void execute(TestTask testTask) {
+			long startTime = System.nanoTime();
+			testTask.execute();
+			recordDuration(System.nanoTime() - startTime);
+		}
+
+		/**
+		 * Compute the number of tasks to claim at once based on the observed
+		 * durations of batched tasks while leaving enough tasks for all
+		 * workers to keep them busy until all tasks have been executed.
+		 */
+		private int chunkSize() {
+			long average = averageTaskNanos;
+			if (average == 0) {
+				return 1;
+			}
+			int remaining = Math.max(0, tasks.size() - nextIndex.get());
+			long byDuration = Math.max(1, TARGET_CHUNK_DURATION_NANOS / average);
+			long byRemaining = Math.max(1, remaining / (2L * workers));
+			return (int) Math.min(byDuration, byRemaining);
+		}
+
+		private void recordDuration(long nanos) {
+			long average = averageTaskNanos;
+			averageTaskNanos = average == 0 ? Math.max(1, nanos) : Math.max(1, average + (nanos - average) / 8);
+		}
+	}
+
+	/**
+	 * Worker that executes chunks of a {@link TaskBatch}.
+	 *
+	 * @since 1.12
+	 */
+	// this class cannot not be serialized because TestTask is not Serializable
+	@SuppressWarnings({ "serial", "RedundantSuppression" })
+	class BatchWorker extends ForkJoinTask<Void> {
+
+		private final TaskBatch batch;
+
+		BatchWorker(TaskBatch batch) {
+			this.batch = batch;
+		}
+
+		@Override
+		public final Void getRawResult() {
+			return null;
+		}
+
+		@Override
+		protected final void setRawResult(Void mustBeNull) {
+		}
+
+		@Override
+		protected boolean exec() {
+			batch.executeRemainingChunks();
+			return true;
+		}
+
+		@Override
+		public String toString() {
+			return "BatchWorker [" + batch.tasks.size() + " tasks]";
+		}
+	}
+
 	static class WorkerThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
 
 		private final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
@@ -334,6 +507,9 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 		};
 
 		void deferred(TestTask testTask);
+
+		default void batched(TestTask testTask) {
+		}
 	}
 
 }
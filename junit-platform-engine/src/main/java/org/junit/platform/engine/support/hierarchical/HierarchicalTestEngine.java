@@ -10,6 +10,7 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 import static org.apiguardian.api.API.Status.STABLE;
 
@@ -50,8 +51,8 @@ public abstract class HierarchicalTestEngine<C extends EngineExecutionContext> i
 		try (HierarchicalTestExecutorService executorService = createExecutorService(request)) {
 			C executionContext = createExecutionContext(request);
 			ThrowableCollector.Factory throwableCollectorFactory = createThrowableCollectorFactory(request);
-			new HierarchicalTestExecutor<>(request, executionContext, executorService,
-				throwableCollectorFactory).execute().get();
+			new HierarchicalTestExecutor<>(request, executionContext, executorService, throwableCollectorFactory,
+				getMaxInFlightDynamicTests(request)).execute().get();
 		}
 		catch (Exception exception) {
 			throw new JUnitException("Error executing tests for engine " + getId(), exception);
@@ -103,6 +104,35 @@ public abstract class HierarchicalTestEngine<C extends EngineExecutionContext> i
 		return OpenTest4JAwareThrowableCollector::new;
 	}
 
+	/**
+	 * Get the maximum number of dynamic tests or containers a single node may
+	 * have submitted for execution that have not finished yet.
+	 *
+	 * <p>When a node {@linkplain Node.DynamicTestExecutor#execute registers}
+	 * a dynamic test while this number has been reached, the call blocks
+	 * until one of the node's in-flight dynamic tests has finished. This
+	 * allows nodes that lazily produce a large number of dynamic tests to
+	 * do so in a bounded window rather than submitting all of them to the
+	 * {@linkplain #createExecutorService executor service} at once.
+	 *
+	 * <p>An engine may use the information in the supplied <em>request</em>
+	 * such as the contained
+	 * {@linkplain ExecutionRequest#getConfigurationParameters() configuration parameters}
+	 * to decide what limit to return.
+	 *
+	 * <p>By default, this method returns {@link Integer#MAX_VALUE}, i.e. the
+	 * number of in-flight dynamic tests is not limited.
+	 *
+	 * @param request the request about to be executed
+	 * @return the maximum number of in-flight dynamic tests per node; must be
+	 * greater than zero
+	 * @since 1.12
+	 */
+	@API(status = EXPERIMENTAL, since = "1.12")
+	protected int getMaxInFlightDynamicTests(ExecutionRequest request) {
+		return Integer.MAX_VALUE;
+	}
+
 	/**
 	 * Create the initial execution context for executing the supplied
 	 * {@linkplain ExecutionRequest request}.
@@ -37,23 +37,35 @@ class HierarchicalTestExecutor<C extends EngineExecutionContext> {
 	private final C rootContext;
 	private final HierarchicalTestExecutorService executorService;
 	private final ThrowableCollector.Factory throwableCollectorFactory;
+	private final int maxInFlightDynamicTests;
 
 	HierarchicalTestExecutor(ExecutionRequest request, C rootContext, HierarchicalTestExecutorService executorService,
 			ThrowableCollector.Factory throwableCollectorFactory) {
+		this(request, rootContext, executorService, throwableCollectorFactory, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * @since 1.12
+	 */
+	HierarchicalTestExecutor(ExecutionRequest request, C rootContext, HierarchicalTestExecutorService executorService,
+			ThrowableCollector.Factory throwableCollectorFactory, int maxInFlightDynamicTests) {
 		this.request = request;
 		this.rootContext = rootContext;
 		this.executorService = executorService;
 		this.throwableCollectorFactory = throwableCollectorFactory;
+		this.maxInFlightDynamicTests = maxInFlightDynamicTests;
 	}
 
 	Future<Void> execute() {
 		TestDescriptor rootTestDescriptor = this.request.getRootTestDescriptor();
 		EngineExecutionListener executionListener = this.request.getEngineExecutionListener();
-		NodeExecutionAdvisor executionAdvisor = new NodeTreeWalker().walk(rootTestDescriptor);
+		NodeTreeWalker treeWalker = new NodeTreeWalker();
+		NodeExecutionAdvisor executionAdvisor = treeWalker.walk(rootTestDescriptor);
 		NodeTestTaskContext taskContext = new NodeTestTaskContext(executionListener, this.executorService,
-			this.throwableCollectorFactory, executionAdvisor);
+			this.throwableCollectorFactory, executionAdvisor, this.maxInFlightDynamicTests);
 		NodeTestTask<C> rootTestTask = new NodeTestTask<>(taskContext, rootTestDescriptor);
 		rootTestTask.setParentContext(this.rootContext);
+		rootTestTask.setPendingDiscovery(this.request.getPendingDiscovery(), treeWalker);
 		return this.executorService.submit(rootTestTask);
 	}
 
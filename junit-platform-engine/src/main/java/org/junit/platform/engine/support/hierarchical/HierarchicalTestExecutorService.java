@@ -10,6 +10,7 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import java.util.List;
@@ -99,6 +100,21 @@ public interface HierarchicalTestExecutorService extends AutoCloseable {
 		 */
 		void execute();
 
+		/**
+		 * Determine whether this task represents a leaf of the test tree, i.e.
+		 * a test that cannot have any children.
+		 *
+		 * <p>Implementations of {@link HierarchicalTestExecutorService} may use
+		 * this information to schedule such tasks more efficiently.
+		 *
+		 * @return {@code true} if this task is a leaf; {@code false} by default
+		 * @since 1.12
+		 */
+		@API(status = EXPERIMENTAL, since = "1.12")
+		default boolean isLeaf() {
+			return false;
+		}
+
 	}
 
 }
@@ -284,6 +284,11 @@ public interface Node<C extends EngineExecutionContext> {
 		/**
 		 * Submit a dynamic test descriptor for immediate execution.
 		 *
+		 * <p>If the engine {@linkplain HierarchicalTestEngine#getMaxInFlightDynamicTests
+		 * limits} the number of in-flight dynamic tests and that limit has been
+		 * reached, this method blocks until one of the previously submitted
+		 * test descriptors has finished.
+		 *
 		 * @param testDescriptor the test descriptor to be executed; never
 		 * {@code null}
 		 */
@@ -10,20 +10,37 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
 
 /**
+ * Execution advice for the nodes of a test tree as determined by the
+ * {@link NodeTreeWalker}.
+ *
+ * <p>While a subtree is being walked, forced execution modes and resource
+ * locks are recorded for individual nodes. Afterwards, the resulting
+ * {@link ExecutionAdvice} of every node of the subtree is
+ * {@linkplain #computeAdvice(TestDescriptor) computed} once so that it can be
+ * retrieved during execution without walking up the ancestors of a node.
+ * Advice for dynamically registered descendants is derived from their
+ * closest ancestor with precomputed advice and not stored so that their
+ * descriptors may be garbage collected.
+ *
+ * <p>Advice may be added for children that are added to the root descriptor
+ * while other nodes are already being executed.
+ *
  * @since 1.3.1
  */
 class NodeExecutionAdvisor {
 
-	private final Map<TestDescriptor, ExecutionMode> forcedDescendantExecutionModeByTestDescriptor = new HashMap<>();
-	private final Map<TestDescriptor, ResourceLock> resourceLocksByTestDescriptor = new HashMap<>();
+	private final Map<TestDescriptor, ExecutionMode> forcedDescendantExecutionModeByTestDescriptor = //
+		new ConcurrentHashMap<>();
+	private final Map<TestDescriptor, ResourceLock> resourceLocksByTestDescriptor = new ConcurrentHashMap<>();
+	private final Map<TestDescriptor, ExecutionAdvice> adviceByTestDescriptor = new ConcurrentHashMap<>();
 
 	void forceDescendantExecutionMode(TestDescriptor testDescriptor, ExecutionMode executionMode) {
 		forcedDescendantExecutionModeByTestDescriptor.put(testDescriptor, executionMode);
@@ -37,19 +54,114 @@ class NodeExecutionAdvisor {
 		resourceLocksByTestDescriptor.remove(testDescriptor);
 	}
 
-	Optional<ExecutionMode> getForcedExecutionMode(TestDescriptor testDescriptor) {
-		return testDescriptor.getParent().flatMap(this::lookupExecutionModeForcedByAncestor);
+	/**
+	 * Compute the advice for the supplied descriptor and all of its
+	 * descendants after the subtree has been walked.
+	 *
+	 * @since 1.12
+	 */
+	void computeAdvice(TestDescriptor testDescriptor) {
+		TestDescriptor parent = testDescriptor.getParent().orElse(null);
+		ExecutionMode forcedExecutionMode = parent == null ? null
+				: getAdvice(parent).getForcedDescendantExecutionMode();
+		computeAdvice(testDescriptor, forcedExecutionMode);
+	}
+
+	private void computeAdvice(TestDescriptor testDescriptor, ExecutionMode forcedExecutionMode) {
+		ExecutionMode forcedDescendantExecutionMode = forcedDescendantExecutionModeByTestDescriptor.getOrDefault(
+			testDescriptor, forcedExecutionMode);
+		adviceByTestDescriptor.put(testDescriptor,
+			new ExecutionAdvice(getResourceLock(testDescriptor), forcedExecutionMode, forcedDescendantExecutionMode));
+		for (TestDescriptor child : testDescriptor.getChildren()) {
+			computeAdvice(child, forcedDescendantExecutionMode);
+		}
 	}
 
-	private Optional<ExecutionMode> lookupExecutionModeForcedByAncestor(TestDescriptor testDescriptor) {
-		ExecutionMode value = forcedDescendantExecutionModeByTestDescriptor.get(testDescriptor);
-		if (value != null) {
-			return Optional.of(value);
+	/**
+	 * Get the advice for the supplied descriptor.
+	 *
+	 * @since 1.12
+	 */
+	ExecutionAdvice getAdvice(TestDescriptor testDescriptor) {
+		ExecutionAdvice advice = adviceByTestDescriptor.get(testDescriptor);
+		if (advice != null) {
+			return advice;
 		}
-		return testDescriptor.getParent().flatMap(this::lookupExecutionModeForcedByAncestor);
+		// dynamically registered descendant or root descriptor
+		Optional<TestDescriptor> ancestor = testDescriptor.getParent();
+		while (ancestor.isPresent()) {
+			advice = adviceByTestDescriptor.get(ancestor.get());
+			if (advice != null) {
+				return ExecutionAdvice.forDynamicDescendant(advice.getForcedDescendantExecutionMode());
+			}
+			ancestor = ancestor.get().getParent();
+		}
+		return ExecutionAdvice.NONE;
+	}
+
+	Optional<ExecutionMode> getForcedExecutionMode(TestDescriptor testDescriptor) {
+		return Optional.ofNullable(getAdvice(testDescriptor).getForcedExecutionMode());
 	}
 
 	ResourceLock getResourceLock(TestDescriptor testDescriptor) {
 		return resourceLocksByTestDescriptor.getOrDefault(testDescriptor, NopLock.INSTANCE);
 	}
+
+	/**
+	 * Immutable execution advice for a single node.
+	 *
+	 * @since 1.12
+	 */
+	static final class ExecutionAdvice {
+
+		static final ExecutionAdvice NONE = new ExecutionAdvice(NopLock.INSTANCE, null, null);
+
+		private static final ExecutionAdvice SAME_THREAD_FOR_DYNAMIC_DESCENDANT = new ExecutionAdvice(
+			NopLock.INSTANCE, ExecutionMode.SAME_THREAD, ExecutionMode.SAME_THREAD);
+
+		private static final ExecutionAdvice CONCURRENT_FOR_DYNAMIC_DESCENDANT = new ExecutionAdvice(
+			NopLock.INSTANCE, ExecutionMode.CONCURRENT, ExecutionMode.CONCURRENT);
+
+		/**
+		 * Dynamically registered descendants must not declare exclusive
+		 * resources, so their advice only depends on the execution mode
+		 * forced by their ancestors.
+		 */
+		static ExecutionAdvice forDynamicDescendant(ExecutionMode forcedExecutionMode) {
+			if (forcedExecutionMode == null) {
+				return NONE;
+			}
+			return forcedExecutionMode == ExecutionMode.SAME_THREAD ? SAME_THREAD_FOR_DYNAMIC_DESCENDANT
+					: CONCURRENT_FOR_DYNAMIC_DESCENDANT;
+		}
+
+		private final ResourceLock resourceLock;
+		private final ExecutionMode forcedExecutionMode;
+		private final ExecutionMode forcedDescendantExecutionMode;
+
+		private ExecutionAdvice(ResourceLock resourceLock, ExecutionMode forcedExecutionMode,
+				ExecutionMode forcedDescendantExecutionMode) {
+			this.resourceLock = resourceLock;
+			this.forcedExecutionMode = forcedExecutionMode;
+			this.forcedDescendantExecutionMode = forcedDescendantExecutionMode;
+		}
+
+		ResourceLock getResourceLock() {
+			return this.resourceLock;
+		}
+
+		/**
+		 * {@return the execution mode forced by an ancestor or {@code null}}
+		 */
+		ExecutionMode getForcedExecutionMode() {
+			return this.forcedExecutionMode;
+		}
+
+		/**
+		 * {@return the execution mode forced for all descendants or {@code null}}
+		 */
+		ExecutionMode getForcedDescendantExecutionMode() {
+			return this.forcedDescendantExecutionMode;
+		}
+	}
 }
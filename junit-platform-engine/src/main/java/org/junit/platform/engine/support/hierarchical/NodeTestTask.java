@@ -10,18 +10,25 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static java.util.Collections.emptyList;
 import static java.util.concurrent.CompletableFuture.completedFuture;
-import static java.util.stream.Collectors.toCollection;
 import static org.junit.platform.engine.TestExecutionResult.failed;
+import static org.junit.platform.engine.TestExecutionResult.successful;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.logging.Logger;
@@ -30,17 +37,21 @@ import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.commons.util.UnrecoverableExceptions;
 import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.PendingDiscovery;
 import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
 import org.junit.platform.engine.support.hierarchical.Node.DynamicTestExecutor;
 import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
+import org.junit.platform.engine.support.hierarchical.Node.Invocation;
 import org.junit.platform.engine.support.hierarchical.Node.SkipResult;
+import org.junit.platform.engine.support.hierarchical.NodeExecutionAdvisor.ExecutionAdvice;
 
 /**
  * @since 1.3
  */
-class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
+class NodeTestTask<C extends EngineExecutionContext> implements TestTask, Invocation<C> {
 
 	private static final Logger logger = LoggerFactory.getLogger(NodeTestTask.class);
 	private static final Runnable NOOP = () -> {
@@ -54,9 +65,16 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 	private C parentContext;
 	private C context;
 
+	// lazily resolved; racy initialization is fine since the results are stable
+	private ExecutionAdvice advice;
+	private ExecutionMode executionMode;
+
+	private PendingDiscovery pendingDiscovery = PendingDiscovery.none();
+	private NodeTreeWalker treeWalker;
+
 	private SkipResult skipResult;
 	private boolean started;
-	private ThrowableCollector throwableCollector;
+	private ThrowableCollector throwableCollector; // lazily created by collect()
 
 	NodeTestTask(NodeTestTaskContext taskContext, TestDescriptor testDescriptor) {
 		this(taskContext, testDescriptor, NOOP);
@@ -71,12 +89,34 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 
 	@Override
 	public ResourceLock getResourceLock() {
-		return taskContext.getExecutionAdvisor().getResourceLock(testDescriptor);
+		return getAdvice().getResourceLock();
 	}
 
 	@Override
 	public ExecutionMode getExecutionMode() {
-		return taskContext.getExecutionAdvisor().getForcedExecutionMode(testDescriptor).orElse(node.getExecutionMode());
+		ExecutionMode executionMode = this.executionMode;
+		if (executionMode == null) {
+			executionMode = getAdvice().getForcedExecutionMode();
+			if (executionMode == null) {
+				executionMode = node.getExecutionMode();
+			}
+			this.executionMode = executionMode;
+		}
+		return executionMode;
+	}
+
+	@Override
+	public boolean isLeaf() {
+		return testDescriptor.getType() == TestDescriptor.Type.TEST;
+	}
+
+	private ExecutionAdvice getAdvice() {
+		ExecutionAdvice advice = this.advice;
+		if (advice == null) {
+			advice = taskContext.getExecutionAdvisor().getAdvice(testDescriptor);
+			this.advice = advice;
+		}
+		return advice;
 	}
 
 	@Override
@@ -88,15 +128,25 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 		this.parentContext = parentContext;
 	}
 
+	/**
+	 * Set the pending discovery whose results are executed as children of
+	 * this task's descriptor along with its static children.
+	 *
+	 * @since 1.12
+	 */
+	void setPendingDiscovery(PendingDiscovery pendingDiscovery, NodeTreeWalker treeWalker) {
+		this.pendingDiscovery = pendingDiscovery;
+		this.treeWalker = treeWalker;
+	}
+
 	@Override
 	public void execute() {
 		try {
-			throwableCollector = taskContext.getThrowableCollectorFactory().create();
 			prepare();
-			if (throwableCollector.isEmpty()) {
+			if (noThrowableCollected()) {
 				checkWhetherSkipped();
 			}
-			if (throwableCollector.isEmpty() && !skipResult.isSkipped()) {
+			if (noThrowableCollected() && !skipResult.isSkipped()) {
 				executeRecursively();
 			}
 			if (context != null) {
@@ -125,7 +175,12 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 	}
 
 	private void prepare() {
-		throwableCollector.execute(() -> context = node.prepare(parentContext));
+		try {
+			context = node.prepare(parentContext);
+		}
+		catch (Throwable t) {
+			collect(t);
+		}
 
 		// Clear reference to parent context to allow it to be garbage collected.
 		// See https://github.com/junit-team/junit5/issues/1578
@@ -133,47 +188,185 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 	}
 
 	private void checkWhetherSkipped() {
-		throwableCollector.execute(() -> skipResult = node.shouldBeSkipped(context));
+		try {
+			skipResult = node.shouldBeSkipped(context);
+		}
+		catch (Throwable t) {
+			collect(t);
+		}
 	}
 
 	private void executeRecursively() {
 		taskContext.getListener().executionStarted(testDescriptor);
 		started = true;
 
-		throwableCollector.execute(() -> {
-			node.around(context, ctx -> {
-				context = ctx;
-				throwableCollector.execute(() -> {
-					// @formatter:off
-					List<NodeTestTask<C>> children = testDescriptor.getChildren().stream()
-							.map(descriptor -> new NodeTestTask<C>(taskContext, descriptor))
-							.collect(toCollection(ArrayList::new));
-					// @formatter:on
-
-					context = node.before(context);
-
-					final DynamicTestExecutor dynamicTestExecutor = new DefaultDynamicTestExecutor();
-					context = node.execute(context, dynamicTestExecutor);
-
-					if (!children.isEmpty()) {
-						children.forEach(child -> child.setParentContext(context));
-						taskContext.getExecutorService().invokeAll(children);
-					}
-
-					throwableCollector.execute(dynamicTestExecutor::awaitFinished);
-				});
-
-				throwableCollector.execute(() -> node.after(context));
-			});
+		try {
+			node.around(context, this);
+		}
+		catch (Throwable t) {
+			collect(t);
+		}
+	}
+
+	/**
+	 * Execute this task's node and its children with the context supplied by
+	 * {@link Node#around}.
+	 *
+	 * <p>This task is passed to {@code around()} as the {@link Invocation}
+	 * itself to avoid allocating one per node.
+	 */
+	@Override
+	public void invoke(C ctx) {
+		context = ctx;
+		try {
+			Set<? extends TestDescriptor> currentChildren = testDescriptor.getChildren();
+			List<TestDescriptor> childDescriptors = currentChildren.isEmpty() ? emptyList()
+					: new ArrayList<>(currentChildren);
+
+			context = node.before(context);
+
+			final DefaultDynamicTestExecutor dynamicTestExecutor = new DefaultDynamicTestExecutor();
+			context = node.execute(context, dynamicTestExecutor);
+
+			List<NodeTestTask<C>> children = createChildTasks(childDescriptors);
+			if (treeWalker == null) {
+				if (!children.isEmpty()) {
+					taskContext.getExecutorService().invokeAll(children);
+				}
+			}
+			else {
+				executeChildrenAndPendingChildren(children);
+			}
+
+			try {
+				dynamicTestExecutor.awaitFinished();
+			}
+			catch (Throwable t) {
+				collect(t);
+			}
+		}
+		catch (Throwable t) {
+			collect(t);
+		}
+
+		try {
+			node.after(context);
+		}
+		catch (Throwable t) {
+			collect(t);
+		}
+	}
+
+	private List<NodeTestTask<C>> createChildTasks(List<TestDescriptor> childDescriptors) {
+		if (childDescriptors.isEmpty()) {
+			return emptyList();
+		}
+		List<NodeTestTask<C>> children = new ArrayList<>(childDescriptors.size());
+		for (TestDescriptor childDescriptor : childDescriptors) {
+			NodeTestTask<C> child = new NodeTestTask<>(taskContext, childDescriptor);
+			child.setParentContext(context);
+			children.add(child);
+		}
+		return children;
+	}
+
+	/**
+	 * Submit the supplied children and the children of each result of the
+	 * pending discovery as soon as they are available so that a batch does not
+	 * have to wait for the previous ones to finish, and wait for all of them
+	 * at the end.
+	 */
+	private void executeChildrenAndPendingChildren(List<NodeTestTask<C>> children) throws InterruptedException {
+		List<Future<Void>> batches = new ArrayList<>();
+		try {
+			if (!children.isEmpty()) {
+				batches.add(submitBatch(children));
+			}
+			Optional<TestDescriptor> result = awaitNextPendingResult();
+			while (result.isPresent()) {
+				List<NodeTestTask<C>> pendingChildren = adoptChildren(result.get());
+				if (!pendingChildren.isEmpty()) {
+					batches.add(submitBatch(pendingChildren));
+				}
+				result = awaitNextPendingResult();
+			}
+		}
+		finally {
+			for (Future<Void> batch : batches) {
+				try {
+					batch.get();
+				}
+				catch (ExecutionException e) {
+					collect(e.getCause());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Wait for the next result of the pending discovery as a
+	 * {@link ForkJoinPool.ManagedBlocker} so that a {@link ForkJoinPool} may
+	 * compensate for the blocked worker and execute the submitted batches in
+	 * the meantime.
+	 */
+	private Optional<TestDescriptor> awaitNextPendingResult() throws InterruptedException {
+		PendingResultBlocker blocker = new PendingResultBlocker(this.pendingDiscovery);
+		ForkJoinPool.managedBlock(blocker);
+		return blocker.result;
+	}
+
+	private Future<Void> submitBatch(List<NodeTestTask<C>> children) {
+		HierarchicalTestExecutorService executorService = taskContext.getExecutorService();
+		return executorService.submit(new TestTask() {
+
+			@Override
+			public ExecutionMode getExecutionMode() {
+				return ExecutionMode.CONCURRENT;
+			}
+
+			@Override
+			public ResourceLock getResourceLock() {
+				return NopLock.INSTANCE;
+			}
+
+			@Override
+			public void execute() {
+				executorService.invokeAll(children);
+			}
 		});
 	}
 
+	/**
+	 * Take over the children of the supplied root descriptor of a pending
+	 * discovery. Like dynamic tests, they are only linked to this task's
+	 * descriptor via their parent, so that its set of children, which is not
+	 * safe to modify while other tests read it, stays unchanged.
+	 */
+	private List<NodeTestTask<C>> adoptChildren(TestDescriptor discoveredRoot) {
+		List<NodeTestTask<C>> children = new ArrayList<>();
+		for (TestDescriptor child : new ArrayList<>(discoveredRoot.getChildren())) {
+			discoveredRoot.removeChild(child);
+			child.setParent(testDescriptor);
+			treeWalker.walkAddedChild(child, taskContext.getExecutionAdvisor());
+			child.accept(taskContext.getListener()::dynamicTestRegistered);
+			NodeTestTask<C> childTask = new NodeTestTask<>(taskContext, child);
+			childTask.setParentContext(context);
+			children.add(childTask);
+		}
+		return children;
+	}
+
 	private void cleanUp() {
-		throwableCollector.execute(() -> node.cleanUp(context));
+		try {
+			node.cleanUp(context);
+		}
+		catch (Throwable t) {
+			collect(t);
+		}
 	}
 
 	private void reportCompletion() {
-		if (throwableCollector.isEmpty() && skipResult.isSkipped()) {
+		if (noThrowableCollected() && skipResult.isSkipped()) {
 			try {
 				node.nodeSkipped(context, testDescriptor, skipResult);
 			}
@@ -189,20 +382,47 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 			// Call executionStarted first to comply with the contract of EngineExecutionListener.
 			taskContext.getListener().executionStarted(testDescriptor);
 		}
+		TestExecutionResult result = noThrowableCollected() ? successful() : throwableCollector.toTestExecutionResult();
 		try {
-			node.nodeFinished(context, testDescriptor, throwableCollector.toTestExecutionResult());
+			node.nodeFinished(context, testDescriptor, result);
 		}
 		catch (Throwable throwable) {
 			UnrecoverableExceptions.rethrowIfUnrecoverable(throwable);
 			logger.debug(throwable,
 				() -> String.format("Failed to invoke nodeFinished() on Node %s", testDescriptor.getUniqueId()));
 		}
-		taskContext.getListener().executionFinished(testDescriptor, throwableCollector.toTestExecutionResult());
+		taskContext.getListener().executionFinished(testDescriptor, result);
 		throwableCollector = null;
 	}
 
+	private boolean noThrowableCollected() {
+		return throwableCollector == null;
+	}
+
+	/**
+	 * Collect the supplied {@link Throwable} in this task's
+	 * {@link ThrowableCollector} which is only created once the first
+	 * {@code Throwable} has to be collected so that nodes that execute
+	 * successfully don't pay for it.
+	 */
+	private void collect(Throwable throwable) {
+		UnrecoverableExceptions.rethrowIfUnrecoverable(throwable);
+		if (throwableCollector == null) {
+			throwableCollector = taskContext.getThrowableCollectorFactory().create();
+		}
+		throwableCollector.execute(() -> {
+			throw throwable;
+		});
+	}
+
 	private class DefaultDynamicTestExecutor implements DynamicTestExecutor {
 		private final Map<UniqueId, DynamicTaskState> unfinishedTasks = new ConcurrentHashMap<>();
+		private final Semaphore inFlightPermits = createInFlightPermits();
+
+		private Semaphore createInFlightPermits() {
+			int maxInFlight = taskContext.getMaxInFlightDynamicTests();
+			return maxInFlight == Integer.MAX_VALUE ? null : new Semaphore(maxInFlight);
+		}
 
 		@Override
 		public void execute(TestDescriptor testDescriptor) {
@@ -214,9 +434,11 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 			Preconditions.notNull(testDescriptor, "testDescriptor must not be null");
 			Preconditions.notNull(executionListener, "executionListener must not be null");
 
+			InFlightPermit permit = acquireInFlightPermit();
 			executionListener.dynamicTestRegistered(testDescriptor);
 			Set<ExclusiveResource> exclusiveResources = NodeUtils.asNode(testDescriptor).getExclusiveResources();
 			if (!exclusiveResources.isEmpty()) {
+				permit.release();
 				executionListener.executionStarted(testDescriptor);
 				String message = "Dynamic test descriptors must not declare exclusive resources: " + exclusiveResources;
 				executionListener.executionFinished(testDescriptor, failed(new JUnitException(message)));
@@ -225,12 +447,53 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 			else {
 				UniqueId uniqueId = testDescriptor.getUniqueId();
 				NodeTestTask<C> nodeTestTask = new NodeTestTask<>(taskContext.withListener(executionListener),
-					testDescriptor, () -> unfinishedTasks.remove(uniqueId));
+					testDescriptor, () -> {
+						unfinishedTasks.remove(uniqueId);
+						permit.release();
+					});
 				nodeTestTask.setParentContext(context);
 				unfinishedTasks.put(uniqueId, DynamicTaskState.unscheduled());
-				Future<Void> future = taskContext.getExecutorService().submit(nodeTestTask);
+				Future<Void> future;
+				try {
+					future = taskContext.getExecutorService().submit(nodeTestTask);
+				}
+				catch (Throwable t) {
+					unfinishedTasks.remove(uniqueId);
+					permit.release();
+					throw t;
+				}
 				unfinishedTasks.computeIfPresent(uniqueId, (__, state) -> DynamicTaskState.scheduled(future));
-				return future;
+				return permit.isNoop() ? future : new PermitReleasingFuture(future, permit);
+			}
+		}
+
+		/**
+		 * Acquire one of the permits for the configured maximum number of
+		 * in-flight dynamic tasks, blocking until a previously submitted task
+		 * has released its permit in its finalizer, so that nodes producing
+		 * their dynamic children lazily are only asked for the next child once
+		 * a slot is free.
+		 *
+		 * <p>The permit is awaited as a {@link ForkJoinPool.ManagedBlocker}
+		 * since only the previously submitted tasks, which may have been
+		 * forked into the current worker's own queue, can release a permit.
+		 * Thus, a {@link ForkJoinPool} may compensate for the blocked worker
+		 * and execute them in the meantime.
+		 *
+		 * <p>If the current thread is interrupted while waiting, the interrupt
+		 * flag is restored and the task is submitted without a permit.
+		 */
+		private InFlightPermit acquireInFlightPermit() {
+			if (inFlightPermits == null) {
+				return InFlightPermit.NOOP;
+			}
+			try {
+				ForkJoinPool.managedBlock(new PermitBlocker(inFlightPermits));
+				return new InFlightPermit(inFlightPermits);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return InFlightPermit.NOOP;
 			}
 		}
 
@@ -250,6 +513,130 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 		}
 	}
 
+	private static class PendingResultBlocker implements ForkJoinPool.ManagedBlocker {
+
+		private final PendingDiscovery pendingDiscovery;
+		private volatile Optional<TestDescriptor> result;
+
+		PendingResultBlocker(PendingDiscovery pendingDiscovery) {
+			this.pendingDiscovery = pendingDiscovery;
+		}
+
+		@Override
+		public boolean block() throws InterruptedException {
+			if (this.result == null) {
+				this.result = this.pendingDiscovery.awaitNextResult();
+			}
+			return true;
+		}
+
+		@Override
+		public boolean isReleasable() {
+			return this.result != null;
+		}
+
+	}
+
+	private static class PermitBlocker implements ForkJoinPool.ManagedBlocker {
+
+		private final Semaphore semaphore;
+		private volatile boolean acquired;
+
+		PermitBlocker(Semaphore semaphore) {
+			this.semaphore = semaphore;
+		}
+
+		@Override
+		public boolean block() throws InterruptedException {
+			if (!this.acquired) {
+				this.semaphore.acquire();
+				this.acquired = true;
+			}
+			return true;
+		}
+
+		@Override
+		public boolean isReleasable() {
+			if (!this.acquired && this.semaphore.tryAcquire()) {
+				this.acquired = true;
+			}
+			return this.acquired;
+		}
+
+	}
+
+	/**
+	 * Permit of a dynamic task that may be released more than once, e.g. by
+	 * the task's finalizer and by cancelling its future before it started,
+	 * but only returns its permit to the semaphore once.
+	 */
+	private static class InFlightPermit {
+
+		static final InFlightPermit NOOP = new InFlightPermit(null);
+
+		private final Semaphore semaphore;
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		InFlightPermit(Semaphore semaphore) {
+			this.semaphore = semaphore;
+		}
+
+		boolean isNoop() {
+			return semaphore == null;
+		}
+
+		void release() {
+			if (semaphore != null && released.compareAndSet(false, true)) {
+				semaphore.release();
+			}
+		}
+	}
+
+	/**
+	 * Future of a dynamic task that releases the task's {@link InFlightPermit}
+	 * when it is cancelled since the task's finalizer is not called if it is
+	 * cancelled before it started.
+	 */
+	private static class PermitReleasingFuture implements Future<Void> {
+
+		private final Future<Void> delegate;
+		private final InFlightPermit permit;
+
+		PermitReleasingFuture(Future<Void> delegate, InFlightPermit permit) {
+			this.delegate = delegate;
+			this.permit = permit;
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			boolean cancelled = delegate.cancel(mayInterruptIfRunning);
+			if (cancelled) {
+				permit.release();
+			}
+			return cancelled;
+		}
+
+		@Override
+		public boolean isCancelled() {
+			return delegate.isCancelled();
+		}
+
+		@Override
+		public boolean isDone() {
+			return delegate.isDone();
+		}
+
+		@Override
+		public Void get() throws InterruptedException, ExecutionException {
+			return delegate.get();
+		}
+
+		@Override
+		public Void get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+			return delegate.get(timeout, unit);
+		}
+	}
+
 	@FunctionalInterface
 	private interface DynamicTaskState {
 
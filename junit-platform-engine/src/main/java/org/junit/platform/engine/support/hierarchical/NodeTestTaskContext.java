@@ -21,20 +21,32 @@ class NodeTestTaskContext {
 	private final HierarchicalTestExecutorService executorService;
 	private final ThrowableCollector.Factory throwableCollectorFactory;
 	private final NodeExecutionAdvisor executionAdvisor;
+	private final int maxInFlightDynamicTests;
 
 	public NodeTestTaskContext(EngineExecutionListener listener, HierarchicalTestExecutorService executorService,
 			ThrowableCollector.Factory throwableCollectorFactory, NodeExecutionAdvisor executionAdvisor) {
+		this(listener, executorService, throwableCollectorFactory, executionAdvisor, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * @since 1.12
+	 */
+	NodeTestTaskContext(EngineExecutionListener listener, HierarchicalTestExecutorService executorService,
+			ThrowableCollector.Factory throwableCollectorFactory, NodeExecutionAdvisor executionAdvisor,
+			int maxInFlightDynamicTests) {
 		this.listener = listener;
 		this.executorService = executorService;
 		this.throwableCollectorFactory = throwableCollectorFactory;
 		this.executionAdvisor = executionAdvisor;
+		this.maxInFlightDynamicTests = maxInFlightDynamicTests;
 	}
 
 	NodeTestTaskContext withListener(EngineExecutionListener listener) {
 		if (this.listener == listener) {
 			return this;
 		}
-		return new NodeTestTaskContext(listener, executorService, throwableCollectorFactory, executionAdvisor);
+		return new NodeTestTaskContext(listener, executorService, throwableCollectorFactory, executionAdvisor,
+			maxInFlightDynamicTests);
 	}
 
 	EngineExecutionListener getListener() {
@@ -52,4 +64,11 @@ class NodeTestTaskContext {
 	NodeExecutionAdvisor getExecutionAdvisor() {
 		return executionAdvisor;
 	}
+
+	/**
+	 * @since 1.12
+	 */
+	int getMaxInFlightDynamicTests() {
+		return maxInFlightDynamicTests;
+	}
 }
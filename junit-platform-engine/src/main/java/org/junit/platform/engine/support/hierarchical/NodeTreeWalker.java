@@ -44,10 +44,21 @@ class NodeTreeWalker {
 		Preconditions.condition(getExclusiveResources(rootDescriptor).isEmpty(),
 			"Engine descriptor must not declare exclusive resources");
 		NodeExecutionAdvisor advisor = new NodeExecutionAdvisor();
-		rootDescriptor.getChildren().forEach(child -> walk(child, child, advisor));
+		rootDescriptor.getChildren().forEach(child -> walkAddedChild(child, advisor));
 		return advisor;
 	}
 
+	/**
+	 * Add the advice for a child that has been added to the root descriptor
+	 * after the supplied advisor was created.
+	 *
+	 * @since 1.12
+	 */
+	void walkAddedChild(TestDescriptor child, NodeExecutionAdvisor advisor) {
+		walk(child, child, advisor);
+		advisor.computeAdvice(child);
+	}
+
 	private void walk(TestDescriptor globalLockDescriptor, TestDescriptor testDescriptor,
 			NodeExecutionAdvisor advisor) {
 
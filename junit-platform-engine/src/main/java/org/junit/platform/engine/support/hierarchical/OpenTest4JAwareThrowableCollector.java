@@ -12,6 +12,8 @@ package org.junit.platform.engine.support.hierarchical;
 
 import static org.apiguardian.api.API.Status.MAINTAINED;
 
+import java.util.function.Predicate;
+
 import org.apiguardian.api.API;
 import org.opentest4j.TestAbortedException;
 
@@ -25,8 +27,10 @@ import org.opentest4j.TestAbortedException;
 @API(status = MAINTAINED, since = "1.3")
 public class OpenTest4JAwareThrowableCollector extends ThrowableCollector {
 
+	private static final Predicate<Throwable> abortedExecutionPredicate = TestAbortedException.class::isInstance;
+
 	public OpenTest4JAwareThrowableCollector() {
-		super(TestAbortedException.class::isInstance);
+		super(abortedExecutionPredicate);
 	}
 
 }
@@ -15,13 +15,13 @@ import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.junit.platform.commons.util.ReflectionUtils.getWrapperType;
 import static org.junit.platform.commons.util.ReflectionUtils.isAssignableTo;
 
+import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.Objects;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.function.Function;
-import java.util.function.Supplier;
 
 import org.apiguardian.api.API;
 import org.junit.platform.commons.util.ExceptionUtils;
@@ -37,6 +37,11 @@ import org.junit.platform.engine.support.hierarchical.ThrowableCollector;
  * {@link #NamespacedHierarchicalStore(NamespacedHierarchicalStore, CloseAction)}
  * constructor.
  *
+ * <p>Values are stored per namespace. The maps holding them are only created
+ * once a value is stored for a namespace, and lookups neither allocate keys
+ * nor consult levels of the hierarchy at which the namespace has never been
+ * written.
+ *
  * <p>This class is thread-safe. Please note, however, that thread safety is
  * not guaranteed while the {@link #close()} method is being invoked.
  *
@@ -46,9 +51,17 @@ import org.junit.platform.engine.support.hierarchical.ThrowableCollector;
 @API(status = EXPERIMENTAL, since = "1.10")
 public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 
-	private final AtomicInteger insertOrderSequence = new AtomicInteger();
+	@SuppressWarnings("rawtypes")
+	private static final AtomicIntegerFieldUpdater<NamespacedHierarchicalStore> INSERT_ORDER_SEQUENCE = //
+		AtomicIntegerFieldUpdater.newUpdater(NamespacedHierarchicalStore.class, "insertOrderSequence");
+
+	private volatile int insertOrderSequence;
 
-	private final ConcurrentMap<CompositeKey<N>, StoredValue> storedValues = new ConcurrentHashMap<>(4);
+	/**
+	 * Stored values per namespace; {@code null} until the first value is
+	 * stored in this store.
+	 */
+	private volatile ConcurrentMap<N, ConcurrentMap<Object, StoredValue>> storedValues;
 
 	private final NamespacedHierarchicalStore<N> parentStore;
 
@@ -112,13 +125,18 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	public void close() {
 		if (!this.closed) {
 			try {
-				if (this.closeAction != null) {
+				ConcurrentMap<N, ConcurrentMap<Object, StoredValue>> storedValues = this.storedValues;
+				if (this.closeAction != null && storedValues != null) {
+					List<EvaluatedValue<N>> evaluatedValues = new ArrayList<>();
+					storedValues.forEach((namespace, values) -> values.forEach((key, storedValue) -> {
+						EvaluatedValue<N> evaluatedValue = storedValue.evaluateSafely(namespace, key);
+						if (evaluatedValue != null && evaluatedValue.value != null) {
+							evaluatedValues.add(evaluatedValue);
+						}
+					}));
+					evaluatedValues.sort(EvaluatedValue.REVERSE_INSERT_ORDER);
 					ThrowableCollector throwableCollector = new ThrowableCollector(__ -> false);
-					this.storedValues.entrySet().stream() //
-							.map(e -> e.getValue().evaluateSafely(e.getKey())) //
-							.filter(it -> it != null && it.value != null) //
-							.sorted(EvaluatedValue.REVERSE_INSERT_ORDER) //
-							.forEach(it -> throwableCollector.execute(() -> it.close(this.closeAction)));
+					evaluatedValues.forEach(it -> throwableCollector.execute(() -> it.close(this.closeAction)));
 					throwableCollector.assertEmpty();
 				}
 			}
@@ -139,7 +157,7 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	 * closed
 	 */
 	public Object get(N namespace, Object key) {
-		StoredValue storedValue = getStoredValue(new CompositeKey<>(namespace, key));
+		StoredValue storedValue = getStoredValue(namespace, key);
 		return StoredValue.evaluateIfNotNull(storedValue);
 	}
 
@@ -173,14 +191,10 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	 */
 	public <K, V> Object getOrComputeIfAbsent(N namespace, K key, Function<K, V> defaultCreator) {
 		Preconditions.notNull(defaultCreator, "defaultCreator must not be null");
-		CompositeKey<N> compositeKey = new CompositeKey<>(namespace, key);
-		StoredValue storedValue = getStoredValue(compositeKey);
+		StoredValue storedValue = getStoredValue(namespace, key);
 		if (storedValue == null) {
-			storedValue = this.storedValues.computeIfAbsent(compositeKey,
-				__ -> storedValue(new MemoizingSupplier(() -> {
-					rejectIfClosed();
-					return defaultCreator.apply(key);
-				})));
+			storedValue = getOrCreateStoredValues(namespace).computeIfAbsent(key,
+				__ -> new MemoizingStoredValue(nextInsertOrder(), key, defaultCreator));
 		}
 		return storedValue.evaluate();
 	}
@@ -222,7 +236,8 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	 */
 	public Object put(N namespace, Object key, Object value) throws NamespacedHierarchicalStoreException {
 		rejectIfClosed();
-		StoredValue oldValue = this.storedValues.put(new CompositeKey<>(namespace, key), storedValue(() -> value));
+		validate(namespace, key);
+		StoredValue oldValue = getOrCreateStoredValues(namespace).put(key, new StoredValue(nextInsertOrder(), value));
 		return StoredValue.evaluateIfNotNull(oldValue);
 	}
 
@@ -241,7 +256,9 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	 */
 	public Object remove(N namespace, Object key) {
 		rejectIfClosed();
-		StoredValue previous = this.storedValues.remove(new CompositeKey<>(namespace, key));
+		validate(namespace, key);
+		ConcurrentMap<Object, StoredValue> values = getStoredValues(this, namespace);
+		StoredValue previous = values != null ? values.remove(key) : null;
 		return StoredValue.evaluateIfNotNull(previous);
 	}
 
@@ -265,21 +282,49 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 		return castToRequiredType(key, value, requiredType);
 	}
 
-	private StoredValue storedValue(Supplier<Object> value) {
-		return new StoredValue(this.insertOrderSequence.getAndIncrement(), value);
+	private int nextInsertOrder() {
+		return INSERT_ORDER_SEQUENCE.getAndIncrement(this);
 	}
 
-	private StoredValue getStoredValue(CompositeKey<N> compositeKey) {
-		StoredValue storedValue = this.storedValues.get(compositeKey);
-		if (storedValue != null) {
-			return storedValue;
-		}
-		if (this.parentStore != null) {
-			return this.parentStore.getStoredValue(compositeKey);
+	private StoredValue getStoredValue(N namespace, Object key) {
+		validate(namespace, key);
+		for (NamespacedHierarchicalStore<N> store = this; store != null; store = store.parentStore) {
+			ConcurrentMap<Object, StoredValue> values = getStoredValues(store, namespace);
+			if (values != null) {
+				StoredValue storedValue = values.get(key);
+				if (storedValue != null) {
+					return storedValue;
+				}
+			}
 		}
 		return null;
 	}
 
+	private static <N> ConcurrentMap<Object, StoredValue> getStoredValues(NamespacedHierarchicalStore<N> store,
+			N namespace) {
+		ConcurrentMap<N, ConcurrentMap<Object, StoredValue>> storedValues = store.storedValues;
+		return storedValues != null ? storedValues.get(namespace) : null;
+	}
+
+	private ConcurrentMap<Object, StoredValue> getOrCreateStoredValues(N namespace) {
+		ConcurrentMap<N, ConcurrentMap<Object, StoredValue>> storedValues = this.storedValues;
+		if (storedValues == null) {
+			synchronized (this) {
+				storedValues = this.storedValues;
+				if (storedValues == null) {
+					storedValues = new ConcurrentHashMap<>(4);
+					this.storedValues = storedValues;
+				}
+			}
+		}
+		return storedValues.computeIfAbsent(namespace, __ -> new ConcurrentHashMap<>(4));
+	}
+
+	private static void validate(Object namespace, Object key) {
+		Preconditions.notNull(namespace, "namespace must not be null");
+		Preconditions.notNull(key, "key must not be null");
+	}
+
 	@SuppressWarnings("unchecked")
 	private <T> T castToRequiredType(Object key, Object value, Class<T> requiredType) {
 		Preconditions.notNull(requiredType, "requiredType must not be null");
@@ -305,48 +350,21 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 		}
 	}
 
-	private static class CompositeKey<N> {
-
-		private final N namespace;
-		private final Object key;
-
-		private CompositeKey(N namespace, Object key) {
-			this.namespace = Preconditions.notNull(namespace, "namespace must not be null");
-			this.key = Preconditions.notNull(key, "key must not be null");
-		}
-
-		@Override
-		public boolean equals(Object o) {
-			if (this == o) {
-				return true;
-			}
-			if (o == null || getClass() != o.getClass()) {
-				return false;
-			}
-			CompositeKey<?> that = (CompositeKey<?>) o;
-			return this.namespace.equals(that.namespace) && this.key.equals(that.key);
-		}
-
-		@Override
-		public int hashCode() {
-			return Objects.hash(this.namespace, this.key);
-		}
-
-	}
-
 	private static class StoredValue {
 
+		static final Object NO_VALUE_SET = new Object();
+
 		private final int order;
-		private final Supplier<Object> supplier;
+		private final Object value;
 
-		StoredValue(int order, Supplier<Object> supplier) {
+		StoredValue(int order, Object value) {
 			this.order = order;
-			this.supplier = supplier;
+			this.value = value;
 		}
 
-		private <N> EvaluatedValue<N> evaluateSafely(CompositeKey<N> compositeKey) {
+		private <N> EvaluatedValue<N> evaluateSafely(N namespace, Object key) {
 			try {
-				return new EvaluatedValue<>(compositeKey, this.order, evaluate());
+				return new EvaluatedValue<>(namespace, key, this.order, evaluate());
 			}
 			catch (Throwable t) {
 				UnrecoverableExceptions.rethrowIfUnrecoverable(t);
@@ -354,8 +372,8 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 			}
 		}
 
-		private Object evaluate() {
-			return this.supplier.get();
+		Object evaluate() {
+			return this.value;
 		}
 
 		static Object evaluateIfNotNull(StoredValue value) {
@@ -364,50 +382,34 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 
 	}
 
-	private static class EvaluatedValue<N> {
-
-		private static final Comparator<EvaluatedValue<?>> REVERSE_INSERT_ORDER = comparing(
-			(EvaluatedValue<?> it) -> it.order).reversed();
-
-		private final CompositeKey<N> compositeKey;
-		private final int order;
-		private final Object value;
-
-		private EvaluatedValue(CompositeKey<N> compositeKey, int order, Object value) {
-			this.compositeKey = compositeKey;
-			this.order = order;
-			this.value = value;
-		}
-
-		private void close(CloseAction<N> closeAction) throws Throwable {
-			closeAction.close(this.compositeKey.namespace, this.compositeKey.key, this.value);
-		}
-
-	}
-
 	/**
-	 * Thread-safe {@link Supplier} that memoizes the result of calling its
-	 * delegate and ensures it is called at most once.
+	 * Thread-safe {@link StoredValue} that memoizes the result of calling its
+	 * default creator and ensures it is called at most once.
 	 *
-	 * <p>If the delegate throws an exception, it is stored and rethrown every
-	 * time {@link #get()} is called.
+	 * <p>If the default creator throws an exception, it is stored and rethrown
+	 * every time {@link #evaluate()} is called.
 	 *
-	 * @see StoredValue
+	 * <p>The default creator is released once it has been called since it
+	 * may capture objects that are only needed to compute the value, such as
+	 * the context of the test that first requested it.
 	 */
-	private static class MemoizingSupplier implements Supplier<Object> {
-
-		private static final Object NO_VALUE_SET = new Object();
-
-		private final Supplier<Object> delegate;
-		private volatile Object value = NO_VALUE_SET;
+	private final class MemoizingStoredValue extends StoredValue {
 
-		private MemoizingSupplier(Supplier<Object> delegate) {
-			this.delegate = delegate;
+		private final Object key;
+		// guarded by "this"; null once the value has been computed
+		private Function<Object, ?> defaultCreator;
+		private volatile Object value = StoredValue.NO_VALUE_SET;
+
+		@SuppressWarnings("unchecked")
+		private <K> MemoizingStoredValue(int order, K key, Function<K, ?> defaultCreator) {
+			super(order, null);
+			this.key = key;
+			this.defaultCreator = (Function<Object, ?>) defaultCreator;
 		}
 
 		@Override
-		public Object get() {
-			if (this.value == NO_VALUE_SET) {
+		Object evaluate() {
+			if (this.value == StoredValue.NO_VALUE_SET) {
 				computeValue();
 			}
 			if (this.value instanceof Failure) {
@@ -418,23 +420,50 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 
 		private synchronized void computeValue() {
 			try {
-				if (this.value == NO_VALUE_SET) {
-					this.value = this.delegate.get();
+				if (this.value == StoredValue.NO_VALUE_SET) {
+					rejectIfClosed();
+					this.value = this.defaultCreator.apply(this.key);
 				}
 			}
 			catch (Throwable t) {
 				this.value = new Failure(t);
 				UnrecoverableExceptions.rethrowIfUnrecoverable(t);
 			}
+			finally {
+				this.defaultCreator = null;
+			}
+		}
+
+	}
+
+	private static class Failure {
+
+		private final Throwable throwable;
+
+		Failure(Throwable throwable) {
+			this.throwable = throwable;
 		}
+	}
 
-		private static class Failure {
+	private static class EvaluatedValue<N> {
 
-			private final Throwable throwable;
+		private static final Comparator<EvaluatedValue<?>> REVERSE_INSERT_ORDER = comparing(
+			(EvaluatedValue<?> it) -> it.order).reversed();
 
-			public Failure(Throwable throwable) {
-				this.throwable = throwable;
-			}
+		private final N namespace;
+		private final Object key;
+		private final int order;
+		private final Object value;
+
+		private EvaluatedValue(N namespace, Object key, int order, Object value) {
+			this.namespace = namespace;
+			this.key = key;
+			this.order = order;
+			this.value = value;
+		}
+
+		private void close(CloseAction<N> closeAction) throws Throwable {
+			closeAction.close(this.namespace, this.key, this.value);
 		}
 
 	}
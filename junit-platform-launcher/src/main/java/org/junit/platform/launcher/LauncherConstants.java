@@ -219,6 +219,53 @@ public class LauncherConstants {
 	@API(status = EXPERIMENTAL, since = "1.12")
 	public static final String OUTPUT_DIR_UNIQUE_NUMBER_PLACEHOLDER = "{uniqueNumber}";
 
+	/**
+	 * Property name used to enable pipelined execution: {@value}
+	 *
+	 * <p>When pipelined execution is enabled and a discovery request selects
+	 * more classes than fit into a single
+	 * {@linkplain #PIPELINED_EXECUTION_BATCH_SIZE_PROPERTY_NAME batch}, engines
+	 * based on {@link org.junit.platform.engine.support.hierarchical.HierarchicalTestEngine
+	 * HierarchicalTestEngine} start executing the tests of the first batch
+	 * while the remaining batches are discovered in the background. Tests of
+	 * subsequent batches are reported to registered
+	 * {@link TestExecutionListener TestExecutionListeners} via
+	 * {@link TestExecutionListener#dynamicTestRegistered(TestIdentifier)} and
+	 * are thus not part of the {@link TestPlan} when its execution starts.
+	 *
+	 * <p>Pipelined execution is only used by
+	 * {@link Launcher#execute(LauncherDiscoveryRequest, TestExecutionListener...)}
+	 * for discovery requests that exclusively consist of
+	 * {@linkplain org.junit.platform.engine.discovery.ClassSelector class
+	 * selectors} and not in {@linkplain #DRY_RUN_PROPERTY_NAME dry-run mode}.
+	 * Other engines discover tests for all selectors before their execution
+	 * is started.
+	 *
+	 * <p>Value must be either {@code true} or {@code false}; defaults to {@code false}.
+	 *
+	 * @since 1.12
+	 * @see #PIPELINED_EXECUTION_BATCH_SIZE_PROPERTY_NAME
+	 * @see org.junit.platform.engine.PendingDiscovery
+	 */
+	@API(status = EXPERIMENTAL, since = "1.12")
+	public static final String PIPELINED_EXECUTION_ENABLED_PROPERTY_NAME = "junit.platform.execution.pipelining.enabled";
+
+	/**
+	 * Property name used to configure the maximum number of classes per batch
+	 * when {@linkplain #PIPELINED_EXECUTION_ENABLED_PROPERTY_NAME pipelined
+	 * execution} is enabled: {@value}
+	 *
+	 * <p>Nested classes are always discovered in the same batch as their
+	 * enclosing classes.
+	 *
+	 * <p>Value must be a positive integer; defaults to {@code 100}.
+	 *
+	 * @since 1.12
+	 * @see #PIPELINED_EXECUTION_ENABLED_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "1.12")
+	public static final String PIPELINED_EXECUTION_BATCH_SIZE_PROPERTY_NAME = "junit.platform.execution.pipelining.batchSize";
+
 	private LauncherConstants() {
 		/* no-op */
 	}
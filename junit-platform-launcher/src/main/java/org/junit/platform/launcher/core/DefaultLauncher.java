@@ -15,6 +15,7 @@ import static org.junit.platform.launcher.core.EngineDiscoveryOrchestrator.Phase
 import static org.junit.platform.launcher.core.EngineDiscoveryOrchestrator.Phase.EXECUTION;
 
 import java.util.Collection;
+import java.util.Optional;
 
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.TestEngine;
@@ -82,7 +83,16 @@ class DefaultLauncher implements Launcher {
 		Preconditions.notNull(discoveryRequest, "LauncherDiscoveryRequest must not be null");
 		Preconditions.notNull(listeners, "TestExecutionListener array must not be null");
 		Preconditions.containsNoNullElements(listeners, "individual listeners must not be null");
-		execute(InternalTestPlan.from(discover(discoveryRequest, EXECUTION)), listeners);
+		Optional<PipelinedDiscovery> pipelinedDiscovery = PipelinedDiscovery.create(discoveryOrchestrator,
+			discoveryRequest);
+		if (pipelinedDiscovery.isPresent()) {
+			try (PipelinedDiscovery discovery = pipelinedDiscovery.get()) {
+				execute(InternalTestPlan.from(discovery.start()), listeners);
+			}
+		}
+		else {
+			execute(InternalTestPlan.from(discover(discoveryRequest, EXECUTION)), listeners);
+		}
 	}
 
 	@Override
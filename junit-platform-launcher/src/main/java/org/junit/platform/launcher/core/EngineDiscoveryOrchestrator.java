@@ -97,12 +97,33 @@ public class EngineDiscoveryOrchestrator {
 		return result.withRetainedEngines(TestDescriptor::containsTests);
 	}
 
+	/**
+	 * Discovers tests for the supplied request in the supplied phase using the
+	 * configured test engines, letting each engine discover tests for the
+	 * request returned by the supplied function.
+	 *
+	 * <p>Engines for which the function returns {@code null} are skipped.
+	 *
+	 * @since 1.12
+	 */
+	LauncherDiscoveryResult discoverPerEngine(LauncherDiscoveryRequest request, Phase phase,
+			Function<TestEngine, LauncherDiscoveryRequest> engineRequests) {
+		return discover(request, phase, UniqueId::forEngine, engineRequests);
+	}
+
 	private LauncherDiscoveryResult discover(LauncherDiscoveryRequest request, Phase phase,
 			Function<String, UniqueId> uniqueIdCreator) {
+		return discover(request, phase, uniqueIdCreator, __ -> request);
+	}
+
+	private LauncherDiscoveryResult discover(LauncherDiscoveryRequest request, Phase phase,
+			Function<String, UniqueId> uniqueIdCreator,
+			Function<TestEngine, LauncherDiscoveryRequest> engineRequests) {
 		LauncherDiscoveryListener listener = getLauncherDiscoveryListener(request);
 		listener.launcherDiscoveryStarted(request);
 		try {
-			Map<TestEngine, TestDescriptor> testEngines = discoverSafely(request, phase, listener, uniqueIdCreator);
+			Map<TestEngine, TestDescriptor> testEngines = discoverSafely(request, phase, listener, uniqueIdCreator,
+				engineRequests);
 			return new LauncherDiscoveryResult(testEngines, request.getConfigurationParameters(),
 				request.getOutputDirectoryProvider());
 		}
@@ -112,7 +133,8 @@ public class EngineDiscoveryOrchestrator {
 	}
 
 	private Map<TestEngine, TestDescriptor> discoverSafely(LauncherDiscoveryRequest request, Phase phase,
-			LauncherDiscoveryListener listener, Function<String, UniqueId> uniqueIdCreator) {
+			LauncherDiscoveryListener listener, Function<String, UniqueId> uniqueIdCreator,
+			Function<TestEngine, LauncherDiscoveryRequest> engineRequests) {
 		Map<TestEngine, TestDescriptor> testEngineDescriptors = new LinkedHashMap<>();
 		EngineFilterer engineFilterer = new EngineFilterer(request.getEngineFilters());
 
@@ -126,10 +148,15 @@ public class EngineDiscoveryOrchestrator {
 				continue;
 			}
 
+			LauncherDiscoveryRequest engineRequest = engineRequests.apply(testEngine);
+			if (engineRequest == null) {
+				continue;
+			}
+
 			logger.debug(() -> String.format("Discovering tests during Launcher %s phase in engine '%s'.", phase,
 				testEngine.getId()));
 
-			TestDescriptor rootDescriptor = discoverEngineRoot(testEngine, request, listener, uniqueIdCreator);
+			TestDescriptor rootDescriptor = discoverEngineRoot(testEngine, engineRequest, listener, uniqueIdCreator);
 			testEngineDescriptors.put(testEngine, rootDescriptor);
 		}
 
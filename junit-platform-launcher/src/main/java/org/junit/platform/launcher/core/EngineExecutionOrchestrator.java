@@ -25,6 +25,7 @@ import org.junit.platform.commons.util.UnrecoverableExceptions;
 import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.ExecutionRequest;
+import org.junit.platform.engine.PendingDiscovery;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestEngine;
 import org.junit.platform.engine.TestExecutionResult;
@@ -166,7 +167,8 @@ public class EngineExecutionOrchestrator {
 					TestExecutionResult.failed(((EngineDiscoveryErrorDescriptor) engineDescriptor).getCause()));
 			}
 			else {
-				execute(engineDescriptor, listener, configurationParameters, testEngine);
+				execute(engineDescriptor, listener, configurationParameters, testEngine,
+					discoveryResult.getPendingDiscovery(testEngine));
 			}
 		}
 	}
@@ -190,12 +192,13 @@ public class EngineExecutionOrchestrator {
 	}
 
 	private void execute(TestDescriptor engineDescriptor, EngineExecutionListener listener,
-			ConfigurationParameters configurationParameters, TestEngine testEngine) {
+			ConfigurationParameters configurationParameters, TestEngine testEngine, PendingDiscovery pendingDiscovery) {
 
 		OutcomeDelayingEngineExecutionListener delayingListener = new OutcomeDelayingEngineExecutionListener(listener,
 			engineDescriptor);
 		try {
-			testEngine.execute(ExecutionRequest.create(engineDescriptor, delayingListener, configurationParameters));
+			testEngine.execute(
+				ExecutionRequest.create(engineDescriptor, delayingListener, configurationParameters, pendingDiscovery));
 			delayingListener.reportEngineOutcome();
 		}
 		catch (Throwable throwable) {
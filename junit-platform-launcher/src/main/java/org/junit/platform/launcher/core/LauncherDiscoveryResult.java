@@ -10,6 +10,7 @@
 
 package org.junit.platform.launcher.core;
 
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.unmodifiableMap;
 import static java.util.stream.Collectors.toMap;
 import static org.apiguardian.api.API.Status.INTERNAL;
@@ -21,6 +22,7 @@ import java.util.function.Predicate;
 
 import org.apiguardian.api.API;
 import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.PendingDiscovery;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestEngine;
 import org.junit.platform.engine.reporting.OutputDirectoryProvider;
@@ -37,12 +39,20 @@ public class LauncherDiscoveryResult {
 	private final Map<TestEngine, TestDescriptor> testEngineDescriptors;
 	private final ConfigurationParameters configurationParameters;
 	private final OutputDirectoryProvider outputDirectoryProvider;
+	private final Map<TestEngine, PendingDiscovery> pendingDiscoveries;
 
 	LauncherDiscoveryResult(Map<TestEngine, TestDescriptor> testEngineDescriptors,
 			ConfigurationParameters configurationParameters, OutputDirectoryProvider outputDirectoryProvider) {
+		this(testEngineDescriptors, configurationParameters, outputDirectoryProvider, emptyMap());
+	}
+
+	private LauncherDiscoveryResult(Map<TestEngine, TestDescriptor> testEngineDescriptors,
+			ConfigurationParameters configurationParameters, OutputDirectoryProvider outputDirectoryProvider,
+			Map<TestEngine, PendingDiscovery> pendingDiscoveries) {
 		this.testEngineDescriptors = unmodifiableMap(new LinkedHashMap<>(testEngineDescriptors));
 		this.configurationParameters = configurationParameters;
 		this.outputDirectoryProvider = outputDirectoryProvider;
+		this.pendingDiscoveries = pendingDiscoveries;
 	}
 
 	public TestDescriptor getEngineTestDescriptor(TestEngine testEngine) {
@@ -65,11 +75,26 @@ public class LauncherDiscoveryResult {
 		return this.testEngineDescriptors.values();
 	}
 
+	/**
+	 * @since 1.12
+	 */
+	PendingDiscovery getPendingDiscovery(TestEngine testEngine) {
+		return this.pendingDiscoveries.getOrDefault(testEngine, PendingDiscovery.none());
+	}
+
+	/**
+	 * @since 1.12
+	 */
+	LauncherDiscoveryResult withPendingDiscoveries(Map<TestEngine, PendingDiscovery> pendingDiscoveries) {
+		return new LauncherDiscoveryResult(this.testEngineDescriptors, this.configurationParameters,
+			this.outputDirectoryProvider, unmodifiableMap(new LinkedHashMap<>(pendingDiscoveries)));
+	}
+
 	public LauncherDiscoveryResult withRetainedEngines(Predicate<? super TestDescriptor> predicate) {
 		Map<TestEngine, TestDescriptor> prunedTestEngineDescriptors = retainEngines(predicate);
 		if (prunedTestEngineDescriptors.size() < this.testEngineDescriptors.size()) {
 			return new LauncherDiscoveryResult(prunedTestEngineDescriptors, this.configurationParameters,
-				this.outputDirectoryProvider);
+				this.outputDirectoryProvider, this.pendingDiscoveries);
 		}
 		return this;
 	}
@@ -0,0 +1,309 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static org.junit.platform.launcher.LauncherConstants.DRY_RUN_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.PIPELINED_EXECUTION_BATCH_SIZE_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.PIPELINED_EXECUTION_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.core.EngineDiscoveryOrchestrator.Phase.EXECUTION;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.UnrecoverableExceptions;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.DiscoveryFilter;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.PendingDiscovery;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestEngine;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.discovery.ClassSelector;
+import org.junit.platform.engine.reporting.OutputDirectoryProvider;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestEngine;
+import org.junit.platform.launcher.EngineFilter;
+import org.junit.platform.launcher.LauncherDiscoveryListener;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+/**
+ * Discovers tests for batches of class selectors so that engines based on
+ * {@link HierarchicalTestEngine} can start executing the tests of the first
+ * batch while the remaining batches are discovered in the background.
+ *
+ * <p>All other engines discover tests for all selectors up front. Selectors
+ * for nested classes are put into the same batch as the selectors for their
+ * top-level classes so that engines do not discover the same top-level
+ * container for different batches.
+ *
+ * @since 1.12
+ * @see org.junit.platform.launcher.LauncherConstants#PIPELINED_EXECUTION_ENABLED_PROPERTY_NAME
+ */
+class PipelinedDiscovery implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(PipelinedDiscovery.class);
+
+	private static final int DEFAULT_BATCH_SIZE = 100;
+
+	private final EngineDiscoveryOrchestrator discoveryOrchestrator;
+	private final LauncherDiscoveryRequest request;
+	private final List<List<DiscoverySelector>> batches;
+	private final Map<TestEngine, EnginePendingDiscovery> pendingDiscoveries = new LinkedHashMap<>();
+
+	private ExecutorService executorService;
+
+	static Optional<PipelinedDiscovery> create(EngineDiscoveryOrchestrator discoveryOrchestrator,
+			LauncherDiscoveryRequest request) {
+
+		ConfigurationParameters configurationParameters = request.getConfigurationParameters();
+		if (!configurationParameters.getBoolean(PIPELINED_EXECUTION_ENABLED_PROPERTY_NAME).orElse(false)
+				|| configurationParameters.getBoolean(DRY_RUN_PROPERTY_NAME).orElse(false)) {
+			return Optional.empty();
+		}
+		List<DiscoverySelector> selectors = request.getSelectorsByType(DiscoverySelector.class);
+		if (!selectors.stream().allMatch(ClassSelector.class::isInstance)) {
+			logger.debug(() -> "Pipelined execution is only supported for requests that consist of class selectors");
+			return Optional.empty();
+		}
+		int batchSize = configurationParameters.get(PIPELINED_EXECUTION_BATCH_SIZE_PROPERTY_NAME,
+			Integer::parseInt).orElse(DEFAULT_BATCH_SIZE);
+		Preconditions.condition(batchSize > 0,
+			() -> String.format("%s must be a positive integer", PIPELINED_EXECUTION_BATCH_SIZE_PROPERTY_NAME));
+		List<List<DiscoverySelector>> batches = partition(selectors, batchSize);
+		if (batches.size() < 2) {
+			return Optional.empty();
+		}
+		return Optional.of(new PipelinedDiscovery(discoveryOrchestrator, request, batches));
+	}
+
+	private static List<List<DiscoverySelector>> partition(List<DiscoverySelector> selectors, int batchSize) {
+		Map<String, List<DiscoverySelector>> selectorsByTopLevelClassName = new LinkedHashMap<>();
+		for (DiscoverySelector selector : selectors) {
+			String className = ((ClassSelector) selector).getClassName();
+			int index = className.indexOf('$');
+			String topLevelClassName = index < 0 ? className : className.substring(0, index);
+			selectorsByTopLevelClassName.computeIfAbsent(topLevelClassName, __ -> new ArrayList<>()).add(selector);
+		}
+		List<List<DiscoverySelector>> batches = new ArrayList<>();
+		List<DiscoverySelector> batch = new ArrayList<>();
+		for (List<DiscoverySelector> group : selectorsByTopLevelClassName.values()) {
+			if (!batch.isEmpty() && batch.size() + group.size() > batchSize) {
+				batches.add(batch);
+				batch = new ArrayList<>();
+			}
+			batch.addAll(group);
+		}
+		if (!batch.isEmpty()) {
+			batches.add(batch);
+		}
+		return batches;
+	}
+
+	private PipelinedDiscovery(EngineDiscoveryOrchestrator discoveryOrchestrator, LauncherDiscoveryRequest request,
+			List<List<DiscoverySelector>> batches) {
+		this.discoveryOrchestrator = discoveryOrchestrator;
+		this.request = request;
+		this.batches = batches;
+	}
+
+	/**
+	 * Discover the tests of the first batch and start discovering the
+	 * remaining batches in the background.
+	 *
+	 * @return the discovery result for the first batch whose
+	 * {@linkplain LauncherDiscoveryResult#getPendingDiscovery(TestEngine)
+	 * pending discoveries} provide the results of the remaining batches
+	 */
+	LauncherDiscoveryResult start() {
+		LauncherDiscoveryRequest firstBatch = new BatchDiscoveryRequest(this.request, this.batches.get(0));
+		LauncherDiscoveryResult result = this.discoveryOrchestrator.discoverPerEngine(this.request, EXECUTION,
+			testEngine -> testEngine instanceof HierarchicalTestEngine ? firstBatch : this.request);
+
+		for (TestEngine testEngine : result.getTestEngines()) {
+			TestDescriptor engineDescriptor = result.getEngineTestDescriptor(testEngine);
+			if (testEngine instanceof HierarchicalTestEngine
+					&& !(engineDescriptor instanceof EngineDiscoveryErrorDescriptor)) {
+				this.pendingDiscoveries.put(testEngine, new EnginePendingDiscovery(engineDescriptor));
+			}
+		}
+		if (this.pendingDiscoveries.isEmpty()) {
+			return result;
+		}
+
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		this.executorService = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "junit-platform-pipelined-discovery");
+			thread.setDaemon(true);
+			thread.setContextClassLoader(contextClassLoader);
+			return thread;
+		});
+		this.executorService.execute(this::discoverRemainingBatches);
+		return result.withPendingDiscoveries(new LinkedHashMap<>(this.pendingDiscoveries));
+	}
+
+	private void discoverRemainingBatches() {
+		try {
+			for (List<DiscoverySelector> batch : this.batches.subList(1, this.batches.size())) {
+				if (Thread.currentThread().isInterrupted()) {
+					return;
+				}
+				LauncherDiscoveryRequest batchRequest = new BatchDiscoveryRequest(this.request, batch);
+				LauncherDiscoveryResult result = this.discoveryOrchestrator.discoverPerEngine(batchRequest, EXECUTION,
+					testEngine -> this.pendingDiscoveries.containsKey(testEngine) ? batchRequest : null);
+				this.pendingDiscoveries.forEach(
+					(testEngine, pendingDiscovery) -> pendingDiscovery.add(result.getEngineTestDescriptor(testEngine)));
+			}
+		}
+		catch (Throwable throwable) {
+			UnrecoverableExceptions.rethrowIfUnrecoverable(throwable);
+			JUnitException failure = new JUnitException("Failed to discover tests", throwable);
+			this.pendingDiscoveries.values().forEach(pendingDiscovery -> pendingDiscovery.fail(failure));
+		}
+		finally {
+			this.pendingDiscoveries.values().forEach(EnginePendingDiscovery::complete);
+		}
+	}
+
+	@Override
+	public void close() {
+		if (this.executorService != null) {
+			this.executorService.shutdownNow();
+		}
+	}
+
+	private static class EnginePendingDiscovery implements PendingDiscovery {
+
+		private static final Object COMPLETED = new Object();
+
+		private final BlockingQueue<Object> results = new LinkedBlockingQueue<>();
+		private final Set<UniqueId> discoveredChildren = new HashSet<>();
+		private boolean failed;
+
+		EnginePendingDiscovery(TestDescriptor engineDescriptor) {
+			engineDescriptor.getChildren().forEach(child -> this.discoveredChildren.add(child.getUniqueId()));
+		}
+
+		void add(TestDescriptor engineDescriptor) {
+			if (this.failed) {
+				return;
+			}
+			if (engineDescriptor instanceof EngineDiscoveryErrorDescriptor) {
+				fail(((EngineDiscoveryErrorDescriptor) engineDescriptor).getCause());
+				return;
+			}
+			for (TestDescriptor child : new ArrayList<>(engineDescriptor.getChildren())) {
+				if (!this.discoveredChildren.add(child.getUniqueId())) {
+					logger.warn(() -> String.format(
+						"Discarding [%s] since it has already been discovered for a previous batch of selectors",
+						child.getUniqueId()));
+					engineDescriptor.removeChild(child);
+				}
+			}
+			if (!engineDescriptor.getChildren().isEmpty()) {
+				this.results.add(engineDescriptor);
+			}
+		}
+
+		void fail(Throwable failure) {
+			if (!this.failed) {
+				this.failed = true;
+				this.results.add(failure);
+			}
+		}
+
+		void complete() {
+			this.results.add(COMPLETED);
+		}
+
+		@Override
+		public Optional<TestDescriptor> awaitNextResult() throws InterruptedException {
+			Object result = this.results.take();
+			if (result == COMPLETED) {
+				this.results.add(COMPLETED);
+				return Optional.empty();
+			}
+			if (result instanceof Throwable) {
+				throw ExceptionUtils.throwAsUncheckedException((Throwable) result);
+			}
+			return Optional.of((TestDescriptor) result);
+		}
+
+	}
+
+	private static class BatchDiscoveryRequest implements LauncherDiscoveryRequest {
+
+		private final LauncherDiscoveryRequest delegate;
+		private final List<DiscoverySelector> selectors;
+
+		BatchDiscoveryRequest(LauncherDiscoveryRequest delegate, List<DiscoverySelector> selectors) {
+			this.delegate = delegate;
+			this.selectors = selectors;
+		}
+
+		@Override
+		public <T extends DiscoverySelector> List<T> getSelectorsByType(Class<T> selectorType) {
+			Preconditions.notNull(selectorType, "selectorType must not be null");
+			List<T> result = new ArrayList<>();
+			for (DiscoverySelector selector : this.selectors) {
+				if (selectorType.isInstance(selector)) {
+					result.add(selectorType.cast(selector));
+				}
+			}
+			return result;
+		}
+
+		@Override
+		public <T extends DiscoveryFilter<?>> List<T> getFiltersByType(Class<T> filterType) {
+			return this.delegate.getFiltersByType(filterType);
+		}
+
+		@Override
+		public ConfigurationParameters getConfigurationParameters() {
+			return this.delegate.getConfigurationParameters();
+		}
+
+		@Override
+		public List<EngineFilter> getEngineFilters() {
+			return this.delegate.getEngineFilters();
+		}
+
+		@Override
+		public List<PostDiscoveryFilter> getPostDiscoveryFilters() {
+			return this.delegate.getPostDiscoveryFilters();
+		}
+
+		@Override
+		public LauncherDiscoveryListener getDiscoveryListener() {
+			return this.delegate.getDiscoveryListener();
+		}
+
+		@Override
+		public OutputDirectoryProvider getOutputDirectoryProvider() {
+			return this.delegate.getOutputDirectoryProvider();
+		}
+
+	}
+
+}
@@ -16,12 +16,16 @@ import static org.junit.jupiter.api.AssertionTestUtils.assertMessageEquals;
 import static org.junit.jupiter.api.AssertionTestUtils.assertMessageStartsWith;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.api.condition.OS.WINDOWS;
 
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.time.Duration;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeoutException;
@@ -197,6 +201,63 @@ class AssertTimeoutPreemptivelyAssertionsTests {
 			"Thread name does not match the expected prefix");
 	}
 
+	@Test
+	void assertTimeoutPreemptivelyUsesDaemonThreads() {
+		AtomicBoolean daemon = new AtomicBoolean();
+		assertTimeoutPreemptively(ofMillis(1000), () -> daemon.set(Thread.currentThread().isDaemon()));
+		assertTrue(daemon.get(), "Thread is not a daemon thread");
+	}
+
+	@Test
+	void assertTimeoutPreemptivelyDoesNotLeakInterruptedStatusToSubsequentInvocations() {
+		assertThrows(AssertionFailedError.class,
+			() -> assertTimeoutPreemptively(PREEMPTIVE_TIMEOUT, this::waitForInterrupt));
+
+		for (int i = 0; i < 10; i++) {
+			assertTimeoutPreemptively(ofMillis(1000),
+				() -> assertFalse(Thread.currentThread().isInterrupted(), "Already interrupted"));
+		}
+	}
+
+	@Test
+	void assertTimeoutPreemptivelyPropagatesContextClassLoader() {
+		ClassLoader originalClassLoader = Thread.currentThread().getContextClassLoader();
+		ClassLoader customClassLoader = new URLClassLoader(new URL[0], originalClassLoader);
+		AtomicReference<ClassLoader> contextClassLoader = new AtomicReference<>();
+		Thread.currentThread().setContextClassLoader(customClassLoader);
+		try {
+			assertTimeoutPreemptively(ofMillis(1000),
+				() -> contextClassLoader.set(Thread.currentThread().getContextClassLoader()));
+		}
+		finally {
+			Thread.currentThread().setContextClassLoader(originalClassLoader);
+		}
+		assertSame(customClassLoader, contextClassLoader.get());
+	}
+
+	@Test
+	void assertTimeoutPreemptivelyPropagatesInheritableThreadLocals() {
+		InheritableThreadLocal<String> threadLocal = new InheritableThreadLocal<>();
+		threadLocal.set("value");
+		try {
+			assertEquals("value", assertTimeoutPreemptively(ofMillis(1000), threadLocal::get));
+		}
+		finally {
+			threadLocal.remove();
+		}
+	}
+
+	@Test
+	void assertTimeoutPreemptivelyDoesNotLeakThreadLocalsToSubsequentInvocations() {
+		ThreadLocal<String> threadLocal = new ThreadLocal<>();
+		for (int i = 0; i < 10; i++) {
+			assertTimeoutPreemptively(ofMillis(1000), () -> {
+				assertNull(threadLocal.get(), "Leaked from previous invocation");
+				threadLocal.set("value");
+			});
+		}
+	}
+
 	@Test
 	void assertTimeoutPreemptivelyThrowingTimeoutExceptionWithMessageForSupplierThatCompletesAfterTheTimeout() {
 		assertThrows(TimeoutException.class, () -> Assertions.assertTimeoutPreemptively(PREEMPTIVE_TIMEOUT, () -> {
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+import static org.junit.jupiter.engine.Constants.DEFAULT_PARALLEL_EXECUTION_MODE;
+import static org.junit.jupiter.engine.Constants.PARALLEL_CONFIG_FIXED_PARALLELISM_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.extension.TestInstancePreDestroyCallback;
+import org.junit.platform.testkit.engine.EngineExecutionResults;
+
+/**
+ * Integration tests for {@link Lifecycle#PER_THREAD}.
+ *
+ * @since 5.12
+ * @see TestInstanceLifecycleTests
+ */
+class PerThreadTestInstanceLifecycleTests extends AbstractJupiterTestEngineTests {
+
+	private static final Map<Object, Thread> instances = new ConcurrentHashMap<>();
+	private static final List<Object> destroyedInstances = new CopyOnWriteArrayList<>();
+	private static final AtomicInteger beforeEachCallbacks = new AtomicInteger();
+	private static final Set<Object> instancesInUse = ConcurrentHashMap.newKeySet();
+
+	@BeforeEach
+	void init() {
+		instances.clear();
+		destroyedInstances.clear();
+		beforeEachCallbacks.set(0);
+		instancesInUse.clear();
+	}
+
+	@Test
+	void reusesInstanceForAllTestsExecutedInSameThread() {
+		EngineExecutionResults results = executeTestsForClass(PerThreadTestCase.class);
+
+		results.testEvents().assertStatistics(stats -> stats.started(12).succeeded(12));
+		assertThat(instances).hasSize(1);
+		assertThat(destroyedInstances).containsExactlyInAnyOrderElementsOf(instances.keySet());
+		assertThat(beforeEachCallbacks).hasValue(12);
+	}
+
+	@Test
+	void createsSeparateInstancesForTestsExecutedConcurrently() {
+		EngineExecutionResults results = executeTests(request() //
+				.selectors(selectClass(PerThreadTestCase.class)) //
+				.configurationParameter(PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "true") //
+				.configurationParameter(DEFAULT_PARALLEL_EXECUTION_MODE, "concurrent"));
+
+		results.testEvents().assertStatistics(stats -> stats.started(12).succeeded(12));
+		assertThat(instances).isNotEmpty();
+		assertThat(instances.values()).doesNotHaveDuplicates();
+		assertThat(destroyedInstances).containsExactlyInAnyOrderElementsOf(instances.keySet());
+		assertThat(beforeEachCallbacks).hasValue(12);
+	}
+
+	@Test
+	void invokesPreDestroyCallbacksRegisteredViaFieldsForEachInstance() {
+		EngineExecutionResults results = executeTests(request() //
+				.selectors(selectClass(FieldRegisteredPreDestroyCallbackTestCase.class)) //
+				.configurationParameter(PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "true") //
+				.configurationParameter(DEFAULT_PARALLEL_EXECUTION_MODE, "concurrent"));
+
+		results.testEvents().assertStatistics(stats -> stats.started(10).succeeded(10));
+		assertThat(instances).isNotEmpty();
+		assertThat(destroyedInstances).containsExactlyInAnyOrderElementsOf(instances.keySet());
+	}
+
+	@Test
+	void doesNotShareInstanceOfTestFactoryWithOtherTestsWhileItsDynamicTestsAreExecuted() {
+		EngineExecutionResults results = executeTests(request() //
+				.selectors(selectClass(TestFactoryTestCase.class)) //
+				.configurationParameter(PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "true") //
+				.configurationParameter(DEFAULT_PARALLEL_EXECUTION_MODE, "concurrent") //
+				.configurationParameter(PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME, "fixed") //
+				.configurationParameter(PARALLEL_CONFIG_FIXED_PARALLELISM_PROPERTY_NAME, "4"));
+
+		results.containerEvents().assertStatistics(stats -> stats.failed(0));
+		results.testEvents().assertStatistics(stats -> stats.started(30).succeeded(30));
+		assertThat(destroyedInstances).containsExactlyInAnyOrderElementsOf(instances.keySet());
+	}
+
+	@TestInstance(Lifecycle.PER_THREAD)
+	@ExtendWith(InstanceTrackingExtension.class)
+	static class PerThreadTestCase {
+
+		@RegisterExtension
+		final BeforeEachCallback beforeEachCallback = context -> {
+			assertSame(this, context.getRequiredTestInstances().getAllInstances().get(0));
+			beforeEachCallbacks.incrementAndGet();
+		};
+
+		PerThreadTestCase() {
+			instances.put(this, Thread.currentThread());
+		}
+
+		@RepeatedTest(10)
+		void test() throws Exception {
+			assertSame(Thread.currentThread(), instances.get(this));
+			Thread.sleep(5);
+		}
+
+		@Nested
+		class NestedTestCase {
+
+			@RepeatedTest(2)
+			void test() {
+				assertSame(Thread.currentThread(), instances.get(PerThreadTestCase.this));
+			}
+		}
+	}
+
+	@TestInstance(Lifecycle.PER_THREAD)
+	static class FieldRegisteredPreDestroyCallbackTestCase {
+
+		@RegisterExtension
+		final TestInstancePreDestroyCallback preDestroyCallback = context -> {
+			assertSame(this, context.getRequiredTestInstance());
+			destroyedInstances.add(this);
+		};
+
+		FieldRegisteredPreDestroyCallbackTestCase() {
+			instances.put(this, Thread.currentThread());
+		}
+
+		@RepeatedTest(10)
+		void test() throws Exception {
+			Thread.sleep(5);
+		}
+	}
+
+	@TestInstance(Lifecycle.PER_THREAD)
+	@ExtendWith(InstanceTrackingExtension.class)
+	static class TestFactoryTestCase {
+
+		@RegisterExtension
+		static final BeforeAllCallback beforeAllCallback = context -> assertThat(
+			context.getTestInstances()).isEmpty();
+
+		TestFactoryTestCase() {
+			instances.put(this, Thread.currentThread());
+		}
+
+		@BeforeEach
+		void acquire() {
+			assertTrue(instancesInUse.add(this), "instance is already in use");
+		}
+
+		@AfterEach
+		void release() {
+			instancesInUse.remove(this);
+		}
+
+		@TestFactory
+		Stream<DynamicTest> factory() {
+			return IntStream.range(0, 10).mapToObj(i -> dynamicTest("dynamic " + i, () -> {
+				assertTrue(instancesInUse.contains(this));
+				Thread.sleep(20);
+			}));
+		}
+
+		@RepeatedTest(20)
+		void test() throws Exception {
+			Thread.sleep(5);
+		}
+	}
+
+	static class InstanceTrackingExtension implements TestInstancePreDestroyCallback {
+
+		@Override
+		public void preDestroyTestInstance(ExtensionContext context) {
+			TestInstancePreDestroyCallback.preDestroyTestInstances(context, instance -> {
+				if (instances.containsKey(instance)) {
+					destroyedInstances.add(instance);
+				}
+			});
+		}
+	}
+
+}
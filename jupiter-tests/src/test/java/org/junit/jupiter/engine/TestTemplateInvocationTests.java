@@ -31,12 +31,15 @@ import static org.junit.platform.testkit.engine.EventConditions.started;
 import static org.junit.platform.testkit.engine.EventConditions.test;
 import static org.junit.platform.testkit.engine.TestExecutionResultConditions.message;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -408,6 +411,24 @@ class TestTemplateInvocationTests extends AbstractJupiterTestEngineTests {
 				event(container("templateWithCloseableStream"), finishedSuccessfully())));
 	}
 
+	/**
+	 * @since 5.12
+	 */
+	@Test
+	void argumentsOfCompletedInvocationsBecomeUnreachable() throws Exception {
+		ArgumentRecordingInvocationContextProvider.arguments.clear();
+
+		EngineExecutionResults executionResults = executeTestsForClass(
+			TestTemplateTestClassWithRecordedArguments.class);
+
+		assertThat(TestTemplateTestClassWithRecordedArguments.previousArgumentsReachable) //
+				.describedAs("arguments of previous invocations reachable during last invocation").isFalse();
+		// the recorded events still reference all test descriptors
+		assertThat(ArgumentRecordingInvocationContextProvider.areArgumentsReachable(null)) //
+				.describedAs("arguments reachable after execution").isFalse();
+		executionResults.testEvents().assertStatistics(stats -> stats.skipped(1).succeeded(2).failed(1));
+	}
+
 	private TestDescriptor findTestDescriptor(EngineExecutionResults executionResults, Condition<Event> condition) {
 		// @formatter:off
 		return executionResults.allEvents()
@@ -578,6 +599,94 @@ class TestTemplateInvocationTests extends AbstractJupiterTestEngineTests {
 		}
 	}
 
+	static class TestTemplateTestClassWithRecordedArguments {
+
+		private static volatile boolean previousArgumentsReachable = true;
+
+		@ExtendWith(ArgumentRecordingInvocationContextProvider.class)
+		@TestTemplate
+		void testTemplate(RecordedArgument argument) throws Exception {
+			if (argument.index == 3) {
+				fail("invocation is expected to fail");
+			}
+			if (argument.index == ArgumentRecordingInvocationContextProvider.INVOCATIONS) {
+				previousArgumentsReachable = ArgumentRecordingInvocationContextProvider.areArgumentsReachable(
+					argument);
+			}
+		}
+	}
+
+	static class RecordedArgument {
+
+		private final int index;
+
+		RecordedArgument(int index) {
+			this.index = index;
+		}
+	}
+
+	/**
+	 * Provides invocations that succeed, are skipped, or fail and records
+	 * their arguments without retaining them.
+	 */
+	private static class ArgumentRecordingInvocationContextProvider implements TestTemplateInvocationContextProvider {
+
+		private static final int INVOCATIONS = 4;
+		private static final List<WeakReference<RecordedArgument>> arguments = new CopyOnWriteArrayList<>();
+
+		@Override
+		public boolean supportsTestTemplate(ExtensionContext context) {
+			return true;
+		}
+
+		@Override
+		public Stream<TestTemplateInvocationContext> provideTestTemplateInvocationContexts(ExtensionContext context) {
+			AtomicInteger index = new AtomicInteger();
+			return Stream.generate(() -> createContext(index.incrementAndGet())).limit(INVOCATIONS);
+		}
+
+		/**
+		 * Determine whether any recorded argument except for the supplied one
+		 * is still reachable after having requested garbage collection.
+		 */
+		static boolean areArgumentsReachable(RecordedArgument except) throws InterruptedException {
+			for (int attempt = 0; attempt < 10; attempt++) {
+				System.gc();
+				if (arguments.stream().map(WeakReference::get).allMatch(it -> it == null || it == except)) {
+					return false;
+				}
+				Thread.sleep(50);
+			}
+			return true;
+		}
+
+		private TestTemplateInvocationContext createContext(int index) {
+			RecordedArgument argument = new RecordedArgument(index);
+			arguments.add(new WeakReference<>(argument));
+			ParameterResolver resolver = new ParameterResolver() {
+
+				@Override
+				public boolean supportsParameter(ParameterContext parameterContext,
+						ExtensionContext extensionContext) {
+					return parameterContext.getParameter().getType() == RecordedArgument.class;
+				}
+
+				@Override
+				public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+					return argument;
+				}
+			};
+			return new TestTemplateInvocationContext() {
+
+				@Override
+				public List<Extension> getAdditionalExtensions() {
+					return index == 2 ? asList(resolver, new AlwaysDisabledExecutionCondition())
+							: singletonList(resolver);
+				}
+			};
+		}
+	}
+
 	private static class SingleInvocationContextProvider implements TestTemplateInvocationContextProvider {
 
 		@Override
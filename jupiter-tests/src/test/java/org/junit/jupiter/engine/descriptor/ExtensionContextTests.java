@@ -51,7 +51,6 @@ import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.reporting.ReportEntry;
-import org.junit.platform.engine.support.hierarchical.OpenTest4JAwareThrowableCollector;
 import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
@@ -164,7 +163,7 @@ public class ExtensionContextTests {
 		assertThat(nestedExtensionContext.getRoot()).isSameAs(outerExtensionContext);
 
 		MethodExtensionContext methodExtensionContext = new MethodExtensionContext(outerExtensionContext, null,
-			methodTestDescriptor, configuration, extensionRegistry, new OpenTest4JAwareThrowableCollector());
+			methodTestDescriptor, configuration, extensionRegistry);
 		methodExtensionContext.setTestInstances(DefaultTestInstances.of(new OuterClass()));
 		assertThat(methodExtensionContext.getTags()).containsExactlyInAnyOrder("outer-tag", "method-tag");
 		assertThat(methodExtensionContext.getRoot()).isSameAs(outerExtensionContext);
@@ -187,7 +186,7 @@ public class ExtensionContextTests {
 		ClassExtensionContext classExtensionContext = new ClassExtensionContext(engineExtensionContext, null,
 			classTestDescriptor, configuration, extensionRegistry, null);
 		MethodExtensionContext methodExtensionContext = new MethodExtensionContext(classExtensionContext, null,
-			methodTestDescriptor, configuration, extensionRegistry, new OpenTest4JAwareThrowableCollector());
+			methodTestDescriptor, configuration, extensionRegistry);
 		methodExtensionContext.setTestInstances(DefaultTestInstances.of(testInstance));
 
 		// @formatter:off
@@ -246,7 +245,7 @@ public class ExtensionContextTests {
 		ExtensionContext parentContext = new ClassExtensionContext(null, null, classTestDescriptor, configuration,
 			extensionRegistry, null);
 		MethodExtensionContext childContext = new MethodExtensionContext(parentContext, null, methodTestDescriptor,
-			configuration, extensionRegistry, new OpenTest4JAwareThrowableCollector());
+			configuration, extensionRegistry);
 		childContext.setTestInstances(DefaultTestInstances.of(new OuterClass()));
 
 		ExtensionContext.Store childStore = childContext.getStore(Namespace.GLOBAL);
@@ -312,8 +311,7 @@ public class ExtensionContextTests {
 				UniqueId methodUniqueId = UniqueId.parse("[engine:junit-jupiter]/[class:MyClass]/[method:myMethod]");
 				TestMethodTestDescriptor methodTestDescriptor = new TestMethodTestDescriptor(methodUniqueId, testClass,
 					method, configuration);
-				return new MethodExtensionContext(null, null, methodTestDescriptor, configuration, extensionRegistry,
-					null);
+				return new MethodExtensionContext(null, null, methodTestDescriptor, configuration, extensionRegistry);
 			}) //
 		);
 	}
@@ -12,7 +12,11 @@ package org.junit.jupiter.engine.descriptor;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.lang.annotation.ElementType;
@@ -243,6 +247,23 @@ class JupiterTestDescriptorTests {
 		assertEquals(StaticTestCaseLevel2.class.getName(), descriptor.getLegacyReportingName());
 	}
 
+	@Test
+	void displayNamesAreGeneratedOnFirstAccess() throws Exception {
+		clearInvocations(configuration);
+
+		var classDescriptor = new ClassTestDescriptor(uniqueId, TestCase.class, configuration);
+		var methodDescriptor = new TestMethodTestDescriptor(uniqueId, TestCase.class,
+			TestCase.class.getDeclaredMethod("test"), configuration);
+
+		verify(configuration, never()).getDefaultDisplayNameGenerator();
+
+		assertEquals("custom class name", classDescriptor.getDisplayName());
+		assertEquals("test()", methodDescriptor.getDisplayName());
+		assertEquals("test()", methodDescriptor.getDisplayName());
+
+		verify(configuration, times(1)).getDefaultDisplayNameGenerator();
+	}
+
 	@Test
 	void defaultDisplayNamesForTestClasses() {
 		ClassBasedTestDescriptor descriptor = new ClassTestDescriptor(uniqueId, getClass(), configuration);
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.descriptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.engine.extension.ExtensionRegistry;
+import org.junit.platform.commons.PreconditionViolationException;
+
+/**
+ * Unit tests for {@link TestMethodExecutionPlan}.
+ *
+ * @since 5.12
+ */
+class TestMethodExecutionPlanTests {
+
+	@Test
+	void providesExtensionsOfEachExtensionPointInRegistrationOrder() {
+		var first = new BeforeAndAfterEachCallbacks();
+		var second = new BeforeEachCallbackOnly();
+		var third = new BeforeAndAfterEachCallbacks();
+
+		var plan = TestMethodExecutionPlan.compile(List.of(first, new ResolverOnly(), second, third));
+
+		assertThat(plan.getExtensions(BeforeEachCallback.class)).containsExactly(first, second, third);
+		assertThat(plan.getExtensions(AfterEachCallback.class)).containsExactly(first, third);
+	}
+
+	@Test
+	void rejectsExtensionPointsUnknownToThePlan() {
+		var plan = TestMethodExecutionPlan.compile(List.of());
+
+		var exception = assertThrows(PreconditionViolationException.class,
+			() -> plan.getExtensions(BeforeAllCallback.class));
+
+		assertThat(exception).hasMessage("Unsupported extension point: " + BeforeAllCallback.class.getName());
+	}
+
+	@Test
+	void bindsCachedLayoutToExtensionsOfSameShape() throws Exception {
+		var cache = new TestMethodExecutionPlan.Cache(TestCase.class.getDeclaredMethod("test", String.class));
+		var shared = new BeforeAndAfterEachCallbacks();
+		var replacement = new BeforeEachCallbackOnly();
+		cache.getPlan(registryWith(shared, new BeforeEachCallbackOnly()));
+
+		var plan = cache.getPlan(registryWith(shared, replacement));
+
+		assertThat(plan.getExtensions(BeforeEachCallback.class)).containsExactly(shared, replacement);
+		assertThat(plan.getExtensions(AfterEachCallback.class)).containsExactly(shared);
+	}
+
+	@Test
+	void compilesNewLayoutForExtensionsOfDifferentShape() throws Exception {
+		var cache = new TestMethodExecutionPlan.Cache(TestCase.class.getDeclaredMethod("test", String.class));
+		var extension = new BeforeAndAfterEachCallbacks();
+		cache.getPlan(registryWith(new BeforeEachCallbackOnly()));
+
+		var plan = cache.getPlan(registryWith(extension));
+
+		assertThat(plan.getExtensions(BeforeEachCallback.class)).containsExactly(extension);
+		assertThat(plan.getExtensions(AfterEachCallback.class)).containsExactly(extension);
+	}
+
+	@Test
+	void findsExtensionTypesDeclaredOnMethodAndParametersOnce() throws Exception {
+		var cache = new TestMethodExecutionPlan.Cache(TestCase.class.getDeclaredMethod("test", String.class));
+
+		var extensionTypes = cache.getDeclarativeExtensionTypes();
+
+		assertThat(extensionTypes).containsExactly(BeforeEachCallbackOnly.class, ResolverOnly.class);
+		assertThat(cache.getDeclarativeExtensionTypes()).isSameAs(extensionTypes);
+	}
+
+	private static ExtensionRegistry registryWith(Extension... extensions) {
+		ExtensionRegistry registry = mock();
+		when(registry.getExtensions(Extension.class)).thenReturn(List.of(extensions));
+		return registry;
+	}
+
+	static class TestCase {
+
+		@ExtendWith(BeforeEachCallbackOnly.class)
+		void test(@ExtendWith(ResolverOnly.class) String parameter) {
+		}
+
+	}
+
+	static class BeforeAndAfterEachCallbacks implements BeforeEachCallback, AfterEachCallback {
+
+		@Override
+		public void beforeEach(ExtensionContext context) {
+		}
+
+		@Override
+		public void afterEach(ExtensionContext context) {
+		}
+
+	}
+
+	static class BeforeEachCallbackOnly implements BeforeEachCallback {
+
+		@Override
+		public void beforeEach(ExtensionContext context) {
+		}
+
+	}
+
+	static class ResolverOnly implements ParameterResolver {
+
+		@Override
+		public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+			return false;
+		}
+
+		@Override
+		public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+			return null;
+		}
+
+	}
+
+}
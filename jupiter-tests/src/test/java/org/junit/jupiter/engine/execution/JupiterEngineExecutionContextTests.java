@@ -13,15 +13,19 @@ package org.junit.jupiter.engine.execution;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.withSettings;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.engine.config.JupiterConfiguration;
 import org.junit.jupiter.engine.extension.MutableExtensionRegistry;
 import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.support.hierarchical.OpenTest4JAwareThrowableCollector;
 
 /**
  * Unit tests for {@link JupiterEngineExecutionContext}.
@@ -101,4 +105,50 @@ class JupiterEngineExecutionContextTests {
 				.hasCauseReference(expectedCause);
 	}
 
+	@Test
+	void createsThrowableCollectorLazilyWhenFirstThrowableIsCollected() {
+		AtomicInteger createdCollectors = new AtomicInteger();
+		JupiterEngineExecutionContext newContext = originalContext.extend() //
+				.withThrowableCollectorFactory(() -> {
+					createdCollectors.incrementAndGet();
+					return new OpenTest4JAwareThrowableCollector();
+				}) //
+				.build();
+
+		assertTrue(newContext.isThrowableCollectorEmpty());
+		assertThat(createdCollectors).hasValue(0);
+
+		Exception exception = new Exception("test message");
+		newContext.collect(exception);
+
+		assertThat(newContext.isThrowableCollectorEmpty()).isFalse();
+		assertThat(newContext.getThrowableCollector().getThrowable()).isSameAs(exception);
+		assertThat(createdCollectors).hasValue(1);
+	}
+
+	@Test
+	void sharesLazilyCreatedThrowableCollectorWithExtendedContexts() {
+		JupiterEngineExecutionContext parentContext = originalContext.extend() //
+				.withThrowableCollectorFactory(OpenTest4JAwareThrowableCollector::new) //
+				.build();
+
+		JupiterEngineExecutionContext childContext = parentContext.extend() //
+				.withExtensionContext(mock()) //
+				.build();
+
+		assertSame(parentContext.getThrowableCollector(), childContext.getThrowableCollector());
+	}
+
+	@Test
+	void collectRethrowsUnrecoverableExceptions() {
+		JupiterEngineExecutionContext newContext = originalContext.extend() //
+				.withThrowableCollectorFactory(OpenTest4JAwareThrowableCollector::new) //
+				.build();
+
+		OutOfMemoryError error = new OutOfMemoryError();
+
+		assertSame(error, assertThrows(OutOfMemoryError.class, () -> newContext.collect(error)));
+		assertTrue(newContext.isThrowableCollectorEmpty());
+	}
+
 }
@@ -24,6 +24,7 @@ import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -281,6 +282,78 @@ class ParameterResolutionUtilsTests {
 		assertSame(cause, caught);
 	}
 
+	@Test
+	void evaluateStableParameterSupportOnlyOnce() {
+		testMethodWithASingleStringParameter();
+		CountingParameterResolver stableResolver = new CountingParameterResolver(true, true);
+		CountingParameterResolver nonMatchingStableResolver = new CountingParameterResolver(true, false);
+		register(stableResolver, nonMatchingStableResolver);
+
+		resolveMethodParameters();
+		Object[] arguments = resolveMethodParameters();
+
+		assertThat(arguments).containsExactly(ENIGMA);
+		assertEquals(1, stableResolver.supportsParameterCount);
+		assertEquals(1, nonMatchingStableResolver.supportsParameterCount);
+		assertEquals(2, stableResolver.resolveParameterCount);
+	}
+
+	@Test
+	void reevaluateParameterSupportThatIsNotStable() {
+		testMethodWithASingleStringParameter();
+		CountingParameterResolver stableResolver = new CountingParameterResolver(true, false);
+		CountingParameterResolver unstableResolver = new CountingParameterResolver(false, true);
+		register(stableResolver, unstableResolver);
+
+		resolveMethodParameters();
+		Object[] arguments = resolveMethodParameters();
+
+		assertThat(arguments).containsExactly(ENIGMA);
+		assertEquals(1, stableResolver.supportsParameterCount);
+		assertEquals(2, unstableResolver.supportsParameterCount);
+	}
+
+	@Test
+	void reevaluateStableParameterSupportAfterRegisteringAnotherExtension() {
+		testMethodWithASingleStringParameter();
+		CountingParameterResolver stableResolver = new CountingParameterResolver(true, true);
+		register(stableResolver);
+
+		resolveMethodParameters();
+		thereIsAParameterResolverThatDoesNotSupportThisParameter();
+		resolveMethodParameters();
+
+		assertEquals(2, stableResolver.supportsParameterCount);
+	}
+
+	@Test
+	void reuseEvaluationOfStableParameterSupportAcrossChildRegistries() {
+		testMethodWithASingleStringParameter();
+		CountingParameterResolver firstResolver = new CountingParameterResolver(true, true);
+		CountingParameterResolver secondResolver = new CountingParameterResolver(true, true);
+
+		Object[] firstArguments = resolveMethodParameters(childRegistryWith(firstResolver));
+		Object[] secondArguments = resolveMethodParameters(childRegistryWith(secondResolver));
+
+		assertThat(firstArguments).containsExactly(ENIGMA);
+		assertThat(secondArguments).containsExactly(ENIGMA);
+		assertEquals(1, firstResolver.supportsParameterCount);
+		assertEquals(0, secondResolver.supportsParameterCount);
+		assertEquals(1, secondResolver.resolveParameterCount);
+	}
+
+	@Test
+	void reportMultipleCompetingStableParameterResolvers() {
+		testMethodWithASingleStringParameter();
+		register(new CountingParameterResolver(true, true), new CountingParameterResolver(true, true));
+
+		assertThrows(ParameterResolutionException.class, this::resolveMethodParameters);
+		ParameterResolutionException caught = assertThrows(ParameterResolutionException.class,
+			this::resolveMethodParameters);
+
+		assertThat(caught.getMessage()).startsWith("Discovered multiple competing ParameterResolvers");
+	}
+
 	private IllegalArgumentException anyExceptionButParameterResolutionException() {
 		return new IllegalArgumentException();
 	}
@@ -330,8 +403,18 @@ class ParameterResolutionUtilsTests {
 	}
 
 	private Object[] resolveMethodParameters() {
+		return resolveMethodParameters(this.extensionRegistry);
+	}
+
+	private Object[] resolveMethodParameters(MutableExtensionRegistry registry) {
 		return ParameterResolutionUtils.resolveParameters(this.method, Optional.of(this.instance),
-			this.extensionContext, this.extensionRegistry);
+			this.extensionContext, registry);
+	}
+
+	private MutableExtensionRegistry childRegistryWith(ParameterResolver resolver) {
+		var registry = MutableExtensionRegistry.createRegistryFrom(this.extensionRegistry, Stream.empty());
+		registry.registerExtension(resolver, this);
+		return registry;
 	}
 
 	// -------------------------------------------------------------------------
@@ -443,6 +526,37 @@ class ParameterResolutionUtilsTests {
 		}
 	}
 
+	static class CountingParameterResolver implements ParameterResolver {
+
+		private final boolean stable;
+		private final boolean supported;
+
+		int supportsParameterCount;
+		int resolveParameterCount;
+
+		CountingParameterResolver(boolean stable, boolean supported) {
+			this.stable = stable;
+			this.supported = supported;
+		}
+
+		@Override
+		public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+			supportsParameterCount++;
+			return supported;
+		}
+
+		@Override
+		public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+			resolveParameterCount++;
+			return ENIGMA;
+		}
+
+		@Override
+		public boolean isParameterSupportStable() {
+			return stable;
+		}
+	}
+
 	static class ConstructorInjectionTestCase {
 
 		final String str;
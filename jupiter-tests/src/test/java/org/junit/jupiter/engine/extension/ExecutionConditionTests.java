@@ -10,6 +10,7 @@
 
 package org.junit.jupiter.engine.extension;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.engine.Constants.DEACTIVATE_CONDITIONS_PATTERN_PROPERTY_NAME;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
@@ -19,13 +20,18 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
 import org.junit.jupiter.api.extension.ExecutionCondition;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.RegisterExtension;
 import org.junit.jupiter.engine.AbstractJupiterTestEngineTests;
 import org.junit.jupiter.engine.JupiterTestEngine;
 import org.junit.jupiter.engine.extension.sub.AlwaysDisabledCondition;
@@ -121,6 +127,34 @@ class ExecutionConditionTests extends AbstractJupiterTestEngineTests {
 		assertExecutionConditionOverride(deactivatePattern, 4, 2, 2);
 	}
 
+	/**
+	 * @since 5.12
+	 */
+	@Test
+	void resultOfStableConditionIsReusedForSameElement() {
+		CountingCondition.evaluations.set(0);
+		StableCountingCondition.evaluations.set(0);
+
+		Events tests = executeTestsForClass(TestCaseWithCountingConditions.class).testEvents();
+
+		tests.assertStatistics(stats -> stats.started(3).succeeded(3));
+		// the @RepeatedTest container and each of its repetitions
+		assertThat(CountingCondition.evaluations).hasValue(4);
+		assertThat(StableCountingCondition.evaluations).hasValue(1);
+	}
+
+	/**
+	 * @since 5.12
+	 */
+	@Test
+	void resultOfStableConditionIsCachedPerInstance() {
+		EngineExecutionResults results = executeTestsForClass(
+			TestCaseWithDifferentlyConfiguredStableConditions.class);
+
+		results.containerEvents().assertStatistics(stats -> stats.skipped(1));
+		results.testEvents().assertStatistics(stats -> stats.started(0));
+	}
+
 	private void assertExecutionConditionOverride(String deactivatePattern, int testStartedCount, int testFailedCount) {
 		// @formatter:off
 		LauncherDiscoveryRequest request = request()
@@ -203,6 +237,82 @@ class ExecutionConditionTests extends AbstractJupiterTestEngineTests {
 
 	}
 
+	static class TestCaseWithCountingConditions {
+
+		@RepeatedTest(3)
+		@ExtendWith({ CountingCondition.class, StableCountingCondition.class })
+		void repeatedTest() {
+		}
+
+	}
+
+	static class TestCaseWithDifferentlyConfiguredStableConditions {
+
+		@RegisterExtension
+		static final ConfigurableStableCondition enabled = new ConfigurableStableCondition(true);
+
+		@RegisterExtension
+		static final ConfigurableStableCondition disabled = new ConfigurableStableCondition(false);
+
+		@Test
+		void test() {
+			fail("this should never be called");
+		}
+
+	}
+
+	static class ConfigurableStableCondition implements ExecutionCondition {
+
+		private final boolean enabled;
+
+		ConfigurableStableCondition(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		@Override
+		public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+			if (enabled) {
+				return ConditionEvaluationResult.enabled("enabled");
+			}
+			return ConditionEvaluationResult.disabled("disabled");
+		}
+
+		@Override
+		public boolean isEvaluationResultStable() {
+			return true;
+		}
+
+	}
+
+	static class CountingCondition implements ExecutionCondition {
+
+		static final AtomicInteger evaluations = new AtomicInteger();
+
+		@Override
+		public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+			evaluations.incrementAndGet();
+			return ConditionEvaluationResult.enabled("counted");
+		}
+
+	}
+
+	static class StableCountingCondition implements ExecutionCondition {
+
+		static final AtomicInteger evaluations = new AtomicInteger();
+
+		@Override
+		public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+			evaluations.incrementAndGet();
+			return ConditionEvaluationResult.enabled("counted once");
+		}
+
+		@Override
+		public boolean isEvaluationResultStable() {
+			return true;
+		}
+
+	}
+
 	@Target({ ElementType.METHOD, ElementType.TYPE })
 	@Retention(RetentionPolicy.RUNTIME)
 	@ExtendWith({ AlwaysDisabledCondition.class, AnotherAlwaysDisabledCondition.class })
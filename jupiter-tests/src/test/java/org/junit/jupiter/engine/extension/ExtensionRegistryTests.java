@@ -18,7 +18,9 @@ import static org.junit.jupiter.engine.extension.MutableExtensionRegistry.create
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.lang.reflect.Field;
 import java.util.List;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
@@ -133,6 +135,80 @@ class ExtensionRegistryTests {
 		assertEquals(2, countExtensions(grandChild, MyExtensionApi.class));
 	}
 
+	@Test
+	void extensionsRegisteredInParentAfterChildWasCreatedAreNotInherited() {
+		MutableExtensionRegistry parent = registry;
+		parent.registerExtension(MyExtension.class);
+		MutableExtensionRegistry child = createRegistryFrom(parent, Stream.empty());
+
+		parent.registerExtension(YourExtension.class);
+		assertEquals(2, countExtensions(parent, MyExtensionApi.class));
+		assertEquals(1, countExtensions(child, MyExtensionApi.class));
+
+		child.registerExtension(YourExtension.class);
+		assertEquals(2, countExtensions(child, MyExtensionApi.class));
+	}
+
+	@Test
+	void childrenAreNotAffectedByConcurrentRegistrationsInParent() throws Exception {
+		MutableExtensionRegistry parent = registry;
+		parent.registerExtension(MyExtension.class);
+		MutableExtensionRegistry child = createRegistryFrom(parent, Stream.empty());
+		MutableExtensionRegistry childWithLocalExtension = createRegistryFrom(parent,
+			Stream.of(YourExtension.class));
+
+		var executorService = Executors.newSingleThreadExecutor();
+		try {
+			var registrations = executorService.submit(() -> {
+				for (int i = 0; i < 1000; i++) {
+					parent.registerExtension(new YourExtension(), "source");
+				}
+			});
+			while (!registrations.isDone()) {
+				assertEquals(1, countExtensions(child, MyExtensionApi.class));
+				assertEquals(2, countExtensions(childWithLocalExtension, MyExtensionApi.class));
+				assertEquals(1, countExtensions(createRegistryFrom(child, Stream.empty()), MyExtensionApi.class));
+			}
+			registrations.get();
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+		assertEquals(1001, countExtensions(parent, MyExtensionApi.class));
+	}
+
+	@Test
+	void childWithoutLocalExtensionsSeesSameExtensionsAsParent() {
+		MutableExtensionRegistry parent = registry;
+		parent.registerExtension(MyExtension.class);
+
+		MutableExtensionRegistry child = createRegistryFrom(parent, Stream.empty());
+		ExtensionRegistry grandChild = createRegistryFrom(child, Stream.empty());
+
+		assertEquals(parent.getExtensions(Extension.class), child.getExtensions(Extension.class));
+		assertEquals(parent.getExtensions(Extension.class), grandChild.getExtensions(Extension.class));
+	}
+
+	@Test
+	void lateInitExtensionsAreInitializedPerChildRegistry() throws Exception {
+		Field field = LateInitTestCase.class.getDeclaredField("extension");
+		MutableExtensionRegistry parent = registry;
+		parent.registerUninitializedExtension(LateInitTestCase.class, field,
+			testInstance -> ((LateInitTestCase) testInstance).extension);
+
+		MutableExtensionRegistry child1 = createRegistryFrom(parent, Stream.empty());
+		MutableExtensionRegistry child2 = createRegistryFrom(parent, Stream.empty());
+		LateInitTestCase testInstance = new LateInitTestCase();
+		child1.initializeExtensions(LateInitTestCase.class, testInstance);
+
+		assertEquals(List.of(testInstance.extension), child1.getExtensions(MyExtensionApi.class));
+		assertEquals(0, countExtensions(child2, MyExtensionApi.class));
+		assertEquals(0, countExtensions(parent, MyExtensionApi.class));
+
+		ExtensionRegistry grandChild = createRegistryFrom(child1, Stream.empty());
+		assertEquals(List.of(testInstance.extension), grandChild.getExtensions(MyExtensionApi.class));
+	}
+
 	@Test
 	void canStreamOverRegisteredExtension() {
 		registry.registerExtension(MyExtension.class);
@@ -147,6 +223,11 @@ class ExtensionRegistryTests {
 		assertTrue(hasRun.get());
 	}
 
+	static class LateInitTestCase {
+
+		final MyExtension extension = new MyExtension();
+	}
+
 	private long countExtensions(ExtensionRegistry registry, Class<? extends Extension> extensionType) {
 		return registry.stream(extensionType).count();
 	}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.JUnitException;
+
+/**
+ * @since 5.12
+ */
+class HashedWheelTimerTests {
+
+	private final HashedWheelTimer timer = new HashedWheelTimer(Thread::new, 1, MILLISECONDS, 8);
+
+	@AfterEach
+	void stopTimer() throws Exception {
+		assertThat(timer.stop(5, SECONDS)).isTrue();
+	}
+
+	@Test
+	void executesTaskNotBeforeItsDelayHasElapsed() throws Exception {
+		var latch = new CountDownLatch(1);
+		var executedAt = new AtomicLong();
+		long scheduledAt = System.nanoTime();
+
+		timer.schedule(() -> {
+			executedAt.set(System.nanoTime());
+			latch.countDown();
+		}, 20, MILLISECONDS);
+
+		assertThat(latch.await(5, SECONDS)).isTrue();
+		assertThat(executedAt.get() - scheduledAt).isGreaterThanOrEqualTo(MILLISECONDS.toNanos(20));
+	}
+
+	@Test
+	void executesTaskWhoseDelayExceedsOneRotationOfTheWheel() throws Exception {
+		var latch = new CountDownLatch(1);
+
+		timer.schedule(latch::countDown, 30, MILLISECONDS);
+
+		assertThat(latch.await(5, SECONDS)).isTrue();
+	}
+
+	@Test
+	void doesNotExecuteCancelledTask() throws Exception {
+		var executed = new AtomicBoolean();
+		var latch = new CountDownLatch(1);
+
+		var timeout = timer.schedule(() -> executed.set(true), 10, MILLISECONDS);
+		assertThat(timeout.cancel()).isTrue();
+		timer.schedule(latch::countDown, 50, MILLISECONDS);
+
+		assertThat(latch.await(5, SECONDS)).isTrue();
+		assertThat(executed).isFalse();
+	}
+
+	@Test
+	void cannotCancelExecutedTaskButCanAwaitItsCompletion() throws Exception {
+		var started = new CountDownLatch(1);
+		var completed = new AtomicBoolean();
+
+		var timeout = timer.schedule(() -> {
+			started.countDown();
+			sleep(50);
+			completed.set(true);
+		}, 0, MILLISECONDS);
+
+		assertThat(started.await(5, SECONDS)).isTrue();
+		assertThat(timeout.cancel()).isFalse();
+		timeout.awaitCompletion();
+		assertThat(completed).isTrue();
+	}
+
+	@Test
+	void resumesAfterBeingIdle() throws Exception {
+		var first = new CountDownLatch(1);
+		timer.schedule(first::countDown, 1, MILLISECONDS);
+		assertThat(first.await(5, SECONDS)).isTrue();
+
+		sleep(50);
+
+		var second = new CountDownLatch(1);
+		timer.schedule(second::countDown, 1, MILLISECONDS);
+		assertThat(second.await(5, SECONDS)).isTrue();
+	}
+
+	@Test
+	void rejectsTasksAfterBeingStopped() throws Exception {
+		assertThat(timer.stop(5, SECONDS)).isTrue();
+
+		assertThatThrownBy(() -> timer.schedule(() -> {
+		}, 1, MILLISECONDS)) //
+				.isInstanceOf(JUnitException.class) //
+				.hasMessage("Timer has already been stopped");
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
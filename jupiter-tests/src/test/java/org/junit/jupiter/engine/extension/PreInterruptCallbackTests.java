@@ -32,6 +32,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -78,29 +79,9 @@ class PreInterruptCallbackTests extends AbstractJupiterTestEngineTests {
 	@ResourceLock(value = SYSTEM_PROPERTIES, mode = READ_WRITE)
 	@ResourceLock(value = SYSTEM_OUT, mode = READ_WRITE)
 	void testCaseWithDefaultInterruptCallbackEnabled() {
-		String orgValue = System.getProperty(DEFAULT_ENABLE_PROPERTY);
-		System.setProperty(DEFAULT_ENABLE_PROPERTY, Boolean.TRUE.toString());
-		PrintStream orgOutStream = System.out;
-		Events tests;
-		String output;
-		try {
-			ByteArrayOutputStream buffer = new ByteArrayOutputStream();
-			PrintStream outStream = new PrintStream(buffer);
-			System.setOut(outStream);
-			tests = executeTestsForClass(DefaultPreInterruptCallbackTimeoutOnMethodTestCase.class).testEvents();
-			output = buffer.toString(StandardCharsets.UTF_8);
-		}
-		finally {
-			System.setOut(orgOutStream);
-			if (orgValue != null) {
-				System.setProperty(DEFAULT_ENABLE_PROPERTY, orgValue);
-			}
-			else {
-				System.clearProperty(DEFAULT_ENABLE_PROPERTY);
-			}
-		}
+		String output = executeTestsWithThreadDumpEnabled(DefaultPreInterruptCallbackTimeoutOnMethodTestCase.class,
+			PreInterruptCallbackTests::assertTestHasTimedOut);
 
-		assertTestHasTimedOut(tests);
 		assertTrue(interruptedTest.get());
 		Thread thread = Thread.currentThread();
 
@@ -117,6 +98,24 @@ class PreInterruptCallbackTests extends AbstractJupiterTestEngineTests {
 					"org.junit.jupiter.engine.extension.PreInterruptThreadDumpPrinter.beforeThreadInterrupt");
 	}
 
+	@Test
+	@ResourceLock(value = SYSTEM_PROPERTIES, mode = READ_WRITE)
+	@ResourceLock(value = SYSTEM_OUT, mode = READ_WRITE)
+	void testCaseWithDefaultInterruptCallbackEnabledWithSeparateThread() {
+		String output = executeTestsWithThreadDumpEnabled(
+			DefaultPreInterruptCallbackTimeoutOnMethodWithSeparateThreadTestCase.class,
+			tests -> tests.failed().assertEventsMatchExactly(
+				event(test(TC), finishedWithFailure(instanceOf(TimeoutException.class)))));
+
+		assertThat(output) //
+				.containsSubsequence( //
+					"Thread \"junit-timeout-thread-", //
+					"will be interrupted.", //
+					"\"junit-timeout-thread-", //
+					"java.lang.Thread.sleep", //
+					"org.junit.jupiter.engine.extension.PreInterruptCallbackTests$DefaultPreInterruptCallbackTimeoutOnMethodWithSeparateThreadTestCase.test(PreInterruptCallbackTests.java");
+	}
+
 	@Test
 	void testCaseWithNoInterruptCallbackEnabled() {
 		Events tests = executeTestsForClass(DefaultPreInterruptCallbackTimeoutOnMethodTestCase.class).testEvents();
@@ -168,6 +167,32 @@ class PreInterruptCallbackTests extends AbstractJupiterTestEngineTests {
 		assertEquals(preInterruptContext.getThreadToInterrupt(), interruptedTestThread.get());
 	}
 
+	private String executeTestsWithThreadDumpEnabled(Class<?> testClass, Consumer<Events> testEventsAssertion) {
+		String orgValue = System.getProperty(DEFAULT_ENABLE_PROPERTY);
+		System.setProperty(DEFAULT_ENABLE_PROPERTY, Boolean.TRUE.toString());
+		PrintStream orgOutStream = System.out;
+		Events tests;
+		String output;
+		try {
+			ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+			PrintStream outStream = new PrintStream(buffer);
+			System.setOut(outStream);
+			tests = executeTestsForClass(testClass).testEvents();
+			output = buffer.toString(StandardCharsets.UTF_8);
+		}
+		finally {
+			System.setOut(orgOutStream);
+			if (orgValue != null) {
+				System.setProperty(DEFAULT_ENABLE_PROPERTY, orgValue);
+			}
+			else {
+				System.clearProperty(DEFAULT_ENABLE_PROPERTY);
+			}
+		}
+		testEventsAssertion.accept(tests);
+		return output;
+	}
+
 	private static void assertTestHasTimedOut(Events tests) {
 		assertOneFailedTest(tests);
 		tests.failed().assertEventsMatchExactly(
@@ -208,6 +233,14 @@ class PreInterruptCallbackTests extends AbstractJupiterTestEngineTests {
 		}
 	}
 
+	static class DefaultPreInterruptCallbackTimeoutOnMethodWithSeparateThreadTestCase {
+		@Test
+		@Timeout(value = 200, unit = TimeUnit.MILLISECONDS, threadMode = Timeout.ThreadMode.SEPARATE_THREAD)
+		void test() throws InterruptedException {
+			Thread.sleep(2000);
+		}
+	}
+
 	@ExtendWith(TestPreInterruptCallback.class)
 	static class DefaultPreInterruptCallbackWithExplicitCallbackTestCase {
 		@Test
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.testkit.engine.EventConditions.container;
+import static org.junit.platform.testkit.engine.EventConditions.event;
+import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.instanceOf;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.message;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.PrewarmCallback;
+import org.junit.jupiter.engine.AbstractJupiterTestEngineTests;
+import org.junit.platform.testkit.engine.EngineExecutionResults;
+
+/**
+ * Integration tests for {@link PrewarmCallback}.
+ *
+ * @since 5.12
+ */
+class PrewarmCallbackTests extends AbstractJupiterTestEngineTests {
+
+	private static final Namespace NAMESPACE = Namespace.create(PrewarmCallbackTests.class);
+
+	private static final List<String> callSequence = new CopyOnWriteArrayList<>();
+
+	@BeforeEach
+	void resetCallSequence() {
+		callSequence.clear();
+	}
+
+	@Test
+	void prewarmCallbacksAreInvokedForAllClassesBeforeTheirBeforeAllCallbacks() {
+		EngineExecutionResults results = executeTests(selectClass(FirstTestCase.class),
+			selectClass(SecondTestCase.class));
+
+		results.testEvents().assertStatistics(stats -> stats.started(3).succeeded(3));
+		assertThat(callSequence).containsExactlyInAnyOrder( //
+			"prewarm:FirstTestCase", "prewarm:SecondTestCase", "prewarm:NestedTestCase", //
+			"beforeAll:FirstTestCase", "beforeAll:SecondTestCase", "beforeAll:NestedTestCase", //
+			"test", "test", "test");
+		assertThat(callSequence.indexOf("prewarm:FirstTestCase")) //
+				.isLessThan(callSequence.indexOf("beforeAll:FirstTestCase"));
+		assertThat(callSequence.indexOf("prewarm:SecondTestCase")) //
+				.isLessThan(callSequence.indexOf("beforeAll:SecondTestCase"));
+		assertThat(callSequence.indexOf("prewarm:NestedTestCase")) //
+				.isLessThan(callSequence.indexOf("beforeAll:NestedTestCase"));
+	}
+
+	@Test
+	void exceptionThrownByPrewarmCallbackFailsTestClass() {
+		EngineExecutionResults results = executeTestsForClass(FailingPrewarmTestCase.class);
+
+		results.testEvents().assertStatistics(stats -> stats.started(0));
+		results.containerEvents().assertThatEvents().haveExactly(1, event(container(FailingPrewarmTestCase.class),
+			finishedWithFailure(instanceOf(IllegalStateException.class), message("boom"))));
+		assertThat(callSequence).isEmpty();
+	}
+
+	static class ResourceExtension implements PrewarmCallback, BeforeAllCallback {
+
+		@Override
+		public void prewarm(Class<?> testClass, ExtensionContext context) {
+			callSequence.add("prewarm:" + testClass.getSimpleName());
+			context.getStore(NAMESPACE).put(testClass, "resource for " + testClass.getSimpleName());
+		}
+
+		@Override
+		public void beforeAll(ExtensionContext context) {
+			Class<?> testClass = context.getRequiredTestClass();
+			assertNotNull(context.getRoot().getStore(NAMESPACE).get(testClass));
+			callSequence.add("beforeAll:" + testClass.getSimpleName());
+		}
+	}
+
+	static class FailingPrewarmExtension implements PrewarmCallback {
+
+		@Override
+		public void prewarm(Class<?> testClass, ExtensionContext context) {
+			throw new IllegalStateException("boom");
+		}
+	}
+
+	@ExtendWith(ResourceExtension.class)
+	static class FirstTestCase {
+
+		@Test
+		void test() {
+			callSequence.add("test");
+		}
+	}
+
+	@ExtendWith(ResourceExtension.class)
+	static class SecondTestCase {
+
+		@Test
+		void test() {
+			callSequence.add("test");
+		}
+
+		@Nested
+		class NestedTestCase {
+
+			@Test
+			void test() {
+				callSequence.add("test");
+			}
+		}
+	}
+
+	@ExtendWith(FailingPrewarmExtension.class)
+	static class FailingPrewarmTestCase {
+
+		@BeforeAll
+		static void beforeAll() {
+			callSequence.add("beforeAll");
+		}
+
+		@Test
+		void test() {
+			callSequence.add("test");
+		}
+	}
+
+}
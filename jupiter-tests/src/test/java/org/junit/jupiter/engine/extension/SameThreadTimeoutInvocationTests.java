@@ -10,6 +10,7 @@
 
 package org.junit.jupiter.engine.extension;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -17,8 +18,6 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeoutException;
 
 import org.junit.jupiter.api.Test;
@@ -31,10 +30,10 @@ class SameThreadTimeoutInvocationTests {
 
 	@Test
 	void resetsInterruptFlag() {
-		var exception = assertThrows(TimeoutException.class, () -> withExecutor(executor -> {
+		var exception = assertThrows(TimeoutException.class, () -> withTimer(timer -> {
 			var delegate = new EventuallyInterruptibleInvocation();
 			var duration = new TimeoutDuration(1, NANOSECONDS);
-			var timeoutInvocation = new SameThreadTimeoutInvocation<>(delegate, duration, executor, () -> "execution",
+			var timeoutInvocation = new SameThreadTimeoutInvocation<>(delegate, duration, timer, () -> "execution",
 				PreInterruptCallbackInvocation.NOOP);
 			timeoutInvocation.proceed();
 		}));
@@ -42,14 +41,24 @@ class SameThreadTimeoutInvocationTests {
 		assertThat(exception).hasMessage("execution timed out after 1 nanosecond");
 	}
 
-	private void withExecutor(ThrowingConsumer<ScheduledExecutorService> consumer) throws Throwable {
-		ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+	@Test
+	void doesNotInterruptInvocationThatCompletesInTime() throws Throwable {
+		withTimer(timer -> {
+			var duration = new TimeoutDuration(1, SECONDS);
+			var timeoutInvocation = new SameThreadTimeoutInvocation<>(() -> "result", duration, timer,
+				() -> "execution", PreInterruptCallbackInvocation.NOOP);
+			assertThat(timeoutInvocation.proceed()).isEqualTo("result");
+		});
+		assertFalse(Thread.currentThread().isInterrupted());
+	}
+
+	private void withTimer(ThrowingConsumer<HashedWheelTimer> consumer) throws Throwable {
+		HashedWheelTimer timer = new HashedWheelTimer(Thread::new, 1, MILLISECONDS, 8);
 		try {
-			consumer.accept(executor);
+			consumer.accept(timer);
 		}
 		finally {
-			executor.shutdown();
-			assertTrue(executor.awaitTermination(5, SECONDS));
+			assertTrue(timer.stop(5, SECONDS));
 		}
 	}
 }
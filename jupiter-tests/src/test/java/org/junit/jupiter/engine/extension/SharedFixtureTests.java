@@ -0,0 +1,211 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.engine.Constants.DEFAULT_TEST_CLASS_ORDER_PROPERTY_NAME;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.testkit.engine.EventConditions.event;
+import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
+import static org.junit.platform.testkit.engine.EventConditions.test;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.instanceOf;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.message;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.api.extension.SharedFixture;
+import org.junit.jupiter.api.extension.SharedFixtureFactory;
+import org.junit.jupiter.engine.AbstractJupiterTestEngineTests;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.testkit.engine.EngineExecutionResults;
+
+/**
+ * Integration tests for {@link SharedFixture @SharedFixture}.
+ *
+ * @since 5.12
+ */
+class SharedFixtureTests extends AbstractJupiterTestEngineTests {
+
+	private static final List<String> callSequence = new ArrayList<>();
+
+	@BeforeEach
+	void resetCallSequence() {
+		callSequence.clear();
+	}
+
+	@Test
+	void sharedFixtureIsClosedOnceLastDeclaringTestClassHasBeenExecuted() {
+		EngineExecutionResults results = executeInOrder(selectClass(FirstTestCase.class),
+			selectClass(SecondTestCase.class), selectClass(UnrelatedTestCase.class));
+
+		results.testEvents().assertStatistics(stats -> stats.started(4).succeeded(4));
+		assertThat(callSequence).containsExactly("open", "first", "second", "nested", "close", "unrelated");
+	}
+
+	@Test
+	void skippedTestClassesReleaseTheirSharedFixtures() {
+		EngineExecutionResults results = executeInOrder(selectClass(FirstTestCase.class),
+			selectClass(DisabledTestCase.class), selectClass(UnrelatedTestCase.class));
+
+		results.testEvents().assertStatistics(stats -> stats.started(2).succeeded(2));
+		results.containerEvents().assertStatistics(stats -> stats.skipped(1));
+		assertThat(callSequence).containsExactly("open", "first", "close", "unrelated");
+	}
+
+	@Test
+	void sharedFixtureIsCreatedLazily() {
+		EngineExecutionResults results = executeInOrder(selectClass(DeclaringButNotUsingTestCase.class));
+
+		results.testEvents().assertStatistics(stats -> stats.started(1).succeeded(1));
+		assertThat(callSequence).containsExactly("unused");
+	}
+
+	@Test
+	void onlyResolvesParametersOfExactlyTheFixtureType() {
+		EngineExecutionResults results = executeInOrder(selectClass(SupertypeParameterTestCase.class));
+
+		results.testEvents().assertThatEvents().haveExactly(1,
+			event(test(), finishedWithFailure(instanceOf(ParameterResolutionException.class),
+				message(it -> it.startsWith("No ParameterResolver registered for parameter [java.lang.AutoCloseable")))));
+		assertThat(callSequence).isEmpty();
+	}
+
+	@Test
+	void doesNotResolveFixturesForTestClassesThatDoNotDeclareThem() {
+		EngineExecutionResults results = executeInOrder(selectClass(UndeclaredFixtureTestCase.class));
+
+		results.testEvents().assertThatEvents().haveExactly(1,
+			event(test(), finishedWithFailure(instanceOf(ParameterResolutionException.class),
+				message(it -> it.startsWith("No ParameterResolver registered for parameter [" + Fixture.class.getName())))));
+		assertThat(callSequence).isEmpty();
+	}
+
+	private EngineExecutionResults executeInOrder(DiscoverySelector... selectors) {
+		return executeTests(request() //
+				.selectors(selectors) //
+				.configurationParameter(DEFAULT_TEST_CLASS_ORDER_PROPERTY_NAME,
+					ClassOrderer.OrderAnnotation.class.getName()));
+	}
+
+	static class Fixture implements AutoCloseable {
+
+		Fixture() {
+			callSequence.add("open");
+		}
+
+		@Override
+		public void close() {
+			callSequence.add("close");
+		}
+	}
+
+	static class FixtureFactory implements SharedFixtureFactory<Fixture> {
+
+		@Override
+		public Fixture createFixture(ExtensionContext context) {
+			return new Fixture();
+		}
+	}
+
+	@Order(1)
+	@SharedFixture(FixtureFactory.class)
+	static class FirstTestCase {
+
+		@Test
+		void test(Fixture fixture) {
+			callSequence.add("first");
+		}
+	}
+
+	@Order(2)
+	@SharedFixture(FixtureFactory.class)
+	static class SecondTestCase {
+
+		private final Fixture fixture;
+
+		SecondTestCase(Fixture fixture) {
+			this.fixture = fixture;
+		}
+
+		@Test
+		void test(Fixture fixture) {
+			assertThat(fixture).isSameAs(this.fixture);
+			callSequence.add("second");
+		}
+
+		@Nested
+		class NestedTestCase {
+
+			@Test
+			void test(Fixture fixture) {
+				assertThat(fixture).isSameAs(SecondTestCase.this.fixture);
+				callSequence.add("nested");
+			}
+		}
+	}
+
+	@Order(2)
+	@Disabled
+	@SharedFixture(FixtureFactory.class)
+	static class DisabledTestCase {
+
+		@Test
+		void test(Fixture fixture) {
+			callSequence.add("disabled");
+		}
+	}
+
+	@Order(3)
+	static class UnrelatedTestCase {
+
+		@Test
+		void test() {
+			callSequence.add("unrelated");
+		}
+	}
+
+	@SharedFixture(FixtureFactory.class)
+	static class SupertypeParameterTestCase {
+
+		@Test
+		void test(AutoCloseable fixture) {
+			callSequence.add("supertype");
+		}
+	}
+
+	static class UndeclaredFixtureTestCase {
+
+		@Test
+		void test(Fixture fixture) {
+			callSequence.add("undeclared");
+		}
+	}
+
+	@SharedFixture(FixtureFactory.class)
+	static class DeclaringButNotUsingTestCase {
+
+		@Test
+		void test() {
+			callSequence.add("unused");
+		}
+	}
+
+}
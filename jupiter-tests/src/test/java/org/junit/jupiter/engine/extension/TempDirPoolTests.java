@@ -0,0 +1,247 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import static java.util.stream.Collectors.toSet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.CleanupMode;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.engine.AbstractJupiterTestEngineTests;
+import org.junit.jupiter.engine.Constants;
+import org.junit.platform.testkit.engine.EngineExecutionResults;
+
+/**
+ * Tests for {@link TempDirPool}.
+ *
+ * @since 5.12
+ */
+class TempDirPoolTests {
+
+	private final List<Runnable> backgroundTasks = new ArrayList<>();
+	private final Set<Path> handedOut = new HashSet<>();
+
+	@TempDir
+	Path parentDir;
+
+	private TempDirPool pool;
+
+	@BeforeEach
+	void createPool() {
+		pool = new TempDirPool(backgroundTasks::add, 4, parentDir);
+	}
+
+	@AfterEach
+	void closePool() {
+		pool.close();
+	}
+
+	@Test
+	void createsDirectorySynchronouslyAndSchedulesRefillIfRingIsEmpty() throws Exception {
+		Path dir = take();
+
+		assertThat(dir).isEmptyDirectory();
+		assertThat(dir.getFileName().toString()).startsWith("junit-");
+		assertThat(backgroundTasks).hasSize(1);
+		assertThat(pooledDirectories()).isEmpty();
+	}
+
+	@Test
+	void handsOutDirectoriesCreatedInTheBackground() throws Exception {
+		take();
+		runBackgroundTasks();
+		Set<Path> pooled = pooledDirectories();
+
+		Path dir = take();
+
+		assertThat(pooled).hasSize(4).contains(dir);
+		assertThat(dir).isEmptyDirectory();
+		assertThat(backgroundTasks).isEmpty();
+	}
+
+	@Test
+	void refillsRingOnceHalfOfItsDirectoriesHaveBeenHandedOut() throws Exception {
+		take();
+		runBackgroundTasks();
+
+		take();
+		assertThat(backgroundTasks).isEmpty();
+		take();
+		assertThat(backgroundTasks).hasSize(1);
+
+		runBackgroundTasks();
+		assertThat(pooledDirectories()).hasSize(4);
+	}
+
+	@Test
+	void scrubsPooledDirectoriesThatAreNoLongerEmpty() throws Exception {
+		take();
+		runBackgroundTasks();
+		Set<Path> tampered = pooledDirectories();
+		for (Path dir : tampered) {
+			Files.createDirectories(dir.resolve("nested")).resolve("file.txt").toFile().createNewFile();
+		}
+
+		Path dir = take();
+
+		assertThat(tampered).doesNotContain(dir);
+		assertThat(dir).isEmptyDirectory();
+
+		runBackgroundTasks();
+
+		assertThat(pooledDirectories()).isEqualTo(tampered);
+		assertThat(tampered).allSatisfy(it -> assertThat(it).isEmptyDirectory());
+	}
+
+	@Test
+	void deletesPooledDirectoriesWhenClosed() throws Exception {
+		Path inUse = take();
+		runBackgroundTasks();
+
+		pool.close();
+
+		assertThat(pooledDirectories()).isEmpty();
+		assertThat(inUse).isEmptyDirectory();
+	}
+
+	@Test
+	void deletesDirectoriesCreatedInTheBackgroundAfterClose() throws Exception {
+		take();
+		pool.close();
+
+		runBackgroundTasks();
+
+		assertThat(pooledDirectories()).isEmpty();
+	}
+
+	private Path take() throws IOException {
+		Path dir = pool.take();
+		handedOut.add(dir);
+		return dir;
+	}
+
+	private void runBackgroundTasks() {
+		while (!backgroundTasks.isEmpty()) {
+			backgroundTasks.remove(0).run();
+		}
+	}
+
+	private Set<Path> pooledDirectories() throws IOException {
+		try (Stream<Path> dirs = Files.list(parentDir)) {
+			return dirs.filter(dir -> !handedOut.contains(dir)).collect(toSet());
+		}
+	}
+
+	@Nested
+	class IntegrationTests extends AbstractJupiterTestEngineTests {
+
+		@AfterEach
+		void resetRecordedDirectories() {
+			PooledTempDirTestCase.dirs.clear();
+		}
+
+		@Test
+		void handsOutPooledTempDirsIfEnabled() {
+			executeTests(true, false).testEvents().assertStatistics(stats -> stats.started(3).succeeded(3));
+
+			assertThat(PooledTempDirTestCase.dirs).hasSize(3).doesNotHaveDuplicates();
+			assertThat(PooledTempDirTestCase.dirs).allSatisfy(dir -> assertThat(dir).doesNotExist());
+		}
+
+		@Test
+		void deletesPooledTempDirsInTheBackgroundIfEnabled() throws IOException {
+			executeTests(true, true).testEvents().assertStatistics(stats -> stats.started(3).succeeded(3));
+
+			assertThat(PooledTempDirTestCase.dirs).hasSize(3).doesNotHaveDuplicates();
+			for (Path dir : PooledTempDirTestCase.dirs) {
+				assertThat(dir).doesNotExist();
+				String graveyardPrefix = dir.getFileName() + ".junit-graveyard";
+				try (Stream<Path> siblings = Files.list(dir.getParent())) {
+					assertThat(siblings).noneMatch(it -> it.getFileName().toString().startsWith(graveyardPrefix));
+				}
+			}
+		}
+
+		@Test
+		void retainsPooledTempDirsAccordingToCleanupMode() throws IOException {
+			executeTestsForClass(RetainedTempDirTestCase.class, true, false).testEvents() //
+					.assertStatistics(stats -> stats.started(2).succeeded(2));
+
+			try {
+				assertThat(PooledTempDirTestCase.dirs).hasSize(2).doesNotHaveDuplicates();
+				assertThat(PooledTempDirTestCase.dirs).allSatisfy(dir -> assertThat(dir.resolve("file.txt")).exists());
+			}
+			finally {
+				for (Path dir : PooledTempDirTestCase.dirs) {
+					Files.deleteIfExists(dir.resolve("file.txt"));
+					Files.deleteIfExists(dir);
+				}
+			}
+		}
+
+		private EngineExecutionResults executeTests(boolean poolEnabled, boolean backgroundCleanupEnabled) {
+			return executeTestsForClass(PooledTempDirTestCase.class, poolEnabled, backgroundCleanupEnabled);
+		}
+
+		private EngineExecutionResults executeTestsForClass(Class<?> testClass, boolean poolEnabled,
+				boolean backgroundCleanupEnabled) {
+			return executeTests(request() //
+					.selectors(selectClass(testClass)) //
+					.configurationParameter(Constants.TEMP_DIR_POOL_ENABLED_PROPERTY_NAME, String.valueOf(poolEnabled)) //
+					.configurationParameter(Constants.TEMP_DIR_BACKGROUND_CLEANUP_ENABLED_PROPERTY_NAME,
+						String.valueOf(backgroundCleanupEnabled)) //
+					.build());
+		}
+	}
+
+	// -------------------------------------------------------------------
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	static class PooledTempDirTestCase {
+
+		static final List<Path> dirs = new ArrayList<>();
+
+		@RepeatedTest(3)
+		void test(@TempDir Path dir) throws IOException {
+			assertThat(dir).isEmptyDirectory();
+			dirs.add(dir);
+			Files.createDirectories(dir.resolve("nested")).resolve("file.txt").toFile().createNewFile();
+		}
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	static class RetainedTempDirTestCase {
+
+		@RepeatedTest(2)
+		void test(@TempDir(cleanup = CleanupMode.NEVER) Path dir) throws IOException {
+			assertThat(dir).isEmptyDirectory();
+			PooledTempDirTestCase.dirs.add(dir);
+			Files.createFile(dir.resolve("file.txt"));
+		}
+	}
+
+}
@@ -11,6 +11,7 @@
 package org.junit.jupiter.engine.extension;
 
 import static java.nio.file.Files.deleteIfExists;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.api.io.CleanupMode.ALWAYS;
@@ -19,20 +20,36 @@ import static org.junit.jupiter.api.io.CleanupMode.ON_SUCCESS;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMethod;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.cause;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.instanceOf;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.message;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.AnnotatedElementContext;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.RegisterExtension;
 import org.junit.jupiter.api.io.CleanupMode;
 import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.api.io.TempDirFactory;
 import org.junit.jupiter.engine.AbstractJupiterTestEngineTests;
+import org.junit.jupiter.engine.extension.TempDirectory.BackgroundCleaner.BackgroundCleanupException;
+import org.junit.jupiter.engine.extension.TempDirectory.FileOperations;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.testkit.engine.EngineExecutionResults;
 
 /**
  * Test that {@linkplain TempDir temporary directories} are not deleted with
@@ -452,4 +469,177 @@ class TempDirectoryCleanupTests extends AbstractJupiterTestEngineTests {
 
 	}
 
+	@Nested
+	class BackgroundCleanupTests {
+
+		private static Path backgroundDir;
+
+		/**
+		 * Ensure that temp dirs are deleted before the engine finishes when
+		 * background cleanup is enabled.
+		 * <p/>
+		 * Expect the TempDir and its graveyard location to be cleaned up.
+		 */
+		@Test
+		void deletesTempDirInBackground() {
+			LauncherDiscoveryRequest request = request()//
+					.configurationParameter(TempDir.BACKGROUND_CLEANUP_ENABLED_PROPERTY_NAME, "true")//
+					.selectors(selectClass(BackgroundCleanupCase.class))//
+					.build();
+			executeTests(request).allEvents().assertStatistics(stats -> stats.failed(0));
+
+			assertThat(backgroundDir).doesNotExist();
+			assertThat(graveyardsOf(backgroundDir)).isEmpty();
+		}
+
+		/**
+		 * Ensure that temp dirs with the same name can be deleted in the
+		 * background while a previous one is still pending deletion.
+		 * <p/>
+		 * Expect all TempDirs and their graveyard locations to be cleaned up.
+		 */
+		@Test
+		void deletesTempDirsWithSameNameInBackground(@TempDir Path parentDir) throws IOException {
+			SameNameTempDirFactory.parentDir = parentDir;
+			LauncherDiscoveryRequest request = request()//
+					.configurationParameter(TempDir.BACKGROUND_CLEANUP_ENABLED_PROPERTY_NAME, "true")//
+					.selectors(selectClass(SameNameBackgroundCleanupCase.class))//
+					.build();
+			executeTests(request).testEvents().assertStatistics(stats -> stats.failed(0).succeeded(10));
+
+			try (Stream<Path> children = Files.list(parentDir)) {
+				assertThat(children).isEmpty();
+			}
+		}
+
+		/**
+		 * Ensure that failures to delete temp dirs in the background are
+		 * reported along with the test that owned the temp dir.
+		 * <p/>
+		 * Expect the engine to fail with an exception that names the test.
+		 */
+		@Test
+		void reportsFailureOfBackgroundCleanupForOwningTest() throws IOException {
+			LauncherDiscoveryRequest request = request()//
+					.configurationParameter(TempDir.BACKGROUND_CLEANUP_ENABLED_PROPERTY_NAME, "true")//
+					.selectors(selectClass(UndeletableBackgroundCleanupCase.class))//
+					.build();
+			EngineExecutionResults results = executeTests(request);
+
+			try {
+				results.testEvents().assertStatistics(stats -> stats.succeeded(1).failed(0));
+				results.containerEvents().assertThatEvents() //
+						.haveExactly(1, finishedWithFailure(cause(instanceOf(BackgroundCleanupException.class),
+							message(it -> it.contains("[test(Path)]")
+									&& it.contains(UndeletableBackgroundCleanupCase.class.getName())),
+							cause(message(it -> it.startsWith("Failed to delete temp directory"))))));
+			}
+			finally {
+				for (Path graveyard : graveyardsOf(backgroundDir)) {
+					Files.deleteIfExists(graveyard.resolve(backgroundDir.getFileName()).resolve("undeletable"));
+					Files.deleteIfExists(graveyard.resolve(backgroundDir.getFileName()));
+					Files.deleteIfExists(graveyard);
+				}
+			}
+		}
+
+		private static List<Path> graveyardsOf(Path dir) throws IOException {
+			String prefix = dir.getFileName() + ".junit-graveyard";
+			try (Stream<Path> siblings = Files.list(dir.getParent())) {
+				return siblings.filter(it -> it.getFileName().toString().startsWith(prefix)).collect(toList());
+			}
+		}
+
+		/**
+		 * Ensure that ON_SUCCESS cleanup modes are obeyed when background
+		 * cleanup is enabled.
+		 * <p/>
+		 * Expect the TempDir not to be cleaned up.
+		 */
+		@Test
+		void doesNotDeleteTempDirOfFailingTestInBackground() throws IOException {
+			LauncherDiscoveryRequest request = request()//
+					.configurationParameter(TempDir.BACKGROUND_CLEANUP_ENABLED_PROPERTY_NAME, "true")//
+					.selectors(selectClass(OnSuccessFailingBackgroundCleanupCase.class))//
+					.build();
+			executeTests(request);
+
+			try {
+				assertThat(backgroundDir).exists();
+			}
+			finally {
+				deleteIfExists(backgroundDir);
+			}
+		}
+
+		// -------------------------------------------------------------------
+
+		@SuppressWarnings("JUnitMalformedDeclaration")
+		static class BackgroundCleanupCase {
+
+			@Test
+			void test(@TempDir Path dir) throws IOException {
+				BackgroundCleanupTests.backgroundDir = dir;
+				Path subDir = Files.createDirectories(dir.resolve("a/b/c"));
+				for (int i = 0; i < 100; i++) {
+					Files.writeString(subDir.resolve("file" + i), "content");
+				}
+			}
+		}
+
+		static class SameNameTempDirFactory implements TempDirFactory {
+
+			static Path parentDir;
+
+			@Override
+			public Path createTempDirectory(AnnotatedElementContext elementContext,
+					ExtensionContext extensionContext) throws IOException {
+				return Files.createDirectory(parentDir.resolve("same"));
+			}
+		}
+
+		@SuppressWarnings("JUnitMalformedDeclaration")
+		static class SameNameBackgroundCleanupCase {
+
+			@RepeatedTest(10)
+			void test(@TempDir(factory = SameNameTempDirFactory.class) Path dir) throws IOException {
+				Path subDir = Files.createDirectories(dir.resolve("a/b/c"));
+				for (int i = 0; i < 100; i++) {
+					Files.writeString(subDir.resolve("file" + i), "content");
+				}
+			}
+		}
+
+		@SuppressWarnings("JUnitMalformedDeclaration")
+		static class UndeletableBackgroundCleanupCase {
+
+			@RegisterExtension
+			BeforeEachCallback injector = context -> context //
+					.getStore(TempDirectory.NAMESPACE) //
+					.put(TempDirectory.FILE_OPERATIONS_KEY, (FileOperations) path -> {
+						if (path.endsWith("undeletable")) {
+							throw new IOException("Simulated failure");
+						}
+						Files.delete(path);
+					});
+
+			@Test
+			void test(@TempDir Path dir) throws IOException {
+				BackgroundCleanupTests.backgroundDir = dir;
+				Files.createFile(dir.resolve("undeletable"));
+			}
+		}
+
+		@SuppressWarnings("JUnitMalformedDeclaration")
+		static class OnSuccessFailingBackgroundCleanupCase {
+
+			@Test
+			void test(@TempDir(cleanup = ON_SUCCESS) Path dir) {
+				BackgroundCleanupTests.backgroundDir = dir;
+				fail();
+			}
+		}
+
+	}
+
 }
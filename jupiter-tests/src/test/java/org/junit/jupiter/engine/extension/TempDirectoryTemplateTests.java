@@ -0,0 +1,202 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.testkit.engine.EventConditions.event;
+import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
+import static org.junit.platform.testkit.engine.EventConditions.test;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.cause;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.instanceOf;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.message;
+
+import java.io.IOException;
+import java.nio.file.FileSystemLoopException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.engine.AbstractJupiterTestEngineTests;
+
+/**
+ * Integration tests for {@link TempDir#template()}.
+ *
+ * @since 5.12
+ */
+class TempDirectoryTemplateTests extends AbstractJupiterTestEngineTests {
+
+	private static final String FILE_SYSTEM_TEMPLATE = "build/tempdir-template-tests/template";
+
+	private final Path templateBaseDir = Paths.get(FILE_SYSTEM_TEMPLATE).getParent();
+
+	@AfterEach
+	void deleteFileSystemTemplate() throws IOException {
+		if (Files.exists(templateBaseDir)) {
+			try (var paths = Files.walk(templateBaseDir)) {
+				paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+					path.toFile().setWritable(true);
+					path.toFile().delete();
+				});
+			}
+		}
+	}
+
+	@Test
+	void materializesClasspathTemplateInTempDir() {
+		executeTestsForClass(TemplateTestCase.class).testEvents() //
+				.assertStatistics(stats -> stats.started(2).succeeded(2));
+	}
+
+	@Test
+	void reportsMissingClasspathTemplate() {
+		executeTestsForClass(MissingTemplateTestCase.class).testEvents() //
+				.assertThatEvents().haveExactly(1,
+					event(test(), finishedWithFailure(instanceOf(ParameterResolutionException.class),
+						cause(instanceOf(ExtensionConfigurationException.class),
+							message("Classpath resource [does-not-exist] for @TempDir template does not exist")))));
+	}
+
+	@SuppressWarnings("deprecation")
+	@Test
+	void rejectsTemplateWithPerContextScope() {
+		var results = executeTests(request() //
+				.selectors(selectClass(TemplateTestCase.class)) //
+				.configurationParameter(TempDir.SCOPE_PROPERTY_NAME, "per_context") //
+				.build());
+
+		results.testEvents().assertThatEvents().haveExactly(2,
+			event(test(), finishedWithFailure(instanceOf(ParameterResolutionException.class),
+				cause(instanceOf(ExtensionConfigurationException.class),
+					message(it -> it.startsWith("@TempDir template"))))));
+	}
+
+	@Test
+	void copiesReadOnlyFilesInsteadOfLinkingThem() throws IOException {
+		Path template = Files.createDirectories(Paths.get(FILE_SYSTEM_TEMPLATE));
+		Path readOnlyFile = Files.writeString(template.resolve("read-only.txt"), "original");
+		assertThat(readOnlyFile.toFile().setWritable(false)).isTrue();
+
+		executeTestsForClass(ReadOnlyFileTestCase.class).testEvents() //
+				.assertStatistics(stats -> stats.started(2).succeeded(2));
+
+		assertThat(readOnlyFile).hasContent("original");
+	}
+
+	@Test
+	@DisabledOnOs(OS.WINDOWS)
+	void copiesContentsOfSymbolicallyLinkedDirectories() throws IOException {
+		Path template = Files.createDirectories(Paths.get(FILE_SYSTEM_TEMPLATE));
+		Path linkTarget = Files.createDirectories(templateBaseDir.resolve("link-target"));
+		Path linkedFile = Files.writeString(linkTarget.resolve("linked.txt"), "original");
+		Files.createSymbolicLink(template.resolve("linked"), linkTarget.toAbsolutePath());
+
+		executeTestsForClass(SymbolicLinkTestCase.class).testEvents() //
+				.assertStatistics(stats -> stats.started(1).succeeded(1));
+
+		assertThat(linkedFile).hasContent("original");
+	}
+
+	@Test
+	@DisabledOnOs(OS.WINDOWS)
+	void reportsSymbolicLinkCyclesInTemplate() throws IOException {
+		Path template = Files.createDirectories(Paths.get(FILE_SYSTEM_TEMPLATE));
+		Files.createSymbolicLink(template.resolve("loop"), template.toAbsolutePath());
+
+		executeTestsForClass(SymbolicLinkTestCase.class).testEvents() //
+				.assertThatEvents().haveExactly(1,
+					event(test(), finishedWithFailure(instanceOf(ParameterResolutionException.class),
+						cause(instanceOf(ExtensionConfigurationException.class),
+							message(it -> it.endsWith("must not contain symbolic link cycles")),
+							cause(instanceOf(FileSystemLoopException.class))))));
+	}
+
+	// -------------------------------------------------------------------
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+	static class TemplateTestCase {
+
+		@Test
+		@Order(1)
+		void modifiesTemplateContents(@TempDir(template = "classpath:tempdir-template") Path dir)
+				throws IOException {
+			assertThat(dir.resolve("a.txt")).hasContent("template");
+			assertThat(dir.resolve("nested/b.txt")).hasContent("nested");
+
+			Files.writeString(dir.resolve("a.txt"), "modified");
+			Files.delete(dir.resolve("nested/b.txt"));
+		}
+
+		@Test
+		@Order(2)
+		void seesUnmodifiedTemplateContents(@TempDir(template = "classpath:tempdir-template") Path dir) {
+			assertThat(dir.resolve("a.txt")).hasContent("template");
+			assertThat(dir.resolve("nested/b.txt")).hasContent("nested");
+		}
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+	static class ReadOnlyFileTestCase {
+
+		@Test
+		@Order(1)
+		void modifiesReadOnlyFile(@TempDir(template = FILE_SYSTEM_TEMPLATE) Path dir) throws IOException {
+			Path file = dir.resolve("read-only.txt");
+			assertThat(file).hasContent("original");
+
+			assertThat(file.toFile().setWritable(true)).isTrue();
+			Files.writeString(file, "modified");
+		}
+
+		@Test
+		@Order(2)
+		void seesUnmodifiedReadOnlyFile(@TempDir(template = FILE_SYSTEM_TEMPLATE) Path dir) {
+			assertThat(dir.resolve("read-only.txt")).hasContent("original");
+		}
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	static class SymbolicLinkTestCase {
+
+		@Test
+		void test(@TempDir(template = FILE_SYSTEM_TEMPLATE) Path dir) throws IOException {
+			Path linked = dir.resolve("linked");
+			assertThat(linked).isDirectory();
+			assertThat(Files.isSymbolicLink(linked)).isFalse();
+			assertThat(linked.resolve("linked.txt")).hasContent("original");
+
+			Files.writeString(linked.resolve("linked.txt"), "modified");
+		}
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	static class MissingTemplateTestCase {
+
+		@Test
+		void test(@TempDir(template = "classpath:does-not-exist") Path dir) {
+		}
+	}
+
+}
@@ -37,6 +37,7 @@ import static org.junit.platform.testkit.engine.EventConditions.finishedSuccessf
 import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
 import static org.junit.platform.testkit.engine.EventConditions.started;
 import static org.junit.platform.testkit.engine.EventConditions.test;
+import static org.junit.platform.testkit.engine.EventConditions.uniqueIdSubstring;
 import static org.junit.platform.testkit.engine.TestExecutionResultConditions.instanceOf;
 import static org.junit.platform.testkit.engine.TestExecutionResultConditions.message;
 
@@ -44,6 +45,7 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -62,6 +64,8 @@ import java.util.SortedMap;
 import java.util.SortedSet;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -83,10 +87,14 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
 import org.junit.jupiter.api.extension.ParameterContext;
 import org.junit.jupiter.api.extension.ParameterResolutionException;
 import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
 import org.junit.jupiter.api.extension.RegisterExtension;
 import org.junit.jupiter.engine.JupiterTestEngine;
 import org.junit.jupiter.params.ParameterizedTestIntegrationTests.RepeatableSourcesTestCase.Action;
@@ -98,6 +106,7 @@ import org.junit.jupiter.params.converter.ArgumentConversionException;
 import org.junit.jupiter.params.converter.ArgumentConverter;
 import org.junit.jupiter.params.converter.ConvertWith;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsCacheScope;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 import org.junit.jupiter.params.provider.CsvFileSource;
@@ -113,10 +122,14 @@ import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.commons.util.ClassUtils;
 import org.junit.platform.engine.DiscoverySelector;
 import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.ReportEntry;
 import org.junit.platform.testkit.engine.EngineExecutionResults;
 import org.junit.platform.testkit.engine.EngineTestKit;
 import org.junit.platform.testkit.engine.Event;
 import org.junit.platform.testkit.engine.EventConditions;
+import org.opentest4j.AssertionFailedError;
+import org.opentest4j.MultipleFailuresError;
 import org.opentest4j.TestAbortedException;
 
 /**
@@ -1305,6 +1318,187 @@ class ParameterizedTestIntegrationTests {
 				.haveExactly(1, event(test(), displayName("[3] argument=5"), finishedWithFailure()));
 	}
 
+	/**
+	 * @since 5.12
+	 */
+	@Nested
+	class ChunkingIntegrationTests {
+
+		@BeforeEach
+		void clearInvocations() {
+			ChunkedTestCase.invocations.clear();
+		}
+
+		@Test
+		void executesMultipleSetsOfArgumentsPerInvocation() {
+			var results = execute("testWithChunks", int.class, TestInfo.class);
+
+			results.testEvents().assertThatEvents() //
+					.haveExactly(3, event(test(), finishedSuccessfully())) //
+					.haveExactly(1, event(test(), displayName("[1..3]"), finishedSuccessfully())) //
+					.haveExactly(1, event(test(), displayName("[4..6]"), finishedSuccessfully())) //
+					.haveExactly(1, event(test(), displayName("[7] argument=7"), finishedSuccessfully()));
+			assertThat(ChunkedTestCase.invocations).containsExactly("1:[1..3]", "2:[1..3]", "3:[1..3]", "4:[4..6]",
+				"5:[4..6]", "6:[4..6]", "7:[7] argument=7");
+		}
+
+		@Test
+		void aggregatesFailuresOfAllSetsOfArgumentsOfChunk() {
+			var results = execute("testWithFailingChunk", int.class);
+
+			results.testEvents().assertThatEvents() //
+					.haveExactly(1, event(test(), displayName("[1..4]"),
+						finishedWithFailure(instanceOf(MultipleFailuresError.class),
+							message(it -> it.startsWith("2 of 4 invocations [1..4] failed: [2, 4]")))));
+			assertThat(ChunkedTestCase.invocations).containsExactly("1", "2", "3", "4");
+
+			var failure = (MultipleFailuresError) results.testEvents().failed().list().get(0) //
+					.getRequiredPayload(TestExecutionResult.class).getThrowable().orElseThrow();
+			assertThat(failure.getFailures()) //
+					.allSatisfy(it -> assertThat(it).isExactlyInstanceOf(AssertionFailedError.class)) //
+					.extracting(Throwable::getMessage) //
+					.containsExactly("even: 2 ==> expected: <true> but was: <false>",
+						"even: 4 ==> expected: <true> but was: <false>");
+			assertThat(results.testEvents().reportingEntryPublished().stream() //
+					.map(event -> event.getRequiredPayload(ReportEntry.class).getKeyValuePairs()) //
+					.map(entries -> entries.get(ParameterizedTestChunkExtension.FAILED_REPORT_ENTRY_KEY))) //
+							.containsExactly("[2] argument=2 failed: " + failure.getFailures().get(0),
+								"[4] argument=4 failed: " + failure.getFailures().get(1));
+		}
+
+		@Test
+		void passesEachSetOfArgumentsOfChunkThroughInvocationInterceptors() {
+			var results = execute("testWithInterceptedChunk", int.class);
+
+			results.testEvents().assertThatEvents() //
+					.haveExactly(1, event(test(), displayName("[1..3]"), finishedSuccessfully()));
+			assertThat(ChunkedTestCase.invocations).containsExactly("intercepted:1", "1", "intercepted:2", "2",
+				"intercepted:3", "3");
+		}
+
+		@Test
+		void appliesTimeoutToEachSetOfArgumentsOfChunk() {
+			var results = execute("testWithTimeoutPerSetOfArguments", int.class);
+
+			results.testEvents().assertThatEvents() //
+					.haveExactly(1, event(test(), displayName("[1..4]"),
+						finishedWithFailure(instanceOf(MultipleFailuresError.class),
+							message(it -> it.startsWith("1 of 4 invocations [1..4] failed")))));
+			assertThat(ChunkedTestCase.invocations).containsExactly("1", "2", "3", "4");
+		}
+
+		@Test
+		void reportsAbortedSetsOfArgumentsOfChunkIndividually() {
+			var results = execute("testWithAbortedSetsOfArguments", int.class);
+
+			results.testEvents().assertThatEvents() //
+					.haveExactly(1, event(test(), displayName("[1..3]"), finishedSuccessfully()));
+			assertThat(results.testEvents().reportingEntryPublished().stream() //
+					.map(event -> event.getRequiredPayload(ReportEntry.class).getKeyValuePairs()) //
+					.map(entries -> entries.get(ParameterizedTestChunkExtension.ABORTED_REPORT_ENTRY_KEY))) //
+							.containsExactly("[2] argument=2 aborted: org.opentest4j.TestAbortedException: "
+									+ "Assumption failed: even: 2");
+		}
+
+		@Test
+		void reportsChunkAsAbortedIfAllSetsOfArgumentsWereAborted() {
+			var results = execute("testWithAllSetsOfArgumentsAborted", int.class);
+
+			results.testEvents().assertThatEvents() //
+					.haveExactly(1, event(test(), displayName("[1..2]"),
+						abortedWithReason(instanceOf(TestAbortedException.class))));
+			assertThat(results.testEvents().reportingEntryPublished().count()).isEqualTo(2);
+		}
+
+		@Test
+		void executesSelectedIterationsWithTheirGlobalIndexes() {
+			var results = executeIterations("testWithoutChunks", "int", 2, 3);
+
+			results.testEvents().assertThatEvents() //
+					.haveExactly(2, event(test(), finishedSuccessfully())) //
+					.haveExactly(1, event(test(), uniqueIdSubstring("[test-template-invocation:#3]"),
+						displayName("[3] argument=3"), finishedSuccessfully())) //
+					.haveExactly(1, event(test(), uniqueIdSubstring("[test-template-invocation:#4]"),
+						displayName("[4] argument=4"), finishedSuccessfully()));
+			assertThat(ChunkedTestCase.invocations).containsExactly("3", "4");
+		}
+
+		@Test
+		void executesSelectedChunksWithTheirGlobalIndexes() {
+			var results = executeIterations("testWithChunks", "int, org.junit.jupiter.api.TestInfo", 1);
+
+			results.testEvents().assertThatEvents() //
+					.haveExactly(1, event(test(), finishedSuccessfully())) //
+					.haveExactly(1, event(test(), uniqueIdSubstring("[test-template-invocation:#2]"),
+						displayName("[4..6]"), finishedSuccessfully()));
+			assertThat(ChunkedTestCase.invocations).containsExactly("4:[4..6]", "5:[4..6]", "6:[4..6]");
+		}
+
+		private EngineExecutionResults executeIterations(String methodName, String methodParameterTypes,
+				int... iterationIndices) {
+			return EngineTestKit.engine(new JupiterTestEngine()) //
+					.selectors(selectIteration(selectMethod(ChunkedTestCase.class, methodName, methodParameterTypes),
+						iterationIndices)) //
+					.execute();
+		}
+
+		private EngineExecutionResults execute(String methodName, Class<?>... methodParameterTypes) {
+			return EngineTestKit.engine(new JupiterTestEngine()) //
+					.selectors(selectMethod(ChunkedTestCase.class, methodName,
+						ClassUtils.nullSafeToString(methodParameterTypes))) //
+					.execute();
+		}
+
+	}
+
+	/**
+	 * @since 5.12
+	 */
+	@Nested
+	class ArgumentsCachingIntegrationTests {
+
+		@BeforeEach
+		void resetCounters() {
+			CachedArgumentsSources.methodInvocations.set(0);
+			CachedArgumentsSources.fieldEvaluations.set(0);
+		}
+
+		@Test
+		void invokesClassScopedFactoryMethodOnceForTestClassAndNestedTestClasses() {
+			var results = execute(selectClass(ClassScopedCachedArgumentsTestCase.class));
+
+			results.testEvents().assertStatistics(stats -> stats.started(10).succeeded(10));
+			assertThat(CachedArgumentsSources.methodInvocations).hasValue(2);
+		}
+
+		@Test
+		void evaluatesClassScopedFieldOnceForTestClass() {
+			var results = execute(selectClass(ClassScopedCachedArgumentsTestCase.class));
+
+			results.testEvents().assertStatistics(stats -> stats.started(10).succeeded(10));
+			assertThat(CachedArgumentsSources.fieldEvaluations).hasValue(1);
+		}
+
+		@Test
+		void invokesEngineScopedFactoryMethodOnceForAllTestClasses() {
+			var results = execute(selectClass(EngineScopedCachedArgumentsTestCase.class),
+				selectClass(AnotherEngineScopedCachedArgumentsTestCase.class));
+
+			results.testEvents().assertStatistics(stats -> stats.started(4).succeeded(4));
+			assertThat(CachedArgumentsSources.methodInvocations).hasValue(1);
+		}
+
+		@Test
+		void failsForEngineScopedNonStaticFactoryMethod() {
+			var results = execute(selectClass(EngineScopedNonStaticFactoryMethodTestCase.class));
+
+			results.containerEvents().assertThatEvents() //
+					.haveExactly(1, event(container("test"), finishedWithFailure(instanceOf(
+						PreconditionViolationException.class), message(it -> it.contains("is not static")))));
+		}
+
+	}
+
 	@Nested
 	class SpiParameterInjectionIntegrationTests {
 
@@ -2414,6 +2608,156 @@ class ParameterizedTestIntegrationTests {
 		}
 	}
 
+	static class ChunkedTestCase {
+
+		static final List<String> invocations = new ArrayList<>();
+
+		@ParameterizedTest(chunkSize = 3)
+		@ValueSource(ints = { 1, 2, 3, 4, 5, 6, 7 })
+		void testWithChunks(int argument, TestInfo testInfo) {
+			invocations.add(argument + ":" + testInfo.getDisplayName());
+		}
+
+		@ParameterizedTest(chunkSize = 4)
+		@ValueSource(ints = { 1, 2, 3, 4 })
+		void testWithFailingChunk(int argument) {
+			invocations.add(String.valueOf(argument));
+			assertTrue(argument % 2 != 0, () -> "even: " + argument);
+		}
+
+		@ParameterizedTest
+		@ValueSource(ints = { 1, 2, 3, 4, 5, 6, 7 })
+		void testWithoutChunks(int argument) {
+			invocations.add(String.valueOf(argument));
+		}
+
+		@ParameterizedTest(chunkSize = 3)
+		@ValueSource(ints = { 1, 2, 3 })
+		@ExtendWith(RecordingInvocationInterceptor.class)
+		void testWithInterceptedChunk(int argument) {
+			invocations.add(String.valueOf(argument));
+		}
+
+		@ParameterizedTest(chunkSize = 4)
+		@ValueSource(ints = { 1, 2, 3, 4 })
+		@Timeout(value = 500, unit = TimeUnit.MILLISECONDS)
+		void testWithTimeoutPerSetOfArguments(int argument) throws InterruptedException {
+			invocations.add(String.valueOf(argument));
+			// the chunk as a whole exceeds the timeout, only the third set of arguments does so individually
+			Thread.sleep(argument == 3 ? 700 : 200);
+		}
+
+		@ParameterizedTest(chunkSize = 3)
+		@ValueSource(ints = { 1, 2, 3 })
+		void testWithAbortedSetsOfArguments(int argument) {
+			Assumptions.assumeTrue(argument % 2 != 0, () -> "even: " + argument);
+		}
+
+		@ParameterizedTest(chunkSize = 2)
+		@ValueSource(ints = { 1, 2 })
+		void testWithAllSetsOfArgumentsAborted(int argument) {
+			Assumptions.abort("always");
+		}
+
+	}
+
+	static class RecordingInvocationInterceptor implements InvocationInterceptor {
+
+		@Override
+		public void interceptTestTemplateMethod(Invocation<Void> invocation,
+				ReflectiveInvocationContext<Method> invocationContext, ExtensionContext extensionContext)
+				throws Throwable {
+			ChunkedTestCase.invocations.add("intercepted:" + invocationContext.getArguments().get(0));
+			invocation.proceed();
+		}
+	}
+
+	static class CachedArgumentsSources {
+
+		static final AtomicInteger methodInvocations = new AtomicInteger();
+		static final AtomicInteger fieldEvaluations = new AtomicInteger();
+
+		static Stream<String> strings() {
+			methodInvocations.incrementAndGet();
+			return Stream.of("foo", "bar");
+		}
+
+		static final Supplier<Stream<String>> strings = () -> {
+			fieldEvaluations.incrementAndGet();
+			return Stream.of("foo", "bar");
+		};
+
+	}
+
+	static class ClassScopedCachedArgumentsTestCase {
+
+		static final String SOURCE = "org.junit.jupiter.params.ParameterizedTestIntegrationTests$"
+				+ "CachedArgumentsSources#strings";
+
+		@ParameterizedTest
+		@MethodSource(value = SOURCE, cache = ArgumentsCacheScope.CLASS)
+		void first(String argument) {
+		}
+
+		@ParameterizedTest
+		@MethodSource(value = SOURCE, cache = ArgumentsCacheScope.CLASS)
+		void second(String argument) {
+		}
+
+		@ParameterizedTest
+		@MethodSource(SOURCE)
+		void uncached(String argument) {
+		}
+
+		@ParameterizedTest
+		@FieldSource(value = SOURCE, cache = ArgumentsCacheScope.CLASS)
+		void field(String argument) {
+		}
+
+		@Nested
+		class NestedTestCase {
+
+			@ParameterizedTest
+			@MethodSource(value = SOURCE, cache = ArgumentsCacheScope.CLASS)
+			void nested(String argument) {
+			}
+
+		}
+
+	}
+
+	static class EngineScopedCachedArgumentsTestCase {
+
+		@ParameterizedTest
+		@MethodSource(value = ClassScopedCachedArgumentsTestCase.SOURCE, cache = ArgumentsCacheScope.ENGINE)
+		void test(String argument) {
+		}
+
+	}
+
+	static class AnotherEngineScopedCachedArgumentsTestCase {
+
+		@ParameterizedTest
+		@MethodSource(value = ClassScopedCachedArgumentsTestCase.SOURCE, cache = ArgumentsCacheScope.ENGINE)
+		void test(String argument) {
+		}
+
+	}
+
+	@TestInstance(PER_CLASS)
+	static class EngineScopedNonStaticFactoryMethodTestCase {
+
+		@ParameterizedTest
+		@MethodSource(value = "strings", cache = ArgumentsCacheScope.ENGINE)
+		void test(String argument) {
+		}
+
+		Stream<String> strings() {
+			return Stream.of("foo");
+		}
+
+	}
+
 	static class ZeroArgumentsTestCase {
 
 		@ParameterizedTest
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params.provider;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.PreconditionViolationException;
+
+/**
+ * @since 5.12
+ */
+class ColumnarFileArgumentsProviderTests {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void providesTypedArgumentsForConvertedCsvFile() throws Exception {
+		var fixture = convert("""
+				# comment
+				true, 1, 3000000000, 1.5, apple
+				FALSE, -2, 4, 2, "banana, split"
+				""", false, boolean.class, int.class, long.class, double.class, String.class);
+
+		var arguments = provideArguments(fixture);
+
+		assertThat(arguments).containsExactly( //
+			new Object[] { true, 1, 3000000000L, 1.5, "apple" }, //
+			new Object[] { false, -2, 4L, 2.0, "banana, split" });
+	}
+
+	@Test
+	void storesColumnsWithoutExplicitTypeAsStrings() throws Exception {
+		var fixture = convert("007, 1.50, true, 1d\n, NaN, , b\n", false);
+
+		var arguments = provideArguments(fixture);
+
+		assertThat(arguments).containsExactly(new Object[] { "007", "1.50", "true", "1d" },
+			new Object[] { null, "NaN", null, "b" });
+	}
+
+	@Test
+	void storesColumnsWithoutExplicitTypeAfterTypedColumnsAsStrings() throws Exception {
+		var fixture = convert("1, 2\n", false, int.class);
+
+		var arguments = provideArguments(fixture);
+
+		assertThat(arguments).containsExactly(new Object[] { 1, "2" });
+	}
+
+	@Test
+	void throwsExceptionForNullValueInColumnOfPrimitiveType() {
+		var exception = assertThrows(PreconditionViolationException.class,
+			() -> convert("1\n\n3\n", false, int.class));
+
+		assertThat(exception).hasMessage("Value [null] in record 2, column 1 cannot be stored as int");
+	}
+
+	@Test
+	void throwsExceptionForDoubleValueWithTypeSuffix() {
+		var exception = assertThrows(PreconditionViolationException.class,
+			() -> convert("1.5\n1d\n", false, double.class));
+
+		assertThat(exception).hasMessage("Value [1d] in record 2, column 1 cannot be stored as double");
+	}
+
+	@Test
+	void throwsExceptionForUnsupportedColumnType() {
+		var exception = assertThrows(PreconditionViolationException.class,
+			() -> convert("1\n", false, Integer.class));
+
+		assertThat(exception).hasMessage("Unsupported column type: java.lang.Integer");
+	}
+
+	@Test
+	void storesColumnNamesFromHeaders() throws Exception {
+		var fixture = convert("input, expected\n1, 2\n", true);
+
+		var columnarFixture = ColumnarFixture.read(ByteBuffer.wrap(Files.readAllBytes(fixture)), "test");
+
+		assertThat(columnarFixture.getColumnNames()).containsExactly("input", "expected");
+		assertThat(columnarFixture.getRowCount()).isEqualTo(1);
+	}
+
+	@Test
+	void providesManyRows() throws Exception {
+		var csv = IntStream.range(0, 10_000).mapToObj(i -> i + ", " + (i * 0.25)).collect(
+			Collectors.joining("\n"));
+		var fixture = convert(csv, false, int.class, double.class);
+
+		var arguments = provideArguments(fixture);
+
+		assertThat(arguments).hasSize(10_000);
+		assertThat(arguments[9_999]).containsExactly(9_999, 9_999 * 0.25);
+	}
+
+	@Test
+	void throwsExceptionForInvalidFixture() throws Exception {
+		var file = Files.writeString(tempDir.resolve("invalid.jucf"), "not a columnar fixture");
+
+		var exception = assertThrows(JUnitException.class, () -> provideArguments(file));
+
+		assertThat(exception).hasMessage("Columnar fixture [" + file + "] is not a columnar fixture");
+	}
+
+	@Test
+	void throwsExceptionForTruncatedFixture() throws Exception {
+		var fixture = convert("1, 2\n3, 4\n", false);
+		var bytes = Files.readAllBytes(fixture);
+		var truncated = Files.write(tempDir.resolve("truncated.jucf"), Arrays.copyOf(bytes, bytes.length - 1));
+
+		var exception = assertThrows(JUnitException.class, () -> provideArguments(truncated));
+
+		assertThat(exception).hasMessage("Columnar fixture [" + truncated + "] is truncated");
+	}
+
+	@Test
+	void throwsExceptionForRecordsWithDifferentNumbersOfColumns() throws Exception {
+		var exception = assertThrows(PreconditionViolationException.class, () -> convert("1, 2\n3\n", false));
+
+		assertThat(exception).hasMessageStartingWith("All CSV records must have 2 columns but record 2 has 1 columns");
+	}
+
+	@Test
+	void throwsExceptionIfResourcesAndFilesAreEmpty() {
+		var annotation = columnarFileSource(new String[0], new String[0]);
+
+		var exception = assertThrows(PreconditionViolationException.class,
+			() -> provideArguments(annotation).toArray());
+
+		assertThat(exception).hasMessage("Resources or files must not be empty");
+	}
+
+	private Path convert(String csv, boolean headers, Class<?>... columnTypes) throws Exception {
+		var csvFile = Files.writeString(tempDir.resolve("fixture.csv"), csv);
+		var fixture = tempDir.resolve("fixture.jucf");
+		ColumnarFixtureConverter.convert(csvFile, UTF_8, ",", headers, fixture, columnTypes);
+		return fixture;
+	}
+
+	private static Object[][] provideArguments(Path fixture) {
+		return provideArguments(columnarFileSource(new String[0], new String[] { fixture.toString() })) //
+				.toArray(Object[][]::new);
+	}
+
+	private static Stream<Object[]> provideArguments(ColumnarFileSource annotation) {
+		var provider = new ColumnarFileArgumentsProvider();
+		provider.accept(annotation);
+		return provider.provideArguments(mock(ExtensionContext.class)).map(Arguments::get);
+	}
+
+	private static ColumnarFileSource columnarFileSource(String[] resources, String[] files) {
+		var annotation = mock(ColumnarFileSource.class);
+		when(annotation.resources()).thenReturn(resources);
+		when(annotation.files()).thenReturn(files);
+		return annotation;
+	}
+
+}
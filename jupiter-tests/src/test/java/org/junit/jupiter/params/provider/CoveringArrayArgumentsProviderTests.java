@@ -0,0 +1,200 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.engine.extension.MutableExtensionRegistry.createRegistryWithDefaultExtensions;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.engine.execution.DefaultExecutableInvoker;
+import org.junit.platform.commons.PreconditionViolationException;
+import org.junit.platform.commons.util.ReflectionUtils;
+
+/**
+ * @since 5.12
+ */
+class CoveringArrayArgumentsProviderTests {
+
+	@Test
+	void coversAllPairsWithFarFewerRowsThanCartesianProduct() {
+		var sizes = IntStream.generate(() -> 3).limit(20).toArray();
+
+		var rows = CoveringArrayGenerator.generate(sizes, 2, 0);
+
+		assertCovers(rows, sizes, 2);
+		assertThat(rows).hasSizeLessThan(50);
+	}
+
+	@Test
+	void coversAllTriplesOfParametersWithDifferentNumbersOfValues() {
+		var sizes = new int[] { 2, 5, 3, 4, 2, 2, 2, 3, 6, 2 };
+
+		var rows = CoveringArrayGenerator.generate(sizes, 3, 0);
+
+		assertCovers(rows, sizes, 3);
+	}
+
+	@Test
+	void providesCartesianProductIfStrengthIsNotLessThanNumberOfParameters() {
+		var rows = CoveringArrayGenerator.generate(new int[] { 2, 3 }, 4, 0);
+
+		assertThat(rows).hasSize(6);
+		assertCovers(rows, new int[] { 2, 3 }, 2);
+	}
+
+	@Test
+	void generationIsDeterministicForSameSeed() {
+		var sizes = new int[] { 3, 3, 4, 2, 5, 3, 3 };
+
+		var first = CoveringArrayGenerator.generate(sizes, 2, 42);
+		var second = CoveringArrayGenerator.generate(sizes, 2, 42);
+
+		assertThat(first).usingElementComparator(Arrays::compare).containsExactlyElementsOf(second);
+	}
+
+	@Test
+	void providesArgumentsForInlineValues() {
+		var source = coveringArraySource(new String[] { "a, b", " 1,2 ,3", "x" }, new String[0]);
+
+		var arguments = provideArguments(source, mock(ExtensionContext.class));
+
+		assertThat(arguments).hasSize(6).allSatisfy(it -> {
+			assertThat(it[0]).isIn("a", "b");
+			assertThat(it[1]).isIn("1", "2", "3");
+			assertThat(it[2]).isEqualTo("x");
+		});
+	}
+
+	@Test
+	void providesArgumentsForValuesSuppliedByFactoryMethods() {
+		var source = coveringArraySource(new String[] { "a, b" }, new String[] { "numbers", "flags" });
+
+		var arguments = provideArguments(source, extensionContext());
+
+		assertThat(arguments).hasSize(6);
+		assertThat(arguments.stream().map(it -> it[1] + ":" + it[0]).collect(Collectors.toSet())) //
+				.containsExactlyInAnyOrder("1:a", "1:b", "2:a", "2:b", "3:a", "3:b");
+		assertThat(arguments.stream().map(it -> it[1] + ":" + it[2]).collect(Collectors.toSet())) //
+				.containsExactlyInAnyOrder("1:true", "1:false", "2:true", "2:false", "3:true", "3:false");
+	}
+
+	@Test
+	void throwsExceptionIfNoValuesAreDeclared() {
+		var source = coveringArraySource(new String[0], new String[0]);
+
+		var exception = assertThrows(PreconditionViolationException.class,
+			() -> provideArguments(source, mock(ExtensionContext.class)));
+
+		assertThat(exception).hasMessage(
+			"@CoveringArraySource must declare at least one set of values via 'value' or 'methods'");
+	}
+
+	@Test
+	void throwsExceptionForInvalidStrength() {
+		var source = coveringArraySource(new String[] { "a" }, new String[0]);
+		when(source.strength()).thenReturn(0);
+
+		var exception = assertThrows(PreconditionViolationException.class,
+			() -> provideArguments(source, mock(ExtensionContext.class)));
+
+		assertThat(exception).hasMessage("@CoveringArraySource strength must be a positive integer");
+	}
+
+	private static void assertCovers(List<int[]> rows, int[] sizes, int strength) {
+		forEachCombination(sizes.length, strength, columns -> {
+			Set<List<Integer>> covered = new HashSet<>();
+			for (int[] row : rows) {
+				List<Integer> values = new ArrayList<>();
+				for (int column : columns) {
+					assertThat(row[column]).isBetween(0, sizes[column] - 1);
+					values.add(row[column]);
+				}
+				covered.add(values);
+			}
+			int expected = Arrays.stream(columns).map(column -> sizes[column]).reduce(1, (a, b) -> a * b);
+			assertThat(covered).as("combinations of columns %s", Arrays.toString(columns)).hasSize(expected);
+		});
+	}
+
+	private static void forEachCombination(int n, int k, Consumer<int[]> action) {
+		forEachCombination(n, new int[k], 0, 0, action);
+	}
+
+	private static void forEachCombination(int n, int[] columns, int depth, int start, Consumer<int[]> action) {
+		if (depth == columns.length) {
+			action.accept(columns);
+			return;
+		}
+		for (int column = start; column < n; column++) {
+			columns[depth] = column;
+			forEachCombination(n, columns, depth + 1, column + 1, action);
+		}
+	}
+
+	private static CoveringArraySource coveringArraySource(String[] values, String[] methods) {
+		var source = mock(CoveringArraySource.class);
+		when(source.value()).thenReturn(values);
+		when(source.methods()).thenReturn(methods);
+		when(source.strength()).thenReturn(2);
+		when(source.seed()).thenReturn(0L);
+		return source;
+	}
+
+	private static ExtensionContext extensionContext() {
+		var extensionContext = mock(ExtensionContext.class);
+		when(extensionContext.getTestClass()).thenReturn(Optional.of(TestCase.class));
+		when(extensionContext.getTestMethod()).thenReturn(
+			Optional.of(ReflectionUtils.findMethod(TestCase.class, "test").get()));
+		when(extensionContext.getTestInstance()).thenReturn(Optional.empty());
+		when(extensionContext.getExecutableInvoker()).thenReturn(
+			new DefaultExecutableInvoker(extensionContext, createRegistryWithDefaultExtensions(mock())));
+		doCallRealMethod().when(extensionContext).getRequiredTestMethod();
+		doCallRealMethod().when(extensionContext).getRequiredTestClass();
+		return extensionContext;
+	}
+
+	private static List<Object[]> provideArguments(CoveringArraySource source, ExtensionContext extensionContext) {
+		var provider = new CoveringArrayArgumentsProvider();
+		provider.accept(source);
+		return provider.provideArguments(extensionContext).map(Arguments::get).collect(Collectors.toList());
+	}
+
+	static class TestCase {
+
+		void test() {
+		}
+
+		static List<Integer> numbers() {
+			return List.of(1, 2, 3);
+		}
+
+		static boolean[] flags() {
+			return new boolean[] { true, false };
+		}
+
+	}
+
+}
@@ -518,6 +518,34 @@ class CsvFileArgumentsProviderTests {
 		assertThat(arguments).containsExactly(array(" ab ", " cd"), array("ef ", "gh"));
 	}
 
+	@Test
+	void readsFileInParallelIfEnabled(@TempDir Path tempDir) throws Exception {
+		var csvFile = Files.writeString(tempDir.resolve("file.csv"),
+			"header1, header2\n# comment\nfoo, \"bar\nbaz\"\nN/A, qux\n");
+		var annotation = csvFileSource()//
+				.files(csvFile.toAbsolutePath().toString())//
+				.numLinesToSkip(1)//
+				.nullValues("N/A")//
+				.parallelParsing(true)//
+				.build();
+
+		var arguments = provideArguments(new CsvFileArgumentsProvider(), annotation);
+
+		assertThat(arguments).containsExactly(array("foo", "bar\nbaz"), array(null, "qux"));
+	}
+
+	@Test
+	void readsClasspathResourceInParallelIfEnabled() {
+		var annotation = csvFileSource()//
+				.resources("single-column.csv")//
+				.parallelParsing(true)//
+				.build();
+
+		var arguments = provideArguments(new CsvFileArgumentsProvider(), annotation);
+
+		assertThat(arguments).containsExactly(array("foo"), array("bar"), array("baz"), array("qux"), array(""));
+	}
+
 	private Stream<Object[]> provideArguments(CsvFileSource annotation, String content) {
 		return provideArguments(new ByteArrayInputStream(content.getBytes(UTF_8)), annotation);
 	}
@@ -477,6 +477,7 @@ class FieldArgumentsProviderTests {
 		var fieldSource = mock(FieldSource.class);
 
 		when(fieldSource.value()).thenReturn(fieldNames);
+		when(fieldSource.cache()).thenReturn(ArgumentsCacheScope.NONE);
 
 		var extensionContext = mock(ExtensionContext.class);
 		when(extensionContext.getTestClass()).thenReturn(Optional.of(testClass));
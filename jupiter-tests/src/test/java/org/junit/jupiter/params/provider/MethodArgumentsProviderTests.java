@@ -752,6 +752,7 @@ class MethodArgumentsProviderTests {
 		var methodSource = mock(MethodSource.class);
 
 		when(methodSource.value()).thenReturn(factoryMethodNames);
+		when(methodSource.cache()).thenReturn(ArgumentsCacheScope.NONE);
 
 		var extensionContext = mock(ExtensionContext.class);
 		when(extensionContext.getTestClass()).thenReturn(Optional.of(testClass));
@@ -146,6 +146,7 @@ abstract class MockCsvAnnotationBuilder<A extends Annotation, B extends MockCsvA
 		private String encoding = "UTF-8";
 		private String lineSeparator = "\n";
 		private int numLinesToSkip = 0;
+		private boolean parallelParsing = false;
 
 		private MockCsvFileSourceBuilder() {
 			super.quoteCharacter = '"';
@@ -181,6 +182,11 @@ abstract class MockCsvAnnotationBuilder<A extends Annotation, B extends MockCsvA
 			return this;
 		}
 
+		MockCsvFileSourceBuilder parallelParsing(boolean parallelParsing) {
+			this.parallelParsing = parallelParsing;
+			return this;
+		}
+
 		@Override
 		CsvFileSource build() {
 			var annotation = mock(CsvFileSource.class);
@@ -201,6 +207,7 @@ abstract class MockCsvAnnotationBuilder<A extends Annotation, B extends MockCsvA
 			when(annotation.encoding()).thenReturn(this.encoding);
 			when(annotation.lineSeparator()).thenReturn(this.lineSeparator);
 			when(annotation.numLinesToSkip()).thenReturn(this.numLinesToSkip);
+			when(annotation.parallelParsing()).thenReturn(this.parallelParsing);
 
 			return annotation;
 		}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params.provider;
+
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.params.provider.MockCsvAnnotationBuilder.csvFileSource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MockCsvAnnotationBuilder.MockCsvFileSourceBuilder;
+
+/**
+ * @since 5.12
+ */
+class ParallelCsvFileParserTests {
+
+	@TempDir
+	Path tempDir;
+
+	@ParameterizedTest
+	@ValueSource(ints = { 1, 7, 64, 1024, ParallelCsvFileParser.DEFAULT_CHUNK_SIZE })
+	void providesSameArgumentsInSameOrderAsSequentialParsing(int chunkSize) throws Exception {
+		var content = IntStream.range(0, 200) //
+				.mapToObj(i -> i % 10 == 0 ? "# comment, \"with quote " + i //
+						: String.format("%d, \"quoted, \"\"%d\"\"\nspanning lines\", plain%d", i, i, i)) //
+				.collect(Collectors.joining("\n"));
+		var file = Files.writeString(tempDir.resolve("test.csv"), content);
+
+		var parallel = parseInParallel(csvFileSource(), file, chunkSize);
+		var sequential = parseSequentially(csvFileSource(), file);
+
+		assertThat(parallel).hasSize(180);
+		assertThat(parallel).containsExactlyElementsOf(sequential);
+	}
+
+	@Test
+	void supportsMultiCharacterDelimitersAndLineSeparators() throws Exception {
+		var file = Files.writeString(tempDir.resolve("test.csv"),
+			"'a||b'||c\r\nd||'e\r\nf'\r\n||g\r\n'h'''||i\r\n");
+		var annotation = csvFileSource().delimiterString("||").quoteCharacter('\'').lineSeparator("\r\n");
+
+		var arguments = parseInParallel(annotation, file, 1);
+
+		assertThat(arguments).containsExactly(List.of("a||b", "c"), List.of("d", "e\r\nf"), List.of("null", "g"),
+			List.of("h'", "i"));
+	}
+
+	@Test
+	void usesHeadersOfFirstChunkForAllChunks() throws Exception {
+		var file = Files.writeString(tempDir.resolve("test.csv"), "fruit, rank\napple, 1\nbanana, 2\ncherry, 3\n");
+		var annotation = csvFileSource().useHeadersInDisplayName(true).nullValues("2");
+
+		var arguments = parseInParallel(annotation, file, 1);
+
+		assertThat(arguments).containsExactly(List.of("fruit = apple", "rank = 1"),
+			List.of("fruit = banana", "rank = null"), List.of("fruit = cherry", "rank = 3"));
+	}
+
+	@Test
+	void skipsUtf8ByteOrderMark() throws Exception {
+		var file = Files.write(tempDir.resolve("test.csv"), "\uFEFF\"a\nb\", c\nd, e\n".getBytes(UTF_8));
+
+		var arguments = parseInParallel(csvFileSource(), file, 1);
+
+		assertThat(arguments).hasSize(2).containsExactlyElementsOf(parseSequentially(csvFileSource(), file));
+	}
+
+	@Test
+	void throwsExceptionForInvalidCsvFormat() throws Exception {
+		var file = Files.writeString(tempDir.resolve("test.csv"), "foo\n\"bar\n");
+
+		var exception = assertThrows(CsvParsingException.class,
+			() -> parseInParallel(csvFileSource().maxCharsPerColumn(2), file, 1));
+
+		assertThat(exception).hasMessageStartingWith("Failed to parse CSV input configured via Mock for CsvFileSource");
+	}
+
+	@Test
+	void supportsOnlyAsciiCompatibleCharsetsAndAsciiSyntax() {
+		assertThat(ParallelCsvFileParser.supports(csvFileSource().build(), UTF_8)).isTrue();
+		assertThat(ParallelCsvFileParser.supports(csvFileSource().build(), UTF_16)).isFalse();
+		assertThat(ParallelCsvFileParser.supports(csvFileSource().delimiter('§').build(), UTF_8)).isFalse();
+	}
+
+	private static List<List<String>> parseInParallel(MockCsvFileSourceBuilder annotation, Path file, int chunkSize) {
+		var parser = new ParallelCsvFileParser(annotation.build(), UTF_8, chunkSize, ForkJoinPool.commonPool(), 3);
+		try (var arguments = parser.parse(file)) {
+			return arguments.map(ParallelCsvFileParserTests::toStrings).collect(Collectors.toList());
+		}
+	}
+
+	private static List<List<String>> parseSequentially(MockCsvFileSourceBuilder annotation, Path file) {
+		var provider = new CsvFileArgumentsProvider();
+		provider.accept(annotation.files(file.toString()).build());
+		try (var arguments = provider.provideArguments(null)) {
+			return arguments.map(ParallelCsvFileParserTests::toStrings).collect(Collectors.toList());
+		}
+	}
+
+	private static List<String> toStrings(Arguments arguments) {
+		return Arrays.stream(arguments.get()).map(String::valueOf).collect(Collectors.toList());
+	}
+
+}
@@ -64,6 +64,7 @@ dependencies {
 
 	// --- https://openjdk.java.net/projects/code-tools/jmh/ ----------------------
 	jmh(projects.junitJupiterApi)
+	jmh(projects.junitPlatformEngine)
 	jmh(libs.junit4)
 
 	// --- ProcessStarter dependencies --------------------------------------------
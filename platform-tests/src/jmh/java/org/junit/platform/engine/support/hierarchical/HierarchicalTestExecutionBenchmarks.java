@@ -0,0 +1,147 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.EngineDiscoveryRequest;
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.ExecutionRequest;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the overhead of the {@link HierarchicalTestExecutor} per node by
+ * executing {@value #TESTS} successful, empty tests of a minimal
+ * {@link HierarchicalTestEngine}.
+ *
+ * <p>Run with {@code -prof gc} to report the allocation rate per test
+ * ({@code gc.alloc.rate.norm}) in addition to the execution time.
+ *
+ * @since 1.12
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HierarchicalTestExecutionBenchmarks {
+
+	static final int TESTS = 1000;
+
+	private static final EngineExecutionListener NOOP_LISTENER = new EngineExecutionListener() {
+	};
+
+	private static final ConfigurationParameters EMPTY_CONFIGURATION_PARAMETERS = new ConfigurationParameters() {
+
+		@Override
+		public Optional<String> get(String key) {
+			return Optional.empty();
+		}
+
+		@Override
+		public Optional<Boolean> getBoolean(String key) {
+			return Optional.empty();
+		}
+
+		@Override
+		public Set<String> keySet() {
+			return Collections.emptySet();
+		}
+
+		@SuppressWarnings("deprecation")
+		@Override
+		public int size() {
+			return 0;
+		}
+	};
+
+	private final BenchmarkEngine engine = new BenchmarkEngine();
+
+	private TestDescriptor engineDescriptor;
+
+	@Setup
+	public void setUp() {
+		engineDescriptor = new BenchmarkEngineDescriptor(UniqueId.forEngine(engine.getId()));
+		for (int i = 0; i < TESTS; i++) {
+			UniqueId uniqueId = engineDescriptor.getUniqueId().append("test", String.valueOf(i));
+			engineDescriptor.addChild(new BenchmarkTestDescriptor(uniqueId));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(TESTS)
+	public void successfulTests() {
+		engine.execute(ExecutionRequest.create(engineDescriptor, NOOP_LISTENER, EMPTY_CONFIGURATION_PARAMETERS));
+	}
+
+	static class BenchmarkEngine extends HierarchicalTestEngine<BenchmarkExecutionContext> {
+
+		@Override
+		public String getId() {
+			return "benchmark";
+		}
+
+		@Override
+		public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		protected BenchmarkExecutionContext createExecutionContext(ExecutionRequest request) {
+			return new BenchmarkExecutionContext();
+		}
+
+	}
+
+	static class BenchmarkExecutionContext implements EngineExecutionContext {
+	}
+
+	static class BenchmarkEngineDescriptor extends EngineDescriptor implements Node<BenchmarkExecutionContext> {
+
+		BenchmarkEngineDescriptor(UniqueId uniqueId) {
+			super(uniqueId, "Benchmark");
+		}
+
+	}
+
+	static class BenchmarkTestDescriptor extends AbstractTestDescriptor implements Node<BenchmarkExecutionContext> {
+
+		BenchmarkTestDescriptor(UniqueId uniqueId) {
+			super(uniqueId, uniqueId.getLastSegment().getValue());
+		}
+
+		@Override
+		public Type getType() {
+			return Type.TEST;
+		}
+
+	}
+
+}
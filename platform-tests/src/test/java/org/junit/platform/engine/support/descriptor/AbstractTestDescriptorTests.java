@@ -24,6 +24,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.UniqueId;
 
@@ -155,6 +156,59 @@ class AbstractTestDescriptorTests {
 			UniqueId.forEngine("testEngine"));
 	}
 
+	@Test
+	void computesDisplayNameLazilyAndOnlyOnce() {
+		var invocations = new AtomicInteger();
+		var descriptor = new AbstractTestDescriptor(UniqueId.root("lazy", "lazy"),
+			() -> "lazy: " + invocations.incrementAndGet(), null) {
+
+			@Override
+			public Type getType() {
+				return Type.TEST;
+			}
+		};
+
+		assertEquals(0, invocations.get());
+		assertEquals("lazy: 1", descriptor.getDisplayName());
+		assertEquals("lazy: 1", descriptor.getDisplayName());
+		assertEquals(1, invocations.get());
+	}
+
+	@Test
+	void lazilyComputedDisplayNameMustNotBeBlank() {
+		var descriptor = new AbstractTestDescriptor(UniqueId.root("lazy", "lazy"), () -> " ", null) {
+
+			@Override
+			public Type getType() {
+				return Type.TEST;
+			}
+		};
+
+		var e = assertThrows(PreconditionViolationException.class, descriptor::getDisplayName);
+		assertEquals("displayName must not be null or blank", e.getMessage());
+	}
+
+	@Test
+	void rethrowsFailureToComputeDisplayNameWithoutInvokingSupplierAgain() {
+		var invocations = new AtomicInteger();
+		var descriptor = new AbstractTestDescriptor(UniqueId.root("lazy", "lazy"), () -> {
+			throw new IllegalStateException("failure " + invocations.incrementAndGet());
+		}, null) {
+
+			@Override
+			public Type getType() {
+				return Type.TEST;
+			}
+		};
+
+		var first = assertThrows(IllegalStateException.class, descriptor::getDisplayName);
+		var second = assertThrows(IllegalStateException.class, descriptor::getDisplayName);
+
+		assertSame(first, second);
+		assertEquals("failure 1", second.getMessage());
+		assertEquals(1, invocations.get());
+	}
+
 	private List<UniqueId> getAncestorsUniqueIds(TestDescriptor descriptor) {
 		return descriptor.getAncestors().stream().map(TestDescriptor::getUniqueId).toList();
 	}
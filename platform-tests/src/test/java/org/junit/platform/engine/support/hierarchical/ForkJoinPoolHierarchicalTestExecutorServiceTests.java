@@ -23,6 +23,7 @@ import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.G
 import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.GLOBAL_READ_WRITE;
 import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -32,6 +33,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
@@ -238,6 +240,54 @@ class ForkJoinPoolHierarchicalTestExecutorServiceTests {
 				.values().extracting(it -> it.completion.isCompletedExceptionally()).containsOnly(false);
 	}
 
+	@Test
+	void executesConcurrentLeafTasksWithoutLocksInBatchesIfEnabled() throws Throwable {
+
+		var executions = new ConcurrentHashMap<String, Integer>();
+		var tasks = new ArrayList<TestTask>();
+		IntStream.range(0, 100).forEach(i -> tasks.add(taskFactory.createLeaf("task" + i, NopLock.INSTANCE,
+			() -> executions.merge("task" + i, 1, Integer::sum))));
+		var lockedTask = taskFactory.createLeaf("lockedTask",
+			lockManager.getLockForResource(new ExclusiveResource("a", LockMode.READ_WRITE)),
+			() -> executions.merge("lockedTask", 1, Integer::sum));
+		tasks.add(lockedTask);
+		var containerTask = taskFactory.create("containerTask", NopLock.INSTANCE,
+			() -> executions.merge("containerTask", 1, Integer::sum));
+		tasks.add(containerTask);
+
+		var taskEventListener = new BatchRecordingTaskEventListener();
+		var configuration = new DefaultParallelExecutionConfiguration(2, 2, 2, 2, 1, __ -> true);
+
+		withForkJoinPoolHierarchicalTestExecutorService(configuration, taskEventListener, true, service -> {
+			var parentTask = taskFactory.create("parentTask", NopLock.INSTANCE, () -> service.invokeAll(tasks));
+			service.submit(parentTask).get();
+		});
+
+		assertThat(executions).hasSize(102).containsValues(1).doesNotContainValue(2);
+		assertThat(taskFactory.tasks) //
+				.hasSize(103) //
+				.values().extracting(it -> it.completion.isDone()).containsOnly(true);
+		assertThat(taskEventListener.batchedTasks).hasSize(100).doesNotContain(lockedTask, containerTask);
+	}
+
+	@Test
+	void doesNotExecuteTasksInBatchesByDefault() throws Throwable {
+
+		var tasks = new ArrayList<TestTask>();
+		IntStream.range(0, 100).forEach(i -> tasks.add(taskFactory.createLeaf("task" + i, NopLock.INSTANCE)));
+
+		var taskEventListener = new BatchRecordingTaskEventListener();
+		var configuration = new DefaultParallelExecutionConfiguration(2, 2, 2, 2, 1, __ -> true);
+
+		withForkJoinPoolHierarchicalTestExecutorService(configuration, taskEventListener, service -> {
+			var parentTask = taskFactory.create("parentTask", NopLock.INSTANCE, () -> service.invokeAll(tasks));
+			service.submit(parentTask).get();
+		});
+
+		assertThat(taskFactory.tasks).values().extracting(it -> it.completion.isDone()).containsOnly(true);
+		assertThat(taskEventListener.batchedTasks).isEmpty();
+	}
+
 	private Map<String, DummyTestTask> runWithAttemptedWorkStealing(TaskEventListener taskEventListener,
 			DummyTestTask taskToBeStolen, ResourceLock initialLock, Runnable waitAction) throws Throwable {
 
@@ -290,7 +340,14 @@ class ForkJoinPoolHierarchicalTestExecutorServiceTests {
 	private void withForkJoinPoolHierarchicalTestExecutorService(ParallelExecutionConfiguration configuration,
 			TaskEventListener taskEventListener, ThrowingConsumer<ForkJoinPoolHierarchicalTestExecutorService> action)
 			throws Throwable {
-		try (var service = new ForkJoinPoolHierarchicalTestExecutorService(configuration, taskEventListener)) {
+		withForkJoinPoolHierarchicalTestExecutorService(configuration, taskEventListener, false, action);
+	}
+
+	private void withForkJoinPoolHierarchicalTestExecutorService(ParallelExecutionConfiguration configuration,
+			TaskEventListener taskEventListener, boolean batchingEnabled,
+			ThrowingConsumer<ForkJoinPoolHierarchicalTestExecutorService> action) throws Throwable {
+		try (var service = new ForkJoinPoolHierarchicalTestExecutorService(configuration, taskEventListener,
+			batchingEnabled)) {
 
 			action.accept(service);
 
@@ -304,15 +361,17 @@ class ForkJoinPoolHierarchicalTestExecutorServiceTests {
 		private final String identifier;
 		private final ResourceLock resourceLock;
 		private final Executable action;
+		private final boolean leaf;
 
 		private volatile String threadName;
 		private final CountDownLatch started = new CountDownLatch(1);
 		private final CompletableFuture<Void> completion = new CompletableFuture<>();
 
-		DummyTestTask(String identifier, ResourceLock resourceLock, Executable action) {
+		DummyTestTask(String identifier, ResourceLock resourceLock, Executable action, boolean leaf) {
 			this.identifier = identifier;
 			this.resourceLock = resourceLock;
 			this.action = action;
+			this.leaf = leaf;
 		}
 
 		@Override
@@ -325,6 +384,11 @@ class ForkJoinPoolHierarchicalTestExecutorServiceTests {
 			return resourceLock;
 		}
 
+		@Override
+		public boolean isLeaf() {
+			return leaf;
+		}
+
 		@Override
 		public void execute() {
 			threadName = Thread.currentThread().getName();
@@ -345,6 +409,20 @@ class ForkJoinPoolHierarchicalTestExecutorServiceTests {
 		}
 	}
 
+	static final class BatchRecordingTaskEventListener implements TaskEventListener {
+
+		final List<TestTask> batchedTasks = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void deferred(TestTask testTask) {
+		}
+
+		@Override
+		public void batched(TestTask testTask) {
+			batchedTasks.add(testTask);
+		}
+	}
+
 	static final class DummyTaskFactory {
 
 		final Map<String, DummyTestTask> tasks = new HashMap<>();
@@ -355,7 +433,19 @@ class ForkJoinPoolHierarchicalTestExecutorServiceTests {
 		}
 
 		DummyTestTask create(String identifier, ResourceLock resourceLock, Executable action) {
-			DummyTestTask task = new DummyTestTask(identifier, resourceLock, action);
+			return add(new DummyTestTask(identifier, resourceLock, action, false));
+		}
+
+		DummyTestTask createLeaf(String identifier, ResourceLock resourceLock) {
+			return createLeaf(identifier, resourceLock, () -> {
+			});
+		}
+
+		DummyTestTask createLeaf(String identifier, ResourceLock resourceLock, Executable action) {
+			return add(new DummyTestTask(identifier, resourceLock, action, true));
+		}
+
+		private DummyTestTask add(DummyTestTask task) {
 			tasks.put(task.identifier, task);
 			return task;
 		}
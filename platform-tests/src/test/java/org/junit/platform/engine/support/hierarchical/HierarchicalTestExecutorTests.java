@@ -13,6 +13,7 @@ package org.junit.platform.engine.support.hierarchical;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.platform.engine.TestExecutionResult.Status.ABORTED;
 import static org.junit.platform.engine.TestExecutionResult.Status.FAILED;
@@ -28,10 +29,14 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -77,9 +82,14 @@ class HierarchicalTestExecutorTests {
 
 	private HierarchicalTestExecutor<MyEngineExecutionContext> createExecutor(
 			HierarchicalTestExecutorService executorService) {
+		return createExecutor(executorService, Integer.MAX_VALUE);
+	}
+
+	private HierarchicalTestExecutor<MyEngineExecutionContext> createExecutor(
+			HierarchicalTestExecutorService executorService, int maxInFlightDynamicTests) {
 		var request = ExecutionRequest.create(root, listener, null);
 		return new HierarchicalTestExecutor<>(request, rootContext, executorService,
-			OpenTest4JAwareThrowableCollector::new);
+			OpenTest4JAwareThrowableCollector::new, maxInFlightDynamicTests);
 	}
 
 	@Test
@@ -363,6 +373,35 @@ class HierarchicalTestExecutorTests {
 		assertThat(childExecutionResult.getValue().getThrowable()).containsSame(anException);
 	}
 
+	@Test
+	void createsThrowableCollectorsOnlyForNodesThatCollectThrowables() throws Exception {
+
+		var successfulChild = spy(new MyLeaf(UniqueId.root("leaf", "successful")));
+		var failingChild = spy(new MyLeaf(UniqueId.root("leaf", "failing")));
+		var anException = new RuntimeException("in test");
+		when(failingChild.execute(eq(rootContext), any())).thenThrow(anException);
+		root.addChild(successfulChild);
+		root.addChild(failingChild);
+
+		var createdCollectors = new AtomicInteger();
+		var request = ExecutionRequest.create(root, listener, null);
+		executor = new HierarchicalTestExecutor<>(request, rootContext, new SameThreadHierarchicalTestExecutorService(),
+			() -> {
+				createdCollectors.incrementAndGet();
+				return new OpenTest4JAwareThrowableCollector();
+			}, Integer.MAX_VALUE);
+
+		executor.execute();
+
+		var failingChildExecutionResult = ArgumentCaptor.forClass(TestExecutionResult.class);
+		verify(listener).executionFinished(successfulChild, successful());
+		verify(listener).executionFinished(eq(failingChild), failingChildExecutionResult.capture());
+		verify(listener).executionFinished(root, successful());
+
+		assertThat(failingChildExecutionResult.getValue().getThrowable()).containsSame(anException);
+		assertThat(createdCollectors).hasValue(1);
+	}
+
 	@Test
 	void abortInRootBeforeAll() throws Exception {
 
@@ -589,6 +628,104 @@ class HierarchicalTestExecutorTests {
 		assertTrue(interrupted.get(), "dynamic node was interrupted");
 	}
 
+	@Test
+	void limitsNumberOfInFlightDynamicTestDescriptors() throws Exception {
+		var child = spy(new MyContainer(UniqueId.root("container", "child container")));
+		root.addChild(child);
+
+		var inFlight = new AtomicInteger();
+		var maxInFlight = new AtomicInteger();
+		var executed = new AtomicInteger();
+		when(child.execute(any(), any())).thenAnswer(useDynamicTestExecutor(executor -> {
+			for (int i = 0; i < 20; i++) {
+				var dynamicTestDescriptor = spy(new MyLeaf(child.getUniqueId().append("dynamic", "#" + i)));
+				when(dynamicTestDescriptor.execute(any(), any())).thenAnswer(invocation -> {
+					maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+					Thread.sleep(10);
+					inFlight.decrementAndGet();
+					executed.incrementAndGet();
+					return invocation.getArgument(0);
+				});
+				executor.execute(dynamicTestDescriptor);
+			}
+			executor.awaitFinished();
+		}));
+
+		var parameters = ConfigurationParametersFactoryForTests.create(Map.of(//
+			DefaultParallelExecutionConfigurationStrategy.CONFIG_STRATEGY_PROPERTY_NAME, "fixed", //
+			DefaultParallelExecutionConfigurationStrategy.CONFIG_FIXED_PARALLELISM_PROPERTY_NAME, "8"));
+
+		try (var executorService = new ForkJoinPoolHierarchicalTestExecutorService(parameters)) {
+			createExecutor(executorService, 2).execute().get();
+		}
+
+		verify(listener).executionFinished(child, successful());
+		assertThat(executed).hasValue(20);
+		assertThat(maxInFlight.get()).isBetween(1, 2);
+	}
+
+	@Test
+	void executesInFlightDynamicTestDescriptorsWhileWaitingForFreeSlotWithParallelismOfOne() throws Exception {
+		var child = spy(new MyContainer(UniqueId.root("container", "child container")));
+		root.addChild(child);
+
+		var executed = new AtomicInteger();
+		when(child.execute(any(), any())).thenAnswer(useDynamicTestExecutor(executor -> {
+			for (int i = 0; i < 5; i++) {
+				var dynamicTestDescriptor = spy(new MyLeaf(child.getUniqueId().append("dynamic", "#" + i)));
+				when(dynamicTestDescriptor.execute(any(), any())).thenAnswer(invocation -> {
+					executed.incrementAndGet();
+					return invocation.getArgument(0);
+				});
+				executor.execute(dynamicTestDescriptor);
+			}
+			executor.awaitFinished();
+		}));
+
+		var parameters = ConfigurationParametersFactoryForTests.create(Map.of(//
+			DefaultParallelExecutionConfigurationStrategy.CONFIG_STRATEGY_PROPERTY_NAME, "fixed", //
+			DefaultParallelExecutionConfigurationStrategy.CONFIG_FIXED_PARALLELISM_PROPERTY_NAME, "1"));
+
+		try (var executorService = new ForkJoinPoolHierarchicalTestExecutorService(parameters)) {
+			assertTimeoutPreemptively(Duration.ofSeconds(10), () -> createExecutor(executorService, 1).execute().get());
+		}
+
+		verify(listener).executionFinished(child, successful());
+		assertThat(executed).hasValue(5);
+	}
+
+	@Test
+	void releasesInFlightSlotOfDynamicTestDescriptorCancelledBeforeItStarted() throws Exception {
+		var child = spy(new MyContainer(UniqueId.root("container", "child container")));
+		root.addChild(child);
+
+		var futures = new ArrayList<Future<?>>();
+		when(child.execute(any(), any())).thenAnswer(useDynamicTestExecutor(executor -> {
+			for (int i = 0; i < 3; i++) {
+				var dynamicTestDescriptor = new MyLeaf(child.getUniqueId().append("dynamic", "#" + i));
+				var future = assertTimeoutPreemptively(Duration.ofSeconds(5),
+					() -> executor.execute(dynamicTestDescriptor, listener));
+				assertTrue(future.cancel(false), "future was cancelled");
+				futures.add(future);
+			}
+		}));
+
+		var executorService = new SameThreadHierarchicalTestExecutorService() {
+			@Override
+			public Future<Void> submit(TestTask testTask) {
+				if (testTask.toString().contains("dynamic")) {
+					// never started
+					return new CompletableFuture<>();
+				}
+				return super.submit(testTask);
+			}
+		};
+		createExecutor(executorService, 1).execute().get();
+
+		verify(listener).executionFinished(child, successful());
+		assertThat(futures).hasSize(3).allMatch(Future::isCancelled);
+	}
+
 	private Answer<Object> execute(TestDescriptor dynamicChild) {
 		return useDynamicTestExecutor(executor -> executor.execute(dynamicChild));
 	}
@@ -32,6 +32,7 @@ import org.junit.jupiter.api.parallel.Resources;
 import org.junit.jupiter.engine.JupiterTestEngine;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.UniqueId;
+import org.junit.platform.fakes.TestDescriptorStub;
 
 /**
  * @since 1.3
@@ -171,6 +172,26 @@ class NodeTreeWalkerIntegrationTests {
 		assertThat(advisor.getForcedExecutionMode(testMethodDescriptor)).contains(SAME_THREAD);
 	}
 
+	@Test
+	void derivesAdviceForDynamicDescendantsFromClosestWalkedAncestor() {
+		var engineDescriptor = discover(TestCaseWithResourceWriteLockOnClass.class);
+
+		var advisor = nodeTreeWalker.walk(engineDescriptor);
+
+		var testClassDescriptor = getOnlyElement(engineDescriptor.getChildren());
+		var testMethodDescriptor = getOnlyElement(testClassDescriptor.getChildren());
+		assertThat(advisor.getAdvice(testMethodDescriptor)).isSameAs(advisor.getAdvice(testMethodDescriptor));
+
+		var dynamicDescriptor = new TestDescriptorStub(testMethodDescriptor.getUniqueId().append("dynamic", "1"),
+			"dynamic");
+		testMethodDescriptor.addChild(dynamicDescriptor);
+		assertThat(advisor.getResourceLock(dynamicDescriptor)).extracting(allLocks()).isEqualTo(List.of());
+		assertThat(advisor.getForcedExecutionMode(dynamicDescriptor)).contains(SAME_THREAD);
+
+		assertThat(advisor.getResourceLock(engineDescriptor)).extracting(allLocks()).isEqualTo(List.of());
+		assertThat(advisor.getForcedExecutionMode(engineDescriptor)).isEmpty();
+	}
+
 	private static Function<org.junit.platform.engine.support.hierarchical.ResourceLock, List<Lock>> allLocks() {
 		return ResourceLockSupport::getLocks;
 	}
@@ -24,6 +24,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
+import java.lang.ref.WeakReference;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
@@ -326,6 +327,54 @@ public class NamespacedHierarchicalStoreTests {
 			assertEquals(1, counter.get());
 			assertThat(values).hasSize(threads).containsOnly(1);
 		}
+
+		/**
+		 * @since 5.12
+		 */
+		@Test
+		void releasesDefaultCreatorOnceValueHasBeenComputed() throws Exception {
+			var captured = computeValueWithDefaultCreatorCapturingNewObject();
+
+			for (int attempt = 0; attempt < 10 && captured.get() != null; attempt++) {
+				System.gc();
+				Thread.sleep(50);
+			}
+
+			assertNull(captured.get());
+			assertEquals("captured", store.get(namespace, key));
+		}
+
+		private WeakReference<Object> computeValueWithDefaultCreatorCapturingNewObject() {
+			Object captured = new Object();
+			store.getOrComputeIfAbsent(namespace, key, __ -> captured == null ? null : "captured");
+			return new WeakReference<>(captured);
+		}
+
+		@Test
+		void simulateRaceConditionWhenWritingToDifferentNamespaces() throws Exception {
+			int threads = 10;
+			AtomicInteger counter = new AtomicInteger();
+
+			try (var localStore = new NamespacedHierarchicalStore<Integer>(null)) {
+				executeConcurrently(threads, () -> {
+					int ns = counter.getAndIncrement();
+					localStore.put(ns, key, ns);
+				});
+
+				for (int ns = 0; ns < threads; ns++) {
+					assertEquals(ns, localStore.get(ns, key));
+				}
+			}
+		}
+
+		@Test
+		void removeFromNamespaceThatWasNeverWrittenReturnsNull() {
+			parentStore.put(namespace, key, value);
+
+			assertNull(store.remove("other namespace", key));
+			assertNull(store.remove(namespace, key));
+			assertEquals(value, store.get(namespace, key));
+		}
 	}
 
 	@Nested
@@ -395,6 +444,23 @@ public class NamespacedHierarchicalStoreTests {
 			verifyNoMoreInteractions(closeAction);
 		}
 
+		@Test
+		void callsCloseActionInReverseInsertionOrderAcrossNamespaces() throws Throwable {
+			store.put("ns1", "key1", "value1");
+			store.put("ns2", "key2", "value2");
+			store.getOrComputeIfAbsent("ns1", "key3", __ -> "value3");
+
+			store.close();
+			assertClosed();
+
+			var inOrder = inOrder(closeAction);
+			inOrder.verify(closeAction).close("ns1", "key3", "value3");
+			inOrder.verify(closeAction).close("ns2", "key2", "value2");
+			inOrder.verify(closeAction).close("ns1", "key1", "value1");
+
+			verifyNoMoreInteractions(closeAction);
+		}
+
 		@Test
 		void doesNotCallCloseActionForRemovedValues() {
 			store.put(namespace, key, value);
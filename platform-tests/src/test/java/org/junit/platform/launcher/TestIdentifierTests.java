@@ -12,11 +12,13 @@ package org.junit.platform.launcher;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.platform.commons.util.SerializationUtils.deserialize;
 import static org.junit.platform.commons.util.SerializationUtils.serialize;
 
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 import org.junit.platform.engine.TestDescriptor;
@@ -41,6 +43,51 @@ class TestIdentifierTests {
 		assertEquals("displayName", testIdentifier.getDisplayName());
 	}
 
+	@Test
+	void retrievesNamesFromDescriptorWhenCreated() {
+		var displayNameInvocations = new AtomicInteger();
+		var legacyReportingNameInvocations = new AtomicInteger();
+		TestDescriptor testDescriptor = new AbstractTestDescriptor(UniqueId.root("aType", "uniqueId"),
+			() -> "displayName" + displayNameInvocations.incrementAndGet(), null) {
+
+			@Override
+			public Type getType() {
+				return Type.TEST;
+			}
+
+			@Override
+			public String getLegacyReportingName() {
+				return "reportingName" + legacyReportingNameInvocations.incrementAndGet();
+			}
+		};
+
+		var testIdentifier = TestIdentifier.from(testDescriptor);
+
+		assertEquals(1, displayNameInvocations.get());
+		assertEquals(1, legacyReportingNameInvocations.get());
+
+		assertEquals("displayName1", testIdentifier.getDisplayName());
+		assertEquals("reportingName1", testIdentifier.getLegacyReportingName());
+		assertEquals(1, displayNameInvocations.get());
+		assertEquals(1, legacyReportingNameInvocations.get());
+	}
+
+	@Test
+	void propagatesFailureToComputeDisplayNameWhenCreated() {
+		TestDescriptor testDescriptor = new AbstractTestDescriptor(UniqueId.root("aType", "uniqueId"), () -> {
+			throw new IllegalStateException("display name");
+		}, null) {
+
+			@Override
+			public Type getType() {
+				return Type.TEST;
+			}
+		};
+
+		var e = assertThrows(IllegalStateException.class, () -> TestIdentifier.from(testDescriptor));
+		assertEquals("display name", e.getMessage());
+	}
+
 	@Test
 	void inheritsTypeFromDescriptor() {
 		TestDescriptor descriptor = new TestDescriptorStub(UniqueId.root("aType", "uniqueId"), "displayName");
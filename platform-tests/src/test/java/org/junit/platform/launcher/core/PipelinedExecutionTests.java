@@ -0,0 +1,280 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.LauncherConstants.PIPELINED_EXECUTION_BATCH_SIZE_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.PIPELINED_EXECUTION_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.SharedFixture;
+import org.junit.jupiter.api.extension.SharedFixtureFactory;
+import org.junit.jupiter.engine.Constants;
+import org.junit.jupiter.engine.JupiterTestEngine;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+
+/**
+ * @since 1.12
+ */
+class PipelinedExecutionTests {
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	void executesClassesOfSubsequentBatchesAsTheyAreDiscovered(boolean parallel) {
+		var summary = new SummaryGeneratingListener();
+		var listener = new RecordingListener();
+
+		createLauncher(new JupiterTestEngine()).execute(pipelinedRequest(true, "1", parallel), summary, listener);
+
+		assertThat(listener.initiallyPlannedTests).isEqualTo(1);
+		assertThat(listener.registeredTests).containsExactlyInAnyOrder("second()", "nested()", "third()");
+		assertThat(summary.getSummary().getTestsFoundCount()).isEqualTo(4);
+		assertThat(summary.getSummary().getTestsSucceededCount()).isEqualTo(3);
+		assertThat(summary.getSummary().getTestsFailedCount()).isEqualTo(1);
+	}
+
+	@Test
+	void executesSubsequentBatchesWithoutWaitingForPreviousOnesToFinish() {
+		var summary = new SummaryGeneratingListener();
+		var request = request() //
+				.selectors(selectClass(PipelinedExecutionWaitingTestCase.class),
+					selectClass(PipelinedExecutionSignalingTestCase.class)) //
+				.configurationParameter(PIPELINED_EXECUTION_ENABLED_PROPERTY_NAME, "true") //
+				.configurationParameter(PIPELINED_EXECUTION_BATCH_SIZE_PROPERTY_NAME, "1") //
+				.configurationParameter(Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "true") //
+				.configurationParameter(Constants.DEFAULT_PARALLEL_EXECUTION_MODE, "concurrent") //
+				.configurationParameter(Constants.PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME, "fixed") //
+				.configurationParameter(Constants.PARALLEL_CONFIG_FIXED_PARALLELISM_PROPERTY_NAME, "2") //
+				.build();
+
+		createLauncher(new JupiterTestEngine()).execute(request, summary);
+
+		assertThat(summary.getSummary().getTestsSucceededCount()).isEqualTo(2);
+	}
+
+	@Test
+	void keepsNestedClassesInTheBatchOfTheirEnclosingClass() {
+		var listener = new RecordingListener();
+		var request = request() //
+				.selectors(selectClass(PipelinedExecutionSecondTestCase.class),
+					selectClass(PipelinedExecutionFirstTestCase.class),
+					selectClass(PipelinedExecutionSecondTestCase.NestedTestCase.class)) //
+				.configurationParameter(PIPELINED_EXECUTION_ENABLED_PROPERTY_NAME, "true") //
+				.configurationParameter(PIPELINED_EXECUTION_BATCH_SIZE_PROPERTY_NAME, "2") //
+				.build();
+
+		createLauncher(new JupiterTestEngine()).execute(request, listener);
+
+		assertThat(listener.initiallyPlannedTests).isEqualTo(2);
+		assertThat(listener.registeredTests).containsExactly("first()");
+	}
+
+	@Test
+	void discoversAllTestsUpFrontIfPipeliningIsDisabled() {
+		var listener = new RecordingListener();
+
+		createLauncher(new JupiterTestEngine()).execute(pipelinedRequest(false, "1", false), listener);
+
+		assertThat(listener.initiallyPlannedTests).isEqualTo(4);
+		assertThat(listener.registeredTests).isEmpty();
+	}
+
+	@Test
+	void discoversAllTestsUpFrontIfAllClassesFitIntoASingleBatch() {
+		var listener = new RecordingListener();
+
+		createLauncher(new JupiterTestEngine()).execute(pipelinedRequest(true, "3", false), listener);
+
+		assertThat(listener.initiallyPlannedTests).isEqualTo(4);
+		assertThat(listener.registeredTests).isEmpty();
+	}
+
+	@Test
+	void closesSharedFixturesOfClassesOfSubsequentBatchesOnceTheyHaveBeenExecuted() {
+		PipelinedExecutionFixture.callSequence.clear();
+		var request = request() //
+				.selectors(selectClass(PipelinedExecutionFirstFixtureTestCase.class),
+					selectClass(PipelinedExecutionSecondFixtureTestCase.class)) //
+				.configurationParameter(PIPELINED_EXECUTION_ENABLED_PROPERTY_NAME, "true") //
+				.configurationParameter(PIPELINED_EXECUTION_BATCH_SIZE_PROPERTY_NAME, "1") //
+				.build();
+		var listener = new TestExecutionListener() {
+			@Override
+			public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+				testIdentifier.getSource().filter(ClassSource.class::isInstance).ifPresent(
+					source -> PipelinedExecutionFixture.callSequence.add(
+						"finished " + ((ClassSource) source).getJavaClass().getSimpleName()));
+			}
+		};
+
+		createLauncher(new JupiterTestEngine()).execute(request, listener);
+
+		assertThat(PipelinedExecutionFixture.callSequence).containsExactly( //
+			"open", "first", "close", "finished PipelinedExecutionFirstFixtureTestCase", //
+			"open", "second", "close", "finished PipelinedExecutionSecondFixtureTestCase");
+	}
+
+	private static LauncherDiscoveryRequest pipelinedRequest(boolean enabled, String batchSize, boolean parallel) {
+		return request() //
+				.selectors(selectClass(PipelinedExecutionFirstTestCase.class),
+					selectClass(PipelinedExecutionSecondTestCase.class),
+					selectClass(PipelinedExecutionThirdTestCase.class)) //
+				.configurationParameter(PIPELINED_EXECUTION_ENABLED_PROPERTY_NAME, String.valueOf(enabled)) //
+				.configurationParameter(PIPELINED_EXECUTION_BATCH_SIZE_PROPERTY_NAME, batchSize) //
+				.configurationParameter(Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, String.valueOf(parallel)) //
+				.configurationParameter(Constants.DEFAULT_PARALLEL_EXECUTION_MODE, "concurrent") //
+				.build();
+	}
+
+	private static class RecordingListener implements TestExecutionListener {
+
+		long initiallyPlannedTests;
+		final List<String> registeredTests = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void testPlanExecutionStarted(TestPlan testPlan) {
+			this.initiallyPlannedTests = testPlan.countTestIdentifiers(TestIdentifier::isTest);
+		}
+
+		@Override
+		public void dynamicTestRegistered(TestIdentifier testIdentifier) {
+			if (testIdentifier.isTest()) {
+				this.registeredTests.add(testIdentifier.getDisplayName());
+			}
+		}
+
+	}
+
+}
+
+@SuppressWarnings("JUnitMalformedDeclaration")
+class PipelinedExecutionFirstTestCase {
+
+	@Test
+	void first() {
+	}
+
+}
+
+@SuppressWarnings("JUnitMalformedDeclaration")
+class PipelinedExecutionSecondTestCase {
+
+	@Test
+	void second() {
+	}
+
+	@Nested
+	class NestedTestCase {
+
+		@Test
+		void nested() {
+		}
+
+	}
+
+}
+
+@SuppressWarnings("JUnitMalformedDeclaration")
+class PipelinedExecutionThirdTestCase {
+
+	@Test
+	void third() {
+		throw new AssertionError("third");
+	}
+
+}
+
+class PipelinedExecutionFixture implements AutoCloseable {
+
+	static final List<String> callSequence = new CopyOnWriteArrayList<>();
+
+	PipelinedExecutionFixture() {
+		callSequence.add("open");
+	}
+
+	@Override
+	public void close() {
+		callSequence.add("close");
+	}
+
+	static class Factory implements SharedFixtureFactory<PipelinedExecutionFixture> {
+
+		@Override
+		public PipelinedExecutionFixture createFixture(ExtensionContext context) {
+			return new PipelinedExecutionFixture();
+		}
+
+	}
+
+}
+
+@SuppressWarnings("JUnitMalformedDeclaration")
+@SharedFixture(PipelinedExecutionFixture.Factory.class)
+class PipelinedExecutionFirstFixtureTestCase {
+
+	@Test
+	void first(PipelinedExecutionFixture fixture) {
+		PipelinedExecutionFixture.callSequence.add("first");
+	}
+
+}
+
+@SuppressWarnings("JUnitMalformedDeclaration")
+@SharedFixture(PipelinedExecutionFixture.Factory.class)
+class PipelinedExecutionSecondFixtureTestCase {
+
+	@Test
+	void second(PipelinedExecutionFixture fixture) {
+		PipelinedExecutionFixture.callSequence.add("second");
+	}
+
+}
+
+@SuppressWarnings("JUnitMalformedDeclaration")
+class PipelinedExecutionWaitingTestCase {
+
+	static final CountDownLatch latch = new CountDownLatch(1);
+
+	@Test
+	void waitForSubsequentBatch() throws Exception {
+		assertTrue(latch.await(10, SECONDS), "test of subsequent batch was not executed");
+	}
+
+}
+
+@SuppressWarnings("JUnitMalformedDeclaration")
+class PipelinedExecutionSignalingTestCase {
+
+	@Test
+	void signal() {
+		PipelinedExecutionWaitingTestCase.latch.countDown();
+	}
+
+}